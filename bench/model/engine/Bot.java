@@ -0,0 +1,135 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.metrics.LatencyHistogram;
+import model.room.Room;
+import model.room.RoomBuilder;
+import model.trivia.Trivia;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * A bot that plays a floor on a GameEngine by walking the floor's optimal
+ * solution: in each Room it walks to the Door of the next Room, opens it,
+ * and answers its Trivia, correctly with a given probability, until it is
+ * let through. The time of every tick is recorded. The bot presses the
+ * same Commands the game's keys are mapped to, so its moves and Doors go
+ * through the RoomSimulation, DoorSensor and DoorInteraction the game's
+ * UserController and window use.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+final class Bot {
+
+    /** The answer given when the bot answers wrongly. */
+    private static final String WRONG_ANSWER = "I don't know";
+
+    /** The planner of the bot's moves. */
+    private final BotPlanner myPlanner;
+
+    /** The probability of each answer being correct. */
+    private final double myAccuracy;
+
+    /** Decides whether each answer is correct. */
+    private final SplittableRandom myRand;
+
+    /** The latency of each tick. */
+    private final LatencyHistogram myTicks;
+
+
+    /**
+     * Constructs a Bot.
+     *
+     * @param thePlanner The planner of the bot's moves.
+     * @param theAccuracy The probability of each answer being correct.
+     * @param theSeed The seed deciding which answers are correct.
+     * @param theTicks The histogram the latency of each tick is recorded in.
+     * @throws IllegalArgumentException if theAccuracy is not above 0 and at
+     *     most 1.
+     */
+    Bot(final BotPlanner thePlanner, final double theAccuracy, final long theSeed,
+        final LatencyHistogram theTicks) {
+        if (!(theAccuracy > 0 && theAccuracy <= 1)) {
+            throw new IllegalArgumentException("accuracy must be in (0, 1]");
+        }
+        myPlanner = thePlanner;
+        myAccuracy = theAccuracy;
+        myRand = new SplittableRandom(theSeed);
+        myTicks = theTicks;
+    }
+
+
+    /**
+     * Plays the given floor to its exit.
+     *
+     * @param theFloor The floor to play.
+     * @param theEngine An engine of theFloor with the Player in its source
+     *     Room.
+     * @return The number of ticks played.
+     */
+    long play(final RoomBuilder theFloor, final GameEngine theEngine) {
+        List<Integer> path = theFloor.getOptimalSolution();
+        for (int i = 1; i < path.size(); i++) {
+            char door = doorTo(theEngine.getCurrentRoom(), path.get(i));
+            for (Command move : myPlanner.plan(theEngine.getCurrentRoom(), door)) {
+                theEngine.press(move);
+                tick(theEngine);
+                theEngine.release(move);
+            }
+            theEngine.press(Command.INTERACT);
+            tick(theEngine);
+            Trivia trivia = theEngine.getShownTrivia();
+            while (!theEngine.answer(myRand.nextDouble() < myAccuracy
+                    ? trivia.getCorrectAnswer() : WRONG_ANSWER)) {
+                tick(theEngine);
+            }
+        }
+        if (!theEngine.isEscaped()) {
+            throw new IllegalStateException("the bot did not escape the floor");
+        }
+        return theEngine.getTicks();
+    }
+
+
+    /**
+     * Steps the engine one tick, recording how long it took.
+     *
+     * @param theEngine The engine.
+     */
+    private void tick(final GameEngine theEngine) {
+        long start = System.nanoTime();
+        theEngine.step();
+        myTicks.record(System.nanoTime() - start);
+    }
+
+
+    /**
+     * Returns the letter of the Door of a Room leading to another Room.
+     *
+     * @param theRoom The Room.
+     * @param theRoomID The ID of a neighbor of theRoom.
+     * @return The letter of the Door leading to the neighbor.
+     * @throws IllegalStateException if the Rooms are not connected.
+     */
+    private static char doorTo(final Room theRoom, final int theRoomID) {
+        for (char door = 'A'; door <= 'D'; door++) {
+            if (theRoom.hasRoom(door) && theRoom.getRoom(door).getRoomID() == theRoomID) {
+                return door;
+            }
+        }
+        throw new IllegalStateException("room " + theRoom.getRoomID()
+                + " has no door to room " + theRoomID);
+    }
+
+}
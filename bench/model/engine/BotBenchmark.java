@@ -0,0 +1,277 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.metrics.LatencyHistogram;
+import model.room.RoomBuilder;
+import model.trivia.Trivia;
+import model.trivia.TriviaBank;
+import model.trivia.TriviaManager;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Measures how many simulated playthroughs per second the headless engine
+ * sustains. Each thread runs bots that generate a floor with RoomBuilder,
+ * walk its optimal solution through the engine's door collision logic and
+ * answer the Trivia of each Door. Floor i is generated from seed + i and
+ * Trivia are drawn from a fixed in-memory bank, so every run does the same
+ * work. After a warmup, the benchmark reports playthroughs per second, the
+ * p50, p99 and maximum latency of a tick, and the allocation rate.
+ *
+ * Run from the project root, with src and bench compiled to out:
+ *
+ *     java -Djava.awt.headless=true -cp out model.engine.BotBenchmark
+ *         [--threads n] [--playthroughs n] [--warmup n] [--accuracy p]
+ *         [--seed n]
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class BotBenchmark {
+
+    /** The number of questions in the benchmark's trivia bank. */
+    private static final int BANK_SIZE = 300;
+
+    /** The number of Room rows and columns of each floor. */
+    private static final int FLOOR_SIZE = 4;
+
+    /** The number of threads running bots. */
+    private int myThreads = Runtime.getRuntime().availableProcessors();
+
+    /** The number of measured playthroughs per thread. */
+    private int myPlaythroughs = 200;
+
+    /** The number of unmeasured playthroughs per thread. */
+    private int myWarmup = 50;
+
+    /** The probability of each answer being correct. */
+    private double myAccuracy = 0.8;
+
+    /** The seed of the first floor. */
+    private long mySeed = 360L;
+
+
+    /** Constructs a BotBenchmark with the default settings. */
+    private BotBenchmark() {
+    }
+
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param theArgs The settings, as described above.
+     * @throws InterruptedException if interrupted while waiting for the
+     *     threads.
+     */
+    public static void main(final String[] theArgs) throws InterruptedException {
+        BotBenchmark benchmark = new BotBenchmark();
+        for (int i = 0; i + 1 < theArgs.length; i += 2) {
+            switch (theArgs[i]) {
+                case "--threads" -> benchmark.myThreads = Integer.parseInt(theArgs[i + 1]);
+                case "--playthroughs" -> benchmark.myPlaythroughs = Integer.parseInt(theArgs[i + 1]);
+                case "--warmup" -> benchmark.myWarmup = Integer.parseInt(theArgs[i + 1]);
+                case "--accuracy" -> benchmark.myAccuracy = Double.parseDouble(theArgs[i + 1]);
+                case "--seed" -> benchmark.mySeed = Long.parseLong(theArgs[i + 1]);
+                default -> throw new IllegalArgumentException("unknown option " + theArgs[i]);
+            }
+        }
+        benchmark.run();
+    }
+
+
+    /**
+     * Runs the configured number of threads of bots and prints the results.
+     *
+     * @throws InterruptedException if interrupted while waiting for the
+     *     threads.
+     */
+    private void run() throws InterruptedException {
+        TriviaBank bank = new TriviaBank(syntheticTrivia());
+        BotPlanner planner = new BotPlanner();
+        List<Worker> workers = new ArrayList<>();
+        CountDownLatch ready = new CountDownLatch(myThreads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < myThreads; t++) {
+            Worker worker = new Worker(t, bank, planner, ready, start);
+            workers.add(worker);
+            worker.start();
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Worker worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        LatencyHistogram ticks = new LatencyHistogram();
+        long allocated = 0;
+        for (Worker worker : workers) {
+            if (worker.myError != null) {
+                throw new IllegalStateException("a bot failed", worker.myError);
+            }
+            ticks.add(worker.myTicks);
+            allocated = allocated < 0 || worker.myAllocated < 0
+                    ? -1 : allocated + worker.myAllocated;
+        }
+        long playthroughs = (long) myThreads * myPlaythroughs;
+        System.out.printf(Locale.ROOT, "threads=%d floor=%dx%d playthroughs=%d"
+                        + " accuracy=%.2f seed=%d%n", myThreads, FLOOR_SIZE, FLOOR_SIZE,
+                playthroughs, myAccuracy, mySeed);
+        System.out.printf(Locale.ROOT, "playthroughs/sec   %.1f%n", playthroughs / seconds);
+        System.out.printf(Locale.ROOT, "ticks/playthrough  %.1f%n",
+                (double) ticks.getCount() / playthroughs);
+        System.out.printf(Locale.ROOT, "tick latency       p50=%dns p99=%dns max=%dns%n",
+                ticks.percentile(0.50), ticks.percentile(0.99), ticks.getMax());
+        if (allocated < 0) {
+            System.out.println("allocation         not measured by this JVM");
+        } else {
+            System.out.printf(Locale.ROOT, "allocation         %.1f MB/s, %d bytes/playthrough%n",
+                    allocated / seconds / (1 << 20), allocated / playthroughs);
+        }
+    }
+
+
+    /**
+     * Builds the benchmark's trivia bank, with an even mix of true/false,
+     * multiple choice and short answer questions of every difficulty.
+     *
+     * @return The questions of the bank.
+     */
+    private static List<Trivia> syntheticTrivia() {
+        List<Trivia> trivia = new ArrayList<>();
+        for (int i = 0; i < BANK_SIZE; i++) {
+            int type = i % 3 + 1;
+            String correct = switch (type) {
+                case 1 -> "True";
+                case 2 -> "Answer " + i;
+                default -> "Short answer number " + i;
+            };
+            String wrong = switch (type) {
+                case 1 -> "False";
+                case 2 -> "Wrong " + i + ";Other " + i + ";Neither " + i;
+                default -> "";
+            };
+            trivia.add(new Trivia(i, "Question " + i + "?", correct, wrong, type,
+                    "category " + i % 4, i / 3 % 3 + Trivia.EASY));
+        }
+        return trivia;
+    }
+
+
+    /** A thread of bots. */
+    private final class Worker extends Thread {
+
+        /** The index of this thread. */
+        private final int myIndex;
+
+        /** The trivia bank shared by every floor. */
+        private final TriviaBank myBank;
+
+        /** The planner shared by every bot. */
+        private final BotPlanner myPlanner;
+
+        /** Counted down once this thread has warmed up. */
+        private final CountDownLatch myReady;
+
+        /** Awaited before the measured playthroughs. */
+        private final CountDownLatch myStart;
+
+        /** The latency of every measured tick. */
+        private final LatencyHistogram myTicks;
+
+        /** The bytes allocated by the measured playthroughs, or -1. */
+        private long myAllocated;
+
+        /** The error that stopped this thread, or null. */
+        private Throwable myError;
+
+
+        /**
+         * Constructs a Worker.
+         *
+         * @param theIndex The index of this thread.
+         * @param theBank The trivia bank shared by every floor.
+         * @param thePlanner The planner shared by every bot.
+         * @param theReady Counted down once this thread has warmed up.
+         * @param theStart Awaited before the measured playthroughs.
+         */
+        private Worker(final int theIndex, final TriviaBank theBank,
+                       final BotPlanner thePlanner, final CountDownLatch theReady,
+                       final CountDownLatch theStart) {
+            super("bot-" + theIndex);
+            myIndex = theIndex;
+            myBank = theBank;
+            myPlanner = thePlanner;
+            myReady = theReady;
+            myStart = theStart;
+            myTicks = new LatencyHistogram();
+        }
+
+
+        @Override
+        public void run() {
+            try {
+                long floor = (long) myIndex * (myWarmup + myPlaythroughs);
+                LatencyHistogram warmup = new LatencyHistogram();
+                for (int i = 0; i < myWarmup; i++) {
+                    playOnce(floor++, warmup);
+                }
+                myReady.countDown();
+                myStart.await();
+                long allocated = allocatedBytes();
+                for (int i = 0; i < myPlaythroughs; i++) {
+                    playOnce(floor++, myTicks);
+                }
+                myAllocated = allocated < 0 ? -1 : allocatedBytes() - allocated;
+            } catch (Throwable e) {
+                myError = e;
+                myReady.countDown();
+            }
+        }
+
+
+        /**
+         * Generates and plays one floor.
+         *
+         * @param theFloor The index of the floor.
+         * @param theTicks The histogram of tick latencies.
+         */
+        private void playOnce(final long theFloor, final LatencyHistogram theTicks) {
+            long seed = mySeed + theFloor;
+            RoomBuilder floor = new RoomBuilder(FLOOR_SIZE, FLOOR_SIZE, 0,
+                    FLOOR_SIZE * FLOOR_SIZE - 1, seed);
+            floor.setTriviaManager(new TriviaManager(myBank, seed));
+            new Bot(myPlanner, myAccuracy, seed, theTicks).play(floor, new GameEngine(floor));
+        }
+
+
+        /**
+         * Returns the bytes this thread has allocated.
+         *
+         * @return The bytes allocated, or -1 if the JVM does not count them.
+         */
+        private long allocatedBytes() {
+            if (ManagementFactory.getThreadMXBean()
+                    instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                return bean.getThreadAllocatedBytes(getId());
+            }
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.map.GameMap;
+import model.map.Player;
+import model.room.Room;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plans the moves a bot makes to walk from where a Player enters a Room to
+ * one of its Doors. The plan is a breadth-first search over the positions
+ * the Player can reach, stepping a RoomSimulation so the search obeys the
+ * same collision rules as the game. Room maps never change, so each plan is
+ * computed once and shared by every bot.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+final class BotPlanner {
+
+    /** The moves a bot may make. */
+    private static final Command[] MOVES = {Command.UP, Command.DOWN,
+            Command.LEFT, Command.RIGHT};
+
+    /** The plan to each Door of each Room, keyed by Room ID and Door. */
+    private final Map<Integer, Command[]> myPlans;
+
+
+    /** Constructs a BotPlanner with no plans. */
+    BotPlanner() {
+        myPlans = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Returns the moves that walk a new Player in the given Room onto the
+     * given Door.
+     *
+     * @param theRoom The Room.
+     * @param theDoor The letter of the Door.
+     * @return The moves, one per tick.
+     * @throws IllegalStateException if the Door cannot be reached.
+     */
+    Command[] plan(final Room theRoom, final char theDoor) {
+        return myPlans.computeIfAbsent(theRoom.getRoomID() * 4 + theDoor - 'A',
+                key -> search(theRoom.getMap(), theDoor));
+    }
+
+
+    /**
+     * Searches for the shortest sequence of moves from the Player's start to
+     * the given Door.
+     *
+     * @param theMap The map of the Room.
+     * @param theDoor The letter of the Door.
+     * @return The moves, one per tick.
+     * @throws IllegalStateException if the Door cannot be reached.
+     */
+    private static Command[] search(final GameMap theMap, final char theDoor) {
+        RoomSimulation sim = new RoomSimulation(new Player(), theMap);
+        Player player = sim.getPlayer();
+        Map<Long, Long> parents = new HashMap<>();
+        ArrayDeque<Long> queue = new ArrayDeque<>();
+        long start = encode(Player.DEFAULT_X, Player.DEFAULT_Y);
+        parents.put(start, -1L);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            long from = queue.poll();
+            for (int move = 0; move < MOVES.length; move++) {
+                player.setX((int) (from >> Integer.SIZE));
+                player.setY((int) from);
+                sim.press(MOVES[move]);
+                char door = sim.step();
+                sim.release(MOVES[move]);
+                long to = encode(player.getX(), player.getY());
+                if (parents.containsKey(to)) {
+                    continue;
+                }
+                parents.put(to, from * MOVES.length + move);
+                if (door == theDoor) {
+                    return path(parents, to);
+                }
+                queue.add(to);
+            }
+        }
+        throw new IllegalStateException("door " + theDoor + " cannot be reached");
+    }
+
+
+    /**
+     * Rebuilds the moves leading to a position.
+     *
+     * @param theParents The previous position and move of each position.
+     * @param theEnd The position reached.
+     * @return The moves from the start to theEnd.
+     */
+    private static Command[] path(final Map<Long, Long> theParents, final long theEnd) {
+        List<Command> moves = new ArrayList<>();
+        long parent = theParents.get(theEnd);
+        while (parent != -1L) {
+            moves.add(MOVES[(int) Math.floorMod(parent, (long) MOVES.length)]);
+            parent = theParents.get(Math.floorDiv(parent, (long) MOVES.length));
+        }
+        Command[] path = new Command[moves.size()];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = moves.get(path.length - 1 - i);
+        }
+        return path;
+    }
+
+
+    /**
+     * Packs a position into a long.
+     *
+     * @param theX The x position.
+     * @param theY The y position.
+     * @return The packed position.
+     */
+    private static long encode(final int theX, final int theY) {
+        return ((long) theX << Integer.SIZE) | (theY & 0xFFFFFFFFL);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller;
+
+import controller.event.DoorInteracted;
+import controller.event.DoorZoneChanged;
+import controller.event.EventBus;
+import controller.event.TileChanged;
+import model.engine.RoomSimulation;
+import model.map.AbstractMapEntity;
+import model.map.GameMap;
+import model.map.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks one tick of UserController.updatePlayer(), which moves the
+ * Player, checks it for collisions with every obstacle of the map, checks
+ * its proximity to every Door and posts what changed to an EventBus with a
+ * handler for every event, both while the Player walks across a Room and
+ * while it stands at a Door.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class UserControllerBenchmark {
+
+    /** The ID of the Room the Player is in. */
+    @Param({"0", "15"})
+    public int roomID;
+
+    /** A controller of a Player walking back and forth. */
+    private UserController myWalking;
+
+    /** A controller of a Player standing on a Door. */
+    private UserController myAtDoor;
+
+
+    /** Places the Players. */
+    @Setup
+    public void setUp() {
+        GameMap map = new GameMap(roomID);
+        EventBus bus = new EventBus();
+        bus.subscribe(DoorZoneChanged.class, theEvent -> { });
+        bus.subscribe(DoorInteracted.class, theEvent -> { });
+        bus.subscribe(TileChanged.class, theEvent -> { });
+        myWalking = new UserController(new Player(), map);
+        myWalking.setEventBus(bus);
+        myWalking.getMyPlayer().setVelX(RoomSimulation.MOVEMENT_SPEED);
+        myAtDoor = new UserController(new Player(), map);
+        myAtDoor.setEventBus(bus);
+        AbstractMapEntity door = firstDoor(map);
+        myAtDoor.getMyPlayer().setX(door.getX());
+        myAtDoor.getMyPlayer().setY(door.getY());
+    }
+
+
+    /**
+     * Advances the walking Player one tick, turning it around when it is
+     * blocked.
+     *
+     * @return The walking Player.
+     */
+    @Benchmark
+    public Player walkingTick() {
+        Player player = myWalking.getMyPlayer();
+        int oldX = player.getX();
+        myWalking.updatePlayer();
+        if (player.getX() == oldX) {
+            player.setVelX(oldX < Player.DEFAULT_X
+                    ? RoomSimulation.MOVEMENT_SPEED : -RoomSimulation.MOVEMENT_SPEED);
+        }
+        return player;
+    }
+
+
+    /**
+     * Advances the Player standing on a Door one tick.
+     *
+     * @return The Player on the Door.
+     */
+    @Benchmark
+    public Player doorTick() {
+        myAtDoor.updatePlayer();
+        return myAtDoor.getMyPlayer();
+    }
+
+
+    /**
+     * Returns the first Door tile of a map.
+     *
+     * @param theMap The map.
+     * @return The first Door tile.
+     */
+    private static AbstractMapEntity firstDoor(final GameMap theMap) {
+        if (!theMap.doorAEntities().isEmpty()) {
+            return theMap.doorAEntities().get(0);
+        } else if (!theMap.doorBEntities().isEmpty()) {
+            return theMap.doorBEntities().get(0);
+        } else if (!theMap.doorCEntities().isEmpty()) {
+            return theMap.doorCEntities().get(0);
+        }
+        return theMap.doorDEntities().get(0);
+    }
+
+}
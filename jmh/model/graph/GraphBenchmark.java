@@ -0,0 +1,118 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.graph;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the graph work RoomBuilder does for a floor: building the grid
+ * Graph of Rooms, finding its MST with Kruskal's algorithm, and finding the
+ * shortest path through the MST with Dijkstra's algorithm, on square grids
+ * from 4x4 to 1000x1000.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class GraphBenchmark {
+
+    /** The seed of the edge weights. */
+    static final long SEED = 360L;
+
+    /** The number of Room rows and columns of the grid. */
+    @Param({"4", "16", "64", "256", "1000"})
+    public int size;
+
+    /** The grid Graph. */
+    private Graph<Integer> myGrid;
+
+    /** The MST of the grid Graph. */
+    private Graph<Integer> myTree;
+
+
+    /** Builds the grid Graph and its MST. */
+    @Setup
+    public void setUp() {
+        myGrid = grid(size, SEED);
+        KruskalMSTFinder<Integer> finder = new KruskalMSTFinder<>();
+        finder.findMST(myGrid);
+        myTree = finder.getKruskalGraph();
+    }
+
+
+    /**
+     * Builds a grid Graph the way RoomBuilder does.
+     *
+     * @return The grid Graph.
+     */
+    @Benchmark
+    public Graph<Integer> buildGraph() {
+        return grid(size, SEED);
+    }
+
+
+    /**
+     * Finds the MST of the grid Graph.
+     *
+     * @return The MST.
+     */
+    @Benchmark
+    public Set<Edge<Integer>> findMST() {
+        return new KruskalMSTFinder<Integer>().findMST(myGrid);
+    }
+
+
+    /**
+     * Finds the shortest path tree from the first to the last Room of the
+     * MST.
+     *
+     * @return The shortest path tree.
+     */
+    @Benchmark
+    public Map<Integer, Edge<Integer>> shortestPathTree() {
+        return new DijkstraSPFinder<Integer>()
+                .shortestPathTree(myTree, 0, size * size - 1);
+    }
+
+
+    /**
+     * Builds a square grid Graph with random edge weights, as
+     * RoomBuilder.buildGraph() does.
+     *
+     * @param theSize The number of rows and columns.
+     * @param theSeed The seed of the edge weights.
+     * @return The grid Graph.
+     */
+    static Graph<Integer> grid(final int theSize, final long theSeed) {
+        Random rand = new Random(theSeed);
+        Graph<Integer> graph = new AdjacencyListGraph<>();
+        for (int j = 0; j < theSize * theSize; j++) {
+            if ((j + 1) % theSize != 0) {
+                graph.addUndirectedEdge(j, j + 1, rand.nextDouble());
+            }
+            if (j + theSize < theSize * theSize) {
+                graph.addUndirectedEdge(j, j + theSize, rand.nextDouble());
+            }
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.graph;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks MinHeapPQ with as many elements as a grid of Rooms has Rooms:
+ * offering every element and polling them all, and changing the priority of
+ * elements of a full queue as Dijkstra's algorithm does.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class MinHeapPQBenchmark {
+
+    /** The number of priority changes per changePriority() operation. */
+    private static final int CHANGES = 1000;
+
+    /** The number of Room rows and columns of the grid. */
+    @Param({"4", "16", "64", "256", "1000"})
+    public int size;
+
+    /** The elements, one per Room. */
+    private Integer[] myElements;
+
+    /** A random priority for each element. */
+    private double[] myPriorities;
+
+    /** A full queue for changing priorities. */
+    private MinHeapPQ<Integer> myFullQueue;
+
+    /** Picks the elements and priorities to change. */
+    private SplittableRandom myRand;
+
+
+    /** Picks the elements and their priorities. */
+    @Setup
+    public void setUp() {
+        myRand = new SplittableRandom(GraphBenchmark.SEED);
+        myElements = new Integer[size * size];
+        myPriorities = new double[myElements.length];
+        for (int i = 0; i < myElements.length; i++) {
+            myElements[i] = i;
+            myPriorities[i] = myRand.nextDouble();
+        }
+    }
+
+
+    /** Fills the queue whose priorities are changed. */
+    @Setup(Level.Iteration)
+    public void fill() {
+        myFullQueue = new MinHeapPQ<>();
+        for (int i = 0; i < myElements.length; i++) {
+            myFullQueue.offer(myElements[i], myPriorities[i]);
+        }
+    }
+
+
+    /**
+     * Offers every element and polls them all.
+     *
+     * @param theHole Consumes the polled elements.
+     */
+    @Benchmark
+    public void offerPoll(final Blackhole theHole) {
+        MinHeapPQ<Integer> queue = new MinHeapPQ<>();
+        for (int i = 0; i < myElements.length; i++) {
+            queue.offer(myElements[i], myPriorities[i]);
+        }
+        while (!queue.isEmpty()) {
+            theHole.consume(queue.poll());
+        }
+    }
+
+
+    /**
+     * Lowers the priority of CHANGES random elements of the full queue.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CHANGES)
+    public void changePriority() {
+        for (int i = 0; i < CHANGES; i++) {
+            int element = myRand.nextInt(myElements.length);
+            myFullQueue.changePriority(myElements[element], myRand.nextDouble());
+        }
+    }
+
+}
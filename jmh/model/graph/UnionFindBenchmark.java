@@ -0,0 +1,81 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.graph;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks UnionFindDisjointSet with as many elements as a grid of Rooms
+ * has Rooms: making a set of each element, then finding the sets of twice
+ * as many random pairs of elements and joining each pair, as Kruskal's
+ * algorithm does with the ends of each edge.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.awt.headless=true"})
+public class UnionFindBenchmark {
+
+    /** The number of Room rows and columns of the grid. */
+    @Param({"4", "16", "64", "256", "1000"})
+    public int size;
+
+    /** The elements, one per Room. */
+    private Integer[] myElements;
+
+    /** The pairs of elements to join, two entries per pair. */
+    private int[] myPairs;
+
+
+    /** Picks the elements and the pairs to join. */
+    @Setup
+    public void setUp() {
+        SplittableRandom rand = new SplittableRandom(GraphBenchmark.SEED);
+        myElements = new Integer[size * size];
+        for (int i = 0; i < myElements.length; i++) {
+            myElements[i] = i;
+        }
+        myPairs = new int[4 * myElements.length];
+        for (int i = 0; i < myPairs.length; i++) {
+            myPairs[i] = rand.nextInt(myElements.length);
+        }
+    }
+
+
+    /**
+     * Makes a set of every element, then joins the picked pairs.
+     *
+     * @param theHole Consumes the results of each union and find.
+     */
+    @Benchmark
+    public void makeSetUnionFind(final Blackhole theHole) {
+        UnionFindDisjointSet<Integer> sets = new UnionFindDisjointSet<>();
+        for (Integer element : myElements) {
+            sets.makeSet(element);
+        }
+        for (int i = 0; i < myPairs.length; i += 2) {
+            Integer a = myElements[myPairs[i]];
+            Integer b = myElements[myPairs[i + 1]];
+            theHole.consume(sets.findSet(a) == sets.findSet(b));
+            theHole.consume(sets.union(a, b));
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.map;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building the model of a Room's map: loading the map's compiled
+ * cache and translating it into a GameMap, parsing the map's csv file, and
+ * constructing a Player.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameMapBenchmark {
+
+    /** The ID of the Room whose map is read. */
+    @Param({"0", "5", "10", "15"})
+    public int roomID;
+
+
+    /**
+     * Loads and translates the Room's map, which after the first call is
+     * read from its compiled cache.
+     *
+     * @return The GameMap.
+     */
+    @Benchmark
+    public GameMap translateFile() {
+        return new GameMap(roomID);
+    }
+
+
+    /**
+     * Parses the csv file of the Room's map without its cache.
+     *
+     * @return The parsed map.
+     */
+    @Benchmark
+    public TileMap readCsv() {
+        return TileMapLoader.read(GameMap.PATH_PREFIX + roomID + GameMap.PATH_SUFFIX);
+    }
+
+
+    /**
+     * Constructs a Player.
+     *
+     * @return The Player.
+     */
+    @Benchmark
+    public Player newPlayer() {
+        return new Player();
+    }
+
+}
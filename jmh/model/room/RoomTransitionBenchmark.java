@@ -0,0 +1,95 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.room;
+
+import controller.UserController;
+import model.map.Player;
+import model.trivia.SkillModel;
+import model.trivia.Trivia;
+import model.trivia.TriviaBank;
+import model.trivia.TriviaManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the model work of ViewController.loadRoom(): giving the
+ * entered Room's Doors their Trivia sources and building a Player and
+ * UserController for the Room. Also benchmarks generating a whole floor,
+ * which a new game does before its first room transition.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RoomTransitionBenchmark {
+
+    /** The seed of the floor. */
+    private static final long SEED = 360L;
+
+    /** The floor the Rooms are entered on. */
+    private RoomBuilder myFloor;
+
+    /** The Rooms of the floor. */
+    private List<Room> myRooms;
+
+    /** The model of the Player's skill. */
+    private SkillModel mySkill;
+
+    /** The index of the next Room to enter. */
+    private int myNext;
+
+
+    /** Generates the floor. */
+    @Setup
+    public void setUp() {
+        List<Trivia> trivia = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            trivia.add(new Trivia(i, "Question " + i + "?", "Answer " + i, "", 3));
+        }
+        myFloor = newFloor();
+        myFloor.setTriviaManager(new TriviaManager(new TriviaBank(trivia), SEED));
+        myRooms = myFloor.getRoomsList();
+        mySkill = new SkillModel();
+    }
+
+
+    /**
+     * Enters the next Room of the floor.
+     *
+     * @return The controller of the Room entered.
+     */
+    @Benchmark
+    public UserController enterRoom() {
+        Room room = myRooms.get(myNext++ % myRooms.size());
+        myFloor.bindTrivia(room, mySkill);
+        return new UserController(new Player(), room.getMap());
+    }
+
+
+    /**
+     * Generates a 4x4 floor.
+     *
+     * @return The builder of the floor.
+     */
+    @Benchmark
+    public RoomBuilder newFloor() {
+        return new RoomBuilder(4, 4, 0, 15, SEED);
+    }
+
+}
@@ -0,0 +1,21 @@
+#!/bin/sh
+# Compiles the JMH benchmarks in jmh/ against src/ and runs them with the
+# GC profiler, writing the results as JSON for comparison with earlier runs.
+#
+# Usage, from anywhere:
+#   JMH_CP=<jmh jars> jmh/run.sh [JMH options] [benchmark regex]
+#
+# JMH_CP is the class path of jmh-core, jmh-generator-annprocess,
+# jopt-simple and commons-math3. JMH_RESULT is the JSON file to write and
+# defaults to jmh/baseline.json, the committed baseline. For example:
+#   jmh/run.sh -p size=4,64 GraphBenchmark
+set -e
+cd "$(dirname "$0")/.."
+: "${JMH_CP:?set JMH_CP to the class path of the JMH jars}"
+OUT=out/jmh
+rm -rf "$OUT"
+mkdir -p "$OUT"
+javac -nowarn -cp "$JMH_CP" -processorpath "$JMH_CP" -d "$OUT" \
+    $(find src jmh -name "*.java")
+java -Djava.awt.headless=true -cp "$OUT:$JMH_CP" org.openjdk.jmh.Main \
+    -prof gc -rf json -rff "${JMH_RESULT:-jmh/baseline.json}" "$@"
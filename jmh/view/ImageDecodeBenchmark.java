@@ -0,0 +1,73 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks decoding the images a room transition needs: the four Player
+ * sprites, which SpriteSheet decodes once, and the floor image of a Room,
+ * which RoomPanel decodes on every transition.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ImageDecodeBenchmark {
+
+    /** The file names of the Player sprites. */
+    private static final String[] SPRITES = {"chair_up.png", "chair_down.png",
+            "chair_left.png", "chair_right.png"};
+
+    /** The ID of the Room whose floor image is decoded. */
+    @Param({"0", "15"})
+    public int roomID;
+
+
+    /**
+     * Decodes the four Player sprites.
+     *
+     * @return The last sprite decoded.
+     * @throws IOException if a sprite cannot be read.
+     */
+    @Benchmark
+    public BufferedImage decodeSprites() throws IOException {
+        BufferedImage sprite = null;
+        for (String name : SPRITES) {
+            sprite = ImageIO.read(new File(SpriteSheet.PATH + name));
+        }
+        return sprite;
+    }
+
+
+    /**
+     * Decodes the floor image of the Room, as RoomPanel.loadRoom() does.
+     *
+     * @return The floor image.
+     * @throws IOException if the image cannot be read.
+     */
+    @Benchmark
+    public BufferedImage decodeFloorMap() throws IOException {
+        return ImageIO.read(new File(RoomPanel.PATH + roomID + "/map.png"));
+    }
+
+}
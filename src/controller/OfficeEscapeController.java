@@ -10,14 +10,30 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package controller;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
+import model.metrics.MetricsRegistry;
+import model.metrics.Stopwatch;
+import view.AssetLoader;
+import view.ConsolePanel;
+import view.FontCache;
+import view.MainMenuPanel;
+import view.SfxMixer;
+import view.SplashScreen;
+import view.SpriteSheet;
+
 import javax.swing.*;
 import java.awt.*;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Initiates view controller which is entry point for application.
+ *
+ * The assets the game needs at startup are read in parallel by the
+ * AssetLoader while a splash screen shows their progress. The main menu is
+ * shown as soon as its own images are ready, and the time from launch to
+ * its first frame is recorded and reported.
+ *
  * @author Raz Consta
  * @author Reuben Keller
  * @author Dustin Ray
@@ -25,29 +41,83 @@ import java.io.IOException;
  */
 public class OfficeEscapeController {
 
+    /** The name of the stopwatch timing launch to the main menu's first frame. */
+    public static final String FIRST_FRAME = "startup.firstFrame";
+
+    /** The font sizes drawn by the menus and console. */
+    private static final int[] FONT_SIZES = {12, 13, 14, 18, 20, 24};
+
+    /** The nanoTime at which the game was launched. */
+    private final long myLaunchTime;
+
     /** Constructor. Calls run method. */
     public OfficeEscapeController() {
+        myLaunchTime = System.nanoTime();
         run();
     }
 
-    /** Initiates view controller. */
+    /** Preloads the startup assets and shows the main menu once it is ready. */
     public void run() {
+        AssetLoader assets = AssetLoader.getDefault();
+        CompletableFuture<Void> menu = CompletableFuture.allOf(
+                assets.image(MainMenuPanel.BACKGROUND_PATH),
+                assets.image(MainMenuPanel.SCREEN_PATH));
+        preload(assets);
         EventQueue.invokeLater(() -> {
-            try {
-                new ViewController();
-            } catch (final
-                    ClassNotFoundException |
-                    InstantiationException |
-                    IllegalAccessException |
-                    UnsupportedLookAndFeelException |
-                    IOException |
-                    FontFormatException |
-                    UnsupportedAudioFileException |
-                    LineUnavailableException e) {
-                e.printStackTrace();
+            SplashScreen splash = new SplashScreen(assets);
+            splash.setVisible(true);
+            menu.whenComplete((theResult, theError) ->
+                    EventQueue.invokeLater(() -> showMainMenu(splash)));
+        });
+    }
+
+    /**
+     * Starts reading the assets needed after the main menu, so they are
+     * likely ready by the time they are first drawn.
+     *
+     * @param theAssets The loader to read the assets with.
+     */
+    private void preload(final AssetLoader theAssets) {
+        theAssets.run(() -> {
+            for (int size : FONT_SIZES) {
+                FontCache.getFont(FontCache.EXPANSIVA, size);
             }
         });
+        theAssets.image(ConsolePanel.CONSOLE_PATH);
+        theAssets.image(ConsolePanel.INFO_CONSOLE_PATH);
+        theAssets.image(ViewController.ABOUT_PATH);
+        theAssets.image(ViewController.HOW_TO_PLAY_PATH);
+        theAssets.run(() -> SpriteSheet.getPlayerSprite('U'));
+        theAssets.run(SfxMixer::getDefault);
     }
-}
 
+    /**
+     * Creates the game's frame, showing the main menu, and closes the splash
+     * screen. Must be called on the event dispatch thread.
+     *
+     * @param theSplash The splash screen to close.
+     */
+    private void showMainMenu(final SplashScreen theSplash) {
+        try {
+            new ViewController().onFirstFrame(this::reportFirstFrame);
+        } catch (final
+                ClassNotFoundException |
+                InstantiationException |
+                IllegalAccessException |
+                UnsupportedLookAndFeelException |
+                IOException |
+                FontFormatException e) {
+            e.printStackTrace();
+        } finally {
+            theSplash.dispose();
+        }
+    }
 
+    /** Records and reports the time from launch to the main menu's first frame. */
+    private void reportFirstFrame() {
+        Stopwatch firstFrame = MetricsRegistry.getDefault().stopwatch(FIRST_FRAME);
+        long elapsed = firstFrame.stop(myLaunchTime);
+        System.out.println("Time to first frame: "
+                + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+    }
+}
@@ -19,21 +19,6 @@ import java.beans.PropertyChangeListener;
  */
 public interface PropertyChangeEnabledUserControls {
 
-    /** Proximity constant to fire to listeners if sprite approaches a door. */
-    String PROPERTY_PROXIMITY_DOOR_A = "A";
-    /** Proximity constant to fire to listeners if sprite approaches a door. */
-    String PROPERTY_PROXIMITY_DOOR_B = "B";
-    /** Proximity constant to fire to listeners if sprite approaches a door. */
-    String PROPERTY_PROXIMITY_DOOR_C = "C";
-    /** Proximity constant to fire to listeners if sprite approaches a door. */
-    String PROPERTY_PROXIMITY_DOOR_D = "D";
-    /** X/Y position constant to fire to listeners when user controller changes position of the
-     * player sprite. */
-    String XY_POSITION = "xy position change";
-    /** Property constant to fire when terrain surrounding the player sprite has changed. */
-    String NEIGHBOR_CHANGE = "terrain neighboring sprite has changed";
-
-
     String SAVE = "save";
 
     String LOAD = "load";
@@ -10,55 +10,68 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package controller;
 
-import model.map.AbstractMapEntity;
+import controller.event.DoorInteracted;
+import controller.event.DoorZoneChanged;
+import controller.event.EventBus;
+import controller.event.TileChanged;
+import model.engine.Command;
+import model.engine.DoorSensor;
+import model.engine.DoorSensorListener;
+import model.engine.RoomSimulation;
 import model.map.GameMap;
 import model.map.Player;
 
 import java.awt.event.KeyEvent;
-import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
-import java.util.List;
 
 /**
  * Controls attributes for player character. Communicates with RoomPanel via key listener.
+ * Maps keys to Commands for a RoomSimulation, which moves the player without needing a
+ * display, and posts the changes in the player's state to an EventBus. Events are
+ * only posted when something changes: when the player starts or stops touching a
+ * door, starts interacting with a door, or moves onto another tile. The door
+ * changes are found by a DoorSensor, as in the headless GameEngine.
  *
  * @author Dustin Ray
  * @author Reuben Keller
  * @version Summer 2021
  */
-public class UserController implements PropertyChangeEnabledUserControls {
+public class UserController {
 
-    /** Movement speed of player sprite. */
-    private static final int MOVEMENT_SPEED = 10;
+    /** The simulation that moves the player through the room. */
+    private final RoomSimulation mySim;
 
-    /** Object representing player character. */
-    private final Player myPlayer;
+    /** The bus the player's changes are posted to, or null if they are not posted. */
+    private EventBus myBus;
 
-    /**Triggers option for trivia event if true. */
-    private boolean myNextToDoor;
+    /** Finds the changes in what the player does at the doors. */
+    private final DoorSensor mySensor;
 
-    /**Property change support manager for this object. Used to fire changes to listeners.  */
-    private final PropertyChangeSupport myPcs;
+    /** The column of the tile the player was on in the last update. */
+    private int myColumn;
 
-    /** A value used to determine if the player wants to enter the next room. */
-    private boolean myLoadGameFlag;
-
-    /** The GameMap the Player is in. */
-    private final GameMap myGM;
-
-    /** A flag to tell listeners if the user is pressing q on the keyboard. */
-    private boolean myCheatFlag;
+    /** The row of the tile the player was on in the last update. */
+    private int myRow;
 
     /**
      * Constructor.
-     * @param thePlayer is the player object which tracks the sprite image and x y positions.
+     * @param thePlayer is the player object which tracks the direction and x y positions.
      * @param theGM is the game map which contains information about terrain and collision.
      */
     public UserController(final Player thePlayer, final GameMap theGM) {
-        myPcs = new PropertyChangeSupport(this);
-        myNextToDoor = false;
-        myGM = theGM;
-        myPlayer = thePlayer;
+        mySim = new RoomSimulation(thePlayer, theGM);
+        mySensor = new DoorSensor(new DoorPoster());
+        myColumn = -1;
+        myRow = -1;
+    }
+
+    /**
+     * Sets the bus the player's changes are posted to. The next update posts the
+     * door the player touches even if it has not changed.
+     * @param theBus the bus to post to, or null to stop posting.
+     */
+    public void setEventBus(final EventBus theBus) {
+        myBus = theBus;
+        mySensor.reset();
     }
 
     /**
@@ -67,28 +80,9 @@ public class UserController implements PropertyChangeEnabledUserControls {
      * @param event The KeyEvent triggered by pressing a key.
      */
     public void keyPressed(final KeyEvent event) {
-        int key = event.getKeyCode();
-        if (key == KeyEvent.VK_LEFT || key == KeyEvent.VK_KP_LEFT) {
-            myPlayer.setVelX(-MOVEMENT_SPEED);
-            myPlayer.setSprite('L');
-        }
-        if (key == KeyEvent.VK_RIGHT || key == KeyEvent.VK_KP_RIGHT) {
-            myPlayer.setVelX(MOVEMENT_SPEED);
-            myPlayer.setSprite('R');
-        }
-        if (key == KeyEvent.VK_DOWN|| key == KeyEvent.VK_KP_DOWN) {
-            myPlayer.setVelY(MOVEMENT_SPEED);
-            myPlayer.setSprite('D');
-        }
-        if (key == KeyEvent.VK_UP || key == KeyEvent.VK_KP_UP) {
-            myPlayer.setVelY(-MOVEMENT_SPEED);
-            myPlayer.setSprite('U');
-        }
-        if (key == KeyEvent.VK_E) {
-            myLoadGameFlag = true;
-        }
-        if (key == KeyEvent.VK_Q) {
-            myCheatFlag = true;
+        Command command = commandOf(event.getKeyCode());
+        if (command != null) {
+            mySim.press(command);
         }
     }
 
@@ -101,81 +95,57 @@ public class UserController implements PropertyChangeEnabledUserControls {
      * @param event The KeyEvent triggered by releasing a key.
      */
     public void keyReleased(KeyEvent event) {
-        int key = event.getKeyCode();
-        if (key == KeyEvent.VK_LEFT || key == KeyEvent.VK_KP_LEFT) {
-            myPlayer.setVelX(0);
-        }
-        if (key == KeyEvent.VK_RIGHT || key == KeyEvent.VK_KP_RIGHT) {
-            myPlayer.setVelX(0);
-        }
-        if (key == KeyEvent.VK_DOWN|| key == KeyEvent.VK_KP_DOWN) {
-            myPlayer.setVelY(0);
-        }
-        if (key == KeyEvent.VK_UP || key == KeyEvent.VK_KP_UP) {
-            myPlayer.setVelY(0);
-        }
-        if (key == KeyEvent.VK_E) {
-            myLoadGameFlag = false;
-        }
-        if (key == KeyEvent.VK_Q) {
-            myCheatFlag = false;
+        Command command = commandOf(event.getKeyCode());
+        if (command != null) {
+            mySim.release(command);
         }
     }
 
     /**
-     * Checks if the Player collides with any Obstacles in the Map.
+     * Returns the Command a key is mapped to.
      *
-     * @return true if the Player collides with an MapEntity and false otherwise
+     * @param theKey the key code of a KeyEvent.
+     * @return the Command of the key or null if the key is not mapped.
      */
-    private boolean collisionWith(List<AbstractMapEntity> mapEntity) {
-        for (AbstractMapEntity entity : mapEntity) {
-            if (myPlayer.collidesWith(entity)) {
-                return true;
-            }
-        }
-        return false;
+    private static Command commandOf(final int theKey) {
+        return switch (theKey) {
+            case KeyEvent.VK_LEFT, KeyEvent.VK_KP_LEFT -> Command.LEFT;
+            case KeyEvent.VK_RIGHT, KeyEvent.VK_KP_RIGHT -> Command.RIGHT;
+            case KeyEvent.VK_DOWN, KeyEvent.VK_KP_DOWN -> Command.DOWN;
+            case KeyEvent.VK_UP, KeyEvent.VK_KP_UP -> Command.UP;
+            case KeyEvent.VK_E -> Command.INTERACT;
+            case KeyEvent.VK_Q -> Command.CHEAT;
+            default -> null;
+        };
     }
 
 
     /**
-     * Updates the x and y positions of the player.
+     * Updates the x and y positions of the player, then posts what changed and
+     * delivers the events of the frame.
      */
     public void updatePlayer() {
-        int oldX = myPlayer.getX();
-        int oldY = myPlayer.getY();
-        myPlayer.update();
-        int newX = myPlayer.getX();
-        int newY = myPlayer.getY();
-        if (collisionWith(myGM.obstacleEntities()) || myPlayer.outOfBounds()) {
-            newX = oldX;
-            newY = oldY;
+        char door = mySim.step();
+        if (myBus == null) {
+            return;
         }
-        myPlayer.setX(newX);
-        myPlayer.setY(newY);
-        checkDoorProximity();
+        mySensor.update(door, mySim);
+        checkTile();
+        myBus.flush();
     }
 
 
-    /**
-     * Checks the proximity of the Player sprite for any Doors.
-     */
-    private void checkDoorProximity() {
-        if (collisionWith(myGM.doorAEntities())) {
-            fireProximityChangeDoor(PROPERTY_PROXIMITY_DOOR_A);
-            myNextToDoor = true;
-        } else if (collisionWith(myGM.doorBEntities())) {
-            fireProximityChangeDoor(PROPERTY_PROXIMITY_DOOR_B);
-            myNextToDoor = true;
-        } else if (collisionWith(myGM.doorCEntities())) {
-            fireProximityChangeDoor(PROPERTY_PROXIMITY_DOOR_C);
-            myNextToDoor = true;
-        } else if (collisionWith(myGM.doorDEntities())) {
-            fireProximityChangeDoor(PROPERTY_PROXIMITY_DOOR_D);
-            myNextToDoor = true;
-        } else {
-            myNextToDoor = false;
-            fireXYPositionChange();
-            fireNeighborChange();
+    /** Posts a change in the tile the player is on. */
+    private void checkTile() {
+        Player player = mySim.getPlayer();
+        int column = player.getX() / GameMap.TILE_WIDTH;
+        int row = player.getY() / GameMap.TILE_HEIGHT;
+        if (column != myColumn || row != myRow) {
+            myColumn = column;
+            myRow = row;
+            if (myBus.hasHandlers(TileChanged.class)) {
+                myBus.post(new TileChanged(column, row));
+            }
         }
     }
 
@@ -185,7 +155,7 @@ public class UserController implements PropertyChangeEnabledUserControls {
      * @return Current player object for this class.
      */
     public Player getMyPlayer() {
-        return myPlayer;
+        return mySim.getPlayer();
     }
 
 
@@ -196,49 +166,29 @@ public class UserController implements PropertyChangeEnabledUserControls {
      * holding the "e" key, false otherwise.
      */
     public boolean getMyLoadGameFlag() {
-        return myLoadGameFlag;
+        return mySim.isHeld(Command.INTERACT);
     }
 
     /**
      * Checks to see if user is pressing q on the keyboard.
      * @return boolean if q is pressed.
      */
-    public boolean getCheatFlag() {return myCheatFlag;}
+    public boolean getCheatFlag() {return mySim.isHeld(Command.CHEAT);}
 
-    /**
-     * Fires a property change when the player sprite is in proximity to a door.
-     * @param thePropertyChange is the current event of the player being next to a door.
-     */
-    private void fireProximityChangeDoor(final String thePropertyChange) {
-        myPcs.firePropertyChange(thePropertyChange, null, myNextToDoor);
-    }
-
-    /** Fires a property change when the player sprite position changes. */
-    private void fireXYPositionChange() {
-        myPcs.firePropertyChange(PropertyChangeEnabledUserControls.XY_POSITION, null, "");
-    }
+    /** Posts the changes in what the player does at the doors. */
+    private class DoorPoster implements DoorSensorListener {
 
-    /** Fires a property change when the terrain surrounding the sprite changes. */
-    private void fireNeighborChange() {
-        myPcs.firePropertyChange(PropertyChangeEnabledUserControls.NEIGHBOR_CHANGE, null, "");
-    }
-
-    /**
-     * Adds a property change listener.
-     * @param theListener the listen to add.
-     */
-    @Override
-    public void addPropertyChangeListener(final PropertyChangeListener theListener) {
-        myPcs.addPropertyChangeListener(theListener);
-    }
+        /** Posts a change in the door the player touches. */
+        @Override
+        public void doorChanged(final char theDoor) {
+            myBus.post(new DoorZoneChanged(theDoor));
+        }
 
-    /**
-     * Removes a property change listener.
-     * @param theListener the listen to remove.
-     */
-    @Override
-    public void removePropertyChangeListener(final PropertyChangeListener theListener) {
-        myPcs.removePropertyChangeListener(theListener);
+        /** Posts the start of an interaction with a door. */
+        @Override
+        public void interacted(final char theDoor, final boolean theCheat) {
+            myBus.post(new DoorInteracted(theDoor));
+        }
     }
 
 }
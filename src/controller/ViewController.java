@@ -10,20 +10,38 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package controller;
 
+import controller.event.AnswerSubmitted;
+import controller.event.DoorInteracted;
+import controller.event.DoorZoneChanged;
+import controller.event.EventBus;
+import controller.event.TileChanged;
 import model.StateFileHandler;
+import model.engine.DoorInteraction;
+import model.engine.DoorInteractionListener;
+import model.save.EventJournal;
+import model.save.GameState;
+import model.save.JournalSnapshot;
+import model.save.SaveSlot;
+import model.save.SaveSlotStore;
 import model.room.Room;
 import model.room.RoomBuilder;
+import model.room.TriviaBinder;
+import model.metrics.MetricsRegistry;
+import model.metrics.PerformanceSampler;
+import model.metrics.Stopwatch;
 import model.trivia.Trivia;
 import view.*;
 
-import javax.sound.sampled.LineUnavailableException;
-import javax.sound.sampled.UnsupportedAudioFileException;
 import javax.swing.*;
 import java.awt.*;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Random;
 
 import static controller.PropertyChangeEnabledUserControls.*;
 
@@ -52,12 +70,34 @@ public class ViewController extends JFrame implements PropertyChangeListener {
     /** The pixel height of this frame. */
     public static final int FRAME_HEIGHT = 828;
 
+    /** The file path of the About panel's image. */
+    public static final String ABOUT_PATH = "src/res/assets/about_menu.png";
+
+    /** The file path of the How To Play panel's image. */
+    public static final String HOW_TO_PLAY_PATH = "src/res/assets/howtoplay.png";
+
+    /** Times each load of a Room. */
+    private static final Stopwatch LOAD_ROOM =
+            MetricsRegistry.getDefault().stopwatch(PerformanceSampler.ROOM_LOAD);
+
     private static final String CURRENT_ROOM_SAVE_PATH = "src/res/saves/current_room_data";
 
     private static final String ROOMS_LIST_SAVE_PATH = "src/res/saves/rooms_list_data";
 
     private static final String OPTIMAL_SOLUTION_SAVE_PATH = "src/res/saves/optimal_solution_data";
 
+    /** The path of the save slot store holding every saved game. */
+    private static final String SAVE_SLOTS_PATH = "src/res/saves/save_slots";
+
+    /** The path of the journal of the current session's events. */
+    private static final String JOURNAL_PATH = "src/res/saves/session_journal";
+
+    /** The path of the snapshot the session journal is replayed over. */
+    private static final String JOURNAL_SNAPSHOT_PATH = "src/res/saves/session_snapshot";
+
+    /** The Load Game choice that resumes the journaled session. */
+    private static final String RESUME_CHOICE = "Resume last session";
+
     /** The current room panel which renders the game room to the screen. */
     RoomPanel myCurrentRoomPanel;
 
@@ -85,6 +125,24 @@ public class ViewController extends JFrame implements PropertyChangeListener {
     /** The fastest route to the victory room. */
     List<Integer> myOptimalSolution;
 
+    /** The store of saved games. Opened on first save or load. */
+    private SaveSlotStore mySaveSlots;
+
+    /** The journal of the current session's events. Opened on first use. */
+    private EventJournal myJournal;
+
+    /** The seed and dimensions of the current floor, or null if unknown. */
+    private JournalSnapshot myFloor;
+
+    /** Assigns Trivia to the Doors of the current floor as its Rooms are entered. */
+    private TriviaBinder myTriviaBinder;
+
+    /** The bus the player's door and answer events are delivered on. */
+    private final EventBus myEventBus;
+
+    /** The player's interaction with the doors of the current room. */
+    private final DoorInteraction myDoorInteraction;
+
     /**
      * Constructor for class. Sets up all panels in the order in which they should appear.
      * @throws ClassNotFoundException if cannot load system l/f.
@@ -100,15 +158,17 @@ public class ViewController extends JFrame implements PropertyChangeListener {
             IllegalAccessException,
             UnsupportedLookAndFeelException,
             IOException,
-            FontFormatException, UnsupportedAudioFileException, LineUnavailableException {
+            FontFormatException {
 
         super("Office Escape 9: The Story Continues");
-        initRoomBuilder();
         myCurrentToolbarMenu = new ToolbarMenu();
         myMainMenuPanel = new MainMenuPanel();
         myConsolePanel = new ConsolePanel();
-        myAboutPanel = new AboutPanel(FRAME_WIDTH, FRAME_HEIGHT, "src/res/assets/about_menu.png");
-        myHowToPlayPanel = new HowToPlayPanel(FRAME_WIDTH, FRAME_HEIGHT, "src/res/assets/howtoplay.png");
+        myEventBus = new EventBus();
+        myDoorInteraction = new DoorInteraction(new DoorActions());
+        subscribeToEvents();
+        myAboutPanel = new AboutPanel(FRAME_WIDTH, FRAME_HEIGHT, ABOUT_PATH);
+        myHowToPlayPanel = new HowToPlayPanel(FRAME_WIDTH, FRAME_HEIGHT, HOW_TO_PLAY_PATH);
         setupUI();
         setupFrame();
         addToolbarPanel();
@@ -118,14 +178,46 @@ public class ViewController extends JFrame implements PropertyChangeListener {
         this.setResizable(false);
     }
 
+    /**
+     * Runs an action once, after the main menu is first painted.
+     *
+     * @param theAction The action to run.
+     */
+    public void onFirstFrame(final Runnable theAction) {
+        myMainMenuPanel.setFirstPaintAction(theAction);
+    }
+
     /** Builds the room list for implementation. */
     private void initRoomBuilder() {
         RoomBuilder rb = new RoomBuilder();
+        setTriviaBinder(rb.getTriviaBinder());
         myRoomList = rb.getRoomsList();
         myOptimalSolution = rb.getOptimalSolution();
+        myFloor = new JournalSnapshot(rb.getSeed(), rb.getNumRows(),
+                rb.getNumCols(), rb.getSource(), rb.getTarget());
     }
 
 
+    /**
+     * Subscribes the console and this frame to the player's events, which
+     * also trigger the footstep and wrong answer sound effects.
+     */
+    private void subscribeToEvents() {
+        myConsolePanel.setEventBus(myEventBus);
+        myEventBus.subscribe(DoorZoneChanged.class,
+                theEvent -> myDoorInteraction.doorChanged(theEvent.getDoor()));
+        myEventBus.subscribe(DoorInteracted.class, theEvent -> myDoorInteraction.interacted(
+                myCurrentRoomPanel.getMyUserControls().getCheatFlag()));
+        myEventBus.subscribe(AnswerSubmitted.class, theEvent -> {
+            if (!theEvent.isCorrect()) {
+                SfxMixer.getDefault().play(SoundEffect.WRONG_ANSWER);
+            }
+            myDoorInteraction.answered(theEvent.isCorrect());
+        });
+        myEventBus.subscribe(TileChanged.class,
+                theEvent -> SfxMixer.getDefault().play(SoundEffect.FOOTSTEP));
+    }
+
     /** Initializes the current frame to hold the panels. Dimensions are set in
      * multiples of the default grid square size. */
     private void setupFrame() {
@@ -168,18 +260,23 @@ public class ViewController extends JFrame implements PropertyChangeListener {
      */
     private void loadRoom(final Room theRoom) {
         //load new room
+        long start = LOAD_ROOM.start();
         this.getContentPane().removeAll();
+        myTriviaBinder.bindTrivia(myRoomList.get(theRoom.getRoomID()),
+                myConsolePanel.getSkillModel());
         myCurrentRoomPanel = new RoomPanel(myRoomList.get(theRoom.getRoomID()));
         this.getContentPane().add(myCurrentRoomPanel);
         myCurrentRoomPanel.setVisible(true);
         myCurrentRoomPanel.setBounds(0, 0, ROOM_WIDTH, ROOM_HEIGHT);
         myCurrentRoomPanel.requestFocusInWindow();
         myConsolePanel.setRoomID(myCurrentRoomPanel.getCurrentRoomID());
-        myCurrentRoomPanel.getMyUserControls().addPropertyChangeListener(myConsolePanel);
-        myCurrentRoomPanel.getMyUserControls().addPropertyChangeListener(this);
+        myDoorInteraction.setRoom(myCurrentRoomPanel.getMyCurrentRoom());
+        myConsolePanel.resetAnswerVisibility();
+        myCurrentRoomPanel.getMyUserControls().setEventBus(myEventBus);
         this.getContentPane().add(myConsolePanel);
         myConsolePanel.setVisible(true);
         repaint();
+        LOAD_ROOM.stop(start);
     }
 
     /** Removes currently loaded panels and resets all listeners. Always call before loading
@@ -190,16 +287,12 @@ public class ViewController extends JFrame implements PropertyChangeListener {
         this.remove(myCurrentRoomPanel);
         this.remove(myConsolePanel);
         myCurrentRoomPanel.resetUserController();
-        myCurrentRoomPanel.getMyUserControls().removePropertyChangeListener(myConsolePanel);
-        myCurrentRoomPanel.getMyUserControls().removePropertyChangeListener(this);
+        myCurrentRoomPanel.getMyUserControls().setEventBus(null);
         repaint();
     }
 
     /**
-     * Handles sprite interaction with doors and file menu changes.
-     *
-     * Main interaction between player sprite and doors. move sprite into
-     * proximity to door and press e to load the next room if it exists.
+     * Handles file menu changes.
      * @param evt is the received property change.
      */
     @Override
@@ -211,55 +304,7 @@ public class ViewController extends JFrame implements PropertyChangeListener {
             case LOAD -> loadSavedGameState();
             case ABOUT -> displayAboutMenu();
             case HOW -> displayHowToPlayMenu();
-            case PROPERTY_PROXIMITY_DOOR_A -> doorInteraction('A');
-            case PROPERTY_PROXIMITY_DOOR_B -> doorInteraction('B');
-            case PROPERTY_PROXIMITY_DOOR_C -> doorInteraction('C');
-            case PROPERTY_PROXIMITY_DOOR_D -> doorInteraction('D');
-            case NEIGHBOR_CHANGE -> myConsolePanel.resetAnswerVisibility();
-        }
-    }
-
-
-    /** Handles interaction between doors. Launches trivia event if one exists.
-     * @param theID theID of the resource to seek, can be a door or a room. */
-    public void doorInteraction(final char theID)  {
-        //is e pressed on keyboard?
-        boolean canLoad = myCurrentRoomPanel.getMyUserControls().getMyLoadGameFlag();
-        boolean canCheat = myCurrentRoomPanel.getMyUserControls().getCheatFlag();
-        //check to see if door is valid and locked
-        if (myCurrentRoomPanel.getMyCurrentRoom().hasRoom(theID) &&
-                !(myCurrentRoomPanel.getMyCurrentRoom().getDoor(theID).isUnlocked())) {
-            myConsolePanel.setNextRoomVisible();
-            //start trivia event when user presses e
-            myConsolePanel.triviaPrompt();
-            Trivia trivia = myCurrentRoomPanel.getMyCurrentRoom().getDoor(theID).getTrivia();
-            if (canLoad) {
-                myConsolePanel.setTrivia(trivia);
-                if (canCheat) {
-                    myConsolePanel.setCheatText(trivia.getCorrectAnswer(),
-                    myOptimalSolution.toString());
-                }
-            }
-            //
-            if (myCurrentRoomPanel.getMyCurrentRoom().getRoom(theID) != null) {
-                myConsolePanel.setNextRoomText("" + myCurrentRoomPanel.getMyCurrentRoom().getRoom(theID));
-            }
-            //if answered correctly, load next room and unlock door
-            if(myConsolePanel.getCorrectlyAnsweredFlag()) {
-                myCurrentRoomPanel.getMyCurrentRoom().getDoor(theID).unlockDoor();
-                resetLoadedRoom();
-                loadRoom(myCurrentRoomPanel.getMyCurrentRoom().getRoom(theID));
-                myConsolePanel.setCorrectlyAnsweredFlag(false);
-            }
-        }
-        //if approached unlocked door, press e to load next room without answering trivia
-
-        else if (canLoad && myCurrentRoomPanel.getMyCurrentRoom().hasRoom(theID) &&
-                (myCurrentRoomPanel.getMyCurrentRoom().getDoor(theID).isUnlocked())) {
-            resetLoadedRoom();
-            loadRoom(myCurrentRoomPanel.getMyCurrentRoom().getRoom(theID));
         }
-        myConsolePanel.setNextRoomText(null);
     }
 
     /** Removes all visible content and displays main menu panel. */
@@ -280,26 +325,293 @@ public class ViewController extends JFrame implements PropertyChangeListener {
         myAboutPanel.setVisible(true);
     }
 
-    /** loads a game state that was saved to memory. */
+    /**
+     * Loads a game state chosen from the journaled session and the save
+     * slots. Falls back to the single legacy save if neither exists yet.
+     */
     private void loadSavedGameState() {
+        SaveSlotStore store = getSaveSlots();
+        EventJournal journal = getJournal();
+        List<Object> choices = new ArrayList<>();
+        if (journal != null && journal.getState() != null) {
+            choices.add(RESUME_CHOICE);
+        }
+        if (store != null) {
+            choices.addAll(store.listSlots());
+        }
+        if (choices.isEmpty()) {
+            loadLegacyGameState();
+            return;
+        }
+        Object choice = JOptionPane.showInputDialog(this,
+                "Choose a saved game:", "Load Game",
+                JOptionPane.PLAIN_MESSAGE, null, choices.toArray(), choices.get(0));
+        if (choice == RESUME_CHOICE) {
+            resumeSession(journal.getState());
+        } else if (choice != null) {
+            loadSlot(store, (SaveSlot) choice);
+        }
+    }
+
+    /**
+     * Loads the game state saved in the given slot and starts journaling it.
+     * @param theStore the store holding the slot.
+     * @param theSlot the slot to load.
+     */
+    private void loadSlot(final SaveSlotStore theStore, final SaveSlot theSlot) {
+        GameState state = null;
+        try {
+            state = (GameState) StateFileHandler.fromBytes(theStore.load(theSlot.getIndex()));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        if (state != null) {
+            resetContent();
+            myRoomList = state.getRoomsList();
+            myCurrentRoom = state.getCurrentRoom();
+            myOptimalSolution = state.getOptimalSolution();
+            myFloor = state.toSnapshot();
+            setTriviaBinder(binderOf(myFloor));
+            myTriviaBinder.markUsed(myRoomList);
+            beginJournal(myFloor);
+            loadRoom(myCurrentRoom);
+        }
+    }
+
+    /**
+     * Regenerates the journaled session's floor from its seed and replays the
+     * journaled unlocks and room transitions over it. The questions the
+     * session asked are not drawn again.
+     * @param theState the recovered state of the session.
+     */
+    private void resumeSession(final JournalSnapshot theState) {
         resetContent();
+        RoomBuilder rb = new RoomBuilder(theState.getNumRows(), theState.getNumCols(),
+                theState.getSource(), theState.getTarget(), theState.getSeed());
+        setTriviaBinder(rb.getTriviaBinder());
+        BitSet asked = theState.getAskedTrivia();
+        for (int id = asked.nextSetBit(0); id >= 0; id = asked.nextSetBit(id + 1)) {
+            myTriviaBinder.markUsed(id);
+        }
+        myRoomList = rb.getRoomsList();
+        myOptimalSolution = rb.getOptimalSolution();
+        myFloor = new JournalSnapshot(rb.getSeed(), rb.getNumRows(),
+                rb.getNumCols(), rb.getSource(), rb.getTarget());
+        BitSet unlocked = theState.getUnlockedDoors();
+        for (int key = unlocked.nextSetBit(0); key >= 0; key = unlocked.nextSetBit(key + 1)) {
+            Room room = myRoomList.get(JournalSnapshot.roomOf(key));
+            char door = JournalSnapshot.doorOf(key);
+            if (room.hasRoom(door)) {
+                room.getDoor(door).unlockDoor();
+            }
+        }
+        myCurrentRoom = myRoomList.get(theState.getCurrentRoomID());
+        loadRoom(myCurrentRoom);
+    }
+
+    /**
+     * Returns a binder assigning Trivia to the Doors of the floor with the
+     * given seed and dimensions, or of a default floor with a new seed if
+     * they are unknown. The floor itself is not regenerated.
+     * @param theFloor the seed and dimensions of the floor or null.
+     * @return The binder of the floor.
+     */
+    private TriviaBinder binderOf(final JournalSnapshot theFloor) {
+        if (theFloor == null) {
+            return new TriviaBinder(RoomBuilder.DEFAULT_ROWS, RoomBuilder.DEFAULT_TARGET,
+                    new Random().nextLong());
+        }
+        return new TriviaBinder(theFloor.getNumRows(), theFloor.getTarget(),
+                theFloor.getSeed());
+    }
+
+    /**
+     * Makes the given binder assign the Trivia of the current floor, journaling
+     * each question its Doors ask.
+     * @param theBinder the binder of the current floor.
+     */
+    private void setTriviaBinder(final TriviaBinder theBinder) {
+        myTriviaBinder = theBinder;
+        myTriviaBinder.setDrawListener(this::journalAsked);
+    }
+
+    /** loads a game state that was saved to memory by the single-slot save. */
+    private void loadLegacyGameState() {
+        resetContent();
+        myFloor = null;
+        beginJournal(null);
         myRoomList = (List<Room>) StateFileHandler.load(ROOMS_LIST_SAVE_PATH);
         myCurrentRoom = (Room) StateFileHandler.load(CURRENT_ROOM_SAVE_PATH);
         myOptimalSolution = (List<Integer>) StateFileHandler.load(OPTIMAL_SOLUTION_SAVE_PATH);
+        setTriviaBinder(binderOf(null));
+        myTriviaBinder.markUsed(myRoomList);
         loadRoom(myCurrentRoom);
     }
 
-    /** saves a game state to memory. */
+    /** saves a game state to a save slot chosen by the user. */
     private void saveGame() {
-        StateFileHandler.save(ROOMS_LIST_SAVE_PATH, myRoomList);
-        StateFileHandler.save(CURRENT_ROOM_SAVE_PATH, myCurrentRoomPanel.getMyCurrentRoom());
-        StateFileHandler.save(OPTIMAL_SOLUTION_SAVE_PATH, myOptimalSolution);
+        SaveSlotStore store = getSaveSlots();
+        if (store == null || myCurrentRoomPanel == null) {
+            return;
+        }
+        String[] choices = new String[store.getNumSlots()];
+        for (int i = 0; i < choices.length; i++) {
+            SaveSlot slot = store.getSlot(i);
+            choices[i] = slot == null ? "Slot " + i + " - empty" : slot.toString();
+        }
+        Object choice = JOptionPane.showInputDialog(this,
+                "Choose a slot to save to:", "Save Game",
+                JOptionPane.PLAIN_MESSAGE, null, choices, choices[0]);
+        if (choice == null) {
+            return;
+        }
+        int index = Arrays.asList(choices).indexOf(choice);
+        try {
+            store.save(index, myCurrentRoomPanel.getCurrentRoomID(), currentGameState());
+        } catch (IOException e) {
+            e.printStackTrace();
+            JOptionPane.showMessageDialog(this, "The game could not be saved: "
+                    + e.getMessage(), "Save Game", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Journals the unlocking of the given door of the given room.
+     * @param theRoomID the ID of the room.
+     * @param theDoor the letter of the door.
+     */
+    private void journalUnlock(final int theRoomID, final char theDoor) {
+        EventJournal journal = getJournal();
+        if (journal == null || journal.getState() == null) {
+            return;
+        }
+        try {
+            journal.recordUnlock(theRoomID, theDoor);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Journals the asking of the question with the given ID.
+     * @param theTriviaID the ID of the question.
+     */
+    private void journalAsked(final int theTriviaID) {
+        EventJournal journal = getJournal();
+        if (journal == null || journal.getState() == null) {
+            return;
+        }
+        try {
+            journal.recordAsked(theTriviaID);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Journals the move into the room now loaded. Compacts the journal when
+     * it has grown long, autosaving the full game state to a slot as well.
+     */
+    private void journalTransition() {
+        EventJournal journal = getJournal();
+        if (journal == null || journal.getState() == null) {
+            return;
+        }
+        try {
+            journal.recordTransition(myCurrentRoomPanel.getCurrentRoomID());
+            if (journal.needsCompaction()) {
+                journal.compact();
+                autosave();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Starts journaling a new session from the given state, or stops
+     * journaling if the seed of the current floor is unknown.
+     * @param theState the state the session starts from or null.
+     */
+    private void beginJournal(final JournalSnapshot theState) {
+        EventJournal journal = getJournal();
+        if (journal == null) {
+            return;
+        }
+        try {
+            if (theState == null) {
+                journal.end();
+            } else {
+                journal.begin(theState);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns the journal of the current session, opening it on first use.
+     * @return The session journal or null if it cannot be opened.
+     */
+    private EventJournal getJournal() {
+        if (myJournal == null) {
+            try {
+                myJournal = new EventJournal(JOURNAL_PATH, JOURNAL_SNAPSHOT_PATH);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return myJournal;
+    }
+
+    /** Saves the game state to the oldest autosave slot. */
+    private void autosave() {
+        SaveSlotStore store = getSaveSlots();
+        if (store == null) {
+            return;
+        }
+        try {
+            store.autosave(myCurrentRoomPanel.getCurrentRoomID(), currentGameState());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Serializes the current game state for a save slot.
+     * @return The serialized game state.
+     * @throws IOException if the game state cannot be serialized.
+     */
+    private byte[] currentGameState() throws IOException {
+        byte[] state = StateFileHandler.toBytes(new GameState(myRoomList,
+                myCurrentRoomPanel.getMyCurrentRoom(), myOptimalSolution, myFloor));
+        if (state == null) {
+            throw new IOException("the game state could not be serialized");
+        }
+        return state;
+    }
+
+    /**
+     * Returns the store of saved games, opening it on first use.
+     * @return The store of saved games or null if it cannot be opened.
+     */
+    private SaveSlotStore getSaveSlots() {
+        if (mySaveSlots == null) {
+            try {
+                mySaveSlots = new SaveSlotStore(SAVE_SLOTS_PATH);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return mySaveSlots;
     }
 
     /** Removes all visible content, resets game state and starts over at room 0. */
     private void newGame() {
         resetContent();
         initRoomBuilder();
+        beginJournal(new JournalSnapshot(myFloor.getSeed(), myFloor.getNumRows(),
+                myFloor.getNumCols(), myFloor.getSource(), myFloor.getTarget()));
         loadRoom(myRoomList.get(0));
         this.repaint();
     }
@@ -346,4 +658,51 @@ public class ViewController extends JFrame implements PropertyChangeListener {
             UIManager.setLookAndFeel(UIManager.getCrossPlatformLookAndFeelClassName());
         }
     }
+
+    /** Shows the player's interaction with doors in the console and moves it between rooms. */
+    private class DoorActions implements DoorInteractionListener {
+
+        /** Prompts to begin a trivia event and shows the room behind the door. */
+        @Override
+        public void prompted(final char theDoor, final Room theNext) {
+            myConsolePanel.setNextRoomVisible();
+            myConsolePanel.triviaPrompt();
+            myConsolePanel.setNextRoomText("" + theNext);
+        }
+
+        /** Shows the door's trivia, drawn the first time it is shown. */
+        @Override
+        public void triviaShown(final Trivia theTrivia) {
+            myConsolePanel.setTrivia(theTrivia);
+        }
+
+        /** Shows the answer to the trivia and the fastest route. */
+        @Override
+        public void cheatShown(final Trivia theTrivia) {
+            myConsolePanel.setCheatText(theTrivia.getCorrectAnswer(),
+                    myOptimalSolution.toString());
+        }
+
+        /** Hides the answers when the player walks away from the door. */
+        @Override
+        public void cleared() {
+            myConsolePanel.resetAnswerVisibility();
+        }
+
+        /** Records the unlocked door in the session journal. */
+        @Override
+        public void doorUnlocked(final int theRoomID, final char theDoor) {
+            SfxMixer.getDefault().play(SoundEffect.DOOR_UNLOCK);
+            journalUnlock(theRoomID, theDoor);
+        }
+
+        /** Loads the room behind the door. */
+        @Override
+        public void transition(final Room theNext) {
+            resetLoadedRoom();
+            loadRoom(theNext);
+            myConsolePanel.setCorrectlyAnsweredFlag(false);
+            journalTransition();
+        }
+    }
 }
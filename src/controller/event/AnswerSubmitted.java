@@ -0,0 +1,44 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller.event;
+
+/**
+ * Posted when the Player submits an answer to the Trivia shown.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class AnswerSubmitted {
+
+    /** Whether the answer was correct. */
+    private final boolean myCorrect;
+
+
+    /**
+     * Constructs an AnswerSubmitted event.
+     *
+     * @param theCorrect true if the answer was correct and false otherwise.
+     */
+    public AnswerSubmitted(final boolean theCorrect) {
+        myCorrect = theCorrect;
+    }
+
+
+    /**
+     * Checks if the answer was correct.
+     *
+     * @return true if the answer was correct and false otherwise.
+     */
+    public boolean isCorrect() {
+        return myCorrect;
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller.event;
+
+/**
+ * Posted when the Player starts interacting with a Door, either by pressing
+ * the interact key at the Door or by reaching the Door while holding it, and
+ * again if the cheat key is pressed or released during the interaction.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class DoorInteracted {
+
+    /** The letter of the Door. */
+    private final char myDoor;
+
+
+    /**
+     * Constructs a DoorInteracted event.
+     *
+     * @param theDoor The letter of the Door.
+     */
+    public DoorInteracted(final char theDoor) {
+        myDoor = theDoor;
+    }
+
+
+    /**
+     * Returns the Door interacted with.
+     *
+     * @return The letter of the Door.
+     */
+    public char getDoor() {
+        return myDoor;
+    }
+
+
+}
@@ -0,0 +1,45 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller.event;
+
+/**
+ * Posted when the Player starts or stops touching a Door.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class DoorZoneChanged {
+
+    /** The letter of the Door touched, or RoomSimulation.NO_DOOR. */
+    private final char myDoor;
+
+
+    /**
+     * Constructs a DoorZoneChanged event.
+     *
+     * @param theDoor The letter of the Door now touched, or
+     *     RoomSimulation.NO_DOOR if the Player left the Door.
+     */
+    public DoorZoneChanged(final char theDoor) {
+        myDoor = theDoor;
+    }
+
+
+    /**
+     * Returns the Door the Player now touches.
+     *
+     * @return The letter of the Door, or RoomSimulation.NO_DOOR if none.
+     */
+    public char getDoor() {
+        return myDoor;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Delivers typed game events to the handlers subscribed to their class.
+ * Events are not delivered when posted but queued until the end of the
+ * frame, when flush() delivers them; if several events of the same class are
+ * posted in one frame, only the last is delivered. Events are delivered in
+ * the order their class was first posted in the frame, and events posted by
+ * a handler are delivered in the next frame. Events of a class no handler
+ * subscribes to are dropped when posted.
+ *
+ * The bus is not thread-safe and is meant to be used on the event dispatch
+ * thread.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class EventBus {
+
+    /** The handlers of each event class. */
+    private final Map<Class<?>, List<Consumer<Object>>> myHandlers;
+
+    /** The last event of each class posted this frame. */
+    private Map<Class<?>, Object> myPending;
+
+    /** The events being delivered, kept to be reused the next frame. */
+    private Map<Class<?>, Object> myDelivering;
+
+
+    /** Constructs an EventBus with no handlers. */
+    public EventBus() {
+        myHandlers = new HashMap<>();
+        myPending = new LinkedHashMap<>();
+        myDelivering = new LinkedHashMap<>();
+    }
+
+
+    /**
+     * Subscribes a handler to the events of a class.
+     *
+     * @param theType The class of the events to handle.
+     * @param theHandler The handler of the events.
+     * @param <E> The type of the events.
+     */
+    @SuppressWarnings("unchecked")
+    public <E> void subscribe(final Class<E> theType, final Consumer<? super E> theHandler) {
+        myHandlers.computeIfAbsent(theType, type -> new ArrayList<>())
+                .add((Consumer<Object>) theHandler);
+    }
+
+
+    /**
+     * Unsubscribes a handler from the events of a class.
+     *
+     * @param theType The class of the events handled.
+     * @param theHandler The handler to unsubscribe.
+     * @param <E> The type of the events.
+     */
+    public <E> void unsubscribe(final Class<E> theType, final Consumer<? super E> theHandler) {
+        List<Consumer<Object>> handlers = myHandlers.get(theType);
+        if (handlers != null) {
+            handlers.remove(theHandler);
+        }
+    }
+
+
+    /**
+     * Checks if any handler subscribes to the events of a class.
+     *
+     * @param theType The class of the events.
+     * @return true if a handler subscribes to theType and false otherwise.
+     */
+    public boolean hasHandlers(final Class<?> theType) {
+        List<Consumer<Object>> handlers = myHandlers.get(theType);
+        return handlers != null && !handlers.isEmpty();
+    }
+
+
+    /**
+     * Queues an event to be delivered at the end of the frame, replacing
+     * any event of the same class posted earlier in the frame.
+     *
+     * @param theEvent The event to post.
+     * @throws IllegalArgumentException if theEvent is null.
+     */
+    public void post(final Object theEvent) {
+        if (theEvent == null) {
+            throw new IllegalArgumentException("cannot post a null event");
+        }
+        if (hasHandlers(theEvent.getClass())) {
+            myPending.put(theEvent.getClass(), theEvent);
+        }
+    }
+
+
+    /**
+     * Checks if any event is waiting to be delivered.
+     *
+     * @return true if an event has been posted since the last flush.
+     */
+    public boolean hasPending() {
+        return !myPending.isEmpty();
+    }
+
+
+    /** Delivers the events posted this frame to their handlers. */
+    public void flush() {
+        if (myPending.isEmpty()) {
+            return;
+        }
+        Map<Class<?>, Object> events = myPending;
+        myPending = myDelivering;
+        myDelivering = events;
+        Iterator<Map.Entry<Class<?>, Object>> entries = events.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Class<?>, Object> entry = entries.next();
+            List<Consumer<Object>> handlers = myHandlers.get(entry.getKey());
+            if (handlers != null) {
+                for (int i = 0; i < handlers.size(); i++) {
+                    handlers.get(i).accept(entry.getValue());
+                }
+            }
+            entries.remove();
+        }
+    }
+
+}
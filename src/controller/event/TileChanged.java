@@ -0,0 +1,59 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller.event;
+
+/**
+ * Posted when the Player moves onto another tile of the Room.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class TileChanged {
+
+    /** The column of the tile. */
+    private final int myColumn;
+
+    /** The row of the tile. */
+    private final int myRow;
+
+
+    /**
+     * Constructs a TileChanged event.
+     *
+     * @param theColumn The column of the tile the Player moved onto.
+     * @param theRow The row of the tile the Player moved onto.
+     */
+    public TileChanged(final int theColumn, final int theRow) {
+        myColumn = theColumn;
+        myRow = theRow;
+    }
+
+
+    /**
+     * Returns the column of the tile.
+     *
+     * @return The column of the tile.
+     */
+    public int getColumn() {
+        return myColumn;
+    }
+
+
+    /**
+     * Returns the row of the tile.
+     *
+     * @return The row of the tile.
+     */
+    public int getRow() {
+        return myRow;
+    }
+
+}
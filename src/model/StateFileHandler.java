@@ -10,6 +10,9 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package model;
 
+import model.metrics.MetricsRegistry;
+import model.metrics.Stopwatch;
+
 import java.io.*;
 
 /**
@@ -21,6 +24,12 @@ import java.io.*;
 
 public final class StateFileHandler {
 
+    /** Times each save. */
+    private static final Stopwatch SAVE = MetricsRegistry.getDefault().stopwatch("state.save");
+
+    /** Times each load. */
+    private static final Stopwatch LOAD = MetricsRegistry.getDefault().stopwatch("state.load");
+
     /**
      * A private constructor to prevent instantiation.
      */
@@ -34,6 +43,7 @@ public final class StateFileHandler {
      * @param object The object to serialize.
      */
     public static void save(final String savePath, final Object object) {
+        long start = SAVE.start();
         try {
             FileOutputStream fos = new FileOutputStream(savePath);
             ObjectOutputStream oos = new ObjectOutputStream(fos);
@@ -43,6 +53,7 @@ public final class StateFileHandler {
         } catch (Exception e) {
             e.printStackTrace();
         }
+        SAVE.stop(start);
     }
 
 
@@ -53,6 +64,7 @@ public final class StateFileHandler {
      * @return The deserialized object.
      */
     public static Object load(String loadPath) {
+        long start = LOAD.start();
         Object o = null;
         try {
             FileInputStream fis = new FileInputStream(loadPath);
@@ -61,6 +73,48 @@ public final class StateFileHandler {
         } catch (Exception e) {
             e.printStackTrace();
         }
+        LOAD.stop(start);
+        return o;
+    }
+
+
+    /**
+     * Serializes the given object to an array of bytes if it's serializable.
+     *
+     * @param object The object to serialize.
+     * @return The serialized bytes of the object or null if it could not be
+     *     serialized.
+     */
+    public static byte[] toBytes(final Object object) {
+        byte[] bytes = null;
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new ObjectOutputStream(bos);
+            oos.writeObject(object);
+            oos.close();
+            bytes = bos.toByteArray();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return bytes;
+    }
+
+
+    /**
+     * Deserializes an object from the given array of bytes.
+     *
+     * @param bytes The serialized bytes of the object.
+     * @return The deserialized object.
+     */
+    public static Object fromBytes(final byte[] bytes) {
+        Object o = null;
+        try {
+            ObjectInputStream ois = new ObjectInputStream(
+                    new ByteArrayInputStream(bytes));
+            o = ois.readObject();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
         return o;
     }
 
@@ -0,0 +1,39 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+/**
+ * The abstract inputs that drive the Player. A command is held from the time
+ * it is pressed until it is released, like the key it is usually mapped to.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public enum Command {
+
+    /** Moves the Player up. */
+    UP,
+
+    /** Moves the Player down. */
+    DOWN,
+
+    /** Moves the Player left. */
+    LEFT,
+
+    /** Moves the Player right. */
+    RIGHT,
+
+    /** Opens the Door the Player is next to. */
+    INTERACT,
+
+    /** Reveals the answer of the Trivia shown. */
+    CHEAT
+}
@@ -0,0 +1,227 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.room.Door;
+import model.room.Room;
+import model.trivia.Trivia;
+
+/**
+ * The state of the Player's interaction with the Doors of a Room. Each
+ * state is entered on an edge, such as reaching a Door, pressing the
+ * interact key, or answering its Trivia, and the work of the state, such as
+ * looking up the Door or showing its Trivia, is done once on entry and
+ * reported to a DoorInteractionListener. Nothing is done while the Player
+ * stays in a state. The game's window and the headless GameEngine both
+ * drive their Doors through a DoorInteraction.
+ *
+ * <pre>
+ *     IDLE -> APPROACHING -> PROMPTED -> ANSWERING -> UNLOCKED -> TRANSITION
+ *                  |                                                  ^
+ *                  +------------- (unlocked Door) --------------------+
+ * </pre>
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class DoorInteraction {
+
+    /** The states of an interaction with a Door. */
+    public enum State {
+        /** The Player is not at a Door that leads anywhere. */
+        IDLE,
+        /** The Player is at an unlocked Door. */
+        APPROACHING,
+        /** The Player is at a locked Door and is prompted to open it. */
+        PROMPTED,
+        /** The Trivia of the Door is shown and waits for an answer. */
+        ANSWERING,
+        /** The Trivia was answered correctly and the Door is unlocked. */
+        UNLOCKED,
+        /** The Player is going through the Door. */
+        TRANSITION
+    }
+
+    /** The listener of the interaction. */
+    private final DoorInteractionListener myListener;
+
+    /** The Room the Player is in. */
+    private Room myRoom;
+
+    /** The state of the interaction. */
+    private State myState;
+
+    /** The letter of the Door the Player is at, or RoomSimulation.NO_DOOR. */
+    private char myDoorID;
+
+    /** The Door the Player is at, or null if none. */
+    private Door myDoor;
+
+    /** The Room behind the Door the Player is at, or null if none. */
+    private Room myNext;
+
+    /** The Trivia shown, or null if none is. */
+    private Trivia myTrivia;
+
+    /** Whether the answer to the Trivia shown has been shown. */
+    private boolean myCheatShown;
+
+
+    /**
+     * Constructs an idle DoorInteraction with no Room.
+     *
+     * @param theListener The listener of the interaction.
+     */
+    public DoorInteraction(final DoorInteractionListener theListener) {
+        myListener = theListener;
+        reset();
+    }
+
+
+    /**
+     * Moves the interaction into the given Room, where the Player is not at
+     * any Door.
+     *
+     * @param theRoom The Room the Player is in.
+     */
+    public void setRoom(final Room theRoom) {
+        myRoom = theRoom;
+        reset();
+    }
+
+
+    /**
+     * Handles the Player reaching or leaving a Door.
+     *
+     * @param theDoor The letter of the Door the Player is at, or
+     *     RoomSimulation.NO_DOOR if it left the Door.
+     */
+    public void doorChanged(final char theDoor) {
+        if (theDoor == myDoorID) {
+            return;
+        }
+        boolean wasPrompted = myState == State.PROMPTED || myState == State.ANSWERING;
+        reset();
+        if (theDoor != RoomSimulation.NO_DOOR && myRoom != null && myRoom.hasRoom(theDoor)) {
+            myDoorID = theDoor;
+            myDoor = myRoom.getDoor(theDoor);
+            myNext = myRoom.getRoom(theDoor);
+            myState = State.APPROACHING;
+        }
+        if (wasPrompted) {
+            myListener.cleared();
+        }
+        if (myState == State.APPROACHING && !myDoor.isUnlocked()) {
+            myState = State.PROMPTED;
+            myListener.prompted(myDoorID, myNext);
+        }
+    }
+
+
+    /**
+     * Handles the Player pressing the interact key at the Door, or the cheat
+     * key while holding it. Opens the Door if it is unlocked and shows its
+     * Trivia, and its answer if asked for, otherwise.
+     *
+     * @param theCheat true if the cheat key is held and false otherwise.
+     */
+    public void interacted(final boolean theCheat) {
+        switch (myState) {
+            case APPROACHING -> enter();
+            case PROMPTED -> {
+                myState = State.ANSWERING;
+                myTrivia = myDoor.getTrivia();
+                myListener.triviaShown(myTrivia);
+                showCheat(theCheat);
+            }
+            case ANSWERING -> showCheat(theCheat);
+            default -> { }
+        }
+    }
+
+
+    /**
+     * Handles an answer to the Trivia shown. A correct answer unlocks the
+     * Door and takes the Player through it.
+     *
+     * @param theCorrect true if the answer was correct and false otherwise.
+     */
+    public void answered(final boolean theCorrect) {
+        if (myState == State.ANSWERING && theCorrect) {
+            myState = State.UNLOCKED;
+            myDoor.unlockDoor();
+            myListener.doorUnlocked(myRoom.getRoomID(), myDoorID);
+            enter();
+        }
+    }
+
+
+    /**
+     * Returns the state of the interaction.
+     *
+     * @return The state of the interaction.
+     */
+    public State getState() {
+        return myState;
+    }
+
+
+    /**
+     * Returns the Door the Player is at.
+     *
+     * @return The letter of the Door, or RoomSimulation.NO_DOOR if none.
+     */
+    public char getDoorID() {
+        return myDoorID;
+    }
+
+
+    /**
+     * Returns the Trivia shown.
+     *
+     * @return The Trivia shown, or null if none is.
+     */
+    public Trivia getTrivia() {
+        return myTrivia;
+    }
+
+
+    /** Takes the Player through the Door it is at. */
+    private void enter() {
+        myState = State.TRANSITION;
+        myListener.transition(myNext);
+    }
+
+
+    /**
+     * Shows the answer to the Trivia shown the first time it is asked for.
+     *
+     * @param theCheat true if the cheat key is held and false otherwise.
+     */
+    private void showCheat(final boolean theCheat) {
+        if (theCheat && !myCheatShown) {
+            myCheatShown = true;
+            myListener.cheatShown(myTrivia);
+        }
+    }
+
+
+    /** Returns the interaction to IDLE, forgetting the Door. */
+    private void reset() {
+        myState = State.IDLE;
+        myDoorID = RoomSimulation.NO_DOOR;
+        myDoor = null;
+        myNext = null;
+        myTrivia = null;
+        myCheatShown = false;
+    }
+
+}
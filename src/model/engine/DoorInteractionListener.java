@@ -0,0 +1,68 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.room.Room;
+import model.trivia.Trivia;
+
+/**
+ * Receives the state changes of a DoorInteraction that need the display or
+ * the save journal. Every method does nothing by default, so a listener only
+ * overrides the changes it needs.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public interface DoorInteractionListener {
+
+    /**
+     * Called when the Player reaches a locked Door and is prompted to open it.
+     *
+     * @param theDoor The letter of the Door.
+     * @param theNext The Room behind the Door.
+     */
+    default void prompted(final char theDoor, final Room theNext) { }
+
+    /**
+     * Called when the Player opens a locked Door and is shown its Trivia.
+     *
+     * @param theTrivia The Trivia of the Door.
+     */
+    default void triviaShown(final Trivia theTrivia) { }
+
+    /**
+     * Called when the Player asks for the answer to the Trivia shown.
+     *
+     * @param theTrivia The Trivia of the Door.
+     */
+    default void cheatShown(final Trivia theTrivia) { }
+
+    /**
+     * Called when the Player leaves the Door it was prompted at.
+     */
+    default void cleared() { }
+
+    /**
+     * Called when the Trivia of a Door is answered correctly and the Door is
+     * unlocked.
+     *
+     * @param theRoomID The ID of the Room the Door is in.
+     * @param theDoor The letter of the Door.
+     */
+    default void doorUnlocked(final int theRoomID, final char theDoor) { }
+
+    /**
+     * Called when the Player goes through an unlocked Door.
+     *
+     * @param theNext The Room behind the Door.
+     */
+    default void transition(final Room theNext) { }
+}
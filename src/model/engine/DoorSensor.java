@@ -0,0 +1,87 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+/**
+ * Finds the edges in what the Player does at the Doors of a Room from the
+ * Door it touches and the commands held in each tick: reaching or leaving a
+ * Door, starting to open it, and asking for the answer while opening it.
+ * Only the edges are reported to a DoorSensorListener, so nothing is
+ * reported while the Player stays at a Door holding the same commands. The
+ * game's UserController and the headless GameEngine both sense the Doors
+ * with a DoorSensor.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class DoorSensor {
+
+    /** The Door before the first update, which differs from every Door. */
+    private static final char UNKNOWN_DOOR = '?';
+
+    /** The listener of the edges found. */
+    private final DoorSensorListener myListener;
+
+    /** The Door the Player touched in the last update, or NO_DOOR. */
+    private char myDoor;
+
+    /** Whether the Player was opening the Door in the last update. */
+    private boolean myInteracting;
+
+    /** Whether CHEAT was held in the last update. */
+    private boolean myCheat;
+
+
+    /**
+     * Constructs a DoorSensor reporting to the given listener.
+     *
+     * @param theListener The listener of the edges found.
+     */
+    public DoorSensor(final DoorSensorListener theListener) {
+        myListener = theListener;
+        reset();
+    }
+
+
+    /**
+     * Forgets the Door the Player touched, so the next update reports the
+     * Door it touches even if it has not changed.
+     */
+    public void reset() {
+        myDoor = UNKNOWN_DOOR;
+        myInteracting = false;
+    }
+
+
+    /**
+     * Reports the edges of one tick of the given simulation.
+     *
+     * @param theDoor The letter of the Door the Player touches, or
+     *     RoomSimulation.NO_DOOR.
+     * @param theSim The simulation whose held commands are read.
+     */
+    public void update(final char theDoor, final RoomSimulation theSim) {
+        if (theDoor != myDoor) {
+            myDoor = theDoor;
+            myInteracting = false;
+            myListener.doorChanged(theDoor);
+        }
+        boolean interacting = theDoor != RoomSimulation.NO_DOOR
+                && theSim.isHeld(Command.INTERACT);
+        boolean cheat = theSim.isHeld(Command.CHEAT);
+        if (interacting && (!myInteracting || cheat != myCheat)) {
+            myListener.interacted(theDoor, cheat);
+        }
+        myInteracting = interacting;
+        myCheat = cheat;
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+/**
+ * Receives the edges a DoorSensor finds in what the Player does at the
+ * Doors of a Room.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public interface DoorSensorListener {
+
+    /**
+     * Called when the Player reaches or leaves a Door.
+     *
+     * @param theDoor The letter of the Door the Player touches, or
+     *     RoomSimulation.NO_DOOR if it left the Door.
+     */
+    void doorChanged(char theDoor);
+
+    /**
+     * Called when the Player starts opening the Door it touches, or presses
+     * or releases CHEAT while opening it.
+     *
+     * @param theDoor The letter of the Door.
+     * @param theCheat Whether CHEAT is held.
+     */
+    void interacted(char theDoor, boolean theCheat);
+}
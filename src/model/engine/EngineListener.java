@@ -0,0 +1,70 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.trivia.Trivia;
+
+/**
+ * Receives the events of a GameEngine. Every method does nothing by default,
+ * so a listener only overrides the events it needs.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public interface EngineListener {
+
+    /**
+     * Called when the Player moves into another Room.
+     *
+     * @param theRoomID The ID of the Room entered.
+     */
+    default void roomEntered(final int theRoomID) { }
+
+    /**
+     * Called when the Player starts touching a Door.
+     *
+     * @param theRoomID The ID of the Room the Player is in.
+     * @param theDoor The letter of the Door.
+     */
+    default void doorReached(final int theRoomID, final char theDoor) { }
+
+    /**
+     * Called when the Player tries to open a locked Door and is shown its
+     * Trivia.
+     *
+     * @param theDoor The letter of the Door.
+     * @param theTrivia The Trivia of the Door.
+     */
+    default void triviaShown(final char theDoor, final Trivia theTrivia) { }
+
+    /**
+     * Called when the Player answers the Trivia shown.
+     *
+     * @param theTrivia The Trivia answered.
+     * @param theCorrect Whether the answer was correct.
+     */
+    default void triviaAnswered(final Trivia theTrivia, final boolean theCorrect) { }
+
+    /**
+     * Called when a Door is unlocked.
+     *
+     * @param theRoomID The ID of the Room the Player unlocked it from.
+     * @param theDoor The letter of the Door.
+     */
+    default void doorUnlocked(final int theRoomID, final char theDoor) { }
+
+    /**
+     * Called when the Player enters the exit Room.
+     *
+     * @param theTicks The number of ticks the floor took.
+     */
+    default void floorEscaped(final long theTicks) { }
+}
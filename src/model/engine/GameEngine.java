@@ -0,0 +1,311 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.map.Player;
+import model.room.Room;
+import model.room.RoomBuilder;
+import model.trivia.AnswerMatcher;
+import model.trivia.SkillModel;
+import model.trivia.Trivia;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a floor built by a RoomBuilder without a display. The engine is
+ * driven by pressing and releasing Commands, advanced one tick at a time by
+ * step(), and reports what happens to its EngineListeners. The Doors are
+ * handled by the same DoorSensor and DoorInteraction as in the game's
+ * window: pressing
+ * INTERACT at a locked Door shows its Trivia, which is answered with
+ * answer(); a correct answer unlocks the Door and moves the Player to the
+ * next Room. The floor is escaped once the Player enters its target Room.
+ *
+ * @author Dustin Ray
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class GameEngine {
+
+    /** The builder of the floor being played. */
+    private final RoomBuilder myFloor;
+
+    /** The Rooms of the floor, indexed by Room ID. */
+    private final List<Room> myRooms;
+
+    /** The model of the Player's skill. */
+    private final SkillModel mySkill;
+
+    /** The listeners of this engine. */
+    private final List<EngineListener> myListeners;
+
+    /** The Player's interaction with the Doors of the current Room. */
+    private final DoorInteraction myInteraction;
+
+    /** Finds the changes in what the Player does at the Doors. */
+    private final DoorSensor mySensor;
+
+    /** The Room the Player is in. */
+    private Room myRoom;
+
+    /** The simulation of the Room the Player is in. */
+    private RoomSimulation mySim;
+
+    /** The number of ticks played. */
+    private long myTicks;
+
+    /** Whether the Player has entered the target Room. */
+    private boolean myEscaped;
+
+
+    /**
+     * Constructs a GameEngine for the given floor, with a new Player in its
+     * source Room.
+     *
+     * @param theFloor The builder of the floor to play.
+     */
+    public GameEngine(final RoomBuilder theFloor) {
+        this(theFloor, new SkillModel());
+    }
+
+
+    /**
+     * Constructs a GameEngine for the given floor and Player skill, with a
+     * new Player in the floor's source Room.
+     *
+     * @param theFloor The builder of the floor to play.
+     * @param theSkill The model of the Player's skill.
+     */
+    public GameEngine(final RoomBuilder theFloor, final SkillModel theSkill) {
+        myFloor = theFloor;
+        myRooms = theFloor.getRoomsList();
+        mySkill = theSkill;
+        myListeners = new ArrayList<>();
+        myInteraction = new DoorInteraction(new DoorEvents());
+        mySensor = new DoorSensor(new DoorEdges());
+        enter(myRooms.get(theFloor.getSource()));
+    }
+
+
+    /**
+     * Adds a listener to the events of this engine.
+     *
+     * @param theListener The listener to add.
+     */
+    public void addListener(final EngineListener theListener) {
+        myListeners.add(theListener);
+    }
+
+
+    /**
+     * Removes a listener from the events of this engine.
+     *
+     * @param theListener The listener to remove.
+     */
+    public void removeListener(final EngineListener theListener) {
+        myListeners.remove(theListener);
+    }
+
+
+    /**
+     * Starts holding the given command.
+     *
+     * @param theCommand The command pressed.
+     */
+    public void press(final Command theCommand) {
+        mySim.press(theCommand);
+    }
+
+
+    /**
+     * Stops holding the given command.
+     *
+     * @param theCommand The command released.
+     */
+    public void release(final Command theCommand) {
+        mySim.release(theCommand);
+    }
+
+
+    /**
+     * Advances the game one tick: moves the Player, then tells the Door
+     * interaction when the Player reaches or leaves a Door and when it
+     * starts opening one. Does nothing once the floor is escaped.
+     */
+    public void step() {
+        if (myEscaped) {
+            return;
+        }
+        myTicks++;
+        mySensor.update(mySim.step(), mySim);
+    }
+
+
+    /**
+     * Answers the Trivia shown. A correct answer unlocks its Door and moves
+     * the Player through it.
+     *
+     * @param theAnswer The answer given.
+     * @return true if the answer was correct and false otherwise.
+     * @throws IllegalStateException if no Trivia is shown.
+     */
+    public boolean answer(final String theAnswer) {
+        Trivia trivia = getShownTrivia();
+        if (trivia == null) {
+            throw new IllegalStateException("no trivia is shown");
+        }
+        boolean correct = trivia.getType() == 3
+                ? AnswerMatcher.DEFAULT.matches(trivia, theAnswer)
+                : trivia.getCorrectAnswer().equals(theAnswer);
+        mySkill.record(trivia, correct);
+        for (EngineListener listener : myListeners) {
+            listener.triviaAnswered(trivia, correct);
+        }
+        myInteraction.answered(correct);
+        return correct;
+    }
+
+
+    /**
+     * Returns the Room the Player is in.
+     *
+     * @return The Room the Player is in.
+     */
+    public Room getCurrentRoom() {
+        return myRoom;
+    }
+
+
+    /**
+     * Returns the Player in the current Room.
+     *
+     * @return The Player.
+     */
+    public Player getPlayer() {
+        return mySim.getPlayer();
+    }
+
+
+    /**
+     * Returns the simulation of the Room the Player is in.
+     *
+     * @return The simulation of the current Room.
+     */
+    public RoomSimulation getSimulation() {
+        return mySim;
+    }
+
+
+    /**
+     * Returns the Trivia shown.
+     *
+     * @return The Trivia shown or null if none is.
+     */
+    public Trivia getShownTrivia() {
+        return myInteraction.getState() == DoorInteraction.State.ANSWERING
+                ? myInteraction.getTrivia() : null;
+    }
+
+
+    /**
+     * Returns the number of ticks played.
+     *
+     * @return The number of ticks played.
+     */
+    public long getTicks() {
+        return myTicks;
+    }
+
+
+    /**
+     * Checks if the Player has entered the target Room.
+     *
+     * @return true if the floor is escaped and false otherwise.
+     */
+    public boolean isEscaped() {
+        return myEscaped;
+    }
+
+
+    /**
+     * Moves the Player into the given Room, giving its Doors their Trivia
+     * sources.
+     *
+     * @param theRoom The Room to enter.
+     */
+    private void enter(final Room theRoom) {
+        myRoom = myRooms.get(theRoom.getRoomID());
+        myFloor.bindTrivia(myRoom, mySkill);
+        mySim = new RoomSimulation(new Player(), myRoom.getMap());
+        mySensor.reset();
+        myInteraction.setRoom(myRoom);
+        for (EngineListener listener : myListeners) {
+            listener.roomEntered(myRoom.getRoomID());
+        }
+        if (myRoom.getRoomID() == myFloor.getTarget()) {
+            myEscaped = true;
+            for (EngineListener listener : myListeners) {
+                listener.floorEscaped(myTicks);
+            }
+        }
+    }
+
+
+    /** Passes the changes at the Doors to the Door interaction. */
+    private class DoorEdges implements DoorSensorListener {
+
+        /** Reports the Door reached and moves the interaction to it. */
+        @Override
+        public void doorChanged(final char theDoor) {
+            if (theDoor != RoomSimulation.NO_DOOR) {
+                for (EngineListener listener : myListeners) {
+                    listener.doorReached(myRoom.getRoomID(), theDoor);
+                }
+            }
+            myInteraction.doorChanged(theDoor);
+        }
+
+        /** Opens the Door the Player is at. */
+        @Override
+        public void interacted(final char theDoor, final boolean theCheat) {
+            myInteraction.interacted(theCheat);
+        }
+    }
+
+
+    /** Reports the Door interaction's changes to the listeners of this engine. */
+    private class DoorEvents implements DoorInteractionListener {
+
+        /** Reports the Trivia shown at the Door the Player is at. */
+        @Override
+        public void triviaShown(final Trivia theTrivia) {
+            for (EngineListener listener : myListeners) {
+                listener.triviaShown(myInteraction.getDoorID(), theTrivia);
+            }
+        }
+
+        /** Reports the unlocked Door. */
+        @Override
+        public void doorUnlocked(final int theRoomID, final char theDoor) {
+            for (EngineListener listener : myListeners) {
+                listener.doorUnlocked(theRoomID, theDoor);
+            }
+        }
+
+        /** Moves the Player into the Room behind the Door. */
+        @Override
+        public void transition(final Room theNext) {
+            enter(theNext);
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.map.AbstractMapEntity;
+import model.map.GameMap;
+import model.map.Player;
+
+import java.util.List;
+
+/**
+ * Moves a Player through the GameMap of one Room, one tick at a time, from
+ * the commands it is given. Each tick moves the Player by its velocity
+ * unless that would collide with an obstacle or leave the map, then reports
+ * which Door, if any, the Player touches. Needs no display.
+ *
+ * @author Dustin Ray
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class RoomSimulation {
+
+    /** Movement speed of the Player in pixels per tick. */
+    public static final int MOVEMENT_SPEED = 10;
+
+    /** Returned by step() when the Player touches no Door. */
+    public static final char NO_DOOR = 0;
+
+    /** The Player being moved. */
+    private final Player myPlayer;
+
+    /** The GameMap the Player is in. */
+    private final GameMap myGM;
+
+    /** Whether each command is held, indexed by ordinal. */
+    private final boolean[] myHeld;
+
+
+    /**
+     * Constructs a RoomSimulation of the given Player in the given GameMap.
+     *
+     * @param thePlayer The Player to move.
+     * @param theGM The GameMap the Player is in.
+     */
+    public RoomSimulation(final Player thePlayer, final GameMap theGM) {
+        myPlayer = thePlayer;
+        myGM = theGM;
+        myHeld = new boolean[Command.values().length];
+    }
+
+
+    /**
+     * Starts holding the given command. A movement command sets the Player's
+     * velocity along its axis and turns the Player to face its direction.
+     *
+     * @param theCommand The command pressed.
+     */
+    public void press(final Command theCommand) {
+        myHeld[theCommand.ordinal()] = true;
+        switch (theCommand) {
+            case LEFT -> {
+                myPlayer.setVelX(-MOVEMENT_SPEED);
+                myPlayer.setDirection('L');
+            }
+            case RIGHT -> {
+                myPlayer.setVelX(MOVEMENT_SPEED);
+                myPlayer.setDirection('R');
+            }
+            case DOWN -> {
+                myPlayer.setVelY(MOVEMENT_SPEED);
+                myPlayer.setDirection('D');
+            }
+            case UP -> {
+                myPlayer.setVelY(-MOVEMENT_SPEED);
+                myPlayer.setDirection('U');
+            }
+            default -> { }
+        }
+    }
+
+
+    /**
+     * Stops holding the given command. A movement command stops the Player
+     * along its axis.
+     *
+     * @param theCommand The command released.
+     */
+    public void release(final Command theCommand) {
+        myHeld[theCommand.ordinal()] = false;
+        switch (theCommand) {
+            case LEFT, RIGHT -> myPlayer.setVelX(0);
+            case UP, DOWN -> myPlayer.setVelY(0);
+            default -> { }
+        }
+    }
+
+
+    /**
+     * Checks if the given command is held.
+     *
+     * @param theCommand The command.
+     * @return true if theCommand is held and false otherwise.
+     */
+    public boolean isHeld(final Command theCommand) {
+        return myHeld[theCommand.ordinal()];
+    }
+
+
+    /**
+     * Advances the simulation one tick, moving the Player unless it would
+     * collide with an obstacle or leave the map.
+     *
+     * @return The letter of the Door the Player touches, or NO_DOOR.
+     */
+    public char step() {
+        int oldX = myPlayer.getX();
+        int oldY = myPlayer.getY();
+        myPlayer.update();
+        if (collisionWith(myGM.obstacleEntities()) || myPlayer.outOfBounds()) {
+            myPlayer.setX(oldX);
+            myPlayer.setY(oldY);
+        }
+        return touchedDoor();
+    }
+
+
+    /**
+     * Returns the Player being moved.
+     *
+     * @return The Player.
+     */
+    public Player getPlayer() {
+        return myPlayer;
+    }
+
+
+    /**
+     * Returns the GameMap the Player is in.
+     *
+     * @return The GameMap.
+     */
+    public GameMap getMap() {
+        return myGM;
+    }
+
+
+    /**
+     * Returns the Door the Player touches, checking the Doors in order.
+     *
+     * @return The letter of the Door the Player touches, or NO_DOOR.
+     */
+    private char touchedDoor() {
+        if (collisionWith(myGM.doorAEntities())) {
+            return 'A';
+        } else if (collisionWith(myGM.doorBEntities())) {
+            return 'B';
+        } else if (collisionWith(myGM.doorCEntities())) {
+            return 'C';
+        } else if (collisionWith(myGM.doorDEntities())) {
+            return 'D';
+        }
+        return NO_DOOR;
+    }
+
+
+    /**
+     * Checks if the Player collides with any of the given map entities.
+     *
+     * @param theEntities The map entities.
+     * @return true if the Player collides with one of them and false
+     *     otherwise.
+     */
+    private boolean collisionWith(final List<AbstractMapEntity> theEntities) {
+        for (AbstractMapEntity entity : theEntities) {
+            if (myPlayer.collidesWith(entity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
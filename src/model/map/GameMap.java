@@ -10,15 +10,16 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package model.map;
 
-import java.io.*;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * Represents the GameMap the Player moves within. Reads in a csv file with
- * data indicating where the Player can go and provides methods to get door
- * and obstacle map entities.
+ * Represents the GameMap the Player moves within. Reads in a TMX or csv file
+ * with data indicating where the Player can go, through TileMapLoader, and
+ * provides methods to get door and obstacle map entities.
  *
  * @author Reuben Keller
  * @version Summer 2021
@@ -84,60 +85,80 @@ public class GameMap implements Serializable {
 
 
     /**
-     * Constructs a GameMap by reading a csv file corresponding to the given
-     * room ID.
+     * Constructs a GameMap from the compiled map of the room with the given
+     * ID, which is read from the room's TMX or csv file and cached.
      *
      * @param roomID The integer ID of the room for this GameMap.
      */
     public GameMap(final int roomID) {
-        this(PATH_PREFIX + roomID + PATH_SUFFIX);
+        this();
+        try {
+            translate(TileMapLoader.load(roomID));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
     }
 
 
     /**
      * Constructs a GameMap by reading from the given file path.
      *
-     * @param thePath The path to this GameMap's csv file containing floor
-     *     information.
+     * @param thePath The path to this GameMap's TMX or csv file containing
+     *     floor information.
      */
     public GameMap(final String thePath) {
+        this();
+        try {
+            translate(TileMapLoader.read(thePath));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+
+    /**
+     * Constructs a GameMap from a compiled map.
+     *
+     * @param theMap The compiled map of the room.
+     */
+    public GameMap(final TileMap theMap) {
+        this();
+        translate(theMap);
+    }
+
+
+    /** Constructs an empty GameMap. */
+    private GameMap() {
         myObstacleEntities = new ArrayList<>();
         myDoorAEntities = new ArrayList<>();
         myDoorBEntities = new ArrayList<>();
         myDoorCEntities = new ArrayList<>();
         myDoorDEntities = new ArrayList<>();
-        translateFile(thePath);
     }
 
 
     /**
-     * Translates the csv file containing floor information to myDoorAEntities,
+     * Translates the collision classes of a compiled map to myDoorAEntities,
      * myDoorBEntities, myDoorCEntities, myDoorDEntities, and
      * myObstacleEntities.
      *
-     * @param path The path of this GameMap's csv file.
+     * @param theMap The compiled map of this GameMap.
      */
-    private void translateFile(final String path) {
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader(path));
-            String line = reader.readLine();
-            for (int i = 0; line != null; i++) {
-                String[] cols = line.split(",");
-                for (int j = 0; j < TILE_COLS; j++) {
-                    AbstractMapEntity entity = new MapEntity(j * TILE_WIDTH,
-                            i * TILE_HEIGHT);
-                    switch (cols[j]) {
-                        case DOOR_A -> myDoorAEntities.add(entity);
-                        case DOOR_B -> myDoorBEntities.add(entity);
-                        case DOOR_C -> myDoorCEntities.add(entity);
-                        case DOOR_D -> myDoorDEntities.add(entity);
-                        case OBSTACLE -> myObstacleEntities.add(entity);
-                    }
+    private void translate(final TileMap theMap) {
+        int columns = Math.min(theMap.getColumns(), TILE_COLS);
+        for (int i = 0; i < theMap.getRows(); i++) {
+            for (int j = 0; j < columns; j++) {
+                AbstractMapEntity entity = new MapEntity(j * TILE_WIDTH,
+                        i * TILE_HEIGHT);
+                switch (theMap.getTileClass(j, i)) {
+                    case TileMap.DOOR_A -> myDoorAEntities.add(entity);
+                    case TileMap.DOOR_B -> myDoorBEntities.add(entity);
+                    case TileMap.DOOR_C -> myDoorCEntities.add(entity);
+                    case TileMap.DOOR_D -> myDoorDEntities.add(entity);
+                    case TileMap.OBSTACLE -> myObstacleEntities.add(entity);
+                    default -> { }
                 }
-                line = reader.readLine();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
     }
 
@@ -10,13 +10,12 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package model.map;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.io.Serial;
 
 /**
- * Represents a movable Player in the game.
+ * Represents a movable Player in the game. A Player only knows the direction
+ * it faces; the view resolves the direction to a sprite image, so a Player
+ * can be simulated without a display.
  *
  * @author Dustin Ray
  * @author Reuben Keller
@@ -27,9 +26,6 @@ public class Player extends AbstractMapEntity {
     /** The default direction of this Player. */
     public static final char DEFAULT_DIRECTION = 'U';
 
-    /** The file path for the Player sprite images. */
-    public static final String PATH = "src/res/assets/chair/";
-
     /** The default x position of this PLayer. */
     public static final int DEFAULT_X = 384;
 
@@ -39,23 +35,8 @@ public class Player extends AbstractMapEntity {
     @Serial
     private static final long serialVersionUID = -5429428768135494602L;
 
-    /** A buffered image of the current Player sprite. */
-    private BufferedImage mySprite;
-
-    /** A buffered image of the Player sprite facing up. */
-    private BufferedImage chairUp;
-
-    /** A buffered image of the Player sprite facing down. */
-    private BufferedImage chairDown;
-
-    /** A buffered image of the Player sprite facing left. */
-    private BufferedImage chairLeft;
-
-    /** A buffered image of the Player sprite facing right. */
-    private BufferedImage chairRight;
-
-    /** The default BufferedImage for this sprite. */
-    private BufferedImage defaultImage;
+    /** The direction this Player faces: 'U', 'D', 'L' or 'R'. */
+    private char myDirection;
 
 
     /**
@@ -74,41 +55,21 @@ public class Player extends AbstractMapEntity {
      */
     public Player(final int theX, final int theY) {
         super(theX, theY);
-        readFiles();
+        myDirection = DEFAULT_DIRECTION;
     }
 
 
     /**
-     * Reads in the image files for the Player sprite.
-     */
-    private void readFiles() {
-        try {
-            chairDown = ImageIO.read(new File(PATH + "chair_down.png"));
-            chairUp = ImageIO.read(new File(PATH + "chair_up.png"));
-            chairLeft = ImageIO.read(new File(PATH + "chair_left.png"));
-            chairRight = ImageIO.read(new File(PATH + "chair_right.png"));
-            mySprite = chairUp;
-            defaultImage = chairUp;
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
-
-    /**
-     * Sets the Player sprite and Direction according to the given Direction.
+     * Sets the Direction this Player faces.
      *
-     * @param direction The Direction to set the Player sprite. 'U' for UP, 'D'
-     *     for DOWN, 'L' for LEFT, and 'R' for RIGHT.
+     * @param direction The Direction to face. 'U' for UP, 'D' for DOWN, 'L'
+     *     for LEFT, and 'R' for RIGHT.
      * @throws IllegalArgumentException if the given direction is not in
      *     {'U', 'D', 'L', 'R'}
      */
-    public void setSprite(final char direction) {
+    public void setDirection(final char direction) {
         switch (direction) {
-            case 'U' -> mySprite = chairUp;
-            case 'D' -> mySprite = chairDown;
-            case 'L' -> mySprite = chairLeft;
-            case 'R' -> mySprite = chairRight;
+            case 'U', 'D', 'L', 'R' -> myDirection = direction;
             default -> throw new IllegalArgumentException(
                     "was not given a valid direction"
             );
@@ -118,30 +79,19 @@ public class Player extends AbstractMapEntity {
 
     /** Resets the sprite to initial conditions.*/
     public void reset() {
-        this.setSprite(DEFAULT_DIRECTION);
+        this.setDirection(DEFAULT_DIRECTION);
         this.setX(DEFAULT_X);
         this.setY(DEFAULT_Y);
     }
 
 
-
-    /**
-     * Returns the buffered image of the Player.
-     *
-     * @return The buffered image of the Player.
-     */
-    public BufferedImage getSprite() {
-        return mySprite;
-    }
-
-
     /**
-     * Returns the default buffered image of the Player.
+     * Returns the Direction this Player faces.
      *
-     * @return The default buffered image of the Player.
+     * @return 'U' for UP, 'D' for DOWN, 'L' for LEFT, or 'R' for RIGHT.
      */
-    public BufferedImage getDefaultImage() {
-        return defaultImage;
+    public char getDirection() {
+        return myDirection;
     }
 
 }
@@ -0,0 +1,380 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.map;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The compiled tiles of one Room's map: the tile IDs of each of its layers
+ * and the collision class of each tile. Tile IDs are Tiled global IDs, with
+ * 0 for an empty tile, and each tile also keeps the flips Tiled draws it
+ * with. A collision class is the local ID of the tile in the
+ * map's collision layer, as Tiled exports it to csv, so -1 marks an
+ * obstacle, 0 to 3 mark the doors and any other class is open floor.
+ *
+ * A map read from TMX also knows the Tilesets its tile IDs refer to, which
+ * of its layers were visible in Tiled and which of its layers marks the
+ * collision classes, so that the layers meant to be seen can be drawn.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public final class TileMap {
+
+    /** The collision class of an obstacle. */
+    public static final int OBSTACLE = -1;
+
+    /** The collision class of door A. */
+    public static final int DOOR_A = 0;
+
+    /** The collision class of door B. */
+    public static final int DOOR_B = 1;
+
+    /** The collision class of door C. */
+    public static final int DOOR_C = 2;
+
+    /** The collision class of door D. */
+    public static final int DOOR_D = 3;
+
+    /** The flip of a tile mirrored left to right. */
+    public static final int FLIP_HORIZONTAL = 4;
+
+    /** The flip of a tile mirrored top to bottom. */
+    public static final int FLIP_VERTICAL = 2;
+
+    /** The flip of a tile mirrored across its top left to bottom right diagonal. */
+    public static final int FLIP_DIAGONAL = 1;
+
+    /** The bits of a stored tile ID holding its flips. */
+    private static final int FLIP_BITS = 29;
+
+    /** The number of columns of tiles. */
+    private final int myColumns;
+
+    /** The number of rows of tiles. */
+    private final int myRows;
+
+    /** The collision class of each tile, row by row. */
+    private final byte[] myClasses;
+
+    /** The tile IDs of each layer, row by row, with their flips in the top bits. */
+    private final int[][] myLayers;
+
+    /** The tilesets of the tile IDs, in ascending order of first ID. */
+    private final Tileset[] myTilesets;
+
+    /** The index of the layer marking the collision classes, or -1. */
+    private final int myCollisionLayer;
+
+    /** Whether each layer was visible in Tiled. */
+    private final boolean[] myVisible;
+
+
+    /**
+     * Constructs a TileMap without tilesets or a named collision layer. The
+     * arrays are not copied.
+     *
+     * @param theColumns The number of columns of tiles.
+     * @param theRows The number of rows of tiles.
+     * @param theClasses The collision class of each tile, row by row.
+     * @param theLayers The tile IDs of each layer, row by row, with any
+     *     flips in their top three bits as Tiled stores them.
+     * @throws IllegalArgumentException if the map is empty or an array does
+     *     not hold one entry per tile.
+     */
+    public TileMap(final int theColumns, final int theRows, final byte[] theClasses,
+                   final int[][] theLayers) {
+        this(theColumns, theRows, theClasses, theLayers, new Tileset[0], -1);
+    }
+
+
+    /**
+     * Constructs a TileMap. The arrays are not copied.
+     *
+     * @param theColumns The number of columns of tiles.
+     * @param theRows The number of rows of tiles.
+     * @param theClasses The collision class of each tile, row by row.
+     * @param theLayers The tile IDs of each layer, row by row, with any
+     *     flips in their top three bits as Tiled stores them.
+     * @param theTilesets The tilesets of the tile IDs, in ascending order of
+     *     first ID.
+     * @param theCollisionLayer The index of the layer marking the collision
+     *     classes, or -1 if none does.
+     * @throws IllegalArgumentException if the map is empty, an array does
+     *     not hold one entry per tile, the tilesets are out of order, or the
+     *     collision layer is not a layer.
+     */
+    public TileMap(final int theColumns, final int theRows, final byte[] theClasses,
+                   final int[][] theLayers, final Tileset[] theTilesets,
+                   final int theCollisionLayer) {
+        this(theColumns, theRows, theClasses, theLayers, theTilesets, theCollisionLayer,
+                visible(theLayers.length));
+    }
+
+
+    /**
+     * Constructs a TileMap. The arrays are not copied.
+     *
+     * @param theColumns The number of columns of tiles.
+     * @param theRows The number of rows of tiles.
+     * @param theClasses The collision class of each tile, row by row.
+     * @param theLayers The tile IDs of each layer, row by row, with any
+     *     flips in their top three bits as Tiled stores them.
+     * @param theTilesets The tilesets of the tile IDs, in ascending order of
+     *     first ID.
+     * @param theCollisionLayer The index of the layer marking the collision
+     *     classes, or -1 if none does.
+     * @param theVisible Whether each layer was visible in Tiled.
+     * @throws IllegalArgumentException if the map is empty, an array does
+     *     not hold one entry per tile or layer, the tilesets are out of
+     *     order, or the collision layer is not a layer.
+     */
+    public TileMap(final int theColumns, final int theRows, final byte[] theClasses,
+                   final int[][] theLayers, final Tileset[] theTilesets,
+                   final int theCollisionLayer, final boolean[] theVisible) {
+        if (theColumns < 1 || theRows < 1) {
+            throw new IllegalArgumentException("a map needs at least one tile");
+        }
+        int tiles = theColumns * theRows;
+        if (theClasses.length != tiles) {
+            throw new IllegalArgumentException("expected " + tiles + " collision classes");
+        }
+        for (int[] layer : theLayers) {
+            if (layer.length != tiles) {
+                throw new IllegalArgumentException("expected " + tiles + " tiles per layer");
+            }
+        }
+        for (int i = 1; i < theTilesets.length; i++) {
+            if (theTilesets[i].getFirstID() <= theTilesets[i - 1].getFirstID()) {
+                throw new IllegalArgumentException("tilesets must be in order of first ID");
+            }
+        }
+        if (theCollisionLayer < -1 || theCollisionLayer >= theLayers.length) {
+            throw new IllegalArgumentException("no layer " + theCollisionLayer);
+        }
+        if (theVisible.length != theLayers.length) {
+            throw new IllegalArgumentException("expected the visibility of "
+                    + theLayers.length + " layers");
+        }
+        myColumns = theColumns;
+        myRows = theRows;
+        myClasses = theClasses;
+        myLayers = theLayers;
+        myTilesets = theTilesets;
+        myCollisionLayer = theCollisionLayer;
+        myVisible = theVisible;
+    }
+
+
+    /**
+     * Returns the visibility of layers that are all visible.
+     *
+     * @param theLayers The number of layers.
+     * @return An array of theLayers true values.
+     */
+    private static boolean[] visible(final int theLayers) {
+        boolean[] visible = new boolean[theLayers];
+        Arrays.fill(visible, true);
+        return visible;
+    }
+
+
+    /**
+     * Returns the number of columns of tiles.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return myColumns;
+    }
+
+
+    /**
+     * Returns the number of rows of tiles.
+     *
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return myRows;
+    }
+
+
+    /**
+     * Returns the number of layers of tile IDs.
+     *
+     * @return The number of layers.
+     */
+    public int getLayerCount() {
+        return myLayers.length;
+    }
+
+
+    /**
+     * Returns the index of the layer marking the collision classes. That
+     * layer is for the game rather than the player and is never drawn.
+     *
+     * @return The index of the collision layer, or -1 if no layer marks the
+     *     collision classes.
+     */
+    public int getCollisionLayer() {
+        return myCollisionLayer;
+    }
+
+
+    /**
+     * Returns whether a layer was visible in Tiled. A hidden layer is kept
+     * but not drawn.
+     *
+     * @param theLayer The index of the layer.
+     * @return true if the layer is visible and false otherwise.
+     * @throws IndexOutOfBoundsException if the layer is not on the map.
+     */
+    public boolean isLayerVisible(final int theLayer) {
+        return myVisible[theLayer];
+    }
+
+
+    /**
+     * Returns the tilesets of the tile IDs.
+     *
+     * @return The tilesets in ascending order of first ID, which is empty
+     *     for a map read from csv.
+     */
+    public List<Tileset> getTilesets() {
+        return List.of(myTilesets);
+    }
+
+
+    /**
+     * Returns the tileset a global tile ID belongs to.
+     *
+     * @param theID The global tile ID.
+     * @return The tileset holding the tile, or null if the ID is empty or
+     *     beyond every tileset.
+     */
+    public Tileset getTileset(final int theID) {
+        Tileset owner = null;
+        for (Tileset tileset : myTilesets) {
+            if (tileset.getFirstID() > theID) {
+                break;
+            }
+            owner = tileset;
+        }
+        if (owner != null && theID - owner.getFirstID() >= owner.getTileCount()) {
+            owner = null;
+        }
+        return owner;
+    }
+
+
+    /**
+     * Returns the collision class of a tile.
+     *
+     * @param theColumn The column of the tile.
+     * @param theRow The row of the tile.
+     * @return The collision class of the tile.
+     * @throws IndexOutOfBoundsException if the tile is not on the map.
+     */
+    public int getTileClass(final int theColumn, final int theRow) {
+        return myClasses[index(theColumn, theRow)];
+    }
+
+
+    /**
+     * Returns the ID of a tile in a layer.
+     *
+     * @param theLayer The index of the layer.
+     * @param theColumn The column of the tile.
+     * @param theRow The row of the tile.
+     * @return The global tile ID, or 0 if the tile is empty.
+     * @throws IndexOutOfBoundsException if the layer or tile is not on the map.
+     */
+    public int getTileID(final int theLayer, final int theColumn, final int theRow) {
+        return myLayers[theLayer][index(theColumn, theRow)] & (-1 >>> (32 - FLIP_BITS));
+    }
+
+
+    /**
+     * Returns the flips a tile in a layer is drawn with.
+     *
+     * @param theLayer The index of the layer.
+     * @param theColumn The column of the tile.
+     * @param theRow The row of the tile.
+     * @return The flips of the tile, any of FLIP_HORIZONTAL, FLIP_VERTICAL
+     *     and FLIP_DIAGONAL, or 0 if it is drawn as it is in its tileset.
+     * @throws IndexOutOfBoundsException if the layer or tile is not on the map.
+     */
+    public int getTileFlips(final int theLayer, final int theColumn, final int theRow) {
+        return myLayers[theLayer][index(theColumn, theRow)] >>> FLIP_BITS;
+    }
+
+
+    /**
+     * Returns the collision classes of every tile, row by row. The array is
+     * not copied and must not be changed.
+     *
+     * @return The collision classes.
+     */
+    byte[] classes() {
+        return myClasses;
+    }
+
+
+    /**
+     * Returns the tile IDs of a layer, row by row, with their flips. The
+     * array is not copied and must not be changed.
+     *
+     * @param theLayer The index of the layer.
+     * @return The tile IDs of the layer.
+     */
+    int[] layer(final int theLayer) {
+        return myLayers[theLayer];
+    }
+
+
+    /**
+     * Returns the index of a tile in the row by row arrays.
+     *
+     * @param theColumn The column of the tile.
+     * @param theRow The row of the tile.
+     * @return The index of the tile.
+     * @throws IndexOutOfBoundsException if the tile is not on the map.
+     */
+    private int index(final int theColumn, final int theRow) {
+        if (theColumn < 0 || theColumn >= myColumns || theRow < 0 || theRow >= myRows) {
+            throw new IndexOutOfBoundsException("no tile at " + theColumn + ", " + theRow);
+        }
+        return theRow * myColumns + theColumn;
+    }
+
+
+    @Override
+    public boolean equals(final Object other) {
+        boolean result = false;
+        if (other instanceof TileMap o) {
+            result = myColumns == o.myColumns && myRows == o.myRows
+                    && Arrays.equals(myClasses, o.myClasses)
+                    && Arrays.deepEquals(myLayers, o.myLayers)
+                    && Arrays.equals(myTilesets, o.myTilesets)
+                    && myCollisionLayer == o.myCollisionLayer
+                    && Arrays.equals(myVisible, o.myVisible);
+        }
+        return result;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(myClasses) + Arrays.deepHashCode(myLayers);
+    }
+
+}
@@ -0,0 +1,832 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Reads Room maps from Tiled TMX files or from csv exports of their
+ * collision layer, and compiles them into a small binary cache.
+ *
+ * TMX files are read with a streaming StAX parser. Layer data may be csv,
+ * XML tile elements, or base64 that is optionally zlib or gzip compressed.
+ * The collision classes are taken from the layer named COLLISION_LAYER. A
+ * TMX map without one takes them from the map.csv beside it, which is what
+ * the game's own maps do: their floor_map.tmx files keep no collision layer,
+ * and the "valid floor" layers they do keep are older than map.csv and
+ * disagree with it in most Rooms. Such a MARKER_LAYER is still recorded as
+ * the map's collision layer so that its markers are never drawn, as is
+ * whether each layer was visible in Tiled. Tilesets may be embedded or in
+ * external TSX files, and their image paths are resolved against the file
+ * that names them.
+ *
+ * A Room's map is read from floor_map.tmx in its directory if there is one,
+ * and from map.csv otherwise. The compiled map is kept in map.bin beside it,
+ * stamped with the size and modification time of the files it was compiled
+ * from, and is read back with a single FileChannel read for as long as those
+ * files are unchanged.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public final class TileMapLoader {
+
+    /** The suffix of the path to a Room's TMX map. */
+    public static final String TMX_SUFFIX = "/floor_map.tmx";
+
+    /** The suffix of the path to a Room's compiled map. */
+    public static final String CACHE_SUFFIX = "/map.bin";
+
+    /** The name of the TMX layer holding the collision classes. */
+    public static final String COLLISION_LAYER = "collision";
+
+    /**
+     * The name, ignoring spaces, of the TMX layer the game's maps mark their
+     * floor and doors in. Its markers are out of date, so it is not read for
+     * collision classes, but it is not drawn either.
+     */
+    public static final String MARKER_LAYER = "validfloor";
+
+    /** Marks the start of a compiled map. */
+    private static final int MAGIC = 0x4F45544D;
+
+    /** The version of the compiled map format. */
+    private static final int VERSION = 4;
+
+    /** The bytes of a compiled map's header. */
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 8 + 4 + 4 + 4;
+
+    /** The largest compiled map read. */
+    private static final int MAX_CACHE_BYTES = 1 << 24;
+
+    /** The bits of a TMX global tile ID holding its flip flags. */
+    private static final int FLIP_FLAGS = 0xF0000000;
+
+    /** The flag of a TMX global tile ID that only hexagonal maps use. */
+    private static final int ROTATION_FLAG = 0x10000000;
+
+    /** Creates the StAX parsers for TMX files. */
+    private static final XMLInputFactory XML = newFactory();
+
+
+    /** Prevents instantiation; every method is static. */
+    private TileMapLoader() {
+    }
+
+
+    /**
+     * Returns the compiled map of a Room, compiling its TMX or csv map into
+     * the Room's cache if the cache is missing or out of date.
+     *
+     * @param theRoomID The ID of the Room.
+     * @return The Room's map.
+     * @throws IllegalStateException if the map cannot be read.
+     * @throws IllegalArgumentException if the map is malformed.
+     */
+    public static TileMap load(final int theRoomID) {
+        String directory = GameMap.PATH_PREFIX + theRoomID;
+        Path tmx = Path.of(directory + TMX_SUFFIX);
+        Path source = Files.isRegularFile(tmx) ? tmx : Path.of(directory + GameMap.PATH_SUFFIX);
+        return load(source, Path.of(directory + CACHE_SUFFIX));
+    }
+
+
+    /**
+     * Returns the compiled map of a source map, reading it from the given
+     * cache if the cache was compiled from the source as it is now, and
+     * compiling the source into the cache otherwise. The cache of a TMX map
+     * is also stamped with the map.csv beside it, if there is one, since
+     * that may give the map's collision classes. A cache that cannot be
+     * written is reported and skipped.
+     *
+     * @param theSource The path of the TMX or csv map.
+     * @param theCache The path of the compiled map.
+     * @return The map.
+     * @throws IllegalStateException if the source cannot be read.
+     * @throws IllegalArgumentException if the source is malformed.
+     */
+    public static TileMap load(final Path theSource, final Path theCache) {
+        long[] stamp = stamp(theSource);
+        long[] classesStamp = {-1, -1};
+        Path csv = csvBeside(theSource);
+        if (csv != null && Files.isRegularFile(csv)) {
+            classesStamp = stamp(csv);
+        }
+        TileMap map = readCache(theCache, stamp[0], stamp[1], classesStamp[0], classesStamp[1]);
+        if (map == null) {
+            map = read(theSource);
+            try {
+                writeCache(map, theCache, stamp[0], stamp[1], classesStamp[0], classesStamp[1]);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return map;
+    }
+
+
+    /**
+     * Returns the modification time and size of a file.
+     *
+     * @param thePath The path of the file.
+     * @return The modification time in milliseconds and the size in bytes.
+     * @throws IllegalStateException if the file cannot be read.
+     */
+    private static long[] stamp(final Path thePath) {
+        try {
+            BasicFileAttributes attributes =
+                    Files.readAttributes(thePath, BasicFileAttributes.class);
+            return new long[] {attributes.lastModifiedTime().toMillis(), attributes.size()};
+        } catch (IOException e) {
+            throw new IllegalStateException("could not read map " + thePath, e);
+        }
+    }
+
+
+    /**
+     * Returns the path of the csv map beside a TMX map.
+     *
+     * @param thePath The path of a map.
+     * @return The path of the map.csv in the TMX map's directory, or null
+     *     if the map is not a TMX map.
+     */
+    private static Path csvBeside(final Path thePath) {
+        Path csv = null;
+        if (thePath.toString().endsWith(".tmx")) {
+            csv = parentOf(thePath).resolve(GameMap.PATH_SUFFIX.substring(1));
+        }
+        return csv;
+    }
+
+
+    /**
+     * Reads a TMX or csv map, choosing by the extension of its path.
+     *
+     * @param thePath The path of the map.
+     * @return The map.
+     * @throws IllegalStateException if the map cannot be read.
+     * @throws IllegalArgumentException if the map is malformed.
+     */
+    public static TileMap read(final String thePath) {
+        return read(Path.of(thePath));
+    }
+
+
+    /**
+     * Reads a TMX or csv map, choosing by the extension of its path.
+     *
+     * @param thePath The path of the map.
+     * @return The map.
+     * @throws IllegalStateException if the map cannot be read.
+     * @throws IllegalArgumentException if the map is malformed.
+     */
+    private static TileMap read(final Path thePath) {
+        try {
+            return thePath.toString().endsWith(".tmx") ? readTmx(thePath) : readCsv(thePath);
+        } catch (IOException | XMLStreamException e) {
+            throw new IllegalStateException("could not read map " + thePath, e);
+        }
+    }
+
+
+    /**
+     * Reads a csv export of a collision layer. Each value is a collision
+     * class, and the map's one layer holds each value plus one, as Tiled's
+     * global IDs would.
+     *
+     * @param thePath The path of the csv file.
+     * @return The map.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if a row is malformed or the rows are
+     *     not all the same length.
+     */
+    static TileMap readCsv(final Path thePath) throws IOException {
+        byte[] text = Files.readAllBytes(thePath);
+        int[] values = new int[256];
+        int count = 0;
+        int columns = 0;
+        int rows = 0;
+        int rowStart = 0;
+        int i = 0;
+        while (i < text.length) {
+            if (text[i] == '\n' || text[i] == '\r') {
+                i++;
+                continue;
+            }
+            boolean negative = text[i] == '-';
+            if (negative) {
+                i++;
+            }
+            int value = 0;
+            int digits = 0;
+            while (i < text.length && text[i] >= '0' && text[i] <= '9') {
+                value = value * 10 + text[i++] - '0';
+                digits++;
+            }
+            if (digits == 0) {
+                throw new IllegalArgumentException("expected a number in row " + (rows + 1));
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = negative ? -value : value;
+            if (i < text.length && text[i] == ',') {
+                i++;
+            }
+            if (i == text.length || text[i] == '\n' || text[i] == '\r') {
+                int width = count - rowStart;
+                if (columns == 0) {
+                    columns = width;
+                } else if (width != columns) {
+                    throw new IllegalArgumentException("row " + (rows + 1) + " has " + width
+                            + " tiles instead of " + columns);
+                }
+                rows++;
+                rowStart = count;
+            }
+        }
+        byte[] classes = new byte[count];
+        int[] layer = new int[count];
+        for (int tile = 0; tile < count; tile++) {
+            classes[tile] = toClass(values[tile]);
+            layer[tile] = Math.max(0, values[tile] + 1);
+        }
+        return new TileMap(columns, rows, classes, new int[][] {layer});
+    }
+
+
+    /**
+     * Reads a TMX map with a streaming parser. If the map has no collision
+     * layer, its collision classes are read from the map.csv beside it.
+     *
+     * @param thePath The path of the TMX file.
+     * @return The map.
+     * @throws IOException if the file or its map.csv cannot be read.
+     * @throws XMLStreamException if the file is not well formed XML.
+     * @throws IllegalArgumentException if the map is infinite, has no
+     *     layers, has layer data of the wrong size or an unknown encoding,
+     *     or has neither a collision layer nor a map.csv of its size.
+     */
+    static TileMap readTmx(final Path thePath) throws IOException, XMLStreamException {
+        try (InputStream in = Files.newInputStream(thePath)) {
+            XMLStreamReader xml = XML.createXMLStreamReader(in);
+            try {
+                return readTmx(xml, thePath);
+            } finally {
+                xml.close();
+            }
+        }
+    }
+
+
+    /**
+     * Reads the map element of a TMX document.
+     *
+     * @param theXML A parser positioned before the map element.
+     * @param thePath The path of the TMX file.
+     * @return The map.
+     * @throws IOException if compressed layer data or the map.csv beside the
+     *     file cannot be read.
+     * @throws XMLStreamException if the document is not well formed XML.
+     * @throws IllegalArgumentException if the map is malformed.
+     */
+    private static TileMap readTmx(final XMLStreamReader theXML, final Path thePath)
+            throws IOException, XMLStreamException {
+        Path base = parentOf(thePath);
+        int columns = 0;
+        int rows = 0;
+        List<Tileset> tilesets = new ArrayList<>();
+        List<int[]> layers = new ArrayList<>();
+        List<Boolean> visible = new ArrayList<>();
+        int collision = -1;
+        int marker = -1;
+        int[] layer = null;
+        int filled = 0;
+        boolean inData = false;
+        while (theXML.hasNext()) {
+            int event = theXML.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (theXML.getLocalName()) {
+                    case "map" -> {
+                        if ("1".equals(theXML.getAttributeValue(null, "infinite"))) {
+                            throw new IllegalArgumentException("infinite maps are not supported");
+                        }
+                        columns = intAttribute(theXML, "width");
+                        rows = intAttribute(theXML, "height");
+                    }
+                    case "tileset" -> tilesets.add(readTileset(theXML, base));
+                    case "layer" -> {
+                        String name = theXML.getAttributeValue(null, "name");
+                        if (COLLISION_LAYER.equalsIgnoreCase(name)) {
+                            collision = layers.size();
+                        } else if (name != null
+                                && MARKER_LAYER.equalsIgnoreCase(name.replace(" ", ""))) {
+                            marker = layers.size();
+                        }
+                        visible.add(!"0".equals(theXML.getAttributeValue(null, "visible")));
+                        layer = new int[columns * rows];
+                        filled = 0;
+                    }
+                    case "data" -> {
+                        if (layer == null) {
+                            throw new IllegalArgumentException("data outside a layer");
+                        }
+                        String encoding = theXML.getAttributeValue(null, "encoding");
+                        if (encoding == null) {
+                            inData = true;
+                        } else {
+                            filled = decode(encoding, theXML.getAttributeValue(null, "compression"),
+                                    theXML.getElementText(), layer);
+                        }
+                    }
+                    case "tile" -> {
+                        if (inData) {
+                            if (filled == layer.length) {
+                                throw new IllegalArgumentException("too many tiles in a layer");
+                            }
+                            String gid = theXML.getAttributeValue(null, "gid");
+                            layer[filled++] = gid == null ? 0 : Integer.parseUnsignedInt(gid);
+                        }
+                    }
+                    default -> { }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                switch (theXML.getLocalName()) {
+                    case "data" -> inData = false;
+                    case "layer" -> {
+                        if (filled != layer.length) {
+                            throw new IllegalArgumentException("expected " + layer.length
+                                    + " tiles in a layer but read " + filled);
+                        }
+                        layers.add(layer);
+                        layer = null;
+                    }
+                    default -> { }
+                }
+            }
+        }
+        if (layers.isEmpty()) {
+            throw new IllegalArgumentException("the map has no tile layers");
+        }
+        tilesets.sort(Comparator.comparingInt(Tileset::getFirstID));
+        int[] firstIDs = new int[tilesets.size()];
+        for (int i = 0; i < firstIDs.length; i++) {
+            firstIDs[i] = tilesets.get(i).getFirstID();
+        }
+        int[][] ids = layers.toArray(new int[0][]);
+        for (int[] layerIDs : ids) {
+            for (int tile = 0; tile < layerIDs.length; tile++) {
+                layerIDs[tile] &= ~ROTATION_FLAG;
+            }
+        }
+        byte[] classes;
+        if (collision >= 0) {
+            classes = new byte[columns * rows];
+            for (int tile = 0; tile < classes.length; tile++) {
+                classes[tile] = toClass(localID(ids[collision][tile] & ~FLIP_FLAGS, firstIDs));
+            }
+        } else {
+            classes = csvClasses(thePath, columns, rows);
+            collision = marker;
+        }
+        boolean[] shown = new boolean[ids.length];
+        for (int i = 0; i < shown.length; i++) {
+            shown[i] = visible.get(i);
+        }
+        return new TileMap(columns, rows, classes, ids,
+                tilesets.toArray(new Tileset[0]), collision, shown);
+    }
+
+
+    /**
+     * Reads the collision classes of a TMX map without a collision layer
+     * from the map.csv beside it.
+     *
+     * @param thePath The path of the TMX file.
+     * @param theColumns The number of columns of the TMX map.
+     * @param theRows The number of rows of the TMX map.
+     * @return The collision classes, row by row.
+     * @throws IOException if the map.csv cannot be read.
+     * @throws IllegalArgumentException if there is no map.csv or it is not
+     *     the size of the TMX map.
+     */
+    private static byte[] csvClasses(final Path thePath, final int theColumns,
+                                     final int theRows) throws IOException {
+        Path csv = csvBeside(thePath);
+        if (!Files.isRegularFile(csv)) {
+            throw new IllegalArgumentException(thePath + " has no " + COLLISION_LAYER
+                    + " layer and no " + csv);
+        }
+        TileMap classes = readCsv(csv);
+        if (classes.getColumns() != theColumns || classes.getRows() != theRows) {
+            throw new IllegalArgumentException(csv + " is not the size of " + thePath);
+        }
+        return classes.classes();
+    }
+
+
+    /**
+     * Reads a tileset element of a TMX map, following its source to an
+     * external TSX file if it has one.
+     *
+     * @param theXML A parser positioned on the tileset's start element.
+     * @param theBase The directory of the TMX file.
+     * @return The tileset.
+     * @throws IOException if an external tileset cannot be read.
+     * @throws XMLStreamException if a tileset is not well formed XML.
+     * @throws IllegalArgumentException if the tileset is malformed.
+     */
+    private static Tileset readTileset(final XMLStreamReader theXML, final Path theBase)
+            throws IOException, XMLStreamException {
+        int firstID = intAttribute(theXML, "firstgid");
+        String source = theXML.getAttributeValue(null, "source");
+        if (source == null) {
+            return readTileset(theXML, firstID, theBase);
+        }
+        Path tsx = theBase.resolve(source);
+        try (InputStream in = Files.newInputStream(tsx)) {
+            XMLStreamReader external = XML.createXMLStreamReader(in);
+            try {
+                while (external.hasNext()
+                        && external.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if (!external.isStartElement() || !"tileset".equals(external.getLocalName())) {
+                    throw new IllegalArgumentException(tsx + " is not a tileset");
+                }
+                return readTileset(external, firstID, parentOf(tsx));
+            } finally {
+                external.close();
+            }
+        }
+    }
+
+
+    /**
+     * Reads the attributes and image of a tileset element, leaving the
+     * parser on the element's end.
+     *
+     * @param theXML A parser positioned on the tileset's start element.
+     * @param theFirstID The global ID of the tileset's first tile.
+     * @param theBase The directory the tileset's image path is relative to.
+     * @return The tileset.
+     * @throws XMLStreamException if the tileset is not well formed XML.
+     * @throws IllegalArgumentException if the tileset has no image or is
+     *     missing an attribute.
+     */
+    private static Tileset readTileset(final XMLStreamReader theXML, final int theFirstID,
+                                       final Path theBase) throws XMLStreamException {
+        int tileWidth = intAttribute(theXML, "tilewidth");
+        int tileHeight = intAttribute(theXML, "tileheight");
+        int tileCount = intAttribute(theXML, "tilecount");
+        int columns = intAttribute(theXML, "columns");
+        String image = null;
+        int depth = 1;
+        while (depth > 0 && theXML.hasNext()) {
+            int event = theXML.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                if (image == null && "image".equals(theXML.getLocalName())) {
+                    image = theXML.getAttributeValue(null, "source");
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        if (image == null) {
+            throw new IllegalArgumentException("a tileset needs a single image");
+        }
+        String path = theBase.resolve(image).normalize().toString().replace('\\', '/');
+        return new Tileset(theFirstID, path, columns, tileCount, tileWidth, tileHeight);
+    }
+
+
+    /**
+     * Decodes the text of an encoded TMX data element into a layer.
+     *
+     * @param theEncoding The encoding, "csv" or "base64".
+     * @param theCompression The compression of base64 data, or null.
+     * @param theText The text of the data element.
+     * @param theLayer The layer to fill.
+     * @return The number of tiles read.
+     * @throws IOException if compressed data cannot be inflated.
+     * @throws IllegalArgumentException if the encoding or compression is
+     *     unknown or the data does not fit the layer.
+     */
+    private static int decode(final String theEncoding, final String theCompression,
+                              final String theText, final int[] theLayer) throws IOException {
+        int filled = 0;
+        if ("csv".equals(theEncoding)) {
+            int value = 0;
+            boolean digits = false;
+            for (int i = 0; i <= theText.length(); i++) {
+                char c = i < theText.length() ? theText.charAt(i) : ',';
+                if (c >= '0' && c <= '9') {
+                    value = value * 10 + c - '0';
+                    digits = true;
+                } else if (c == ',' && digits) {
+                    if (filled == theLayer.length) {
+                        throw new IllegalArgumentException("too many tiles in a layer");
+                    }
+                    theLayer[filled++] = value;
+                    value = 0;
+                    digits = false;
+                }
+            }
+        } else if ("base64".equals(theEncoding)) {
+            byte[] bytes = Base64.getMimeDecoder().decode(theText.trim());
+            if (theCompression != null && !theCompression.isEmpty()) {
+                try (InputStream in = inflate(theCompression, new ByteArrayInputStream(bytes))) {
+                    bytes = in.readAllBytes();
+                }
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() / 4 > theLayer.length) {
+                throw new IllegalArgumentException("too many tiles in a layer");
+            }
+            while (buffer.remaining() >= 4) {
+                theLayer[filled++] = buffer.getInt();
+            }
+        } else {
+            throw new IllegalArgumentException("unknown layer encoding " + theEncoding);
+        }
+        return filled;
+    }
+
+
+    /**
+     * Wraps a stream of compressed layer data in a stream that inflates it.
+     *
+     * @param theCompression The compression, "zlib" or "gzip".
+     * @param theIn The compressed data.
+     * @return The inflated data.
+     * @throws IOException if the gzip header cannot be read.
+     * @throws IllegalArgumentException if the compression is unknown.
+     */
+    private static InputStream inflate(final String theCompression, final InputStream theIn)
+            throws IOException {
+        return switch (theCompression) {
+            case "zlib" -> new InflaterInputStream(theIn);
+            case "gzip" -> new GZIPInputStream(theIn);
+            default -> throw new IllegalArgumentException(
+                    "unknown layer compression " + theCompression);
+        };
+    }
+
+
+    /**
+     * Reads a compiled map if it was compiled from a source, and a csv map
+     * of its collision classes, of the given modification times and sizes.
+     *
+     * @param theCache The path of the compiled map.
+     * @param theModified The modification time of the source in milliseconds.
+     * @param theSize The size of the source in bytes.
+     * @param theCsvModified The modification time of the csv map beside a
+     *     TMX source in milliseconds, or -1 if there is none.
+     * @param theCsvSize The size of the csv map beside a TMX source in
+     *     bytes, or -1 if there is none.
+     * @return The map, or null if the cache is missing, stale or corrupt.
+     */
+    static TileMap readCache(final Path theCache, final long theModified, final long theSize,
+                             final long theCsvModified, final long theCsvSize) {
+        if (!Files.isRegularFile(theCache)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(theCache, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > MAX_CACHE_BYTES) {
+                return null;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                continue;
+            }
+            buffer.flip();
+            if (buffer.remaining() != size || buffer.getInt() != MAGIC
+                    || buffer.getInt() != VERSION || buffer.getLong() != theModified
+                    || buffer.getLong() != theSize || buffer.getLong() != theCsvModified
+                    || buffer.getLong() != theCsvSize) {
+                return null;
+            }
+            int columns = buffer.getInt();
+            int rows = buffer.getInt();
+            int layerCount = buffer.getInt();
+            long tiles = (long) columns * rows;
+            if (columns < 1 || rows < 1 || layerCount < 0
+                    || buffer.remaining() < tiles + (tiles * 4 + 1) * layerCount) {
+                return null;
+            }
+            byte[] classes = new byte[(int) tiles];
+            buffer.get(classes);
+            int[][] layers = new int[layerCount][(int) tiles];
+            for (int[] layer : layers) {
+                buffer.asIntBuffer().get(layer);
+                buffer.position(buffer.position() + layer.length * 4);
+            }
+            boolean[] visible = new boolean[layerCount];
+            for (int i = 0; i < layerCount; i++) {
+                visible[i] = buffer.get() != 0;
+            }
+            int collision = buffer.getInt();
+            Tileset[] tilesets = new Tileset[buffer.getInt()];
+            for (int i = 0; i < tilesets.length; i++) {
+                int firstID = buffer.getInt();
+                int tileColumns = buffer.getInt();
+                int tileCount = buffer.getInt();
+                int tileWidth = buffer.getInt();
+                int tileHeight = buffer.getInt();
+                byte[] path = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(path);
+                tilesets[i] = new Tileset(firstID, new String(path, StandardCharsets.UTF_8),
+                        tileColumns, tileCount, tileWidth, tileHeight);
+            }
+            if (buffer.hasRemaining()) {
+                return null;
+            }
+            return new TileMap(columns, rows, classes, layers, tilesets, collision, visible);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+
+    /**
+     * Writes a compiled map, stamped with the modification times and sizes
+     * of its source and of the csv map beside a TMX source. The map is
+     * written to a temporary file that then replaces the cache, so a reader
+     * never sees a partly written cache.
+     *
+     * @param theMap The map to write.
+     * @param theCache The path of the compiled map.
+     * @param theModified The modification time of the source in milliseconds.
+     * @param theSize The size of the source in bytes.
+     * @param theCsvModified The modification time of the csv map beside a
+     *     TMX source in milliseconds, or -1 if there is none.
+     * @param theCsvSize The size of the csv map beside a TMX source in
+     *     bytes, or -1 if there is none.
+     * @throws IOException if the cache cannot be written.
+     */
+    static void writeCache(final TileMap theMap, final Path theCache, final long theModified,
+                           final long theSize, final long theCsvModified,
+                           final long theCsvSize) throws IOException {
+        int tiles = theMap.getColumns() * theMap.getRows();
+        List<Tileset> tilesets = theMap.getTilesets();
+        byte[][] paths = new byte[tilesets.size()][];
+        int tilesetBytes = 8;
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = tilesets.get(i).getImagePath().getBytes(StandardCharsets.UTF_8);
+            if (paths[i].length > 0xFFFF) {
+                throw new IOException("tileset path too long");
+            }
+            tilesetBytes += 5 * 4 + 2 + paths[i].length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + tiles
+                + (tiles * 4 + 1) * theMap.getLayerCount() + tilesetBytes);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(theModified).putLong(theSize)
+                .putLong(theCsvModified).putLong(theCsvSize).putInt(theMap.getColumns())
+                .putInt(theMap.getRows()).putInt(theMap.getLayerCount());
+        buffer.put(theMap.classes());
+        for (int layer = 0; layer < theMap.getLayerCount(); layer++) {
+            buffer.asIntBuffer().put(theMap.layer(layer));
+            buffer.position(buffer.position() + tiles * 4);
+        }
+        for (int layer = 0; layer < theMap.getLayerCount(); layer++) {
+            buffer.put((byte) (theMap.isLayerVisible(layer) ? 1 : 0));
+        }
+        buffer.putInt(theMap.getCollisionLayer()).putInt(paths.length);
+        for (int i = 0; i < paths.length; i++) {
+            Tileset tileset = tilesets.get(i);
+            buffer.putInt(tileset.getFirstID()).putInt(tileset.getColumns())
+                    .putInt(tileset.getTileCount()).putInt(tileset.getTileWidth())
+                    .putInt(tileset.getTileHeight()).putShort((short) paths[i].length)
+                    .put(paths[i]);
+        }
+        buffer.flip();
+        Path directory = theCache.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, "map", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, theCache, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+
+    /**
+     * Returns the ID of a tile within its tileset.
+     *
+     * @param theGlobalID The global ID of the tile, or 0 if it is empty.
+     * @param theFirstIDs The first global ID of each tileset, ascending.
+     * @return The local ID of the tile, or -1 if it is empty.
+     */
+    private static int localID(final int theGlobalID, final int[] theFirstIDs) {
+        if (theGlobalID == 0) {
+            return -1;
+        }
+        int first = 1;
+        for (int id : theFirstIDs) {
+            if (id <= theGlobalID) {
+                first = id;
+            }
+        }
+        return theGlobalID - first;
+    }
+
+
+    /**
+     * Returns the directory holding a file.
+     *
+     * @param thePath The path of the file.
+     * @return The directory of the file, or the working directory if the
+     *     path has no parent.
+     */
+    private static Path parentOf(final Path thePath) {
+        Path parent = thePath.getParent();
+        return parent == null ? Path.of("") : parent;
+    }
+
+
+    /**
+     * Narrows a collision class to a byte, keeping any class above the
+     * range of a byte as open floor.
+     *
+     * @param theClass The collision class.
+     * @return The class as a byte.
+     */
+    private static byte toClass(final int theClass) {
+        return (byte) Math.max(TileMap.OBSTACLE, Math.min(Byte.MAX_VALUE, theClass));
+    }
+
+
+    /**
+     * Returns an integer attribute of the current element.
+     *
+     * @param theXML A parser positioned on a start element.
+     * @param theName The name of the attribute.
+     * @return The value of the attribute.
+     * @throws IllegalArgumentException if the attribute is missing or not
+     *     an integer.
+     */
+    private static int intAttribute(final XMLStreamReader theXML, final String theName) {
+        String value = theXML.getAttributeValue(null, theName);
+        if (value == null) {
+            throw new IllegalArgumentException(theXML.getLocalName() + " has no " + theName);
+        }
+        return Integer.parseInt(value);
+    }
+
+
+    /**
+     * Creates a StAX factory that neither reads DTDs nor resolves external
+     * entities.
+     *
+     * @return The factory.
+     */
+    private static XMLInputFactory newFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.map;
+
+import java.util.Objects;
+
+/**
+ * A tileset a TileMap draws its tiles from: an image cut into a grid of
+ * equally sized tiles, numbered row by row from the tileset's first global
+ * tile ID.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public final class Tileset {
+
+    /** The global ID of the tileset's first tile. */
+    private final int myFirstID;
+
+    /** The path of the tileset's image. */
+    private final String myImagePath;
+
+    /** The number of tiles in each row of the image. */
+    private final int myColumns;
+
+    /** The number of tiles in the tileset. */
+    private final int myTileCount;
+
+    /** The pixel width of each tile. */
+    private final int myTileWidth;
+
+    /** The pixel height of each tile. */
+    private final int myTileHeight;
+
+
+    /**
+     * Constructs a Tileset.
+     *
+     * @param theFirstID The global ID of the tileset's first tile.
+     * @param theImagePath The path of the tileset's image.
+     * @param theColumns The number of tiles in each row of the image.
+     * @param theTileCount The number of tiles in the tileset.
+     * @param theTileWidth The pixel width of each tile.
+     * @param theTileHeight The pixel height of each tile.
+     * @throws IllegalArgumentException if the first ID, columns or tile size
+     *     is less than 1 or the tile count is negative.
+     */
+    public Tileset(final int theFirstID, final String theImagePath, final int theColumns,
+                   final int theTileCount, final int theTileWidth, final int theTileHeight) {
+        if (theFirstID < 1 || theColumns < 1 || theTileCount < 0
+                || theTileWidth < 1 || theTileHeight < 1) {
+            throw new IllegalArgumentException("invalid tileset " + theImagePath);
+        }
+        myFirstID = theFirstID;
+        myImagePath = Objects.requireNonNull(theImagePath);
+        myColumns = theColumns;
+        myTileCount = theTileCount;
+        myTileWidth = theTileWidth;
+        myTileHeight = theTileHeight;
+    }
+
+
+    /**
+     * Returns the global ID of the tileset's first tile.
+     *
+     * @return The first global ID.
+     */
+    public int getFirstID() {
+        return myFirstID;
+    }
+
+
+    /**
+     * Returns the path of the tileset's image.
+     *
+     * @return The path of the image.
+     */
+    public String getImagePath() {
+        return myImagePath;
+    }
+
+
+    /**
+     * Returns the number of tiles in each row of the image.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return myColumns;
+    }
+
+
+    /**
+     * Returns the number of tiles in the tileset.
+     *
+     * @return The number of tiles.
+     */
+    public int getTileCount() {
+        return myTileCount;
+    }
+
+
+    /**
+     * Returns the pixel width of each tile.
+     *
+     * @return The tile width.
+     */
+    public int getTileWidth() {
+        return myTileWidth;
+    }
+
+
+    /**
+     * Returns the pixel height of each tile.
+     *
+     * @return The tile height.
+     */
+    public int getTileHeight() {
+        return myTileHeight;
+    }
+
+
+    @Override
+    public boolean equals(final Object other) {
+        boolean result = false;
+        if (other instanceof Tileset o) {
+            result = myFirstID == o.myFirstID && myImagePath.equals(o.myImagePath)
+                    && myColumns == o.myColumns && myTileCount == o.myTileCount
+                    && myTileWidth == o.myTileWidth && myTileHeight == o.myTileHeight;
+        }
+        return result;
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myFirstID, myImagePath, myColumns, myTileCount,
+                myTileWidth, myTileHeight);
+    }
+
+}
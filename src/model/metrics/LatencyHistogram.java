@@ -0,0 +1,183 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, lock-free histogram of latencies in nanoseconds, in the
+ * style of an HDR histogram. Values below 64 are counted exactly; larger
+ * values fall into one of 32 buckets per power of two, so any percentile is
+ * accurate to about 3%. Recording a value is a few atomic increments and
+ * never allocates, and any number of threads may record at once.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class LatencyHistogram {
+
+    /** The number of bits of each value kept within its power of two. */
+    private static final int SUB_BITS = 5;
+
+    /** The number of buckets per power of two. */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /** Values below this are counted exactly. */
+    private static final int EXACT = SUB_BUCKETS * 2;
+
+    /** The number of buckets. */
+    private static final int SIZE = EXACT
+            + (Long.SIZE - Integer.numberOfTrailingZeros(EXACT)) * SUB_BUCKETS;
+
+    /** The count of values in each bucket. */
+    private final AtomicLongArray myCounts;
+
+    /** The number of values recorded. */
+    private final AtomicLong myTotal;
+
+    /** The sum of the values recorded. */
+    private final AtomicLong mySum;
+
+    /** The largest value recorded. */
+    private final AtomicLong myMax;
+
+
+    /** Constructs an empty LatencyHistogram. */
+    public LatencyHistogram() {
+        myCounts = new AtomicLongArray(SIZE);
+        myTotal = new AtomicLong();
+        mySum = new AtomicLong();
+        myMax = new AtomicLong();
+    }
+
+
+    /**
+     * Records a latency.
+     *
+     * @param theNanos The latency in nanoseconds; negative values count as 0.
+     */
+    public void record(final long theNanos) {
+        long value = Math.max(0, theNanos);
+        myCounts.incrementAndGet(indexOf(value));
+        myTotal.incrementAndGet();
+        mySum.addAndGet(value);
+        long max = myMax.get();
+        while (value > max && !myMax.compareAndSet(max, value)) {
+            max = myMax.get();
+        }
+    }
+
+
+    /**
+     * Adds every value recorded by another histogram to this one.
+     *
+     * @param theOther The histogram to add.
+     */
+    public void add(final LatencyHistogram theOther) {
+        for (int i = 0; i < SIZE; i++) {
+            long count = theOther.myCounts.get(i);
+            if (count != 0) {
+                myCounts.addAndGet(i, count);
+            }
+        }
+        myTotal.addAndGet(theOther.myTotal.get());
+        mySum.addAndGet(theOther.mySum.get());
+        long value = theOther.myMax.get();
+        long max = myMax.get();
+        while (value > max && !myMax.compareAndSet(max, value)) {
+            max = myMax.get();
+        }
+    }
+
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return The number of values recorded.
+     */
+    public long getCount() {
+        return myTotal.get();
+    }
+
+
+    /**
+     * Returns the sum of the values recorded.
+     *
+     * @return The sum of the values recorded in nanoseconds.
+     */
+    public long getSum() {
+        return mySum.get();
+    }
+
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return The largest value recorded, or 0 if there are none.
+     */
+    public long getMax() {
+        return myMax.get();
+    }
+
+
+    /**
+     * Returns the value below which the given fraction of the values fall.
+     *
+     * @param theFraction The fraction, from 0 to 1.
+     * @return The lower bound of the bucket holding the percentile, or 0 if
+     *     no values are recorded.
+     */
+    public long percentile(final double theFraction) {
+        long rank = Math.max(1, (long) Math.ceil(theFraction * myTotal.get()));
+        long seen = 0;
+        for (int i = 0; i < SIZE; i++) {
+            seen += myCounts.get(i);
+            if (seen >= rank) {
+                return Math.min(valueOf(i), myMax.get());
+            }
+        }
+        return 0;
+    }
+
+
+    /**
+     * Returns the bucket of a value.
+     *
+     * @param theValue A non-negative value.
+     * @return The index of the bucket counting theValue.
+     */
+    static int indexOf(final long theValue) {
+        if (theValue < EXACT) {
+            return (int) theValue;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(theValue);
+        int sub = (int) (theValue >>> (exponent - SUB_BITS)) - SUB_BUCKETS;
+        return EXACT + (exponent - SUB_BITS - 1) * SUB_BUCKETS + sub;
+    }
+
+
+    /**
+     * Returns the smallest value counted by a bucket.
+     *
+     * @param theIndex The index of the bucket.
+     * @return The lower bound of the bucket.
+     */
+    static long valueOf(final int theIndex) {
+        if (theIndex < EXACT) {
+            return theIndex;
+        }
+        int exponent = (theIndex - EXACT) / SUB_BUCKETS + SUB_BITS + 1;
+        int sub = (theIndex - EXACT) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A registry of named counters and Stopwatches. Counters are LongAdders, so
+ * counting never blocks, and each Stopwatch keeps a lock-free histogram of
+ * its section's times. Instrumented code looks up its counters and
+ * Stopwatches once, typically into static fields, so the hot path never
+ * touches the registry's map.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class MetricsRegistry {
+
+    /** The counters, by name. */
+    private final Map<String, LongAdder> myCounters;
+
+    /** The Stopwatches, by name. */
+    private final Map<String, Stopwatch> myStopwatches;
+
+
+    /** Constructs an empty MetricsRegistry. */
+    public MetricsRegistry() {
+        myCounters = new ConcurrentHashMap<>();
+        myStopwatches = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Returns the registry the game's code is instrumented with.
+     *
+     * @return The game's registry.
+     */
+    public static MetricsRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+
+    /**
+     * Returns the counter with the given name, creating it if needed.
+     *
+     * @param theName The name of the counter.
+     * @return The counter.
+     */
+    public LongAdder counter(final String theName) {
+        return myCounters.computeIfAbsent(theName, name -> new LongAdder());
+    }
+
+
+    /**
+     * Returns the Stopwatch of the section with the given name, creating it
+     * if needed.
+     *
+     * @param theName The name of the section.
+     * @return The Stopwatch of the section.
+     */
+    public Stopwatch stopwatch(final String theName) {
+        return myStopwatches.computeIfAbsent(theName, Stopwatch::new);
+    }
+
+
+    /**
+     * Returns the value of every counter, in order of name.
+     *
+     * @return A snapshot of the counters.
+     */
+    public Map<String, Long> counters() {
+        Map<String, Long> counters = new TreeMap<>();
+        myCounters.forEach((name, counter) -> counters.put(name, counter.sum()));
+        return Collections.unmodifiableMap(counters);
+    }
+
+
+    /**
+     * Returns every Stopwatch, in order of name.
+     *
+     * @return The Stopwatches.
+     */
+    public Map<String, Stopwatch> stopwatches() {
+        return Collections.unmodifiableMap(new TreeMap<>(myStopwatches));
+    }
+
+
+    /** Holds the default registry so it is created on first use. */
+    private static final class DefaultHolder {
+
+        /** The game's registry. */
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+
+}
@@ -0,0 +1,240 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Turns the game's metrics into the figures of the performance HUD. Each
+ * call to sample() reports the frame rate and the mean tick and paint times
+ * since the previous call, along with the heap in use, the time spent in GC
+ * pauses since the previous call, the latest event dispatch latency, and the
+ * time the last Room took to load. Sampling reads only counters and clocks,
+ * so it never allocates.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class PerformanceSampler {
+
+    /** The name of the counter of frames painted. */
+    public static final String FRAMES = "frames";
+
+    /** The name of the section timing each frame's update. */
+    public static final String FRAME_UPDATE = "frame.update";
+
+    /** The name of the section timing each frame's paint. */
+    public static final String FRAME_PAINT = "frame.paint";
+
+    /** The name of the section timing each Room load. */
+    public static final String ROOM_LOAD = "room.load";
+
+    /** The name of the section timing how late events are dispatched. */
+    public static final String EDT_LATENCY = "edt.latency";
+
+    /** The number of nanoseconds in a second. */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /** The counter of frames painted. */
+    private final LongAdder myFrames;
+
+    /** The section timing each frame's update. */
+    private final Stopwatch myUpdate;
+
+    /** The section timing each frame's paint. */
+    private final Stopwatch myPaint;
+
+    /** The section timing each Room load. */
+    private final Stopwatch myRoomLoad;
+
+    /** The section timing how late events are dispatched. */
+    private final Stopwatch myEdtLatency;
+
+    /** The garbage collectors of the JVM. */
+    private final List<GarbageCollectorMXBean> myCollectors;
+
+    /** The time of the previous sample, or 0 before the first. */
+    private long myLastTime;
+
+    /** The frames painted as of the previous sample. */
+    private long myLastFrames;
+
+    /** The updates timed as of the previous sample. */
+    private long myLastUpdates;
+
+    /** The total update time as of the previous sample. */
+    private long myLastUpdateSum;
+
+    /** The paints timed as of the previous sample. */
+    private long myLastPaints;
+
+    /** The total paint time as of the previous sample. */
+    private long myLastPaintSum;
+
+    /** The total GC time in milliseconds as of the previous sample. */
+    private long myLastGcMillis;
+
+    /** The frames painted per second since the previous sample. */
+    private double myFps;
+
+    /** The mean update time since the previous sample. */
+    private long myTickNanos;
+
+    /** The mean paint time since the previous sample. */
+    private long myPaintNanos;
+
+    /** The bytes of heap in use. */
+    private long myHeapUsed;
+
+    /** The milliseconds spent in GC since the previous sample. */
+    private long myGcPauseMillis;
+
+
+    /**
+     * Constructs a PerformanceSampler of the given registry.
+     *
+     * @param theRegistry The registry the game's metrics are kept in.
+     */
+    public PerformanceSampler(final MetricsRegistry theRegistry) {
+        myFrames = theRegistry.counter(FRAMES);
+        myUpdate = theRegistry.stopwatch(FRAME_UPDATE);
+        myPaint = theRegistry.stopwatch(FRAME_PAINT);
+        myRoomLoad = theRegistry.stopwatch(ROOM_LOAD);
+        myEdtLatency = theRegistry.stopwatch(EDT_LATENCY);
+        myCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+    }
+
+
+    /**
+     * Takes a sample of the metrics. The rates and means of the first sample
+     * cover everything recorded before it.
+     *
+     * @param theNow The current value of System.nanoTime().
+     */
+    public void sample(final long theNow) {
+        long frames = myFrames.sum();
+        long elapsed = theNow - myLastTime;
+        myFps = myLastTime == 0 || elapsed <= 0
+                ? 0 : (frames - myLastFrames) * NANOS_PER_SECOND / elapsed;
+        myLastTime = theNow;
+        myLastFrames = frames;
+
+        LatencyHistogram update = myUpdate.getHistogram();
+        long updates = update.getCount();
+        long updateSum = update.getSum();
+        myTickNanos = mean(updateSum - myLastUpdateSum, updates - myLastUpdates);
+        myLastUpdates = updates;
+        myLastUpdateSum = updateSum;
+
+        LatencyHistogram paint = myPaint.getHistogram();
+        long paints = paint.getCount();
+        long paintSum = paint.getSum();
+        myPaintNanos = mean(paintSum - myLastPaintSum, paints - myLastPaints);
+        myLastPaints = paints;
+        myLastPaintSum = paintSum;
+
+        Runtime runtime = Runtime.getRuntime();
+        myHeapUsed = runtime.totalMemory() - runtime.freeMemory();
+
+        long gcMillis = 0;
+        for (int i = 0; i < myCollectors.size(); i++) {
+            gcMillis += Math.max(0, myCollectors.get(i).getCollectionTime());
+        }
+        myGcPauseMillis = gcMillis - myLastGcMillis;
+        myLastGcMillis = gcMillis;
+    }
+
+
+    /**
+     * Returns the frames painted per second since the previous sample.
+     *
+     * @return The frame rate, or 0 before the second sample.
+     */
+    public double getFps() {
+        return myFps;
+    }
+
+
+    /**
+     * Returns the mean time of a frame's update since the previous sample.
+     *
+     * @return The mean tick time in nanoseconds.
+     */
+    public long getTickNanos() {
+        return myTickNanos;
+    }
+
+
+    /**
+     * Returns the mean time of a frame's paint since the previous sample.
+     *
+     * @return The mean paint time in nanoseconds.
+     */
+    public long getPaintNanos() {
+        return myPaintNanos;
+    }
+
+
+    /**
+     * Returns the bytes of heap in use when the sample was taken.
+     *
+     * @return The bytes of heap in use.
+     */
+    public long getHeapUsed() {
+        return myHeapUsed;
+    }
+
+
+    /**
+     * Returns the time spent in GC since the previous sample.
+     *
+     * @return The GC time in milliseconds.
+     */
+    public long getGcPauseMillis() {
+        return myGcPauseMillis;
+    }
+
+
+    /**
+     * Returns how late the latest measured event was dispatched.
+     *
+     * @return The event dispatch latency in nanoseconds.
+     */
+    public long getEdtLatencyNanos() {
+        return myEdtLatency.getLast();
+    }
+
+
+    /**
+     * Returns the time the last Room took to load.
+     *
+     * @return The last Room load time in nanoseconds.
+     */
+    public long getRoomLoadNanos() {
+        return myRoomLoad.getLast();
+    }
+
+
+    /**
+     * Returns a mean, or 0 if there are no values.
+     *
+     * @param theSum The sum of the values.
+     * @param theCount The number of values.
+     * @return The mean of the values.
+     */
+    private static long mean(final long theSum, final long theCount) {
+        return theCount <= 0 ? 0 : theSum / theCount;
+    }
+
+}
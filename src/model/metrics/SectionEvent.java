@@ -0,0 +1,44 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event recording one timed section of the game, such as a frame's
+ * update or a room load. The events are only committed while a flight
+ * recording is running, for example one started with
+ * {@code jcmd <pid> JFR.start}.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+@Name("officeescape.Section")
+@Label("Game Section")
+@Category("Office Escape")
+@Description("A timed section of the game")
+@StackTrace(false)
+final class SectionEvent extends jdk.jfr.Event {
+
+    /** The name of the section. */
+    @Label("Section")
+    String section;
+
+    /** How long the section took. */
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
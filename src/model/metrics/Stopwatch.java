@@ -0,0 +1,121 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+/**
+ * Times one named section of the game. Each timing is recorded in the
+ * section's LatencyHistogram and, while a flight recording is running,
+ * emitted as a JFR event. Timing a section costs two reads of the clock and
+ * a few atomic increments:
+ *
+ * <pre>
+ *     long start = theStopwatch.start();
+ *     ...
+ *     theStopwatch.stop(start);
+ * </pre>
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class Stopwatch {
+
+    /** The name of the section. */
+    private final String myName;
+
+    /** The time each timing of the section took. */
+    private final LatencyHistogram myHistogram;
+
+    /** The time the last timing took, in nanoseconds. */
+    private volatile long myLast;
+
+
+    /**
+     * Constructs a Stopwatch for the section with the given name.
+     *
+     * @param theName The name of the section.
+     */
+    Stopwatch(final String theName) {
+        myName = theName;
+        myHistogram = new LatencyHistogram();
+    }
+
+
+    /**
+     * Starts timing the section.
+     *
+     * @return The start time, to pass to stop().
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+
+    /**
+     * Stops timing the section and records the time it took.
+     *
+     * @param theStart The time returned by start().
+     * @return The time the section took in nanoseconds.
+     */
+    public long stop(final long theStart) {
+        long elapsed = System.nanoTime() - theStart;
+        record(elapsed);
+        return elapsed;
+    }
+
+
+    /**
+     * Records a time the section took that was measured elsewhere.
+     *
+     * @param theNanos The time the section took in nanoseconds.
+     */
+    public void record(final long theNanos) {
+        myHistogram.record(theNanos);
+        myLast = theNanos;
+        SectionEvent event = new SectionEvent();
+        if (event.isEnabled()) {
+            event.section = myName;
+            event.elapsed = theNanos;
+            event.commit();
+        }
+    }
+
+
+    /**
+     * Returns the name of the section.
+     *
+     * @return The name of the section.
+     */
+    public String getName() {
+        return myName;
+    }
+
+
+    /**
+     * Returns the histogram of the times the section took.
+     *
+     * @return The histogram of the section's times.
+     */
+    public LatencyHistogram getHistogram() {
+        return myHistogram;
+    }
+
+
+    /**
+     * Returns the time the last timing of the section took.
+     *
+     * @return The last time in nanoseconds, or 0 if the section has not
+     *     been timed.
+     */
+    public long getLast() {
+        return myLast;
+    }
+
+}
@@ -15,11 +15,13 @@ import model.trivia.Trivia;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Represents a Door in the game. A Door is valid if it can be used to pass
  * between two Rooms after being unlocked. A Door is unlocked if a user
- * answers a Trivia question correctly.
+ * answers a Trivia question correctly. A Door's Trivia may be given lazily
+ * as a source that is asked for the question the first time it is needed.
  *
  * @author Reuben Keller
  * @version Summer 2021
@@ -38,6 +40,12 @@ public class Door implements Serializable {
     /** The Trivia associated with this Door. */
     private Trivia myTrivia;
 
+    /**
+     * Draws this Door's Trivia the first time it is needed, or null if the
+     * Trivia is already drawn or there is no source.
+     */
+    private transient Supplier<Trivia> myTriviaSource;
+
 
     /** Constructs a Door. */
     public Door() {
@@ -92,11 +100,16 @@ public class Door implements Serializable {
 
 
     /**
-     * Returns the Trivia associated with this Door.
+     * Returns the Trivia associated with this Door, drawing it from this
+     * Door's Trivia source on the first call if it has not been set.
      *
      * @return The Trivia associated with this Door.
      */
     public Trivia getTrivia() {
+        if (myTrivia == null && myTriviaSource != null) {
+            myTrivia = myTriviaSource.get();
+            myTriviaSource = null;
+        }
         return myTrivia;
     }
 
@@ -108,6 +121,40 @@ public class Door implements Serializable {
      */
     public void setTrivia(final Trivia trivia) {
         myTrivia = trivia;
+        myTriviaSource = null;
+    }
+
+
+    /**
+     * Sets the source this Door draws its Trivia from the first time
+     * getTrivia() is called. The source is not saved with the Door.
+     *
+     * @param theSource The source of this Door's Trivia.
+     */
+    public void setTriviaSource(final Supplier<Trivia> theSource) {
+        myTriviaSource = theSource;
+    }
+
+
+    /**
+     * Returns the Trivia this Door has already drawn or been given, without
+     * drawing it from this Door's Trivia source.
+     *
+     * @return The Trivia of this Door, or null if it has none yet.
+     */
+    public Trivia getDrawnTrivia() {
+        return myTrivia;
+    }
+
+
+    /**
+     * Checks if this Door has Trivia or a source to draw it from.
+     *
+     * @return true if this Door has Trivia or a Trivia source and false
+     *     otherwise.
+     */
+    public boolean hasTriviaSource() {
+        return myTrivia != null || myTriviaSource != null;
     }
 
 
@@ -11,6 +11,9 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 package model.room;
 
 import model.graph.*;
+import model.metrics.MetricsRegistry;
+import model.metrics.Stopwatch;
+import model.trivia.SkillModel;
 import model.trivia.TriviaManager;
 
 import java.util.*;
@@ -19,7 +22,9 @@ import java.util.*;
 /**
  * A helper class to build and connect Rooms, Doors, and Trivia. Uses a Graph
  * representation of a 2D array of Rooms to generate a mapping of each Room to
- * its connected Rooms.
+ * its connected Rooms. Doors are built without Trivia; the floor's
+ * TriviaBinder gives the Doors of a Room a source their Trivia is drawn from
+ * the first time the Player tries to open them.
  *
  * @author Reuben Keller
  * @version Summer 2021
@@ -38,6 +43,26 @@ public class RoomBuilder {
     /** The number of columns in the default Graph */
     public static final int DEFAULT_COLS = 4;
 
+    /** Times building the grid Graph of each floor. */
+    private static final Stopwatch BUILD_GRAPH =
+            MetricsRegistry.getDefault().stopwatch("floor.buildGraph");
+
+    /** Times finding the MST of each floor. */
+    private static final Stopwatch GENERATE_MST =
+            MetricsRegistry.getDefault().stopwatch("floor.generateMST");
+
+    /** Times extracting the Rooms of each floor from its MST. */
+    private static final Stopwatch EXTRACT_ROOMS =
+            MetricsRegistry.getDefault().stopwatch("floor.extractRoomsMap");
+
+    /** Times building the list of Rooms of each floor. */
+    private static final Stopwatch BUILD_ROOMS =
+            MetricsRegistry.getDefault().stopwatch("floor.buildRoomsList");
+
+    /** Times finding the optimal solution of each floor. */
+    private static final Stopwatch EXTRACT_SOLUTION =
+            MetricsRegistry.getDefault().stopwatch("floor.extractOptimalSolution");
+
     /** The Graph representation of rooms to manage. */
     private final AdjacencyListGraph<Integer> myGraph;
 
@@ -53,8 +78,8 @@ public class RoomBuilder {
     /** A mapping of each Room to its connected Rooms. */
     private Map<Room, Set<Room>> rooms;
 
-    /** A helper class to get random trivia. */
-    private final TriviaManager myTriviaManager;
+    /** Assigns Trivia to the Doors of this floor. */
+    private final TriviaBinder myTriviaBinder;
 
     /** An ordered list of Rooms in the optimal path. */
     private final List<Integer> optimalSolution;
@@ -71,6 +96,9 @@ public class RoomBuilder {
     /** The target vertex in the Graph. */
     private final int myTarget;
 
+    /** The seed the floor was generated from. */
+    private final long mySeed;
+
     private List<Room> myRoomsList;
 
 
@@ -97,6 +125,26 @@ public class RoomBuilder {
      */
     public RoomBuilder(final int theNumRows, final int theNumCols,
                        final int theSource, final int theTarget) {
+        this(theNumRows, theNumCols, theSource, theTarget, new Random().nextLong());
+    }
+
+
+    /**
+     * Constructs a RoomBuilder for given row and column dimensions, a source
+     * vertex, a target vertex, and a seed. RoomBuilders constructed with the
+     * same parameters generate the same floor.
+     *
+     * @param theNumRows The number of Room rows.
+     * @param theNumCols The number of Room columns.
+     * @param theSource The ID of the source (starting) vertex.
+     * @param theTarget The ID of the target vertex.
+     * @param theSeed The seed for the edge weights and Trivia draws.
+     * @throws IllegalArgumentException if any of the given dimensions or
+     *     vertices are negative.
+     */
+    public RoomBuilder(final int theNumRows, final int theNumCols,
+                       final int theSource, final int theTarget,
+                       final long theSeed) {
         if (theNumRows < 0 || theNumCols < 0 || theSource < 0
                 || theTarget < 0) {
             throw new IllegalArgumentException(
@@ -107,16 +155,23 @@ public class RoomBuilder {
         myNumCols = theNumCols;
         mySource = theSource;
         myTarget = theTarget;
+        mySeed = theSeed;
         myGraph = new AdjacencyListGraph<>();
         myMSTFinder = new KruskalMSTFinder<>();
-        myTriviaManager = new TriviaManager();
-        myRand = new Random();
+        myRand = new Random(theSeed);
+        myTriviaBinder = new TriviaBinder(Math.max(1, theNumRows), theTarget, theSeed);
         optimalSolution = new ArrayList<>();
+        long start = BUILD_GRAPH.start();
         buildGraph();
+        start += BUILD_GRAPH.stop(start);
         generateMST();
+        start += GENERATE_MST.stop(start);
         extractRoomsMap();
+        start += EXTRACT_ROOMS.stop(start);
         buildRoomsList();
+        start += BUILD_ROOMS.stop(start);
         extractOptimalSolution();
+        EXTRACT_SOLUTION.stop(start);
     }
 
 
@@ -160,6 +215,16 @@ public class RoomBuilder {
     }
 
 
+    /**
+     * Returns the seed the floor was generated from.
+     *
+     * @return The seed the floor was generated from.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+
     /**
      * Generates the Graph corresponding to a 2D array of Rooms. Each vertex is
      * numbered in integer steps of 1 from left to right and row by row,
@@ -218,7 +283,7 @@ public class RoomBuilder {
 
     /**
      * Builds and returns a mapping of each Room to connected Rooms. Sets valid
-     * Doors with Trivia between connected Rooms in the process.
+     * Doors between connected Rooms in the process.
      */
     private void extractRoomsMap() {
         Map<Integer, Set<Integer>> connectedVertices;
@@ -244,7 +309,7 @@ public class RoomBuilder {
 
     /**
      * Given a Room and one of its Room neighbors, the method sets up the Room
-     * by coupling a Door containing Trivia to both the Room and its neighbor.
+     * by coupling a Door to both the Room and its neighbor.
      * In the Graph of the 2D array representation of Rooms, A corresponds to
      * north, B corresponds to south, C corresponds to east, and D corresponds
      * to west.
@@ -255,7 +320,7 @@ public class RoomBuilder {
     private void setupRoom(final Room room, final Room neighbor) {
         int currID = room.getRoomID();
         int neighborID = neighbor.getRoomID();
-        Door door = new Door(true, false, myTriviaManager.getTrivia());
+        Door door = new Door(true, false, null);
         if (currID - myNumRows == neighborID) {
             room.setA(neighbor, door);
             neighbor.setB(room, door);
@@ -272,6 +337,39 @@ public class RoomBuilder {
     }
 
 
+    /**
+     * Gives every valid, locked Door of the given Room that has no Trivia a
+     * source to draw its Trivia from, as the floor's TriviaBinder does.
+     *
+     * @param theRoom The Room being entered.
+     * @param theSkill The model of the Player's skill.
+     */
+    public void bindTrivia(final Room theRoom, final SkillModel theSkill) {
+        myTriviaBinder.bindTrivia(theRoom, theSkill);
+    }
+
+
+    /**
+     * Sets the TriviaManager the Doors of this floor draw their Trivia from,
+     * in place of one drawing from the game's database.
+     *
+     * @param theManager The TriviaManager to draw Trivia from.
+     */
+    public void setTriviaManager(final TriviaManager theManager) {
+        myTriviaBinder.setTriviaManager(theManager);
+    }
+
+
+    /**
+     * Returns the TriviaBinder assigning Trivia to the Doors of this floor.
+     *
+     * @return The TriviaBinder of this floor.
+     */
+    public TriviaBinder getTriviaBinder() {
+        return myTriviaBinder;
+    }
+
+
     /**
      * Extracts the optimal (shortest) sequence of rooms to go through to get
      * from mySource to myTarget.
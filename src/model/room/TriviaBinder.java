@@ -0,0 +1,221 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.room;
+
+import model.trivia.SkillModel;
+import model.trivia.Trivia;
+import model.trivia.TriviaManager;
+import model.trivia.TriviaQuery;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Assigns Trivia to the Doors of one floor as its Rooms are entered. A
+ * TriviaBinder needs only the floor's width, its exit Room and a seed, so a
+ * saved floor can be given one without regenerating the floor.
+ *
+ * The TriviaManager is created the first time a Door draws its Trivia, so
+ * binding never reads the trivia bank. Questions a loaded game had already
+ * asked can be marked used before then and are applied when it is created.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class TriviaBinder {
+
+    /**
+     * Doors of Rooms within this many steps of the exit Room are given hard
+     * Trivia regardless of the Player's skill.
+     */
+    public static final int NEAR_EXIT_DISTANCE = 1;
+
+    /** The query for the Trivia of Doors near the exit. */
+    private static final TriviaQuery NEAR_EXIT_QUERY =
+            TriviaQuery.ANY.withDifficulty(Trivia.HARD);
+
+    /** The number of Room rows of the floor. */
+    private final int myNumRows;
+
+    /** The ID of the exit Room. */
+    private final int myTarget;
+
+    /** The seed of the floor's Trivia draws. */
+    private final long mySeed;
+
+    /** The IDs of questions marked used before the TriviaManager exists. */
+    private final BitSet myPending;
+
+    /** The TriviaManager the Doors draw from, or null until the first draw. */
+    private TriviaManager myTriviaManager;
+
+    /** Told the ID of each Trivia a Door draws, or null. */
+    private IntConsumer myDrawListener;
+
+
+    /**
+     * Constructs a TriviaBinder for a floor.
+     *
+     * @param theNumRows The number of Room rows of the floor.
+     * @param theTarget The ID of the exit Room.
+     * @param theSeed The seed of the floor's Trivia draws.
+     * @throws IllegalArgumentException if theNumRows is less than 1 or
+     *     theTarget is negative.
+     */
+    public TriviaBinder(final int theNumRows, final int theTarget, final long theSeed) {
+        if (theNumRows < 1 || theTarget < 0) {
+            throw new IllegalArgumentException("a floor needs a row and an exit");
+        }
+        myNumRows = theNumRows;
+        myTarget = theTarget;
+        mySeed = theSeed;
+        myPending = new BitSet();
+    }
+
+
+    /**
+     * Gives every valid, locked Door of the given Room that has no Trivia a
+     * source to draw its Trivia from when the Player first tries to open it:
+     * a hard question if either side of the Door is near the exit, and
+     * otherwise one suited to the Player's skill. Doors the Player never
+     * tries to open never draw Trivia.
+     *
+     * @param theRoom The Room being entered.
+     * @param theSkill The model of the Player's skill.
+     */
+    public void bindTrivia(final Room theRoom, final SkillModel theSkill) {
+        for (char letter = 'A'; letter <= 'D'; letter++) {
+            if (!theRoom.hasRoom(letter)) {
+                continue;
+            }
+            Door door = theRoom.getDoor(letter);
+            if (!door.hasTriviaSource() && !door.isUnlocked()) {
+                boolean hard = isNearExit(theRoom.getRoomID())
+                        || isNearExit(theRoom.getRoom(letter).getRoomID());
+                door.setTriviaSource(() -> drawn(hard
+                        ? getTriviaManager().getTrivia(NEAR_EXIT_QUERY)
+                        : getTriviaManager().getTrivia(theSkill)));
+            }
+        }
+    }
+
+
+    /**
+     * Marks the question with the given ID as already asked on this floor,
+     * so it is not drawn again until every question has been.
+     *
+     * @param theID The ID of the question.
+     */
+    public void markUsed(final int theID) {
+        if (myTriviaManager != null) {
+            myTriviaManager.markUsed(theID);
+        } else if (theID >= 0) {
+            myPending.set(theID);
+        }
+    }
+
+
+    /**
+     * Marks the Trivia the Doors of the given Rooms have already drawn as
+     * asked on this floor. No Door draws Trivia because of this.
+     *
+     * @param theRooms The Rooms of the floor.
+     */
+    public void markUsed(final List<Room> theRooms) {
+        for (Room room : theRooms) {
+            for (char letter = 'A'; letter <= 'D'; letter++) {
+                if (room.hasRoom(letter)) {
+                    Trivia trivia = room.getDoor(letter).getDrawnTrivia();
+                    if (trivia != null) {
+                        markUsed(trivia.getID());
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Sets the TriviaManager the Doors of this floor draw their Trivia from,
+     * in place of one drawing from the game's database.
+     *
+     * @param theManager The TriviaManager to draw Trivia from.
+     */
+    public void setTriviaManager(final TriviaManager theManager) {
+        myTriviaManager = theManager;
+        applyPending();
+    }
+
+
+    /**
+     * Sets the listener told the ID of each Trivia a Door of this floor
+     * draws, so the questions asked can be recorded.
+     *
+     * @param theListener The listener, or null for none.
+     */
+    public void setDrawListener(final IntConsumer theListener) {
+        myDrawListener = theListener;
+    }
+
+
+    /**
+     * Tells the draw listener about a Trivia a Door drew.
+     *
+     * @param theTrivia The Trivia drawn.
+     * @return theTrivia.
+     */
+    private Trivia drawn(final Trivia theTrivia) {
+        if (myDrawListener != null) {
+            myDrawListener.accept(theTrivia.getID());
+        }
+        return theTrivia;
+    }
+
+
+    /**
+     * Returns the TriviaManager of this floor, creating it the first time a
+     * Door draws its Trivia so binding never reads the trivia bank.
+     *
+     * @return The TriviaManager of this floor.
+     */
+    private TriviaManager getTriviaManager() {
+        if (myTriviaManager == null) {
+            myTriviaManager = new TriviaManager(mySeed);
+            applyPending();
+        }
+        return myTriviaManager;
+    }
+
+
+    /** Marks the questions marked used so far as used by the TriviaManager. */
+    private void applyPending() {
+        for (int id = myPending.nextSetBit(0); id >= 0; id = myPending.nextSetBit(id + 1)) {
+            myTriviaManager.markUsed(id);
+        }
+        myPending.clear();
+    }
+
+
+    /**
+     * Checks if the Room with the given ID is within NEAR_EXIT_DISTANCE steps
+     * of the exit Room.
+     *
+     * @param theRoomID The ID of a Room.
+     * @return true if the Room is near the exit and false otherwise.
+     */
+    private boolean isNearExit(final int theRoomID) {
+        int rowSteps = Math.abs(theRoomID / myNumRows - myTarget / myNumRows);
+        int colSteps = Math.abs(theRoomID % myNumRows - myTarget % myNumRows);
+        return rowSteps + colSteps <= NEAR_EXIT_DISTANCE;
+    }
+
+}
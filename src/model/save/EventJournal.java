@@ -0,0 +1,421 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.save;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only journal of the events that change a game session: Doors
+ * being unlocked, the Player moving between Rooms and questions being asked. Each event is a fixed
+ * 12-byte record, so recording one costs the same no matter how big the
+ * floor is. Records are group committed: they are buffered and written with
+ * a single fsync once GROUP_SIZE of them are pending or GROUP_WINDOW_MS has
+ * passed, whichever comes first.
+ *
+ * A session is recovered by reading the last snapshot, which holds the seed
+ * of the floor, and replaying the journal over it. Once the journal holds
+ * COMPACT_THRESHOLD records it can be compacted: the current state is
+ * written as the new snapshot and the journal is emptied.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class EventJournal implements Closeable {
+
+    /** The number of pending records that triggers a commit. */
+    public static final int GROUP_SIZE = 32;
+
+    /** The longest time in milliseconds a record stays uncommitted. */
+    public static final long GROUP_WINDOW_MS = 50;
+
+    /** The number of journal records after which compaction is due. */
+    public static final int COMPACT_THRESHOLD = 512;
+
+    /** Identifies a journal snapshot file ("OESJ"). */
+    private static final int SNAPSHOT_MAGIC = 0x4F45534A;
+
+    /** The size in bytes of each journal record. */
+    private static final int RECORD_SIZE = 12;
+
+    /** The number of bytes of a record covered by its checksum. */
+    private static final int RECORD_BODY_SIZE = 8;
+
+    /** The record type of a Door being unlocked. */
+    private static final byte UNLOCK = 1;
+
+    /** The record type of the Player moving to another Room. */
+    private static final byte TRANSITION = 2;
+
+    /** The record type of a question being asked. */
+    private static final byte ASKED = 3;
+
+    /** The path of the snapshot file. */
+    private final Path mySnapshotPath;
+
+    /** The channel of the journal file. */
+    private final FileChannel myChannel;
+
+    /** The records waiting for the next group commit. */
+    private final ByteBuffer myPending;
+
+    /** The checksum used for each record. */
+    private final CRC32 myCRC;
+
+    /** Commits pending records once the group commit window passes. */
+    private final ScheduledExecutorService myFlusher;
+
+    /** The state of the current session or null if there is none. */
+    private JournalSnapshot myState;
+
+    /** The number of committed records in the journal file. */
+    private int myNumRecords;
+
+
+    /**
+     * Opens the journal and snapshot at the given paths, recovering the
+     * session they describe if there is one.
+     *
+     * @param theJournalPath The path of the journal file.
+     * @param theSnapshotPath The path of the snapshot file.
+     * @throws IOException if either file cannot be opened.
+     */
+    public EventJournal(final String theJournalPath,
+                        final String theSnapshotPath) throws IOException {
+        mySnapshotPath = Path.of(theSnapshotPath);
+        myChannel = FileChannel.open(Path.of(theJournalPath),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        myPending = ByteBuffer.allocate(GROUP_SIZE * RECORD_SIZE);
+        myCRC = new CRC32();
+        try {
+            recover();
+        } catch (IOException e) {
+            myChannel.close();
+            throw e;
+        }
+        myFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "journal-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        myFlusher.scheduleWithFixedDelay(this::commitQuietly,
+                GROUP_WINDOW_MS, GROUP_WINDOW_MS, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Returns the state of the current session or null if there is none.
+     * The returned snapshot is live and must not be modified.
+     *
+     * @return The state of the current session or null.
+     */
+    public synchronized JournalSnapshot getState() {
+        return myState;
+    }
+
+
+    /**
+     * Starts a new session from the given state, discarding the previous
+     * session.
+     *
+     * @param theState The state the new session starts from.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public synchronized void begin(final JournalSnapshot theState)
+            throws IOException {
+        myPending.clear();
+        myState = theState;
+        writeSnapshot();
+        truncate();
+    }
+
+
+    /**
+     * Ends the current session and discards its journal and snapshot.
+     *
+     * @throws IOException if the files cannot be cleared.
+     */
+    public synchronized void end() throws IOException {
+        myPending.clear();
+        myState = null;
+        Files.deleteIfExists(mySnapshotPath);
+        truncate();
+    }
+
+
+    /**
+     * Records that the given Door of the given Room was unlocked.
+     *
+     * @param theRoomID The ID of the Room.
+     * @param theDoor The letter of the Door.
+     * @throws IllegalStateException if there is no current session.
+     * @throws IOException if a full group cannot be committed.
+     */
+    public synchronized void recordUnlock(final int theRoomID,
+                                          final char theDoor) throws IOException {
+        checkSession();
+        myState.unlock(theRoomID, theDoor);
+        append(UNLOCK, theDoor, theRoomID);
+    }
+
+
+    /**
+     * Records that the Player moved to the given Room.
+     *
+     * @param theRoomID The ID of the Room the Player moved to.
+     * @throws IllegalStateException if there is no current session.
+     * @throws IOException if a full group cannot be committed.
+     */
+    public synchronized void recordTransition(final int theRoomID)
+            throws IOException {
+        checkSession();
+        myState.moveTo(theRoomID);
+        append(TRANSITION, (char) 0, theRoomID);
+    }
+
+
+    /**
+     * Records that the question with the given ID was asked, so a resumed
+     * session does not ask it again.
+     *
+     * @param theTriviaID The ID of the question.
+     * @throws IllegalStateException if there is no current session.
+     * @throws IOException if a full group cannot be committed.
+     */
+    public synchronized void recordAsked(final int theTriviaID)
+            throws IOException {
+        checkSession();
+        myState.ask(theTriviaID);
+        append(ASKED, (char) 0, theTriviaID);
+    }
+
+
+    /**
+     * Writes all pending records to the journal with a single fsync.
+     *
+     * @throws IOException if the records cannot be written.
+     */
+    public synchronized void commit() throws IOException {
+        if (myPending.position() == 0) {
+            return;
+        }
+        myPending.flip();
+        int records = myPending.remaining() / RECORD_SIZE;
+        long position = (long) myNumRecords * RECORD_SIZE;
+        while (myPending.hasRemaining()) {
+            position += myChannel.write(myPending, position);
+        }
+        myChannel.force(false);
+        myPending.clear();
+        myNumRecords += records;
+    }
+
+
+    /**
+     * Checks if the journal has grown enough to be compacted.
+     *
+     * @return true if compaction is due and false otherwise.
+     */
+    public synchronized boolean needsCompaction() {
+        return myNumRecords + myPending.position() / RECORD_SIZE
+                >= COMPACT_THRESHOLD;
+    }
+
+
+    /**
+     * Writes the current state as the new snapshot and empties the journal.
+     *
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public synchronized void compact() throws IOException {
+        if (myState == null) {
+            return;
+        }
+        myPending.clear();
+        writeSnapshot();
+        truncate();
+    }
+
+
+    /**
+     * Commits any pending records and closes the journal.
+     *
+     * @throws IOException if the records cannot be written.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        myFlusher.shutdown();
+        try {
+            commit();
+        } finally {
+            myChannel.close();
+        }
+    }
+
+
+    /**
+     * Adds a record to the pending group, committing the group once it is
+     * full.
+     *
+     * @param theType The type of the record.
+     * @param theDoor The letter of the Door or 0 if there is none.
+     * @param theRoomID The ID of the Room, or of the question asked.
+     * @throws IOException if a full group cannot be committed.
+     */
+    private void append(final byte theType, final char theDoor,
+                        final int theRoomID) throws IOException {
+        int start = myPending.position();
+        myPending.put(theType);
+        myPending.put((byte) theDoor);
+        myPending.putShort((short) 0);
+        myPending.putInt(theRoomID);
+        myCRC.reset();
+        myCRC.update(myPending.array(), start, RECORD_BODY_SIZE);
+        myPending.putInt((int) myCRC.getValue());
+        if (!myPending.hasRemaining()) {
+            commit();
+        }
+    }
+
+
+    /**
+     * Reads the snapshot, if any, and replays every intact journal record
+     * over it. A torn record at the end of the journal, left by a crash in
+     * the middle of a commit, is discarded.
+     *
+     * @throws IOException if the files cannot be read.
+     */
+    private void recover() throws IOException {
+        myState = readSnapshot();
+        if (myState == null) {
+            truncate();
+            return;
+        }
+        ByteBuffer journal = ByteBuffer.allocate(Math.toIntExact(myChannel.size()));
+        int read = 0;
+        while (journal.hasRemaining() && read >= 0) {
+            read = myChannel.read(journal, journal.position());
+        }
+        journal.flip();
+        int records = 0;
+        while (journal.remaining() >= RECORD_SIZE) {
+            int start = journal.position();
+            byte type = journal.get();
+            char door = (char) journal.get();
+            journal.getShort();
+            int roomID = journal.getInt();
+            myCRC.reset();
+            myCRC.update(journal.array(), start, RECORD_BODY_SIZE);
+            if (journal.getInt() != (int) myCRC.getValue()) {
+                break;
+            }
+            if (type == UNLOCK) {
+                myState.unlock(roomID, door);
+            } else if (type == TRANSITION) {
+                myState.moveTo(roomID);
+            } else if (type == ASKED) {
+                myState.ask(roomID);
+            }
+            records++;
+        }
+        myNumRecords = records;
+        myChannel.truncate((long) records * RECORD_SIZE);
+    }
+
+
+    /**
+     * Reads the snapshot file.
+     *
+     * @return The snapshot or null if there is none or it is unreadable.
+     */
+    private JournalSnapshot readSnapshot() {
+        if (!Files.exists(mySnapshotPath)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(mySnapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                return null;
+            }
+            return JournalSnapshot.readFrom(in);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+
+    /**
+     * Atomically replaces the snapshot file with the current state.
+     *
+     * @throws IOException if the snapshot cannot be written.
+     */
+    private void writeSnapshot() throws IOException {
+        Path temp = mySnapshotPath.resolveSibling(mySnapshotPath.getFileName() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            myState.writeTo(out);
+            out.flush();
+            fos.getFD().sync();
+        }
+        Files.move(temp, mySnapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+
+    /**
+     * Empties the journal file.
+     *
+     * @throws IOException if the file cannot be truncated.
+     */
+    private void truncate() throws IOException {
+        myChannel.truncate(0);
+        myChannel.force(true);
+        myNumRecords = 0;
+    }
+
+
+    /**
+     * Checks that there is a current session.
+     *
+     * @throws IllegalStateException if there is no current session.
+     */
+    private void checkSession() {
+        if (myState == null) {
+            throw new IllegalStateException("no session has been started");
+        }
+    }
+
+
+    /** Commits pending records from the flusher thread. */
+    private synchronized void commitQuietly() {
+        try {
+            if (myChannel.isOpen()) {
+                commit();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+}
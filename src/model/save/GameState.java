@@ -0,0 +1,156 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.save;
+
+import model.room.Room;
+import model.trivia.Trivia;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A snapshot of everything needed to resume a game: the list of Rooms, the
+ * Room the Player is currently in, and the optimal solution. Serialized as a
+ * single object so the current Room keeps its identity within the Room list.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class GameState implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2365011935573404717L;
+
+    /** The Rooms of the floor, in non-decreasing order of Room ID. */
+    private final List<Room> myRoomsList;
+
+    /** The Room the Player is currently in. */
+    private final Room myCurrentRoom;
+
+    /** The optimal sequence of Room IDs from the start to the exit. */
+    private final List<Integer> myOptimalSolution;
+
+    /**
+     * The seed and dimensions the floor was generated from or null if they
+     * are unknown.
+     */
+    private final long[] myFloor;
+
+
+    /**
+     * Constructs a GameState from the given Rooms, current Room, and optimal
+     * solution.
+     *
+     * @param theRoomsList The Rooms of the floor.
+     * @param theCurrentRoom The Room the Player is currently in.
+     * @param theOptimalSolution The optimal sequence of Room IDs.
+     * @throws NullPointerException if any of the given parameters are null.
+     */
+    public GameState(final List<Room> theRoomsList,
+                     final Room theCurrentRoom,
+                     final List<Integer> theOptimalSolution) {
+        this(theRoomsList, theCurrentRoom, theOptimalSolution, null);
+    }
+
+
+    /**
+     * Constructs a GameState from the given Rooms, current Room, and optimal
+     * solution of the floor generated from the given journal snapshot's seed
+     * and dimensions.
+     *
+     * @param theRoomsList The Rooms of the floor.
+     * @param theCurrentRoom The Room the Player is currently in.
+     * @param theOptimalSolution The optimal sequence of Room IDs.
+     * @param theFloor The snapshot holding the seed and dimensions of the
+     *     floor or null if they are unknown.
+     * @throws NullPointerException if any of the Rooms or the optimal
+     *     solution are null.
+     */
+    public GameState(final List<Room> theRoomsList,
+                     final Room theCurrentRoom,
+                     final List<Integer> theOptimalSolution,
+                     final JournalSnapshot theFloor) {
+        myRoomsList = Objects.requireNonNull(theRoomsList);
+        myCurrentRoom = Objects.requireNonNull(theCurrentRoom);
+        myOptimalSolution = Objects.requireNonNull(theOptimalSolution);
+        myFloor = theFloor == null ? null : new long[] {
+                theFloor.getSeed(), theFloor.getNumRows(),
+                theFloor.getNumCols(), theFloor.getSource(),
+                theFloor.getTarget()};
+    }
+
+
+    /**
+     * Returns the Rooms of the floor.
+     *
+     * @return The Rooms of the floor.
+     */
+    public List<Room> getRoomsList() {
+        return myRoomsList;
+    }
+
+
+    /**
+     * Returns the Room the Player is currently in.
+     *
+     * @return The Room the Player is currently in.
+     */
+    public Room getCurrentRoom() {
+        return myCurrentRoom;
+    }
+
+
+    /**
+     * Returns the optimal sequence of Room IDs from the start to the exit.
+     *
+     * @return The optimal sequence of Room IDs.
+     */
+    public List<Integer> getOptimalSolution() {
+        return myOptimalSolution;
+    }
+
+
+    /**
+     * Returns a new journal snapshot of this GameState's floor, with the
+     * Doors that are unlocked in it, the questions its Doors have asked and
+     * the Player in its current Room.
+     *
+     * @return A snapshot of this GameState or null if the seed of its floor
+     *     is unknown.
+     */
+    public JournalSnapshot toSnapshot() {
+        if (myFloor == null) {
+            return null;
+        }
+        JournalSnapshot snapshot = new JournalSnapshot(myFloor[0],
+                (int) myFloor[1], (int) myFloor[2], (int) myFloor[3],
+                (int) myFloor[4]);
+        for (Room room : myRoomsList) {
+            for (char door = 'A'; door <= 'D'; door++) {
+                if (!room.hasRoom(door)) {
+                    continue;
+                }
+                if (room.getDoor(door).isUnlocked()) {
+                    snapshot.unlock(room.getRoomID(), door);
+                }
+                Trivia trivia = room.getDoor(door).getDrawnTrivia();
+                if (trivia != null) {
+                    snapshot.ask(trivia.getID());
+                }
+            }
+        }
+        snapshot.moveTo(myCurrentRoom.getRoomID());
+        return snapshot;
+    }
+
+}
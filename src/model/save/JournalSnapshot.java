@@ -0,0 +1,282 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.save;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * The progress of a game session in the compact form kept by an
+ * EventJournal: the parameters needed to regenerate the floor with a
+ * RoomBuilder, the Room the Player is in, the Doors that have been unlocked
+ * and the IDs of the questions that have been asked. Everything else about
+ * the floor follows from the seed.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class JournalSnapshot {
+
+    /** The number of Doors each Room has. */
+    private static final int DOORS_PER_ROOM = 4;
+
+    /** The seed the floor was generated from. */
+    private final long mySeed;
+
+    /** The number of Room rows of the floor. */
+    private final int myNumRows;
+
+    /** The number of Room columns of the floor. */
+    private final int myNumCols;
+
+    /** The ID of the starting Room. */
+    private final int mySource;
+
+    /** The ID of the exit Room. */
+    private final int myTarget;
+
+    /** The unlocked Doors, indexed by doorKey(). */
+    private final BitSet myUnlocked;
+
+    /** The IDs of the questions asked. */
+    private final BitSet myAsked;
+
+    /** The ID of the Room the Player is in. */
+    private int myCurrentRoomID;
+
+
+    /**
+     * Constructs the snapshot of a new session on the floor generated from
+     * the given parameters, with the Player in the source Room.
+     *
+     * @param theSeed The seed of the floor.
+     * @param theNumRows The number of Room rows.
+     * @param theNumCols The number of Room columns.
+     * @param theSource The ID of the starting Room.
+     * @param theTarget The ID of the exit Room.
+     */
+    public JournalSnapshot(final long theSeed, final int theNumRows,
+                           final int theNumCols, final int theSource,
+                           final int theTarget) {
+        mySeed = theSeed;
+        myNumRows = theNumRows;
+        myNumCols = theNumCols;
+        mySource = theSource;
+        myTarget = theTarget;
+        myUnlocked = new BitSet();
+        myAsked = new BitSet();
+        myCurrentRoomID = theSource;
+    }
+
+
+    /**
+     * Returns the key of the given Door of the given Room.
+     *
+     * @param theRoomID The ID of the Room.
+     * @param theDoor The letter of the Door, one of {'A', 'B', 'C', 'D'}.
+     * @return The key of the Door.
+     * @throws IllegalArgumentException if theDoor is not A, B, C, or D.
+     */
+    public static int doorKey(final int theRoomID, final char theDoor) {
+        if (theDoor < 'A' || theDoor > 'D') {
+            throw new IllegalArgumentException("letterID must be one of"
+                    + " {'A', 'B', 'C', 'D'}");
+        }
+        return theRoomID * DOORS_PER_ROOM + (theDoor - 'A');
+    }
+
+
+    /**
+     * Returns the ID of the Room of the Door with the given key.
+     *
+     * @param theKey The key of a Door.
+     * @return The ID of the Door's Room.
+     */
+    public static int roomOf(final int theKey) {
+        return theKey / DOORS_PER_ROOM;
+    }
+
+
+    /**
+     * Returns the letter of the Door with the given key.
+     *
+     * @param theKey The key of a Door.
+     * @return The letter of the Door.
+     */
+    public static char doorOf(final int theKey) {
+        return (char) ('A' + theKey % DOORS_PER_ROOM);
+    }
+
+
+    /**
+     * Records that the given Door of the given Room was unlocked.
+     *
+     * @param theRoomID The ID of the Room.
+     * @param theDoor The letter of the Door.
+     */
+    public void unlock(final int theRoomID, final char theDoor) {
+        myUnlocked.set(doorKey(theRoomID, theDoor));
+    }
+
+
+    /**
+     * Records that the Player moved to the given Room.
+     *
+     * @param theRoomID The ID of the Room the Player moved to.
+     */
+    public void moveTo(final int theRoomID) {
+        myCurrentRoomID = theRoomID;
+    }
+
+
+    /**
+     * Records that the question with the given ID was asked. A negative ID
+     * is ignored.
+     *
+     * @param theTriviaID The ID of the question.
+     */
+    public void ask(final int theTriviaID) {
+        if (theTriviaID >= 0) {
+            myAsked.set(theTriviaID);
+        }
+    }
+
+
+    /**
+     * Returns the IDs of the questions asked.
+     *
+     * @return A copy of the set of asked question IDs.
+     */
+    public BitSet getAskedTrivia() {
+        return (BitSet) myAsked.clone();
+    }
+
+
+    /**
+     * Returns the unlocked Doors as a set of keys. See doorKey().
+     *
+     * @return A copy of the set of unlocked Door keys.
+     */
+    public BitSet getUnlockedDoors() {
+        return (BitSet) myUnlocked.clone();
+    }
+
+
+    /**
+     * Returns the ID of the Room the Player is in.
+     *
+     * @return The ID of the current Room.
+     */
+    public int getCurrentRoomID() {
+        return myCurrentRoomID;
+    }
+
+
+    /**
+     * Returns the seed the floor was generated from.
+     *
+     * @return The seed of the floor.
+     */
+    public long getSeed() {
+        return mySeed;
+    }
+
+
+    /**
+     * Returns the number of Room rows of the floor.
+     *
+     * @return The number of Room rows.
+     */
+    public int getNumRows() {
+        return myNumRows;
+    }
+
+
+    /**
+     * Returns the number of Room columns of the floor.
+     *
+     * @return The number of Room columns.
+     */
+    public int getNumCols() {
+        return myNumCols;
+    }
+
+
+    /**
+     * Returns the ID of the starting Room.
+     *
+     * @return The ID of the starting Room.
+     */
+    public int getSource() {
+        return mySource;
+    }
+
+
+    /**
+     * Returns the ID of the exit Room.
+     *
+     * @return The ID of the exit Room.
+     */
+    public int getTarget() {
+        return myTarget;
+    }
+
+
+    /**
+     * Writes this snapshot to the given stream.
+     *
+     * @param theOut The stream to write to.
+     * @throws IOException if the stream cannot be written.
+     */
+    void writeTo(final DataOutputStream theOut) throws IOException {
+        theOut.writeLong(mySeed);
+        theOut.writeInt(myNumRows);
+        theOut.writeInt(myNumCols);
+        theOut.writeInt(mySource);
+        theOut.writeInt(myTarget);
+        theOut.writeInt(myCurrentRoomID);
+        byte[] unlocked = myUnlocked.toByteArray();
+        theOut.writeInt(unlocked.length);
+        theOut.write(unlocked);
+        byte[] asked = myAsked.toByteArray();
+        theOut.writeInt(asked.length);
+        theOut.write(asked);
+    }
+
+
+    /**
+     * Reads a snapshot written by writeTo() from the given stream. A
+     * snapshot written before questions were recorded has none asked.
+     *
+     * @param theIn The stream to read from.
+     * @return The snapshot read.
+     * @throws IOException if the stream cannot be read.
+     */
+    static JournalSnapshot readFrom(final DataInputStream theIn)
+            throws IOException {
+        JournalSnapshot snapshot = new JournalSnapshot(theIn.readLong(),
+                theIn.readInt(), theIn.readInt(), theIn.readInt(),
+                theIn.readInt());
+        snapshot.myCurrentRoomID = theIn.readInt();
+        byte[] unlocked = new byte[theIn.readInt()];
+        theIn.readFully(unlocked);
+        snapshot.myUnlocked.or(BitSet.valueOf(unlocked));
+        if (theIn.available() > 0) {
+            byte[] asked = new byte[theIn.readInt()];
+            theIn.readFully(asked);
+            snapshot.myAsked.or(BitSet.valueOf(asked));
+        }
+        return snapshot;
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.save;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Describes one occupied slot of a SaveSlotStore. Built from the store's
+ * header index alone, so listing slots never reads a saved record.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public final class SaveSlot {
+
+    /** The index of this slot in the store. */
+    private final int myIndex;
+
+    /** The ID of the Room the Player was in when the slot was written. */
+    private final int myRoomID;
+
+    /** The time the slot was written, in milliseconds since the epoch. */
+    private final long myTimestamp;
+
+    /** The length of the saved record in bytes. */
+    private final int myLength;
+
+    /** true if this is one of the store's rotating autosave slots. */
+    private final boolean isAutosave;
+
+
+    /**
+     * Constructs a SaveSlot with the given header values.
+     *
+     * @param theIndex The index of the slot in the store.
+     * @param theRoomID The ID of the Room the Player was in.
+     * @param theTimestamp The time the slot was written.
+     * @param theLength The length of the saved record in bytes.
+     * @param theAutosave true if the slot is an autosave slot.
+     */
+    SaveSlot(final int theIndex, final int theRoomID, final long theTimestamp,
+             final int theLength, final boolean theAutosave) {
+        myIndex = theIndex;
+        myRoomID = theRoomID;
+        myTimestamp = theTimestamp;
+        myLength = theLength;
+        isAutosave = theAutosave;
+    }
+
+
+    /**
+     * Returns the index of this slot in the store.
+     *
+     * @return The index of this slot.
+     */
+    public int getIndex() {
+        return myIndex;
+    }
+
+
+    /**
+     * Returns the ID of the Room the Player was in when the slot was written.
+     *
+     * @return The saved Room ID.
+     */
+    public int getRoomID() {
+        return myRoomID;
+    }
+
+
+    /**
+     * Returns the time the slot was written.
+     *
+     * @return The time the slot was written, in milliseconds since the epoch.
+     */
+    public long getTimestamp() {
+        return myTimestamp;
+    }
+
+
+    /**
+     * Returns the length of the saved record in bytes.
+     *
+     * @return The length of the saved record in bytes.
+     */
+    public int getLength() {
+        return myLength;
+    }
+
+
+    /**
+     * Checks if this is one of the store's rotating autosave slots.
+     *
+     * @return true if this is an autosave slot and false otherwise.
+     */
+    public boolean isAutosave() {
+        return isAutosave;
+    }
+
+
+    @Override
+    public String toString() {
+        String when = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss")
+                .format(new Date(myTimestamp));
+        return (isAutosave ? "Autosave " : "Slot ") + myIndex
+                + " - Room " + myRoomID + " - " + when;
+    }
+
+}
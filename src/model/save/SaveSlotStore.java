@@ -0,0 +1,494 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.save;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Stores many saved games in a single memory-mapped file. The file starts
+ * with a fixed-size header index with one entry per slot, followed by a data
+ * region of variable-length records:
+ *
+ *      [magic | version | slots | autosaves | next autosave | data end]
+ *      [slot 0: offset | length | room ID | timestamp | crc32]
+ *      ...
+ *      [slot N-1: ...]
+ *      [record bytes ...]
+ *
+ * Looking up a slot is a single read of its header entry, so any slot can be
+ * listed or loaded without touching the others. New records are appended to
+ * the end of the data region and the slot's entry is repointed; the space of
+ * overwritten records is reclaimed by compacting the data region in place
+ * once it holds more dead bytes than live ones. A slot's entry only ever
+ * points at a complete copy of its record, so a crash in the middle of a
+ * save or a compaction loses no saved game. The last slots of the store
+ * are reserved for autosaves, which rotate so the oldest one is replaced.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class SaveSlotStore implements Closeable {
+
+    /** The default number of manual save slots. */
+    public static final int DEFAULT_SLOTS = 40;
+
+    /** The default number of rotating autosave slots. */
+    public static final int DEFAULT_AUTOSAVES = 8;
+
+    /** Identifies a save slot file ("OES2"). */
+    private static final int MAGIC = 0x4F455332;
+
+    /** The version of the file layout. */
+    private static final int VERSION = 1;
+
+    /** The size in bytes of the fixed part of the header. */
+    private static final int FIXED_HEADER_SIZE = 32;
+
+    /** The size in bytes of each slot entry in the header index. */
+    private static final int ENTRY_SIZE = 32;
+
+    /** The number of dead bytes tolerated before compacting. */
+    private static final long COMPACT_SLACK = 1 << 20;
+
+    /** The size in bytes of the data region of a new file. */
+    private static final long INITIAL_DATA_SIZE = 1 << 20;
+
+    /** The size in bytes of the chunks moved during compaction. */
+    private static final int COPY_CHUNK = 1 << 16;
+
+    // offsets of the fixed header fields
+    private static final int SLOTS_OFFSET = 8;
+    private static final int AUTOSAVES_OFFSET = 12;
+    private static final int NEXT_AUTOSAVE_OFFSET = 16;
+    private static final int DATA_END_OFFSET = 24;
+
+    // offsets of the fields within a slot entry
+    private static final int ENTRY_OFFSET = 0;
+    private static final int ENTRY_LENGTH = 8;
+    private static final int ENTRY_ROOM = 12;
+    private static final int ENTRY_TIME = 16;
+    private static final int ENTRY_CRC = 24;
+
+    /** The channel of the backing file. */
+    private final FileChannel myChannel;
+
+    /** The number of manual save slots. */
+    private final int myNumSlots;
+
+    /** The number of rotating autosave slots. */
+    private final int myNumAutosaves;
+
+    /** The size in bytes of the header, including the slot index. */
+    private final int myHeaderSize;
+
+    /** The mapping of the backing file. */
+    private MappedByteBuffer myBuffer;
+
+
+    /**
+     * Opens the store at the given path with the default number of slots,
+     * creating it if it does not exist.
+     *
+     * @param thePath The path of the store file.
+     * @throws IOException if the file cannot be opened or is not a store.
+     */
+    public SaveSlotStore(final String thePath) throws IOException {
+        this(thePath, DEFAULT_SLOTS, DEFAULT_AUTOSAVES);
+    }
+
+
+    /**
+     * Opens the store at the given path, creating it with the given number of
+     * manual and autosave slots if it does not exist. An existing store keeps
+     * the slot counts it was created with.
+     *
+     * @param thePath The path of the store file.
+     * @param theNumSlots The number of manual save slots.
+     * @param theNumAutosaves The number of rotating autosave slots.
+     * @throws IllegalArgumentException if theNumSlots is negative or
+     *     theNumAutosaves is less than 1.
+     * @throws IOException if the file cannot be opened or is not a store.
+     */
+    public SaveSlotStore(final String thePath, final int theNumSlots,
+                         final int theNumAutosaves) throws IOException {
+        if (theNumSlots < 0 || theNumAutosaves < 1) {
+            throw new IllegalArgumentException("a store needs at least one"
+                    + " autosave slot and a non-negative number of slots");
+        }
+        myChannel = FileChannel.open(Path.of(thePath),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (myChannel.size() == 0) {
+                myNumSlots = theNumSlots;
+                myNumAutosaves = theNumAutosaves;
+                myHeaderSize = headerSize(myNumSlots + myNumAutosaves);
+                map(myHeaderSize + INITIAL_DATA_SIZE);
+                writeNewHeader();
+            } else {
+                map(myChannel.size());
+                if (myBuffer.capacity() < FIXED_HEADER_SIZE
+                        || myBuffer.getInt(0) != MAGIC
+                        || myBuffer.getInt(4) != VERSION) {
+                    throw new IOException(thePath + " is not a save slot store");
+                }
+                myNumSlots = myBuffer.getInt(SLOTS_OFFSET);
+                myNumAutosaves = myBuffer.getInt(AUTOSAVES_OFFSET);
+                myHeaderSize = headerSize(myNumSlots + myNumAutosaves);
+            }
+        } catch (IOException | RuntimeException e) {
+            myChannel.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the number of manual save slots.
+     *
+     * @return The number of manual save slots.
+     */
+    public int getNumSlots() {
+        return myNumSlots;
+    }
+
+
+    /**
+     * Returns the number of rotating autosave slots. Autosave slots follow
+     * the manual slots, so their indices start at getNumSlots().
+     *
+     * @return The number of autosave slots.
+     */
+    public int getNumAutosaves() {
+        return myNumAutosaves;
+    }
+
+
+    /**
+     * Returns the occupied slots of this store in order of slot index. Only
+     * the header index is read.
+     *
+     * @return A List describing each occupied slot.
+     */
+    public synchronized List<SaveSlot> listSlots() {
+        List<SaveSlot> slots = new ArrayList<>();
+        for (int i = 0; i < myNumSlots + myNumAutosaves; i++) {
+            SaveSlot slot = getSlot(i);
+            if (slot != null) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+
+    /**
+     * Returns a description of the given slot or null if it is empty.
+     *
+     * @param theIndex The index of the slot.
+     * @return A description of the slot or null if it is empty.
+     * @throws IndexOutOfBoundsException if theIndex is not a slot index.
+     */
+    public synchronized SaveSlot getSlot(final int theIndex) {
+        int entry = entry(theIndex);
+        int length = myBuffer.getInt(entry + ENTRY_LENGTH);
+        if (length == 0) {
+            return null;
+        }
+        return new SaveSlot(theIndex,
+                myBuffer.getInt(entry + ENTRY_ROOM),
+                myBuffer.getLong(entry + ENTRY_TIME),
+                length,
+                theIndex >= myNumSlots);
+    }
+
+
+    /**
+     * Returns the record saved in the given slot or null if it is empty.
+     *
+     * @param theIndex The index of the slot.
+     * @return The saved record or null if the slot is empty.
+     * @throws IndexOutOfBoundsException if theIndex is not a slot index.
+     * @throws IOException if the slot's entry or record is corrupt.
+     */
+    public synchronized byte[] load(final int theIndex) throws IOException {
+        int entry = entry(theIndex);
+        int length = myBuffer.getInt(entry + ENTRY_LENGTH);
+        if (length == 0) {
+            return null;
+        }
+        long offset = myBuffer.getLong(entry + ENTRY_OFFSET);
+        long dataEnd = Math.min(myBuffer.getLong(DATA_END_OFFSET), myBuffer.capacity());
+        if (length < 0 || offset < myHeaderSize || offset > dataEnd - length) {
+            throw new IOException("save slot " + theIndex + " is corrupt");
+        }
+        byte[] record = new byte[length];
+        myBuffer.get((int) offset, record);
+        if (checksum(record) != myBuffer.getInt(entry + ENTRY_CRC)) {
+            throw new IOException("save slot " + theIndex + " is corrupt");
+        }
+        return record;
+    }
+
+
+    /**
+     * Saves the given record to the given slot, replacing its previous
+     * contents.
+     *
+     * @param theIndex The index of the slot.
+     * @param theRoomID The ID of the Room the Player is in.
+     * @param theRecord The record to save.
+     * @throws IllegalArgumentException if theRecord is empty.
+     * @throws IndexOutOfBoundsException if theIndex is not a slot index.
+     * @throws IOException if the file cannot be grown.
+     */
+    public synchronized void save(final int theIndex, final int theRoomID,
+                                  final byte[] theRecord) throws IOException {
+        if (theRecord.length == 0) {
+            throw new IllegalArgumentException("cannot save an empty record");
+        }
+        int entry = entry(theIndex);
+        long offset = myBuffer.getLong(DATA_END_OFFSET);
+        long dataEnd = offset + theRecord.length;
+        if (dataEnd > myBuffer.capacity()) {
+            map(Math.max(dataEnd, 2L * myBuffer.capacity()));
+        }
+        myBuffer.put(Math.toIntExact(offset), theRecord);
+        // claim the record's space before pointing the slot at it
+        myBuffer.putLong(DATA_END_OFFSET, dataEnd);
+        myBuffer.force();
+        myBuffer.putLong(entry + ENTRY_OFFSET, offset);
+        myBuffer.putInt(entry + ENTRY_LENGTH, theRecord.length);
+        myBuffer.putInt(entry + ENTRY_ROOM, theRoomID);
+        myBuffer.putLong(entry + ENTRY_TIME, System.currentTimeMillis());
+        myBuffer.putInt(entry + ENTRY_CRC, checksum(theRecord));
+        myBuffer.force();
+        if (dataEnd - myHeaderSize > 2 * liveBytes() + COMPACT_SLACK) {
+            compact();
+        }
+    }
+
+
+    /**
+     * Saves the given record to the oldest autosave slot.
+     *
+     * @param theRoomID The ID of the Room the Player is in.
+     * @param theRecord The record to save.
+     * @return The index of the slot the record was saved to.
+     * @throws IOException if the file cannot be grown.
+     */
+    public synchronized int autosave(final int theRoomID,
+                                     final byte[] theRecord) throws IOException {
+        int next = myBuffer.getInt(NEXT_AUTOSAVE_OFFSET);
+        int index = myNumSlots + next;
+        save(index, theRoomID, theRecord);
+        myBuffer.putInt(NEXT_AUTOSAVE_OFFSET, (next + 1) % myNumAutosaves);
+        myBuffer.force();
+        return index;
+    }
+
+
+    /**
+     * Empties the given slot.
+     *
+     * @param theIndex The index of the slot.
+     * @throws IndexOutOfBoundsException if theIndex is not a slot index.
+     */
+    public synchronized void delete(final int theIndex) {
+        int entry = entry(theIndex);
+        myBuffer.putInt(entry + ENTRY_LENGTH, 0);
+        myBuffer.force();
+    }
+
+
+    /**
+     * Moves every live record to the front of the data region, in order of
+     * offset, so that the space of replaced records can be reused. A record
+     * is never copied over its own bytes: one whose new place overlaps its
+     * old one is first copied past the end of the data region, and its entry
+     * repointed at that copy, before it is moved to its new place.
+     *
+     * @throws IOException if the file cannot be grown.
+     */
+    private void compact() throws IOException {
+        List<Integer> live = new ArrayList<>();
+        for (int i = 0; i < myNumSlots + myNumAutosaves; i++) {
+            if (myBuffer.getInt(entry(i) + ENTRY_LENGTH) != 0) {
+                live.add(entry(i));
+            }
+        }
+        live.sort(Comparator.comparingLong(e -> myBuffer.getLong(e + ENTRY_OFFSET)));
+        long writePos = myHeaderSize;
+        for (int entry : live) {
+            long readPos = myBuffer.getLong(entry + ENTRY_OFFSET);
+            int length = myBuffer.getInt(entry + ENTRY_LENGTH);
+            if (readPos != writePos) {
+                if (writePos + length > readPos) {
+                    readPos = moveToEnd(entry, readPos, length);
+                }
+                copy(readPos, writePos, length);
+                myBuffer.putLong(entry + ENTRY_OFFSET, writePos);
+                myBuffer.force();
+            }
+            writePos += length;
+        }
+        myBuffer.putLong(DATA_END_OFFSET, writePos);
+        myBuffer.force();
+    }
+
+
+    /**
+     * Copies a live record past the end of the data region, claims the space
+     * of the copy and repoints the record's entry at it.
+     *
+     * @param theEntry The position of the record's header entry.
+     * @param theOffset The offset of the record.
+     * @param theLength The length of the record.
+     * @return The offset of the copy.
+     * @throws IOException if the file cannot be grown.
+     */
+    private long moveToEnd(final int theEntry, final long theOffset,
+                           final int theLength) throws IOException {
+        long offset = myBuffer.getLong(DATA_END_OFFSET);
+        long dataEnd = offset + theLength;
+        if (dataEnd > myBuffer.capacity()) {
+            map(Math.max(dataEnd, 2L * myBuffer.capacity()));
+        }
+        copy(theOffset, offset, theLength);
+        myBuffer.putLong(DATA_END_OFFSET, dataEnd);
+        myBuffer.force();
+        myBuffer.putLong(theEntry + ENTRY_OFFSET, offset);
+        myBuffer.force();
+        return offset;
+    }
+
+
+    /**
+     * Copies bytes of the data region to a range that does not overlap them
+     * and flushes the copy.
+     *
+     * @param theFrom The offset of the bytes to copy.
+     * @param theTo The offset to copy the bytes to.
+     * @param theLength The number of bytes to copy.
+     */
+    private void copy(final long theFrom, final long theTo, final int theLength) {
+        byte[] chunk = new byte[Math.min(COPY_CHUNK, theLength)];
+        for (int done = 0; done < theLength; done += chunk.length) {
+            int n = Math.min(chunk.length, theLength - done);
+            myBuffer.get(Math.toIntExact(theFrom + done), chunk, 0, n);
+            myBuffer.put(Math.toIntExact(theTo + done), chunk, 0, n);
+        }
+        myBuffer.force();
+    }
+
+
+    /**
+     * Returns the total length of the records in occupied slots.
+     *
+     * @return The number of live bytes in the data region.
+     */
+    private long liveBytes() {
+        long live = 0;
+        for (int i = 0; i < myNumSlots + myNumAutosaves; i++) {
+            live += myBuffer.getInt(entry(i) + ENTRY_LENGTH);
+        }
+        return live;
+    }
+
+
+    /**
+     * Returns the position of the header entry of the given slot.
+     *
+     * @param theIndex The index of the slot.
+     * @return The position of the slot's header entry.
+     * @throws IndexOutOfBoundsException if theIndex is not a slot index.
+     */
+    private int entry(final int theIndex) {
+        if (theIndex < 0 || theIndex >= myNumSlots + myNumAutosaves) {
+            throw new IndexOutOfBoundsException("no save slot " + theIndex);
+        }
+        return FIXED_HEADER_SIZE + theIndex * ENTRY_SIZE;
+    }
+
+
+    /**
+     * Maps the first theSize bytes of the backing file, growing the file if
+     * it is smaller.
+     *
+     * @param theSize The number of bytes to map.
+     * @throws IOException if the file cannot be mapped.
+     */
+    private void map(final long theSize) throws IOException {
+        if (theSize > Integer.MAX_VALUE) {
+            throw new IOException("save slot store is full");
+        }
+        myBuffer = myChannel.map(FileChannel.MapMode.READ_WRITE, 0, theSize);
+    }
+
+
+    /** Writes the header of a new, empty store. */
+    private void writeNewHeader() {
+        myBuffer.putInt(0, MAGIC);
+        myBuffer.putInt(4, VERSION);
+        myBuffer.putInt(SLOTS_OFFSET, myNumSlots);
+        myBuffer.putInt(AUTOSAVES_OFFSET, myNumAutosaves);
+        myBuffer.putInt(NEXT_AUTOSAVE_OFFSET, 0);
+        myBuffer.putLong(DATA_END_OFFSET, myHeaderSize);
+        myBuffer.force();
+    }
+
+
+    /**
+     * Returns the size of a header with the given number of slot entries.
+     *
+     * @param theNumEntries The total number of slots.
+     * @return The size of the header in bytes.
+     */
+    private static int headerSize(final int theNumEntries) {
+        return FIXED_HEADER_SIZE + theNumEntries * ENTRY_SIZE;
+    }
+
+
+    /**
+     * Returns the CRC-32 checksum of the given record.
+     *
+     * @param theRecord The record to checksum.
+     * @return The checksum of theRecord.
+     */
+    private static int checksum(final byte[] theRecord) {
+        CRC32 crc = new CRC32();
+        crc.update(theRecord);
+        return (int) crc.getValue();
+    }
+
+
+    /**
+     * Flushes any pending writes and closes the backing file.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        myBuffer.force();
+        myChannel.close();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import java.util.Arrays;
+
+/**
+ * The precomputed form of a correct answer used by AnswerMatcher: the
+ * answer in normalized form, and for each character of it, a bit mask of
+ * the positions the character occurs at. The masks are split into 64-bit
+ * blocks so answers of any length can be matched a block at a time.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public final class AnswerKey {
+
+    /** The number of characters with a direct entry in the lookup table. */
+    private static final int ASCII = 128;
+
+    /** The normalized answer. */
+    private final String myNormalized;
+
+    /** The number of 64-bit blocks each mask is split into. */
+    private final int myNumBlocks;
+
+    /** The index into myMasks of each ASCII character or -1 if it is absent. */
+    private final int[] myAsciiIndex;
+
+    /** The non-ASCII characters of the answer in ascending order. */
+    private final char[] myOtherChars;
+
+    /** The position masks of each distinct character, block by block. */
+    private final long[] myMasks;
+
+
+    /**
+     * Constructs the key of the given correct answer.
+     *
+     * @param theAnswer The correct answer.
+     */
+    public AnswerKey(final String theAnswer) {
+        myNormalized = AnswerMatcher.normalize(theAnswer);
+        int length = myNormalized.length();
+        myNumBlocks = Math.max(1, (length + Long.SIZE - 1) / Long.SIZE);
+        myAsciiIndex = new int[ASCII];
+        Arrays.fill(myAsciiIndex, -1);
+        myOtherChars = myNormalized.chars().filter(c -> c >= ASCII)
+                .distinct().sorted().collect(StringBuilder::new,
+                        StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString().toCharArray();
+        int numChars = myOtherChars.length;
+        for (int i = 0; i < length; i++) {
+            char c = myNormalized.charAt(i);
+            if (c < ASCII && myAsciiIndex[c] < 0) {
+                myAsciiIndex[c] = numChars++;
+            }
+        }
+        myMasks = new long[numChars * myNumBlocks];
+        for (int i = 0; i < length; i++) {
+            int index = indexOf(myNormalized.charAt(i));
+            myMasks[index * myNumBlocks + i / Long.SIZE] |= 1L << (i % Long.SIZE);
+        }
+    }
+
+
+    /**
+     * Returns the normalized answer.
+     *
+     * @return The normalized answer.
+     */
+    public String getNormalized() {
+        return myNormalized;
+    }
+
+
+    /**
+     * Returns the length of the normalized answer.
+     *
+     * @return The length of the normalized answer.
+     */
+    public int length() {
+        return myNormalized.length();
+    }
+
+
+    /**
+     * Returns the number of 64-bit blocks each mask is split into.
+     *
+     * @return The number of blocks.
+     */
+    int getNumBlocks() {
+        return myNumBlocks;
+    }
+
+
+    /**
+     * Returns the given block of the positions the given character occurs at
+     * in the normalized answer.
+     *
+     * @param theChar A character.
+     * @param theBlock The index of the block.
+     * @return The block's mask of theChar's positions.
+     */
+    long mask(final char theChar, final int theBlock) {
+        int index = indexOf(theChar);
+        return index < 0 ? 0 : myMasks[index * myNumBlocks + theBlock];
+    }
+
+
+    /**
+     * Returns the index of the given character's masks or -1 if it does not
+     * occur in the answer.
+     *
+     * @param theChar A character.
+     * @return The index of theChar's masks or -1.
+     */
+    private int indexOf(final char theChar) {
+        if (theChar < ASCII) {
+            return myAsciiIndex[theChar];
+        }
+        int index = Arrays.binarySearch(myOtherChars, theChar);
+        return index < 0 ? -1 : index;
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * Checks short answers against the correct answer of a Trivia question.
+ * Both answers are compared in normalized form: Unicode NFKC, case folded,
+ * and with whitespace and punctuation removed, so "  New-York " matches
+ * "new york". A matcher can also accept answers within a bounded edit
+ * distance of the correct one. The distance is computed with Myers'
+ * bit-parallel algorithm, which processes 64 characters of the correct
+ * answer per machine word and stops as soon as the bound cannot be met.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public final class AnswerMatcher {
+
+    /** A matcher that only accepts answers equal in normalized form. */
+    public static final AnswerMatcher EXACT = new AnswerMatcher(0, 1);
+
+    /**
+     * The matcher used by the game, which forgives one typo in answers of
+     * five or more characters and two in answers of ten or more.
+     */
+    public static final AnswerMatcher DEFAULT = new AnswerMatcher(2, 5);
+
+    /** The most edits accepted for any answer. */
+    private final int myMaxEdits;
+
+    /** The number of characters of the correct answer per accepted edit. */
+    private final int myCharsPerEdit;
+
+
+    /**
+     * Constructs a matcher that accepts at most theMaxEdits edits and at most
+     * one edit per theCharsPerEdit characters of the correct answer.
+     *
+     * @param theMaxEdits The most edits accepted for any answer.
+     * @param theCharsPerEdit The number of characters per accepted edit.
+     * @throws IllegalArgumentException if theMaxEdits is negative or
+     *     theCharsPerEdit is less than 1.
+     */
+    public AnswerMatcher(final int theMaxEdits, final int theCharsPerEdit) {
+        if (theMaxEdits < 0 || theCharsPerEdit < 1) {
+            throw new IllegalArgumentException("invalid edit bound");
+        }
+        myMaxEdits = theMaxEdits;
+        myCharsPerEdit = theCharsPerEdit;
+    }
+
+
+    /**
+     * Returns the given text in normalized form: Unicode NFKC, case folded,
+     * with every character that is not a letter or digit removed.
+     *
+     * @param theText The text to normalize.
+     * @return The normalized text.
+     */
+    public static String normalize(final String theText) {
+        if (!isAscii(theText)) {
+            return normalizeUnicode(Normalizer.normalize(theText, Normalizer.Form.NFKC));
+        }
+        char[] normalized = new char[theText.length()];
+        int length = 0;
+        for (int i = 0; i < theText.length(); i++) {
+            char c = theText.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                normalized[length++] = (char) (c + ('a' - 'A'));
+            } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                normalized[length++] = c;
+            }
+        }
+        return new String(normalized, 0, length);
+    }
+
+
+    /**
+     * Case folds the given NFKC text and removes every character that is not
+     * a letter or digit.
+     *
+     * @param theText The text in NFKC form.
+     * @return The normalized text.
+     */
+    private static String normalizeUnicode(final String theText) {
+        StringBuilder normalized = new StringBuilder(theText.length());
+        for (int i = 0; i < theText.length(); ) {
+            int cp = theText.codePointAt(i);
+            if (Character.isLetterOrDigit(cp)) {
+                normalized.appendCodePoint(
+                        Character.toLowerCase(Character.toUpperCase(cp)));
+            }
+            i += Character.charCount(cp);
+        }
+        return normalized.toString();
+    }
+
+
+    /**
+     * Returns the number of edits this matcher accepts for the given key.
+     *
+     * @param theKey The key of the correct answer.
+     * @return The number of edits accepted.
+     */
+    public int allowedEdits(final AnswerKey theKey) {
+        return Math.min(myMaxEdits, theKey.length() / myCharsPerEdit);
+    }
+
+
+    /**
+     * Checks if the given answer matches the correct answer of the given
+     * Trivia.
+     *
+     * @param theTrivia The Trivia question.
+     * @param theAnswer The answer given.
+     * @return true if the answer is accepted and false otherwise.
+     */
+    public boolean matches(final Trivia theTrivia, final String theAnswer) {
+        return matches(theTrivia.getAnswerKey(), theAnswer);
+    }
+
+
+    /**
+     * Checks if the given answer matches the correct answer with the given
+     * key.
+     *
+     * @param theKey The key of the correct answer.
+     * @param theAnswer The answer given.
+     * @return true if the answer is accepted and false otherwise.
+     */
+    public boolean matches(final AnswerKey theKey, final String theAnswer) {
+        String answer = normalize(theAnswer);
+        if (answer.equals(theKey.getNormalized())) {
+            return true;
+        }
+        int bound = allowedEdits(theKey);
+        return bound > 0 && Math.abs(answer.length() - theKey.length()) <= bound
+                && distance(theKey, answer, bound) <= bound;
+    }
+
+
+    /**
+     * Returns the edit distance between the normalized answer of the given
+     * key and the given normalized text, or a number greater than theBound
+     * if the distance exceeds it. Implements Myers' bit-vector algorithm in
+     * Hyyro's blocked form, with the vertical deltas of each column of the
+     * dynamic programming matrix held as bit vectors.
+     *
+     * @param theKey The key of the correct answer.
+     * @param theText The normalized text.
+     * @param theBound The largest distance of interest.
+     * @return The edit distance or a number greater than theBound.
+     */
+    static int distance(final AnswerKey theKey, final String theText,
+                        final int theBound) {
+        int m = theKey.length();
+        int n = theText.length();
+        if (m == 0) {
+            return n;
+        }
+        int blocks = theKey.getNumBlocks();
+        if (blocks == 1) {
+            return distanceOneBlock(theKey, theText, theBound);
+        }
+        long[] pv = new long[blocks];
+        long[] mv = new long[blocks];
+        Arrays.fill(pv, -1L);
+        long lastBit = 1L << ((m - 1) % Long.SIZE);
+        int score = m;
+        for (int j = 0; j < n; j++) {
+            char c = theText.charAt(j);
+            int carry = 1;
+            for (int b = 0; b < blocks; b++) {
+                long eq = theKey.mask(c, b);
+                long p = pv[b];
+                long mm = mv[b];
+                long xv = eq | mm;
+                if (carry < 0) {
+                    eq |= 1L;
+                }
+                long xh = (((eq & p) + p) ^ p) | eq;
+                long ph = mm | ~(xh | p);
+                long mh = p & xh;
+                long high = b == blocks - 1 ? lastBit : Long.MIN_VALUE;
+                int out = (ph & high) != 0 ? 1 : (mh & high) != 0 ? -1 : 0;
+                ph <<= 1;
+                mh <<= 1;
+                if (carry < 0) {
+                    mh |= 1L;
+                } else if (carry > 0) {
+                    ph |= 1L;
+                }
+                pv[b] = mh | ~(xv | ph);
+                mv[b] = ph & xv;
+                carry = out;
+            }
+            score += carry;
+            if (score - (n - j - 1) > theBound) {
+                return theBound + 1;
+            }
+        }
+        return score;
+    }
+
+
+    /**
+     * Returns the edit distance for a correct answer that fits in a single
+     * 64-bit block, or a number greater than theBound if the distance exceeds
+     * it. This is the common case, so it keeps the bit vectors in locals.
+     *
+     * @param theKey The key of the correct answer.
+     * @param theText The normalized text.
+     * @param theBound The largest distance of interest.
+     * @return The edit distance or a number greater than theBound.
+     */
+    private static int distanceOneBlock(final AnswerKey theKey,
+                                        final String theText,
+                                        final int theBound) {
+        int m = theKey.length();
+        int n = theText.length();
+        long lastBit = 1L << (m - 1);
+        long pv = -1L;
+        long mv = 0L;
+        int score = m;
+        for (int j = 0; j < n; j++) {
+            long eq = theKey.mask(theText.charAt(j), 0);
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+            if ((ph & lastBit) != 0) {
+                score++;
+            } else if ((mh & lastBit) != 0) {
+                score--;
+            }
+            ph = (ph << 1) | 1L;
+            mh <<= 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+            if (score - (n - j - 1) > theBound) {
+                return theBound + 1;
+            }
+        }
+        return score;
+    }
+
+
+    /**
+     * Checks if the given text contains only ASCII characters, which NFKC
+     * leaves unchanged.
+     *
+     * @param theText The text to check.
+     * @return true if theText is ASCII and false otherwise.
+     */
+    private static boolean isAscii(final String theText) {
+        for (int i = 0; i < theText.length(); i++) {
+            if (theText.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A model of how well the player answers Trivia, kept as an Elo-style rating
+ * per question category. Each question is treated as an opponent rated by
+ * its difficulty: answering it correctly raises the player's rating in its
+ * category by more the harder it was expected to be, and missing it lowers
+ * the rating by more the easier it was expected to be. Each answer updates
+ * a single rating in constant time.
+ *
+ * The ratings are used to pick the difficulty of questions not yet assigned
+ * to a Door: the difficulty whose rating is closest to the player's.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public class SkillModel implements Serializable {
+
+    /** The rating of a new player in every category. */
+    public static final double INITIAL_RATING = 1000;
+
+    /** The largest change of rating one answer can make. */
+    public static final double K_FACTOR = 32;
+
+    /** The rating difference at which the odds of answering are ten to one. */
+    private static final double SCALE = 400;
+
+    /** The rating of a question of each difficulty, indexed by difficulty. */
+    private static final double[] DIFFICULTY_RATINGS = {0, 850, 1000, 1150};
+
+    @Serial
+    private static final long serialVersionUID = -1874458520911470265L;
+
+    /** The player's rating in each category answered so far. */
+    private final Map<String, double[]> myRatings;
+
+
+    /** Constructs a SkillModel of a new player. */
+    public SkillModel() {
+        myRatings = new HashMap<>();
+    }
+
+
+    /**
+     * Returns the player's rating in the given category.
+     *
+     * @param theCategory The category.
+     * @return The player's rating in theCategory.
+     */
+    public double getRating(final String theCategory) {
+        double[] rating = myRatings.get(theCategory);
+        return rating == null ? INITIAL_RATING : rating[0];
+    }
+
+
+    /**
+     * Returns the probability the model gives of the player answering a
+     * question of the given category and difficulty correctly.
+     *
+     * @param theCategory The category of the question.
+     * @param theDifficulty The difficulty of the question.
+     * @return The expected score, from 0 to 1.
+     */
+    public double expectedScore(final String theCategory, final int theDifficulty) {
+        return 1 / (1 + Math.pow(10,
+                (DIFFICULTY_RATINGS[theDifficulty] - getRating(theCategory)) / SCALE));
+    }
+
+
+    /**
+     * Updates the player's rating in the category of the given Trivia after
+     * an answer to it.
+     *
+     * @param theTrivia The Trivia answered.
+     * @param theCorrect Whether the answer was correct.
+     */
+    public void record(final Trivia theTrivia, final boolean theCorrect) {
+        double expected = expectedScore(theTrivia.getCategory(), theTrivia.getDifficulty());
+        double[] rating = myRatings.computeIfAbsent(theTrivia.getCategory(),
+                c -> new double[] {INITIAL_RATING});
+        rating[0] += K_FACTOR * ((theCorrect ? 1 : 0) - expected);
+    }
+
+
+    /**
+     * Returns the difficulty best suited to the player in the given category:
+     * the one whose rating is closest to the player's.
+     *
+     * @param theCategory The category.
+     * @return The difficulty from Trivia.EASY to Trivia.HARD.
+     */
+    public int targetDifficulty(final String theCategory) {
+        double rating = getRating(theCategory);
+        int best = Trivia.EASY;
+        for (int difficulty = Trivia.EASY + 1; difficulty <= Trivia.HARD; difficulty++) {
+            if (Math.abs(DIFFICULTY_RATINGS[difficulty] - rating)
+                    < Math.abs(DIFFICULTY_RATINGS[best] - rating)) {
+                best = difficulty;
+            }
+        }
+        return best;
+    }
+
+}
@@ -10,9 +10,13 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package model.trivia;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 
@@ -26,6 +30,15 @@ import java.util.Objects;
  */
 public class Trivia implements Serializable {
 
+    /** The category of questions that were not given one. */
+    public static final String DEFAULT_CATEGORY = "general";
+
+    /** The lowest difficulty of a question. */
+    public static final int EASY = 1;
+
+    /** The highest difficulty of a question. */
+    public static final int HARD = 3;
+
     @Serial
     private static final long serialVersionUID = 8471019687092293378L;
 
@@ -44,6 +57,15 @@ public class Trivia implements Serializable {
     /** Integer storing the question type. */
     private final int myType;
 
+    /** The category of the question; not final so readObject can default it. */
+    private String myCategory;
+
+    /** The difficulty of the question; not final so readObject can default it. */
+    private int myDifficulty;
+
+    /** The precomputed form of the correct answer used to check answers. */
+    private transient AnswerKey myAnswerKey;
+
     /**
      * Constructs a Trivia object.
      *
@@ -58,9 +80,81 @@ public class Trivia implements Serializable {
                   final String theCorrectAnswer,
                   final String theIncorrectAnswers,
                   final int theType) {
+        this(theID, theQuestion, theCorrectAnswer, theIncorrectAnswers, theType,
+                DEFAULT_CATEGORY, defaultDifficulty(theType));
+    }
+
+    /**
+     * Constructs a Trivia object with a category and difficulty.
+     *
+     * @param theID integer ID of the Trivia
+     * @param theQuestion String storing the question
+     * @param theCorrectAnswer String storing the correct answer
+     * @param theIncorrectAnswers ArrayList storing the incorrect answers
+     * @param theType integer representing the type of the question
+     * @param theCategory String storing the category of the question
+     * @param theDifficulty integer from EASY to HARD
+     * @throws IllegalArgumentException if theDifficulty is out of range
+     */
+    public Trivia(final int theID,
+                  final String theQuestion,
+                  final String theCorrectAnswer,
+                  final String theIncorrectAnswers,
+                  final int theType,
+                  final String theCategory,
+                  final int theDifficulty) {
+        this(theID, theQuestion, theCorrectAnswer,
+                splitIncorrectAnswers(theCorrectAnswer, theIncorrectAnswers, theType),
+                theType, theCategory, theDifficulty);
+    }
+
+    /**
+     * Constructs a Trivia object from incorrect answers that have already
+     * been split, taking ownership of the given list.
+     *
+     * @param theID integer ID of the Trivia
+     * @param theQuestion String storing the question
+     * @param theCorrectAnswer String storing the correct answer
+     * @param theIncorrectAnswers ArrayList storing the incorrect answers
+     * @param theType integer representing the type of the question
+     * @param theCategory String storing the category of the question
+     * @param theDifficulty integer from EASY to HARD
+     * @throws IllegalArgumentException if theDifficulty is out of range
+     */
+    Trivia(final int theID,
+           final String theQuestion,
+           final String theCorrectAnswer,
+           final ArrayList<String> theIncorrectAnswers,
+           final int theType,
+           final String theCategory,
+           final int theDifficulty) {
+        if (theDifficulty < EASY || theDifficulty > HARD) {
+            throw new IllegalArgumentException("difficulty must be from "
+                    + EASY + " to " + HARD);
+        }
         myID = theID;
         myQuestion = theQuestion;
         myCorrectAnswer = theCorrectAnswer;
+        myIncorrectAnswers = theIncorrectAnswers;
+        myType = theType;
+        myCategory = theCategory == null ? DEFAULT_CATEGORY : theCategory;
+        myDifficulty = theDifficulty;
+        myAnswerKey = new AnswerKey(theCorrectAnswer);
+    }
+
+    /**
+     * Returns the incorrect answer choices of a question of the given type:
+     * the opposite of the correct answer for true/false, the semicolon
+     * separated choices for multiple choice, and none for short answer.
+     *
+     * @param theCorrectAnswer String storing the correct answer
+     * @param theIncorrectAnswers String storing the incorrect answers
+     * @param theType integer representing the type of the question
+     * @return ArrayList containing the incorrect answers.
+     */
+    static ArrayList<String> splitIncorrectAnswers(final String theCorrectAnswer,
+                                                   final String theIncorrectAnswers,
+                                                   final int theType) {
         ArrayList<String> incorrect = new ArrayList<>();
 
         if (theType == 1) {
@@ -82,9 +176,28 @@ public class Trivia implements Serializable {
             }
             incorrect.add(theIncorrectAnswers.substring(i, j));
         }
+        return incorrect;
+    }
 
-        myIncorrectAnswers = incorrect;
-        myType = theType;
+    /**
+     * Returns the difficulty of a question of the given type that was not
+     * given one: true/false questions are easy, multiple choice questions are
+     * medium, and short answer questions are hard.
+     *
+     * @param theType integer representing the type of the question
+     * @return integer from EASY to HARD.
+     */
+    public static int defaultDifficulty(final int theType) {
+        return Math.max(EASY, Math.min(HARD, theType));
+    }
+
+    /**
+     * Returns the ID of the Trivia object.
+     *
+     * @return integer ID of the Trivia.
+     */
+    public int getID() {
+        return myID;
     }
 
     /**
@@ -106,13 +219,24 @@ public class Trivia implements Serializable {
     }
 
     /**
-     * Returns the ArrayList of incorrect answers for the Trivia question.
-     * In the case of TF and SA type of questions, the ArrayList is empty.
+     * Returns the precomputed form of the correct answer used by
+     * AnswerMatcher.
      *
-     * @return ArrayList containing Strings of incorrect answers.
+     * @return The AnswerKey of the correct answer.
      */
-    public ArrayList<String> getIncorrectAnswers() {
-        return myIncorrectAnswers;
+    public AnswerKey getAnswerKey() {
+        return myAnswerKey;
+    }
+
+    /**
+     * Returns the incorrect answers for the Trivia question. In the case of
+     * SA type of questions, the list is empty. Trivia objects are shared
+     * between games, so the list cannot be modified.
+     *
+     * @return unmodifiable List containing Strings of incorrect answers.
+     */
+    public List<String> getIncorrectAnswers() {
+        return Collections.unmodifiableList(myIncorrectAnswers);
     }
 
     /**
@@ -136,6 +260,27 @@ public class Trivia implements Serializable {
         return answerList;
     }
 
+    /**
+     * Returns the number of answer choices, counting the correct answer.
+     *
+     * @return the number of answers.
+     */
+    public int getAnswerCount() {
+        return myIncorrectAnswers.size() + 1;
+    }
+
+    /**
+     * Returns the answer choice with the given number without allocating;
+     * answer 0 is the correct answer and the rest are the incorrect ones.
+     *
+     * @param theAnswer the number of the answer, from 0 to getAnswerCount() - 1.
+     * @return the answer.
+     * @throws IndexOutOfBoundsException if theAnswer is out of range.
+     */
+    public String getAnswer(final int theAnswer) {
+        return theAnswer == 0 ? myCorrectAnswer : myIncorrectAnswers.get(theAnswer - 1);
+    }
+
     /**
      * Returns an integer that indicates the type of the Trivia question.
      *
@@ -145,6 +290,46 @@ public class Trivia implements Serializable {
         return myType;
     }
 
+    /**
+     * Returns the category of the Trivia question.
+     *
+     * @return String representing the category.
+     */
+    public String getCategory() {
+        return myCategory;
+    }
+
+    /**
+     * Returns the difficulty of the Trivia question, from EASY to HARD.
+     *
+     * @return integer representing the difficulty.
+     */
+    public int getDifficulty() {
+        return myDifficulty;
+    }
+
+    /**
+     * Reads a Trivia object and recomputes its AnswerKey, which is not
+     * serialized. Trivia saved before questions had a category and
+     * difficulty are given the defaults.
+     *
+     * @param theIn the stream to read from.
+     * @throws IOException if the stream cannot be read.
+     * @throws ClassNotFoundException if a class of the stream is missing.
+     */
+    @Serial
+    private void readObject(final ObjectInputStream theIn)
+            throws IOException, ClassNotFoundException {
+        theIn.defaultReadObject();
+        if (myCategory == null) {
+            myCategory = DEFAULT_CATEGORY;
+        }
+        if (myDifficulty == 0) {
+            myDifficulty = defaultDifficulty(myType);
+        }
+        myAnswerKey = new AnswerKey(myCorrectAnswer);
+    }
+
     @Override
     public boolean equals(final Object other) {
         boolean result = false;
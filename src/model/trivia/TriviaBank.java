@@ -0,0 +1,179 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import model.metrics.MetricsRegistry;
+import model.metrics.Stopwatch;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable bank of every Trivia question, shared by all games in the
+ * process. The questions are held in a compact, columnar TriviaStore; a
+ * Trivia object is only built for a question when a game first draws it,
+ * and is then shared with every other game that draws it. The game's bank
+ * is read from the trivia database the first time it is needed; after
+ * that, starting a new game does not touch the database. Questions are
+ * addressed by their index in the bank, so a game can record which ones it
+ * has used in a BitSet, and a TriviaIndex built with the bank finds
+ * questions by keyword, type, category, and difficulty.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public final class TriviaBank {
+
+    /** The questions of the bank. */
+    private final TriviaStore myStore;
+
+    /** The Trivia object of each question drawn so far. */
+    private final AtomicReferenceArray<Trivia> myTrivia;
+
+    /** The index of the questions of the bank. */
+    private final TriviaIndex myIndex;
+
+    /** The index of each question by ID, or null until first needed. */
+    private volatile Map<Integer, Integer> myIndicesByID;
+
+
+    /**
+     * Constructs a bank of the given questions.
+     *
+     * @param theTrivia The questions of the bank.
+     * @throws IllegalArgumentException if theTrivia is empty.
+     */
+    public TriviaBank(final List<Trivia> theTrivia) {
+        this(TriviaStore.of(theTrivia));
+    }
+
+
+    /**
+     * Constructs a bank of the questions of the given store.
+     *
+     * @param theStore The questions of the bank.
+     * @throws IllegalArgumentException if theStore is empty.
+     */
+    public TriviaBank(final TriviaStore theStore) {
+        if (theStore.size() == 0) {
+            throw new IllegalArgumentException("a trivia bank needs at least one question");
+        }
+        myStore = theStore;
+        myTrivia = new AtomicReferenceArray<>(theStore.size());
+        myIndex = new TriviaIndex(theStore);
+    }
+
+
+    /**
+     * Returns the bank of the game's trivia database, reading it on first
+     * use.
+     *
+     * @return The bank of the game's trivia database.
+     * @throws IllegalStateException if the database cannot be read.
+     */
+    public static TriviaBank getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+
+    /**
+     * Returns the question at the given index.
+     *
+     * @param theIndex The index of the question.
+     * @return The question at theIndex.
+     * @throws IndexOutOfBoundsException if theIndex is out of bounds.
+     */
+    public Trivia get(final int theIndex) {
+        Trivia trivia = myTrivia.get(theIndex);
+        if (trivia == null) {
+            trivia = myStore.toTrivia(theIndex);
+            if (!myTrivia.compareAndSet(theIndex, null, trivia)) {
+                trivia = myTrivia.get(theIndex);
+            }
+        }
+        return trivia;
+    }
+
+
+    /**
+     * Returns the index of the question with the given ID, building the
+     * lookup by ID the first time it is needed.
+     *
+     * @param theID The ID of a question.
+     * @return The index of the question, or -1 if no question has theID.
+     */
+    public int indexOf(final int theID) {
+        Map<Integer, Integer> indices = myIndicesByID;
+        if (indices == null) {
+            indices = new HashMap<>();
+            TriviaStore.View view = myStore.view(0);
+            for (int i = 0; i < myStore.size(); i++) {
+                indices.putIfAbsent(view.moveTo(i).getID(), i);
+            }
+            myIndicesByID = indices;
+        }
+        return indices.getOrDefault(theID, -1);
+    }
+
+
+    /**
+     * Returns the columnar store of the questions of the bank.
+     *
+     * @return The store of the bank.
+     */
+    public TriviaStore getStore() {
+        return myStore;
+    }
+
+
+    /**
+     * Returns the index of the questions of the bank.
+     *
+     * @return The index of the bank.
+     */
+    public TriviaIndex getIndex() {
+        return myIndex;
+    }
+
+
+    /**
+     * Returns the number of questions in the bank.
+     *
+     * @return The number of questions.
+     */
+    public int size() {
+        return myStore.size();
+    }
+
+
+    /** Holds the default bank so it is read on first use. */
+    private static final class DefaultHolder {
+
+        /** The bank of the game's trivia database. */
+        private static final TriviaBank INSTANCE = load();
+
+        /**
+         * Reads the game's bank from the trivia database, timing the read.
+         *
+         * @return The bank of the game's trivia database.
+         */
+        private static TriviaBank load() {
+            Stopwatch stopwatch = MetricsRegistry.getDefault().stopwatch("trivia.load");
+            long start = stopwatch.start();
+            TriviaBank bank = new TriviaBank(TriviaRepository.getDefault().fetchStore());
+            stopwatch.stop(start);
+            return bank;
+        }
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-memory inverted index over the questions of a TriviaBank, built once
+ * when the bank is loaded. For each keyword, type, category, and difficulty
+ * it holds the sorted indices of the questions that have it, so a
+ * TriviaQuery is answered by intersecting a few posting lists instead of
+ * scanning the bank. Answers are cached, so repeated queries, such as one
+ * per Door while a floor is generated, cost a single lookup.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public final class TriviaIndex {
+
+    /** Keywords shorter than this are not indexed. */
+    private static final int MIN_KEYWORD_LENGTH = 2;
+
+    /** The number of questions indexed. */
+    private final int mySize;
+
+    /** The questions containing each keyword. */
+    private final Map<String, int[]> myKeywords;
+
+    /** The questions of each type, indexed by type. */
+    private final int[][] myTypes;
+
+    /** The questions in each category. */
+    private final Map<String, int[]> myCategories;
+
+    /** The questions of each difficulty, indexed by difficulty. */
+    private final int[][] myDifficulties;
+
+    /** The answer to each query asked so far. */
+    private final Map<TriviaQuery, int[]> myCache;
+
+
+    /**
+     * Builds the index of the questions of the given store. Each question is
+     * identified by its index in the store.
+     *
+     * @param theStore The questions to index.
+     */
+    TriviaIndex(final TriviaStore theStore) {
+        mySize = theStore.size();
+        Map<String, List<Integer>> keywords = new HashMap<>();
+        Map<String, List<Integer>> categories = new HashMap<>();
+        List<List<Integer>> types = newLists(4);
+        List<List<Integer>> difficulties = newLists(Trivia.HARD + 1);
+        TriviaStore.View trivia = mySize == 0 ? null : theStore.view(0);
+        for (int i = 0; i < mySize; i++) {
+            trivia.moveTo(i);
+            for (String word : tokenize(trivia.getQuestion())) {
+                List<Integer> postings =
+                        keywords.computeIfAbsent(word, k -> new ArrayList<>());
+                if (postings.isEmpty() || postings.get(postings.size() - 1) != i) {
+                    postings.add(i);
+                }
+            }
+            if (trivia.getType() >= 1 && trivia.getType() <= 3) {
+                types.get(trivia.getType()).add(i);
+            }
+            categories.computeIfAbsent(trivia.getCategory(), k -> new ArrayList<>()).add(i);
+            difficulties.get(trivia.getDifficulty()).add(i);
+        }
+        myKeywords = toArrays(keywords);
+        myCategories = toArrays(categories);
+        myTypes = toArrays(types);
+        myDifficulties = toArrays(difficulties);
+        myCache = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Splits the given text into normalized keywords, dropping words shorter
+     * than two characters.
+     *
+     * @param theText The text to split.
+     * @return The normalized keywords of theText.
+     */
+    static String[] tokenize(final String theText) {
+        List<String> words = new ArrayList<>();
+        for (String word : theText.split("[\\s\\p{Punct}]+")) {
+            String normalized = AnswerMatcher.normalize(word);
+            if (normalized.length() >= MIN_KEYWORD_LENGTH) {
+                words.add(normalized);
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+
+    /**
+     * Returns the indices of the questions matching the given query in
+     * ascending order. The returned array is shared and must not be
+     * modified.
+     *
+     * @param theQuery The query.
+     * @return The sorted indices of the matching questions.
+     */
+    public int[] find(final TriviaQuery theQuery) {
+        int[] result = myCache.get(theQuery);
+        if (result == null) {
+            result = evaluate(theQuery);
+            myCache.putIfAbsent(theQuery, result);
+        }
+        return result;
+    }
+
+
+    /**
+     * Returns the number of questions matching the given query.
+     *
+     * @param theQuery The query.
+     * @return The number of matching questions.
+     */
+    public int count(final TriviaQuery theQuery) {
+        return find(theQuery).length;
+    }
+
+
+    /**
+     * Answers the given query by intersecting the posting lists of its
+     * criteria, smallest first.
+     *
+     * @param theQuery The query.
+     * @return The sorted indices of the matching questions.
+     */
+    private int[] evaluate(final TriviaQuery theQuery) {
+        List<int[]> lists = new ArrayList<>();
+        for (String keyword : theQuery.getKeywords()) {
+            lists.add(myKeywords.getOrDefault(keyword, new int[0]));
+        }
+        if (theQuery.getType() != 0) {
+            lists.add(myTypes[theQuery.getType()]);
+        }
+        if (theQuery.getCategory() != null) {
+            lists.add(myCategories.getOrDefault(theQuery.getCategory(), new int[0]));
+        }
+        if (theQuery.getDifficulty() != 0) {
+            lists.add(myDifficulties[theQuery.getDifficulty()]);
+        }
+        if (lists.isEmpty()) {
+            int[] all = new int[mySize];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists.get(0).clone();
+        int length = result.length;
+        for (int l = 1; l < lists.size() && length > 0; l++) {
+            length = intersect(result, length, lists.get(l));
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+
+    /**
+     * Keeps the first theLength elements of theResult that also appear in
+     * theOther, in place. Both must be sorted.
+     *
+     * @param theResult The sorted list to filter.
+     * @param theLength The length of theResult in use.
+     * @param theOther The sorted list to intersect with.
+     * @return The new length of theResult.
+     */
+    private static int intersect(final int[] theResult, final int theLength,
+                                 final int[] theOther) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < theLength && j < theOther.length; i++) {
+            int value = theResult[i];
+            while (j < theOther.length && theOther[j] < value) {
+                j++;
+            }
+            if (j < theOther.length && theOther[j] == value) {
+                theResult[kept++] = value;
+            }
+        }
+        return kept;
+    }
+
+
+    /**
+     * Returns a list of theCount empty lists.
+     *
+     * @param theCount The number of lists.
+     * @return The new lists.
+     */
+    private static List<List<Integer>> newLists(final int theCount) {
+        List<List<Integer>> lists = new ArrayList<>(theCount);
+        for (int i = 0; i < theCount; i++) {
+            lists.add(new ArrayList<>());
+        }
+        return lists;
+    }
+
+
+    /**
+     * Converts each posting list of the given map to an array.
+     *
+     * @param theLists The posting lists.
+     * @return The posting arrays.
+     */
+    private static Map<String, int[]> toArrays(final Map<String, List<Integer>> theLists) {
+        Map<String, int[]> arrays = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : theLists.entrySet()) {
+            arrays.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        return arrays;
+    }
+
+
+    /**
+     * Converts each posting list of the given list to an array.
+     *
+     * @param theLists The posting lists.
+     * @return The posting arrays.
+     */
+    private static int[][] toArrays(final List<List<Integer>> theLists) {
+        int[][] arrays = new int[theLists.size()][];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = toArray(theLists.get(i));
+        }
+        return arrays;
+    }
+
+
+    /**
+     * Converts a posting list to an array.
+     *
+     * @param theList The posting list.
+     * @return The posting array.
+     */
+    private static int[] toArray(final List<Integer> theList) {
+        return theList.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+}
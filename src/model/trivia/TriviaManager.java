@@ -10,61 +10,188 @@ Team members: Raz Consta, Reuben Keller, Dustin Ray
 
 package model.trivia;
 
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.ResultSet;
-import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
- * Uses an ArrayList to store Trivia objects that are instantiated using
- * data from a SQLite database.
+ * Draws random Trivia for one game from a shared TriviaBank, dealing every
+ * question once before any is repeated. The per-game state is the random
+ * number generator and a partial Fisher-Yates deck: an int[] of the bank's
+ * indices with the unused ones at the front, and the position of each index
+ * in the deck. A question is drawn by picking a random position among the
+ * unused ones, and used by swapping it with the last unused index, so both
+ * take constant time however big the bank is.
  *
  * @author Raz Consta
  */
 public class TriviaManager {
 
-    /** The ArrayList that stores all of the Trivia objects. */
-    private final ArrayList<Trivia> myTriviaList;
+    /** The number of random picks tried before scanning a query's matches. */
+    private static final int MAX_PICKS = 8;
 
-    /** Constructs a TriviaManager that stores all of the
-     * Trivia objects from a database. */
+    /** The bank the Trivia are drawn from. */
+    private final TriviaBank myBank;
+
+    /** The random number generator for drawing Trivia. */
+    private final SplittableRandom myRand;
+
+    /**
+     * The indices of the bank's questions; the first myUnused of them have
+     * not been used this pass.
+     */
+    private final int[] myDeck;
+
+    /** The position of each index of the bank in myDeck. */
+    private final int[] myPositions;
+
+    /** The number of questions not used this pass. */
+    private int myUnused;
+
+    /** Constructs a TriviaManager that draws Trivia from the game's
+     * database. */
     public TriviaManager() {
-        myTriviaList = new ArrayList<>();
-        Connection c;
-        Statement stmt;
-        try {
-            Class.forName("org.sqlite.JDBC");
-            c = DriverManager.getConnection
-                    ("jdbc:sqlite:src/res/database/questions-answers.db");
-            c.setAutoCommit(false);
-            // System.out.println("Opened database successfully");
-            stmt = c.createStatement();
-            ResultSet rst = stmt.executeQuery( "SELECT * FROM trivia;" );
-            while ( rst.next() ) {
-                int id = rst.getInt("id");
-                String question = rst.getString("question");
-                String correct = rst.getString("answer");
-                String incorrect = rst.getString("wrong");
-                int type = rst.getInt("type");
-                myTriviaList.add(new Trivia(id, question, correct, incorrect, type));
-            }
-            rst.close();
-            stmt.close();
-            c.close();
-        } catch ( Exception e ) {
-            System.err.println( e.getClass().getName() + ": " + e.getMessage() );
-            System.exit(0);
+        this(new Random().nextLong());
+    }
+
+    /**
+     * Constructs a TriviaManager that draws Trivia from the game's database
+     * in an order determined by the given seed.
+     * @param theSeed the seed for drawing Trivia.
+     */
+    public TriviaManager(final long theSeed) {
+        this(TriviaBank.getDefault(), theSeed);
+    }
+
+    /**
+     * Constructs a TriviaManager that draws Trivia from the given bank in an
+     * order determined by the given seed.
+     * @param theBank the bank to draw Trivia from.
+     * @param theSeed the seed for drawing Trivia.
+     */
+    public TriviaManager(final TriviaBank theBank, final long theSeed) {
+        myBank = theBank;
+        myRand = new SplittableRandom(theSeed);
+        myDeck = new int[theBank.size()];
+        myPositions = new int[theBank.size()];
+        for (int i = 0; i < myDeck.length; i++) {
+            myDeck[i] = i;
+            myPositions[i] = i;
         }
+        myUnused = myDeck.length;
     }
 
     /**
-     * Returns a random trivia object and removes it from the trivia pool.
-     * @return a Trivia object from the ArrayList of Trivia objects.
+     * Returns a random trivia object that has not been drawn since every
+     * question was last drawn.
+     * @return a Trivia object from the bank.
      */
     public Trivia getTrivia() {
-        Random rnd = new Random();
-        return myTriviaList.remove(Math.abs(rnd.nextInt(myTriviaList.size())));
+        return use(drawIndex());
+    }
+
+    /**
+     * Returns a random trivia object suited to the player modeled by the
+     * given SkillModel. A random unused question picks the category; if its
+     * difficulty is not the one the model targets in that category, an
+     * unused question of the category with the targeted difficulty is drawn
+     * instead when there is one.
+     * @param theSkill the model of the player's skill.
+     * @return a Trivia object from the bank.
+     */
+    public Trivia getTrivia(final SkillModel theSkill) {
+        int index = drawIndex();
+        Trivia candidate = myBank.get(index);
+        int target = theSkill.targetDifficulty(candidate.getCategory());
+        if (candidate.getDifficulty() == target) {
+            return use(index);
+        }
+        return getTrivia(TriviaQuery.ANY.withCategory(candidate.getCategory())
+                .withDifficulty(target));
+    }
+
+    /**
+     * Returns a random unused trivia object matching the given query, or any
+     * unused trivia object if every match has been used. Only the query's
+     * matches are examined, never the whole bank.
+     * @param theQuery the query the Trivia should match.
+     * @return a Trivia object from the bank.
+     */
+    public Trivia getTrivia(final TriviaQuery theQuery) {
+        int[] matches = myBank.getIndex().find(theQuery);
+        if (matches.length == 0) {
+            return getTrivia();
+        }
+        for (int pick = 0; pick < MAX_PICKS; pick++) {
+            int index = matches[myRand.nextInt(matches.length)];
+            if (!isUsed(index)) {
+                return use(index);
+            }
+        }
+        int unused = 0;
+        for (int index : matches) {
+            if (!isUsed(index)) {
+                unused++;
+            }
+        }
+        int skip = unused == 0 ? -1 : myRand.nextInt(unused);
+        for (int index : matches) {
+            if (!isUsed(index) && skip-- == 0) {
+                return use(index);
+            }
+        }
+        return getTrivia();
+    }
+
+    /**
+     * Returns the index of a random question not used since every question
+     * was last drawn, starting a new pass if every question has been used.
+     * The question is not marked used, so a draw for a SkillModel can pass
+     * it over for one of the targeted difficulty.
+     * @return the index of an unused question.
+     */
+    private int drawIndex() {
+        if (myUnused == 0) {
+            myUnused = myDeck.length;
+        }
+        return myDeck[myRand.nextInt(myUnused)];
+    }
+
+    /**
+     * Marks the question with the given ID as used in this pass, as when a
+     * loaded game has already asked it. An ID not in the bank is ignored.
+     * @param theID the ID of the question.
+     */
+    public void markUsed(final int theID) {
+        int index = myBank.indexOf(theID);
+        if (index >= 0 && !isUsed(index)) {
+            use(index);
+        }
+    }
+
+    /**
+     * Marks the unused question at the given index of the bank as used by
+     * swapping it with the last unused index of the deck.
+     * @param theIndex the index of the question in the bank.
+     * @return the question at theIndex.
+     */
+    private Trivia use(final int theIndex) {
+        int position = myPositions[theIndex];
+        myUnused--;
+        int last = myDeck[myUnused];
+        myDeck[position] = last;
+        myPositions[last] = position;
+        myDeck[myUnused] = theIndex;
+        myPositions[theIndex] = myUnused;
+        return myBank.get(theIndex);
+    }
+
+    /**
+     * Checks if this game has used the question at the given index of the
+     * bank since every question was last drawn.
+     * @param theIndex the index of the question in the bank.
+     * @return true if the question has been used and false otherwise.
+     */
+    public boolean isUsed(final int theIndex) {
+        return myPositions[theIndex] >= myUnused;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable description of the Trivia questions wanted from a
+ * TriviaIndex: questions containing every given keyword, of a given type,
+ * category, and difficulty. Criteria that are not given match every
+ * question, so ANY matches the whole bank. Each with method returns a new
+ * query with one more criterion.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public final class TriviaQuery {
+
+    /** The query that matches every question. */
+    public static final TriviaQuery ANY = new TriviaQuery(new String[0], 0, null, 0);
+
+    /** The normalized keywords every matching question contains. */
+    private final String[] myKeywords;
+
+    /** The type of matching questions or 0 for any type. */
+    private final int myType;
+
+    /** The category of matching questions or null for any category. */
+    private final String myCategory;
+
+    /** The difficulty of matching questions or 0 for any difficulty. */
+    private final int myDifficulty;
+
+
+    /**
+     * Constructs a query with the given criteria.
+     *
+     * @param theKeywords The normalized keywords.
+     * @param theType The type or 0 for any type.
+     * @param theCategory The category or null for any category.
+     * @param theDifficulty The difficulty or 0 for any difficulty.
+     */
+    private TriviaQuery(final String[] theKeywords, final int theType,
+                        final String theCategory, final int theDifficulty) {
+        myKeywords = theKeywords;
+        myType = theType;
+        myCategory = theCategory;
+        myDifficulty = theDifficulty;
+    }
+
+
+    /**
+     * Returns a query that also requires every word of the given text to
+     * appear in the question.
+     *
+     * @param theText One or more keywords.
+     * @return The new query.
+     */
+    public TriviaQuery withKeywords(final String theText) {
+        String[] words = TriviaIndex.tokenize(theText);
+        String[] keywords = Arrays.copyOf(myKeywords, myKeywords.length + words.length);
+        System.arraycopy(words, 0, keywords, myKeywords.length, words.length);
+        return new TriviaQuery(keywords, myType, myCategory, myDifficulty);
+    }
+
+
+    /**
+     * Returns a query that also requires the question to be of the given
+     * type.
+     *
+     * @param theType The type: 1 for true/false, 2 for multiple choice, or 3
+     *     for short answer.
+     * @return The new query.
+     * @throws IllegalArgumentException if theType is not 1, 2, or 3.
+     */
+    public TriviaQuery withType(final int theType) {
+        if (theType < 1 || theType > 3) {
+            throw new IllegalArgumentException("invalid question type " + theType);
+        }
+        return new TriviaQuery(myKeywords, theType, myCategory, myDifficulty);
+    }
+
+
+    /**
+     * Returns a query that also requires the question to be in the given
+     * category.
+     *
+     * @param theCategory The category.
+     * @return The new query.
+     */
+    public TriviaQuery withCategory(final String theCategory) {
+        return new TriviaQuery(myKeywords, myType,
+                Objects.requireNonNull(theCategory), myDifficulty);
+    }
+
+
+    /**
+     * Returns a query that also requires the question to have the given
+     * difficulty.
+     *
+     * @param theDifficulty The difficulty, from Trivia.EASY to Trivia.HARD.
+     * @return The new query.
+     * @throws IllegalArgumentException if theDifficulty is out of range.
+     */
+    public TriviaQuery withDifficulty(final int theDifficulty) {
+        if (theDifficulty < Trivia.EASY || theDifficulty > Trivia.HARD) {
+            throw new IllegalArgumentException("invalid difficulty " + theDifficulty);
+        }
+        return new TriviaQuery(myKeywords, myType, myCategory, theDifficulty);
+    }
+
+
+    /**
+     * Returns the normalized keywords of this query.
+     *
+     * @return The keywords every matching question contains.
+     */
+    String[] getKeywords() {
+        return myKeywords;
+    }
+
+
+    /**
+     * Returns the type of this query.
+     *
+     * @return The type or 0 for any type.
+     */
+    int getType() {
+        return myType;
+    }
+
+
+    /**
+     * Returns the category of this query.
+     *
+     * @return The category or null for any category.
+     */
+    String getCategory() {
+        return myCategory;
+    }
+
+
+    /**
+     * Returns the difficulty of this query.
+     *
+     * @return The difficulty or 0 for any difficulty.
+     */
+    int getDifficulty() {
+        return myDifficulty;
+    }
+
+
+    @Override
+    public boolean equals(final Object theOther) {
+        if (this == theOther) {
+            return true;
+        }
+        if (!(theOther instanceof TriviaQuery)) {
+            return false;
+        }
+        TriviaQuery other = (TriviaQuery) theOther;
+        return myType == other.myType
+                && myDifficulty == other.myDifficulty
+                && Objects.equals(myCategory, other.myCategory)
+                && Arrays.equals(myKeywords, other.myKeywords);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(myType, myCategory, myDifficulty)
+                + Arrays.hashCode(myKeywords);
+    }
+
+
+    @Override
+    public String toString() {
+        return "TriviaQuery[keywords=" + Arrays.toString(myKeywords)
+                + ", type=" + myType + ", category=" + myCategory
+                + ", difficulty=" + myDifficulty + "]";
+    }
+
+}
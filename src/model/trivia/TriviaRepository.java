@@ -0,0 +1,171 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reads Trivia from the SQLite trivia database. The whole table is read with
+ * a single query, in order of SQLite rowid, into a columnar TriviaStore that
+ * the TriviaBank then draws from without touching the database again, so the
+ * connection is only open for that one read.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public class TriviaRepository {
+
+    /** The JDBC URL of the game's trivia database. */
+    public static final String DEFAULT_URL =
+            "jdbc:sqlite:src/res/database/questions-answers.db";
+
+    /** The columns every trivia table has. */
+    private static final String BASE_COLUMNS = "id, question, answer, wrong, type";
+
+    /** Lists the columns of the trivia table. */
+    private static final String TABLE_INFO = "PRAGMA table_info(trivia);";
+
+    /** The JDBC URL of the trivia database. */
+    private final String myURL;
+
+    /**
+     * The columns selected for each question, including the optional
+     * category and difficulty columns if the table has them, or null until
+     * first read.
+     */
+    private volatile String myColumns;
+
+
+    /**
+     * Constructs a TriviaRepository for the database at the given JDBC URL.
+     *
+     * @param theURL The JDBC URL of the trivia database.
+     * @throws IllegalStateException if the SQLite driver is not available.
+     */
+    public TriviaRepository(final String theURL) {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("the SQLite JDBC driver is missing", e);
+        }
+        myURL = theURL;
+    }
+
+
+    /**
+     * Returns the repository of the game's trivia database, creating it on
+     * first use.
+     *
+     * @return The repository of the game's trivia database.
+     */
+    public static TriviaRepository getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+
+    /**
+     * Reads every question with a single query into a columnar store.
+     *
+     * @return A store of every question in ascending order of rowid.
+     * @throws IllegalStateException if the database cannot be read.
+     */
+    public TriviaStore fetchStore() {
+        try (Connection connection = DriverManager.getConnection(myURL)) {
+            TriviaStore.Builder store = new TriviaStore.Builder();
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rst = stmt.executeQuery("SELECT " + columns(connection)
+                         + " FROM trivia ORDER BY rowid;")) {
+                while (rst.next()) {
+                    String correct = rst.getString("answer");
+                    int type = rst.getInt("type");
+                    store.add(rst.getInt("id"), rst.getString("question"), correct,
+                            Trivia.splitIncorrectAnswers(correct, rst.getString("wrong"), type),
+                            type, category(rst), difficulty(rst, type));
+                }
+            }
+            return store.build();
+        } catch (SQLException e) {
+            throw new IllegalStateException("could not read the trivia", e);
+        }
+    }
+
+
+    /**
+     * Returns the columns selected for each question, reading the columns of
+     * the trivia table on first use.
+     *
+     * @param theConnection A connection to the database.
+     * @return The comma separated columns to select.
+     * @throws SQLException if the columns cannot be read.
+     */
+    private String columns(final Connection theConnection) throws SQLException {
+        String columns = myColumns;
+        if (columns == null) {
+            boolean category = false;
+            boolean difficulty = false;
+            try (Statement stmt = theConnection.createStatement();
+                 ResultSet rst = stmt.executeQuery(TABLE_INFO)) {
+                while (rst.next()) {
+                    String name = rst.getString("name");
+                    category |= "category".equalsIgnoreCase(name);
+                    difficulty |= "difficulty".equalsIgnoreCase(name);
+                }
+            }
+            columns = BASE_COLUMNS + (category ? ", category" : "")
+                    + (difficulty ? ", difficulty" : "");
+            myColumns = columns;
+        }
+        return columns;
+    }
+
+
+    /**
+     * Returns the category of the current row of the given result set.
+     *
+     * @param theRow A result set positioned on a question.
+     * @return The category of the question or the default category.
+     * @throws SQLException if the row cannot be read.
+     */
+    private String category(final ResultSet theRow) throws SQLException {
+        String category = myColumns.contains("category")
+                ? theRow.getString("category") : null;
+        return category == null ? Trivia.DEFAULT_CATEGORY : category;
+    }
+
+
+    /**
+     * Returns the difficulty of the current row of the given result set.
+     *
+     * @param theRow A result set positioned on a question.
+     * @param theType The type of the question.
+     * @return The difficulty of the question or the default for its type.
+     * @throws SQLException if the row cannot be read.
+     */
+    private int difficulty(final ResultSet theRow, final int theType) throws SQLException {
+        int difficulty = myColumns.contains("difficulty")
+                ? theRow.getInt("difficulty") : 0;
+        return difficulty == 0 ? Trivia.defaultDifficulty(theType) : difficulty;
+    }
+
+
+    /** Holds the default repository so it is created on first use. */
+    private static final class DefaultHolder {
+
+        /** The repository of the game's trivia database. */
+        private static final TriviaRepository INSTANCE =
+                new TriviaRepository(DEFAULT_URL);
+    }
+
+}
@@ -0,0 +1,550 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, immutable, column-oriented store of Trivia questions. Rather
+ * than an object graph per question, the store keeps one array per field.
+ * The text of every question and answer is packed into a single char pool
+ * and addressed by offset. The answers of each question are a slice of one
+ * shared array of string numbers, with the correct answer first. Equal
+ * answers and categories are stored once. A question costs a few dozen bytes
+ * plus its text, instead of the several hundred bytes of a Trivia object.
+ *
+ * Questions are read through flyweight Views, which can be moved from
+ * question to question and iterate over answers without allocating.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public final class TriviaStore {
+
+    /** The characters of every string in the store. */
+    private final char[] myText;
+
+    /** The offset of each string in myText, plus the end of the last. */
+    private final int[] myStringStart;
+
+    /** The ID of each question. */
+    private final int[] myIDs;
+
+    /** The type of each question. */
+    private final byte[] myTypes;
+
+    /** The difficulty of each question. */
+    private final byte[] myDifficulties;
+
+    /** The index into myCategoryNames of each question's category. */
+    private final int[] myCategories;
+
+    /** The distinct categories. */
+    private final String[] myCategoryNames;
+
+    /** The string number of each question's text. */
+    private final int[] myQuestions;
+
+    /** The offset of each question's answers in myAnswers, plus the end. */
+    private final int[] myAnswerStart;
+
+    /** The string numbers of the answers, correct answer first. */
+    private final int[] myAnswers;
+
+
+    /**
+     * Constructs a store from the arrays of a Builder.
+     *
+     * @param theBuilder The builder holding the columns.
+     */
+    private TriviaStore(final Builder theBuilder) {
+        int size = theBuilder.mySize;
+        myText = Arrays.copyOf(theBuilder.myText, theBuilder.myTextLength);
+        myStringStart = Arrays.copyOf(theBuilder.myStringStart, theBuilder.myNumStrings + 1);
+        myIDs = Arrays.copyOf(theBuilder.myIDs, size);
+        myTypes = Arrays.copyOf(theBuilder.myTypes, size);
+        myDifficulties = Arrays.copyOf(theBuilder.myDifficulties, size);
+        myCategories = Arrays.copyOf(theBuilder.myCategories, size);
+        myCategoryNames = theBuilder.myCategoryNames.toArray(new String[0]);
+        myQuestions = Arrays.copyOf(theBuilder.myQuestions, size);
+        myAnswerStart = Arrays.copyOf(theBuilder.myAnswerStart, size + 1);
+        myAnswers = Arrays.copyOf(theBuilder.myAnswers, theBuilder.myNumAnswers);
+    }
+
+
+    /**
+     * Returns a store of the given questions.
+     *
+     * @param theTrivia The questions to store.
+     * @return The store.
+     */
+    public static TriviaStore of(final List<Trivia> theTrivia) {
+        Builder builder = new Builder();
+        for (Trivia trivia : theTrivia) {
+            builder.add(trivia.getID(), trivia.getQuestion(), trivia.getCorrectAnswer(),
+                    trivia.getIncorrectAnswers(), trivia.getType(),
+                    trivia.getCategory(), trivia.getDifficulty());
+        }
+        return builder.build();
+    }
+
+
+    /**
+     * Returns the number of questions in the store.
+     *
+     * @return The number of questions.
+     */
+    public int size() {
+        return myIDs.length;
+    }
+
+
+    /**
+     * Returns a new view of the question at the given index.
+     *
+     * @param theIndex The index of the question.
+     * @return A view of the question.
+     * @throws IndexOutOfBoundsException if theIndex is out of bounds.
+     */
+    public View view(final int theIndex) {
+        View view = new View();
+        view.moveTo(theIndex);
+        return view;
+    }
+
+
+    /**
+     * Builds a Trivia object holding the question at the given index.
+     *
+     * @param theIndex The index of the question.
+     * @return The question as a Trivia object.
+     * @throws IndexOutOfBoundsException if theIndex is out of bounds.
+     */
+    public Trivia toTrivia(final int theIndex) {
+        View view = view(theIndex);
+        ArrayList<String> incorrect = new ArrayList<>(view.getAnswerCount() - 1);
+        for (int i = 1; i < view.getAnswerCount(); i++) {
+            incorrect.add(view.getAnswer(i));
+        }
+        return new Trivia(view.getID(), view.getQuestion(), view.getAnswer(0),
+                incorrect, view.getType(), view.getCategory(), view.getDifficulty());
+    }
+
+
+    /**
+     * Returns the string with the given number.
+     *
+     * @param theString The number of the string.
+     * @return A new String holding the string.
+     */
+    private String string(final int theString) {
+        int start = myStringStart[theString];
+        return new String(myText, start, myStringStart[theString + 1] - start);
+    }
+
+
+    /**
+     * A flyweight view of one question of the store. A view holds no data of
+     * its own and can be moved to any question, so a single view can walk the
+     * whole store.
+     */
+    public final class View {
+
+        /** The cursor over the answers of this view's question. */
+        private final Answers myCursor;
+
+        /** The index of the question viewed. */
+        private int myIndex;
+
+
+        /** Constructs a view of no question. */
+        private View() {
+            myCursor = new Answers();
+            myIndex = -1;
+        }
+
+
+        /**
+         * Moves this view to the question at the given index.
+         *
+         * @param theIndex The index of the question.
+         * @return This view.
+         * @throws IndexOutOfBoundsException if theIndex is out of bounds.
+         */
+        public View moveTo(final int theIndex) {
+            if (theIndex < 0 || theIndex >= size()) {
+                throw new IndexOutOfBoundsException("no question " + theIndex);
+            }
+            myIndex = theIndex;
+            return this;
+        }
+
+
+        /**
+         * Returns the index of the question viewed.
+         *
+         * @return The index of the question.
+         */
+        public int getIndex() {
+            return myIndex;
+        }
+
+
+        /**
+         * Returns the ID of the question.
+         *
+         * @return The ID of the question.
+         */
+        public int getID() {
+            return myIDs[myIndex];
+        }
+
+
+        /**
+         * Returns the type of the question.
+         *
+         * @return The type of the question.
+         */
+        public int getType() {
+            return myTypes[myIndex];
+        }
+
+
+        /**
+         * Returns the difficulty of the question.
+         *
+         * @return The difficulty of the question.
+         */
+        public int getDifficulty() {
+            return myDifficulties[myIndex];
+        }
+
+
+        /**
+         * Returns the category of the question.
+         *
+         * @return The category of the question.
+         */
+        public String getCategory() {
+            return myCategoryNames[myCategories[myIndex]];
+        }
+
+
+        /**
+         * Returns the text of the question.
+         *
+         * @return A new String holding the question.
+         */
+        public String getQuestion() {
+            return string(myQuestions[myIndex]);
+        }
+
+
+        /**
+         * Returns the number of answers of the question, counting the correct
+         * one.
+         *
+         * @return The number of answers.
+         */
+        public int getAnswerCount() {
+            return myAnswerStart[myIndex + 1] - myAnswerStart[myIndex];
+        }
+
+
+        /**
+         * Returns the answer with the given number; answer 0 is the correct
+         * one.
+         *
+         * @param theAnswer The number of the answer.
+         * @return A new String holding the answer.
+         */
+        public String getAnswer(final int theAnswer) {
+            return string(myAnswers[myAnswerStart[myIndex] + theAnswer]);
+        }
+
+
+        /**
+         * Returns this view's cursor over the answers of the question, rewound
+         * to before the first answer. The cursor is reused, so iterating does
+         * not allocate.
+         *
+         * @return The cursor over the answers.
+         */
+        public Answers answers() {
+            myCursor.reset(myAnswerStart[myIndex], myAnswerStart[myIndex + 1]);
+            return myCursor;
+        }
+
+    }
+
+
+    /**
+     * A reusable cursor over the answers of a question, correct answer first.
+     * Call next() to move to each answer, which is then readable as a
+     * CharSequence straight from the store's char pool.
+     */
+    public final class Answers implements CharSequence {
+
+        /** The offset in myAnswers of the current answer. */
+        private int myPosition;
+
+        /** The offset in myAnswers after the last answer. */
+        private int myEnd;
+
+        /** The offset in myText of the current answer. */
+        private int myStart;
+
+        /** The length of the current answer. */
+        private int myLength;
+
+
+        /** Constructs a cursor over no answers. */
+        private Answers() {
+            myPosition = 0;
+            myEnd = 0;
+        }
+
+
+        /**
+         * Rewinds this cursor to before the given slice of myAnswers.
+         *
+         * @param theStart The offset of the first answer.
+         * @param theEnd The offset after the last answer.
+         */
+        private void reset(final int theStart, final int theEnd) {
+            myPosition = theStart - 1;
+            myEnd = theEnd;
+            myLength = 0;
+        }
+
+
+        /**
+         * Moves to the next answer.
+         *
+         * @return true if there is a next answer and false otherwise.
+         */
+        public boolean next() {
+            if (myPosition + 1 >= myEnd) {
+                return false;
+            }
+            int string = myAnswers[++myPosition];
+            myStart = myStringStart[string];
+            myLength = myStringStart[string + 1] - myStart;
+            return true;
+        }
+
+
+        @Override
+        public int length() {
+            return myLength;
+        }
+
+
+        @Override
+        public char charAt(final int theIndex) {
+            if (theIndex < 0 || theIndex >= myLength) {
+                throw new IndexOutOfBoundsException(theIndex);
+            }
+            return myText[myStart + theIndex];
+        }
+
+
+        @Override
+        public CharSequence subSequence(final int theStart, final int theEnd) {
+            return toString().substring(theStart, theEnd);
+        }
+
+
+        @Override
+        public String toString() {
+            return new String(myText, myStart, myLength);
+        }
+
+    }
+
+
+    /**
+     * Accumulates questions column by column and builds a TriviaStore.
+     * Equal answers and categories are pooled as they are added.
+     */
+    public static final class Builder {
+
+        /** The initial capacity of each column. */
+        private static final int INITIAL_CAPACITY = 64;
+
+        /** The string number of each distinct answer added. */
+        private final Map<String, Integer> myAnswerPool;
+
+        /** The index of each distinct category added. */
+        private final Map<String, Integer> myCategoryPool;
+
+        /** The distinct categories in order of first use. */
+        private final List<String> myCategoryNames;
+
+        /** The characters of every string. */
+        private char[] myText;
+
+        /** The number of characters in myText. */
+        private int myTextLength;
+
+        /** The offset of each string in myText, plus the end of the last. */
+        private int[] myStringStart;
+
+        /** The number of strings. */
+        private int myNumStrings;
+
+        /** The ID column. */
+        private int[] myIDs;
+
+        /** The type column. */
+        private byte[] myTypes;
+
+        /** The difficulty column. */
+        private byte[] myDifficulties;
+
+        /** The category column. */
+        private int[] myCategories;
+
+        /** The question column. */
+        private int[] myQuestions;
+
+        /** The offset of each question's answers, plus the end. */
+        private int[] myAnswerStart;
+
+        /** The string numbers of the answers. */
+        private int[] myAnswers;
+
+        /** The number of answers. */
+        private int myNumAnswers;
+
+        /** The number of questions. */
+        private int mySize;
+
+
+        /** Constructs an empty builder. */
+        public Builder() {
+            myAnswerPool = new HashMap<>();
+            myCategoryPool = new HashMap<>();
+            myCategoryNames = new ArrayList<>();
+            myText = new char[INITIAL_CAPACITY * 32];
+            myStringStart = new int[INITIAL_CAPACITY * 4];
+            myIDs = new int[INITIAL_CAPACITY];
+            myTypes = new byte[INITIAL_CAPACITY];
+            myDifficulties = new byte[INITIAL_CAPACITY];
+            myCategories = new int[INITIAL_CAPACITY];
+            myQuestions = new int[INITIAL_CAPACITY];
+            myAnswerStart = new int[INITIAL_CAPACITY + 1];
+            myAnswers = new int[INITIAL_CAPACITY * 4];
+        }
+
+
+        /**
+         * Adds a question.
+         *
+         * @param theID The ID of the question.
+         * @param theQuestion The question.
+         * @param theCorrectAnswer The correct answer.
+         * @param theIncorrectAnswers The incorrect answers.
+         * @param theType The type of the question.
+         * @param theCategory The category of the question.
+         * @param theDifficulty The difficulty of the question.
+         * @return This builder.
+         */
+        public Builder add(final int theID, final String theQuestion,
+                           final String theCorrectAnswer,
+                           final List<String> theIncorrectAnswers,
+                           final int theType, final String theCategory,
+                           final int theDifficulty) {
+            if (mySize == myIDs.length) {
+                int capacity = mySize * 2;
+                myIDs = Arrays.copyOf(myIDs, capacity);
+                myTypes = Arrays.copyOf(myTypes, capacity);
+                myDifficulties = Arrays.copyOf(myDifficulties, capacity);
+                myCategories = Arrays.copyOf(myCategories, capacity);
+                myQuestions = Arrays.copyOf(myQuestions, capacity);
+                myAnswerStart = Arrays.copyOf(myAnswerStart, capacity + 1);
+            }
+            myIDs[mySize] = theID;
+            myTypes[mySize] = (byte) theType;
+            myDifficulties[mySize] = (byte) theDifficulty;
+            myCategories[mySize] = myCategoryPool.computeIfAbsent(theCategory, c -> {
+                myCategoryNames.add(c);
+                return myCategoryNames.size() - 1;
+            });
+            myQuestions[mySize] = addString(theQuestion);
+            myAnswerStart[mySize] = myNumAnswers;
+            addAnswer(theCorrectAnswer);
+            for (String answer : theIncorrectAnswers) {
+                addAnswer(answer);
+            }
+            mySize++;
+            myAnswerStart[mySize] = myNumAnswers;
+            return this;
+        }
+
+
+        /**
+         * Builds a store of the questions added so far.
+         *
+         * @return The store.
+         */
+        public TriviaStore build() {
+            return new TriviaStore(this);
+        }
+
+
+        /**
+         * Adds an answer, reusing the string of an equal answer if there is
+         * one.
+         *
+         * @param theAnswer The answer.
+         */
+        private void addAnswer(final String theAnswer) {
+            Integer string = myAnswerPool.get(theAnswer);
+            if (string == null) {
+                string = addString(theAnswer);
+                myAnswerPool.put(theAnswer, string);
+            }
+            if (myNumAnswers == myAnswers.length) {
+                myAnswers = Arrays.copyOf(myAnswers, myNumAnswers * 2);
+            }
+            myAnswers[myNumAnswers++] = string;
+        }
+
+
+        /**
+         * Appends a string to the char pool.
+         *
+         * @param theString The string.
+         * @return The number of the string.
+         */
+        private int addString(final String theString) {
+            int length = theString.length();
+            if (myTextLength + length > myText.length) {
+                myText = Arrays.copyOf(myText,
+                        Math.max(myText.length * 2, myTextLength + length));
+            }
+            theString.getChars(0, length, myText, myTextLength);
+            myTextLength += length;
+            if (myNumStrings + 2 > myStringStart.length) {
+                myStringStart = Arrays.copyOf(myStringStart, myStringStart.length * 2);
+            }
+            myStringStart[++myNumStrings] = myTextLength;
+            return myNumStrings - 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams the rows of a CSV question file. The first line is a header naming
+ * the fields of each row. Fields are separated by commas and may be quoted
+ * with double quotes, in which case they may contain commas, line breaks,
+ * and doubled quotes.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public class CsvRowReader implements RowReader {
+
+    /** The source of the file. */
+    private final Reader myIn;
+
+    /** The field names from the header. */
+    private final String[] myHeader;
+
+    /** The fields of the record being read. */
+    private final List<String> myFields;
+
+    /** The field being read. */
+    private final StringBuilder myField;
+
+    /** The line the reader is on. */
+    private int myLine;
+
+    /** The line the last record started on. */
+    private int myRecordLine;
+
+    /** A character read ahead or -2 if there is none. */
+    private int myPeek;
+
+
+    /**
+     * Constructs a reader of the given CSV source and reads its header.
+     *
+     * @param theIn The CSV source, which should be buffered.
+     * @throws IOException if the header cannot be read.
+     * @throws IllegalArgumentException if the file has no header.
+     */
+    public CsvRowReader(final Reader theIn) throws IOException {
+        myIn = theIn;
+        myFields = new ArrayList<>();
+        myField = new StringBuilder();
+        myLine = 1;
+        myPeek = -2;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("the CSV file has no header");
+        }
+        myHeader = new String[header.size()];
+        for (int i = 0; i < myHeader.length; i++) {
+            myHeader[i] = header.get(i).trim().toLowerCase(Locale.ROOT);
+        }
+    }
+
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        List<String> record = readRecord();
+        while (record != null && record.size() == 1 && record.get(0).isBlank()) {
+            record = readRecord();
+        }
+        if (record == null) {
+            return null;
+        }
+        if (record.size() > myHeader.length) {
+            throw new IllegalArgumentException("line " + myRecordLine + " has "
+                    + record.size() + " fields but the header has " + myHeader.length);
+        }
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < record.size(); i++) {
+            row.put(myHeader[i], record.get(i));
+        }
+        return row;
+    }
+
+
+    @Override
+    public int getLineNumber() {
+        return myRecordLine;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        myIn.close();
+    }
+
+
+    /**
+     * Reads the fields of the next record.
+     *
+     * @return The fields of the record or null at the end of the file.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c < 0) {
+            return null;
+        }
+        myRecordLine = myLine;
+        myFields.clear();
+        myField.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IllegalArgumentException("line " + myRecordLine
+                            + " has an unclosed quote");
+                } else if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        myField.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    myField.append((char) c);
+                }
+            } else if (c < 0 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        myPeek = next;
+                    }
+                }
+                myFields.add(myField.toString());
+                return new ArrayList<>(myFields);
+            } else if (c == ',') {
+                myFields.add(myField.toString());
+                myField.setLength(0);
+            } else if (c == '"' && myField.length() == 0) {
+                quoted = true;
+            } else {
+                myField.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+
+    /**
+     * Reads the next character, counting lines.
+     *
+     * @return The next character or -1 at the end of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    private int read() throws IOException {
+        int c;
+        if (myPeek != -2) {
+            c = myPeek;
+            myPeek = -2;
+            return c;
+        }
+        c = myIn.read();
+        if (c == '\n') {
+            myLine++;
+        }
+        return c;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of importing a question file: how many rows were imported and
+ * rejected, why the first rejected rows were rejected, and how long the
+ * import took.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public class ImportReport {
+
+    /** The most rejection messages kept. */
+    public static final int MAX_ERRORS = 100;
+
+    /** The rejection messages of the first rejected rows. */
+    private final List<String> myErrors;
+
+    /** The number of rows imported. */
+    private int myImported;
+
+    /** The number of rows rejected. */
+    private int myRejected;
+
+    /** The time the import took in milliseconds. */
+    private long myMillis;
+
+
+    /** Constructs an empty report. */
+    ImportReport() {
+        myErrors = new ArrayList<>();
+    }
+
+
+    /** Records that a row was imported. */
+    void imported() {
+        myImported++;
+    }
+
+
+    /**
+     * Records that the row on the given line was rejected.
+     *
+     * @param theLine The line the row started on.
+     * @param theReason Why the row was rejected.
+     */
+    void rejected(final int theLine, final String theReason) {
+        myRejected++;
+        if (myErrors.size() < MAX_ERRORS) {
+            myErrors.add("line " + theLine + ": " + theReason);
+        }
+    }
+
+
+    /**
+     * Records how long the import took.
+     *
+     * @param theMillis The time the import took in milliseconds.
+     */
+    void setMillis(final long theMillis) {
+        myMillis = theMillis;
+    }
+
+
+    /**
+     * Returns the number of rows imported.
+     *
+     * @return The number of rows imported.
+     */
+    public int getImported() {
+        return myImported;
+    }
+
+
+    /**
+     * Returns the number of rows rejected.
+     *
+     * @return The number of rows rejected.
+     */
+    public int getRejected() {
+        return myRejected;
+    }
+
+
+    /**
+     * Returns why the first MAX_ERRORS rejected rows were rejected.
+     *
+     * @return The rejection messages.
+     */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(myErrors);
+    }
+
+
+    /**
+     * Returns the time the import took in milliseconds.
+     *
+     * @return The time the import took.
+     */
+    public long getMillis() {
+        return myMillis;
+    }
+
+
+    @Override
+    public String toString() {
+        return "imported " + myImported + " questions and rejected " + myRejected
+                + " in " + myMillis + " ms";
+    }
+
+}
@@ -0,0 +1,300 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams the rows of a JSON question file. The file is either one array of
+ * question objects or a sequence of question objects, such as one per line
+ * (JSON Lines). Each object is flat: its values are strings, numbers,
+ * booleans, or null, except that the wrong answers may also be given as an
+ * array of strings, which is joined with semicolons.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public class JsonRowReader implements RowReader {
+
+    /** The source of the file. */
+    private final Reader myIn;
+
+    /** The value being read. */
+    private final StringBuilder myValue;
+
+    /** The line the reader is on. */
+    private int myLine;
+
+    /** The line the last object started on. */
+    private int myRecordLine;
+
+    /** A character read ahead or -2 if there is none. */
+    private int myPeek;
+
+    /** Whether the objects are inside a top-level array. */
+    private boolean myInArray;
+
+    /** Whether the reader has checked for a top-level array. */
+    private boolean myStarted;
+
+
+    /**
+     * Constructs a reader of the given JSON source.
+     *
+     * @param theIn The JSON source, which should be buffered.
+     */
+    public JsonRowReader(final Reader theIn) {
+        myIn = theIn;
+        myValue = new StringBuilder();
+        myLine = 1;
+        myPeek = -2;
+    }
+
+
+    @Override
+    public Map<String, String> next() throws IOException {
+        int c = skipWhitespace();
+        if (!myStarted) {
+            myStarted = true;
+            if (c == '[') {
+                myInArray = true;
+                c = skipWhitespace();
+                if (c == ']') {
+                    return end();
+                }
+            }
+        } else if (myInArray) {
+            if (c == ']') {
+                return end();
+            }
+            expect(',', c);
+            c = skipWhitespace();
+        }
+        if (c < 0) {
+            if (myInArray) {
+                throw error("the array is not closed");
+            }
+            return null;
+        }
+        myRecordLine = myLine;
+        expect('{', c);
+        return readObject();
+    }
+
+
+    @Override
+    public int getLineNumber() {
+        return myRecordLine;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        myIn.close();
+    }
+
+
+    /**
+     * Checks that nothing follows the top-level array.
+     *
+     * @return null.
+     * @throws IOException if the file cannot be read.
+     */
+    private Map<String, String> end() throws IOException {
+        if (skipWhitespace() >= 0) {
+            throw error("unexpected text after the array");
+        }
+        myInArray = false;
+        return null;
+    }
+
+
+    /**
+     * Reads the members of an object whose opening brace has been read.
+     *
+     * @return The members of the object.
+     * @throws IOException if the file cannot be read.
+     */
+    private Map<String, String> readObject() throws IOException {
+        Map<String, String> row = new HashMap<>();
+        int c = skipWhitespace();
+        if (c == '}') {
+            return row;
+        }
+        while (true) {
+            expect('"', c);
+            String name = readString().toLowerCase(Locale.ROOT);
+            expect(':', skipWhitespace());
+            row.put(name, readValue(skipWhitespace()));
+            c = skipWhitespace();
+            if (c == '}') {
+                return row;
+            }
+            expect(',', c);
+            c = skipWhitespace();
+        }
+    }
+
+
+    /**
+     * Reads a member value starting with the given character.
+     *
+     * @param theFirst The first character of the value.
+     * @return The value as text or null for a JSON null.
+     * @throws IOException if the file cannot be read.
+     */
+    private String readValue(final int theFirst) throws IOException {
+        if (theFirst == '"') {
+            return readString();
+        }
+        if (theFirst == '[') {
+            StringBuilder joined = new StringBuilder();
+            int c = skipWhitespace();
+            while (c != ']') {
+                expect('"', c);
+                if (joined.length() > 0) {
+                    joined.append(';');
+                }
+                joined.append(readString());
+                c = skipWhitespace();
+                if (c == ',') {
+                    c = skipWhitespace();
+                } else if (c != ']') {
+                    throw error("expected ',' or ']'");
+                }
+            }
+            return joined.toString();
+        }
+        if (theFirst == '{') {
+            throw error("nested objects are not supported");
+        }
+        myValue.setLength(0);
+        int c = theFirst;
+        while (c >= 0 && c != ',' && c != '}' && !Character.isWhitespace(c)) {
+            myValue.append((char) c);
+            c = read();
+        }
+        myPeek = c;
+        String literal = myValue.toString();
+        if (literal.isEmpty()) {
+            throw error("expected a value");
+        }
+        return literal.equals("null") ? null : literal;
+    }
+
+
+    /**
+     * Reads a string whose opening quote has been read.
+     *
+     * @return The string.
+     * @throws IOException if the file cannot be read.
+     */
+    private String readString() throws IOException {
+        myValue.setLength(0);
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw error("unclosed string");
+            } else if (c == '"') {
+                return myValue.toString();
+            } else if (c == '\\') {
+                int escaped = read();
+                switch (escaped) {
+                    case 'n' -> myValue.append('\n');
+                    case 't' -> myValue.append('\t');
+                    case 'r' -> myValue.append('\r');
+                    case 'b' -> myValue.append('\b');
+                    case 'f' -> myValue.append('\f');
+                    case 'u' -> {
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(read(), 16);
+                            if (digit < 0) {
+                                throw error("invalid unicode escape");
+                            }
+                            code = code * 16 + digit;
+                        }
+                        myValue.append((char) code);
+                    }
+                    case '"', '\\', '/' -> myValue.append((char) escaped);
+                    default -> throw error("invalid escape");
+                }
+            } else {
+                myValue.append((char) c);
+            }
+        }
+    }
+
+
+    /**
+     * Checks that the given character is the expected one.
+     *
+     * @param theExpected The expected character.
+     * @param theActual The character read.
+     */
+    private void expect(final char theExpected, final int theActual) {
+        if (theActual != theExpected) {
+            throw error("expected '" + theExpected + "'");
+        }
+    }
+
+
+    /**
+     * Returns an exception describing a syntax error on the current line.
+     *
+     * @param theMessage The description of the error.
+     * @return The exception to throw.
+     */
+    private IllegalArgumentException error(final String theMessage) {
+        return new IllegalArgumentException("line " + myLine + ": " + theMessage);
+    }
+
+
+    /**
+     * Skips whitespace and returns the next character.
+     *
+     * @return The next character that is not whitespace or -1 at the end of
+     *     the file.
+     * @throws IOException if the file cannot be read.
+     */
+    private int skipWhitespace() throws IOException {
+        int c = read();
+        while (c >= 0 && Character.isWhitespace(c)) {
+            c = read();
+        }
+        return c;
+    }
+
+
+    /**
+     * Reads the next character, counting lines.
+     *
+     * @return The next character or -1 at the end of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    private int read() throws IOException {
+        if (myPeek != -2) {
+            int c = myPeek;
+            myPeek = -2;
+            return c;
+        }
+        int c = myIn.read();
+        if (c == '\n') {
+            myLine++;
+        }
+        return c;
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Streams the rows of a question file one at a time, so files of any size
+ * can be imported in constant memory. Each row maps a lower case field name,
+ * such as "question" or "type", to its value.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public interface RowReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return The fields of the next row or null at the end of the file.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalArgumentException if the file is malformed.
+     */
+    Map<String, String> next() throws IOException;
+
+    /**
+     * Returns the line of the file the last row read started on.
+     *
+     * @return The line number of the last row, starting from 1.
+     */
+    int getLineNumber();
+
+}
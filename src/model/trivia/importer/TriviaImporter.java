@@ -0,0 +1,372 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import model.trivia.Trivia;
+import model.trivia.TriviaRepository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Imports question files into the trivia database. Files are streamed a row
+ * at a time, as CSV (.csv) or as a JSON array or JSON Lines (.json, .jsonl,
+ * .ndjson), with the fields id, question, answer, wrong, type, category, and
+ * difficulty; only question, answer, and type are required. Each row is
+ * checked against the rules of the Trivia constructor and rejected rows are
+ * reported by line. Valid rows are inserted with batched prepared
+ * statements inside a single transaction, with the database in WAL mode, so
+ * a pack either loads completely or not at all.
+ *
+ * Usage: TriviaImporter [--db jdbc-url] [--strict] file...
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public class TriviaImporter {
+
+    /** The number of rows sent to the database per batch. */
+    public static final int BATCH_SIZE = 10_000;
+
+    /** The most wrong answers a multiple choice question may have. */
+    public static final int MAX_WRONG_ANSWERS = 3;
+
+    /** Inserts a question. */
+    private static final String INSERT = "INSERT INTO trivia "
+            + "(id, question, answer, wrong, type, category, difficulty) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?);";
+
+    /** The JDBC URL of the database. */
+    private final String myURL;
+
+    /** Whether an invalid row aborts the import. */
+    private final boolean myStrict;
+
+
+    /**
+     * Constructs an importer for the database at the given JDBC URL.
+     *
+     * @param theURL The JDBC URL of the trivia database.
+     * @param theStrict Whether an invalid row aborts the import instead of
+     *     being skipped.
+     */
+    public TriviaImporter(final String theURL, final boolean theStrict) {
+        myURL = theURL;
+        myStrict = theStrict;
+    }
+
+
+    /**
+     * Imports the question files named on the command line.
+     *
+     * @param theArgs [--db jdbc-url] [--strict] file...
+     */
+    public static void main(final String[] theArgs) {
+        String url = TriviaRepository.DEFAULT_URL;
+        boolean strict = false;
+        int first = 0;
+        while (first < theArgs.length && theArgs[first].startsWith("--")) {
+            if (theArgs[first].equals("--db") && first + 1 < theArgs.length) {
+                url = theArgs[first + 1];
+                first += 2;
+            } else if (theArgs[first].equals("--strict")) {
+                strict = true;
+                first++;
+            } else {
+                break;
+            }
+        }
+        if (first == theArgs.length) {
+            System.err.println("usage: TriviaImporter [--db jdbc-url] [--strict] file...");
+            return;
+        }
+        TriviaImporter importer = new TriviaImporter(url, strict);
+        for (int i = first; i < theArgs.length; i++) {
+            try {
+                ImportReport report = importer.importFile(Path.of(theArgs[i]));
+                System.out.println(theArgs[i] + ": " + report);
+                for (String error : report.getErrors()) {
+                    System.err.println(theArgs[i] + ": " + error);
+                }
+            } catch (IOException | SQLException | RuntimeException e) {
+                System.err.println(theArgs[i] + ": import failed: " + e.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Imports a question file, choosing its format by its extension.
+     *
+     * @param theFile The question file.
+     * @return The report of the import.
+     * @throws IOException if the file cannot be read.
+     * @throws SQLException if the questions cannot be written; nothing is
+     *     written in that case.
+     * @throws IllegalArgumentException if the file is malformed, of an
+     *     unknown format, or, for a strict importer, has an invalid row.
+     */
+    public ImportReport importFile(final Path theFile) throws IOException, SQLException {
+        String name = theFile.getFileName().toString().toLowerCase(Locale.ROOT);
+        Reader in = Files.newBufferedReader(theFile, StandardCharsets.UTF_8);
+        RowReader rows;
+        if (name.endsWith(".csv")) {
+            rows = new CsvRowReader(in);
+        } else if (name.endsWith(".json") || name.endsWith(".jsonl")
+                || name.endsWith(".ndjson")) {
+            rows = new JsonRowReader(in);
+        } else {
+            in.close();
+            throw new IllegalArgumentException("unknown question file format: " + name);
+        }
+        try (rows) {
+            return importRows(rows);
+        }
+    }
+
+
+    /**
+     * Imports every row of the given reader in a single transaction.
+     *
+     * @param theRows The rows to import.
+     * @return The report of the import.
+     * @throws IOException if the rows cannot be read.
+     * @throws SQLException if the questions cannot be written; nothing is
+     *     written in that case.
+     * @throws IllegalArgumentException if the rows are malformed or, for a
+     *     strict importer, a row is invalid.
+     */
+    public ImportReport importRows(final RowReader theRows) throws IOException, SQLException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+        try (Connection connection = DriverManager.getConnection(myURL)) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute("PRAGMA journal_mode=WAL;");
+                stmt.execute("PRAGMA synchronous=NORMAL;");
+            }
+            prepareSchema(connection);
+            int nextID = nextID(connection);
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                int batched = 0;
+                for (Map<String, String> row = theRows.next(); row != null;
+                     row = theRows.next()) {
+                    String error = validate(row);
+                    if (error != null) {
+                        if (myStrict) {
+                            throw new IllegalArgumentException("line "
+                                    + theRows.getLineNumber() + ": " + error);
+                        }
+                        report.rejected(theRows.getLineNumber(), error);
+                        continue;
+                    }
+                    String id = field(row, "id");
+                    bind(insert, row, id.isEmpty() ? nextID++ : Integer.parseInt(id));
+                    insert.addBatch();
+                    report.imported();
+                    if (++batched == BATCH_SIZE) {
+                        insert.executeBatch();
+                        batched = 0;
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+        report.setMillis((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+
+    /**
+     * Checks the given row against the rules of the Trivia constructor.
+     *
+     * @param theRow The fields of a row.
+     * @return Why the row is invalid or null if it is valid.
+     */
+    static String validate(final Map<String, String> theRow) {
+        String id = field(theRow, "id");
+        if (!id.isEmpty() && parseInt(id) == null) {
+            return "id is not an integer";
+        }
+        if (field(theRow, "question").isEmpty()) {
+            return "question is missing";
+        }
+        String answer = field(theRow, "answer");
+        if (answer.isEmpty()) {
+            return "answer is missing";
+        }
+        Integer type = parseInt(field(theRow, "type"));
+        if (type == null || type < 1 || type > 3) {
+            return "type must be 1, 2, or 3";
+        }
+        String wrong = field(theRow, "wrong");
+        if (type == 1 && !answer.equalsIgnoreCase("True")
+                && !answer.equalsIgnoreCase("False")) {
+            return "a true/false answer must be True or False";
+        }
+        if (type == 3 && !wrong.isEmpty()) {
+            return "a short answer question takes no wrong answers";
+        }
+        if (type == 2) {
+            if (wrong.isEmpty()) {
+                return "a multiple choice question needs wrong answers";
+            }
+            String[] choices = wrong.split(";", -1);
+            if (choices.length > MAX_WRONG_ANSWERS) {
+                return "a multiple choice question has at most "
+                        + MAX_WRONG_ANSWERS + " wrong answers";
+            }
+            for (String choice : choices) {
+                if (choice.isBlank()) {
+                    return "wrong answers must not be empty";
+                }
+                if (choice.trim().equals(answer)) {
+                    return "the answer is also a wrong answer";
+                }
+            }
+        }
+        String difficulty = field(theRow, "difficulty");
+        if (!difficulty.isEmpty()) {
+            Integer value = parseInt(difficulty);
+            if (value == null || value < Trivia.EASY || value > Trivia.HARD) {
+                return "difficulty must be from " + Trivia.EASY + " to " + Trivia.HARD;
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * Binds the fields of a valid row to the insert statement.
+     *
+     * @param theInsert The insert statement.
+     * @param theRow The fields of the row.
+     * @param theID The ID of the question.
+     * @throws SQLException if a field cannot be bound.
+     */
+    private static void bind(final PreparedStatement theInsert,
+                             final Map<String, String> theRow,
+                             final int theID) throws SQLException {
+        int type = Integer.parseInt(field(theRow, "type"));
+        String answer = field(theRow, "answer");
+        if (type == 1) {
+            answer = answer.equalsIgnoreCase("True") ? "True" : "False";
+        }
+        StringBuilder wrong = new StringBuilder();
+        if (type == 2) {
+            for (String choice : field(theRow, "wrong").split(";")) {
+                if (wrong.length() > 0) {
+                    wrong.append(';');
+                }
+                wrong.append(choice.trim());
+            }
+        }
+        String category = field(theRow, "category");
+        String difficulty = field(theRow, "difficulty");
+        theInsert.setInt(1, theID);
+        theInsert.setString(2, field(theRow, "question"));
+        theInsert.setString(3, answer);
+        theInsert.setString(4, wrong.toString());
+        theInsert.setInt(5, type);
+        theInsert.setString(6, category.isEmpty() ? Trivia.DEFAULT_CATEGORY : category);
+        theInsert.setInt(7, difficulty.isEmpty()
+                ? Trivia.defaultDifficulty(type) : Integer.parseInt(difficulty));
+    }
+
+
+    /**
+     * Creates the trivia table if it does not exist and adds the category
+     * and difficulty columns if it lacks them.
+     *
+     * @param theConnection A connection to the database.
+     * @throws SQLException if the schema cannot be changed.
+     */
+    private static void prepareSchema(final Connection theConnection) throws SQLException {
+        try (Statement stmt = theConnection.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS trivia "
+                    + "(id int, question text, answer text, wrong text, type int);");
+            boolean category = false;
+            boolean difficulty = false;
+            try (ResultSet rst = stmt.executeQuery("PRAGMA table_info(trivia);")) {
+                while (rst.next()) {
+                    String name = rst.getString("name");
+                    category |= "category".equalsIgnoreCase(name);
+                    difficulty |= "difficulty".equalsIgnoreCase(name);
+                }
+            }
+            if (!category) {
+                stmt.execute("ALTER TABLE trivia ADD COLUMN category text;");
+            }
+            if (!difficulty) {
+                stmt.execute("ALTER TABLE trivia ADD COLUMN difficulty int;");
+            }
+        }
+    }
+
+
+    /**
+     * Returns the ID after the largest ID in the database.
+     *
+     * @param theConnection A connection to the database.
+     * @return The next free ID.
+     * @throws SQLException if the IDs cannot be read.
+     */
+    private static int nextID(final Connection theConnection) throws SQLException {
+        try (Statement stmt = theConnection.createStatement();
+             ResultSet rst = stmt.executeQuery("SELECT COALESCE(MAX(id), 0) FROM trivia;")) {
+            return rst.next() ? rst.getInt(1) + 1 : 1;
+        }
+    }
+
+
+    /**
+     * Returns the trimmed value of the given field of a row.
+     *
+     * @param theRow The fields of a row.
+     * @param theName The name of the field.
+     * @return The trimmed value or "" if the field is missing.
+     */
+    private static String field(final Map<String, String> theRow, final String theName) {
+        String value = theRow.get(theName);
+        return value == null ? "" : value.trim();
+    }
+
+
+    /**
+     * Parses an integer.
+     *
+     * @param theText The text to parse.
+     * @return The integer or null if theText is not an integer.
+     */
+    private static Integer parseInt(final String theText) {
+        try {
+            return Integer.parseInt(theText);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
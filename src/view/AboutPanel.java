@@ -35,19 +35,18 @@ public class AboutPanel extends AbstractInfoPanel {
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        myFont = myFont.deriveFont(Font.PLAIN, 20);
-        g.setFont(myFont);
+        Graphics2D g2 = (Graphics2D) g;
+        g.setFont(FontCache.getFont(FontCache.EXPANSIVA, 20));
         g.drawImage(myBackGroundImage, 0,0,this);
         g.setColor(Color.WHITE);
-        g.drawString("Office Escape 2: The Sequel", 50, 50);
-        g.drawString("TCSS 360 Software Development and Quality Assurance", 50, 150);
-        g.drawString("Techniques", 50, 180);
-        g.drawString("Instructor: Tom Capaul", 50, 240);
-        g.drawString("Academic Quarter: Summer 2021", 50, 300);
-        g.drawString("Assignment: Trivia Maze", 50, 360);
-        g.drawString("GUI made using Java Swing framework. ", 50, 420);
-        g.drawString("Created by: ", 50, 480);
-        g.drawString("          Raz Consta                         Reuben Keller                          Dustin Ray", 50, 525);
-        repaint();
+        FontCache.drawString(g2, "Office Escape 2: The Sequel", 50, 50);
+        FontCache.drawString(g2, "TCSS 360 Software Development and Quality Assurance", 50, 150);
+        FontCache.drawString(g2, "Techniques", 50, 180);
+        FontCache.drawString(g2, "Instructor: Tom Capaul", 50, 240);
+        FontCache.drawString(g2, "Academic Quarter: Summer 2021", 50, 300);
+        FontCache.drawString(g2, "Assignment: Trivia Maze", 50, 360);
+        FontCache.drawString(g2, "GUI made using Java Swing framework. ", 50, 420);
+        FontCache.drawString(g2, "Created by: ", 50, 480);
+        FontCache.drawString(g2, "          Raz Consta                         Reuben Keller                          Dustin Ray", 50, 525);
     }
 }
@@ -1,10 +1,8 @@
 package view;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
 
 /**
  * Abstract panel used to display text and images containing information about the game.
@@ -15,8 +13,6 @@ public abstract class AbstractInfoPanel extends JPanel {
 
     /**background image for panel.  */
     protected BufferedImage myBackGroundImage;
-    /** Custom font. */
-    protected Font myFont;
     /** Path to image background file. */
     protected final String myPath;
 
@@ -33,6 +29,18 @@ public abstract class AbstractInfoPanel extends JPanel {
         repaint();
     }
 
+    /**
+     * Clears the panel and picks up the background image once it is decoded.
+     * @param g the graphics to draw to the panel.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (myBackGroundImage == null) {
+            myBackGroundImage = AssetLoader.getDefault().peekImage(myPath);
+        }
+    }
+
     /**
      * Initializes the panel.
      * @param theWidth width of panel.
@@ -45,15 +53,9 @@ public abstract class AbstractInfoPanel extends JPanel {
     }
 
 
-    /** Reads in the image files to display in this Panel.*/
+    /** Starts decoding the background image of this Panel.*/
     private void readFiles() {
-        try {
-            myBackGroundImage = ImageIO.read(new File(myPath));
-            myFont = Font.createFont(Font.TRUETYPE_FONT, new File("src/res/fonts/Expansiva.otf"));
-            myFont = myFont.deriveFont(Font.PLAIN, 35);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        AssetLoader.getDefault().repaintWhenLoaded(myPath, this);
     }
 
 
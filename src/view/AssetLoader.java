@@ -0,0 +1,244 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import model.metrics.MetricsRegistry;
+import model.metrics.Stopwatch;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Loads the game's assets in parallel on a small, fixed pool of daemon
+ * threads. Each image is decoded once, the first time it is asked for, and
+ * shared by every panel that draws it; other work, such as reading fonts or
+ * opening audio, can be run on the same pool. The loader counts the tasks
+ * it has been given and finished, so a splash screen can show its progress.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class AssetLoader {
+
+    /** The most threads a loader uses. */
+    public static final int MAX_THREADS = 4;
+
+    /** Times each task of every loader. */
+    private static final Stopwatch LOAD = MetricsRegistry.getDefault().stopwatch("asset.load");
+
+    /** The threads the assets are loaded on. */
+    private final ExecutorService myExecutor;
+
+    /** The decoding of each image, by path. */
+    private final Map<String, CompletableFuture<BufferedImage>> myImages;
+
+    /** The number of tasks given to this loader. */
+    private final AtomicInteger myTotal;
+
+    /** The number of tasks this loader has finished. */
+    private final AtomicInteger myCompleted;
+
+
+    /**
+     * Constructs an AssetLoader using up to the given number of threads.
+     *
+     * @param theThreads The most threads to load assets on.
+     * @throws IllegalArgumentException if theThreads is less than 1.
+     */
+    public AssetLoader(final int theThreads) {
+        if (theThreads < 1) {
+            throw new IllegalArgumentException("a loader needs at least one thread");
+        }
+        AtomicInteger count = new AtomicInteger();
+        myExecutor = Executors.newFixedThreadPool(theThreads, task -> {
+            Thread thread = new Thread(task, "asset-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        myImages = new ConcurrentHashMap<>();
+        myTotal = new AtomicInteger();
+        myCompleted = new AtomicInteger();
+    }
+
+
+    /**
+     * Returns the loader the game's assets are loaded with, which uses one
+     * thread per processor up to MAX_THREADS.
+     *
+     * @return The game's loader.
+     */
+    public static AssetLoader getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+
+    /**
+     * Returns the decoding of the image at the given path, starting it the
+     * first time the image is asked for.
+     *
+     * @param thePath The path of the image file.
+     * @return A future completed with the image, or completed exceptionally
+     *     if it cannot be read.
+     */
+    public CompletableFuture<BufferedImage> image(final String thePath) {
+        return myImages.computeIfAbsent(thePath, path -> submit(() -> read(path)));
+    }
+
+
+    /**
+     * Returns the image at the given path, waiting for it to be decoded.
+     *
+     * @param thePath The path of the image file.
+     * @return The image or null if it could not be read.
+     */
+    public BufferedImage getImage(final String thePath) {
+        try {
+            return image(thePath).join();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+
+    /**
+     * Returns the image at the given path if it has been decoded, starting
+     * its decoding otherwise. Never waits.
+     *
+     * @param thePath The path of the image file.
+     * @return The image or null if it is not decoded yet or cannot be read.
+     */
+    public BufferedImage peekImage(final String thePath) {
+        CompletableFuture<BufferedImage> image = image(thePath);
+        return image.isDone() && !image.isCompletedExceptionally() ? image.join() : null;
+    }
+
+
+    /**
+     * Decodes the image at the given path and repaints a component once it
+     * is decoded, so the component can draw it with peekImage().
+     *
+     * @param thePath The path of the image file.
+     * @param theComponent The component that draws the image.
+     */
+    public void repaintWhenLoaded(final String thePath, final JComponent theComponent) {
+        image(thePath).whenComplete((theImage, theError) -> {
+            if (theError != null) {
+                theError.printStackTrace();
+            } else {
+                SwingUtilities.invokeLater(theComponent::repaint);
+            }
+        });
+    }
+
+
+    /**
+     * Runs a task on the loader's threads.
+     *
+     * @param theTask The task to run.
+     * @return A future completed when the task finishes.
+     */
+    public CompletableFuture<Void> run(final Runnable theTask) {
+        return submit(() -> {
+            theTask.run();
+            return null;
+        });
+    }
+
+
+    /**
+     * Returns the number of tasks given to this loader.
+     *
+     * @return The number of tasks given.
+     */
+    public int getTotal() {
+        return myTotal.get();
+    }
+
+
+    /**
+     * Returns the number of tasks this loader has finished, successfully or
+     * not.
+     *
+     * @return The number of tasks finished.
+     */
+    public int getCompleted() {
+        return myCompleted.get();
+    }
+
+
+    /** Stops the loader's threads once their tasks are finished. */
+    public void shutdown() {
+        myExecutor.shutdown();
+    }
+
+
+    /**
+     * Runs a timed, counted task on the loader's threads.
+     *
+     * @param theTask The task to run.
+     * @param <T> The type of the task's result.
+     * @return A future completed with the task's result.
+     */
+    private <T> CompletableFuture<T> submit(final Supplier<T> theTask) {
+        myTotal.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            long start = LOAD.start();
+            try {
+                return theTask.get();
+            } finally {
+                LOAD.stop(start);
+                myCompleted.incrementAndGet();
+            }
+        }, myExecutor);
+    }
+
+
+    /**
+     * Decodes an image file.
+     *
+     * @param thePath The path of the image file.
+     * @return The image.
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    private static BufferedImage read(final String thePath) {
+        try {
+            BufferedImage image = ImageIO.read(new File(thePath));
+            if (image == null) {
+                throw new IOException("not an image: " + thePath);
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /** Holds the default loader so it is created on first use. */
+    private static final class DefaultHolder {
+
+        /** The game's loader. */
+        private static final AssetLoader INSTANCE = new AssetLoader(Math.max(1,
+                Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors())));
+    }
+
+}
@@ -1,30 +1,37 @@
 package view;
 
+import controller.event.AnswerSubmitted;
+import controller.event.DoorZoneChanged;
+import controller.event.EventBus;
+import model.engine.RoomSimulation;
+import model.trivia.AnswerMatcher;
+import model.trivia.SkillModel;
 import model.trivia.Trivia;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeListener;
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 
-import static controller.PropertyChangeEnabledUserControls.NEIGHBOR_CHANGE;
-import static controller.PropertyChangeEnabledUserControls.XY_POSITION;
-
 /**
  * Represents the console panel to the right of the game screen. Player
  * interacts with the console to answer trivia questions and see information
- * about the game state such as current room, etc.
+ * about the game state such as current room, etc. Pressing F3 toggles a
+ * page of live performance figures.
  * @author Dustin Ray
  * @version Summer 2021
  */
-public class ConsolePanel extends JPanel implements PropertyChangeListener {
+public class ConsolePanel extends JPanel {
+
+    /** The path of the image decorating the console screen. */
+    public static final String CONSOLE_PATH = "src/res/assets/menu/console.png";
+
+    /** The path of the image decorating the answer area. */
+    public static final String INFO_CONSOLE_PATH = "src/res/assets/menu/info_console.png";
 
     /** Area to display text output.  */
     private JTextArea myConsoleScreenTextArea1;
@@ -32,12 +39,6 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
     /** Area to display text output.  */
     private JTextArea myConsoleScreenTextArea2;
 
-    /** Graphics to decorate text area. */
-    private final BufferedImage myDisplayConsole;
-
-    /** Graphics to decorate text area. */
-    private final BufferedImage myInfoDisplayConsole;
-
     /** Text area that displays the current room number. */
     private JTextArea myRoomID;
 
@@ -50,17 +51,24 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
     /** A text area to enter short answers to trivia questions. */
     private final JTextArea myShortAnswerTextArea;
 
-    /** A custom font to be used for GUI elements. */
-    private final Font myCustomFont;
 
     /** A "button" to be used to submit short answers. */
     private final JLabel mySubmitAnswer;
 
     /** A flag to tell observing classes to load the next room if trivia is correctly answered. */
     private boolean myCorrectlyAnsweredFlag;
+
+    /** The model of the player's skill, updated on every submitted answer. */
+    private final SkillModel mySkillModel;
     /** A counter to keep track of correctly answered questions. */
     private JTextArea myNextRoomText;
 
+    /** The bus submitted answers are posted to, or null if they are not posted. */
+    private EventBus myEventBus;
+
+    /** The page of live performance figures, toggled with F3. */
+    private PerformanceHud myPerformanceHud;
+
     /**
      * Constructor for class.
      * @throws IOException If any resources cannot be loaded.
@@ -69,17 +77,18 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
     public ConsolePanel() throws IOException, FontFormatException {
         super();
         this.setLayout(null);
-        myDisplayConsole = ImageIO.read(new File("src/res/assets/menu/console.png"));
-        myInfoDisplayConsole = ImageIO.read(new File("src/res/assets/menu/info_console.png"));
+        AssetLoader.getDefault().repaintWhenLoaded(CONSOLE_PATH, this);
+        AssetLoader.getDefault().repaintWhenLoaded(INFO_CONSOLE_PATH, this);
         myShortAnswerTextArea = new JTextArea(1, 30);
         myConsoleScreenTextArea1 = new JTextArea();
         myConsoleScreenTextArea2 = new JTextArea();
         mySubmitAnswer = new JLabel("Submit");
-        myCustomFont = Font.createFont(Font.TRUETYPE_FONT, new File("src/res/fonts/Expansiva.otf"));
+        mySkillModel = new SkillModel();
         setCorrectlyAnsweredFlag(false);
         this.setBackground(Color.BLACK);
         setupTextArea();
         setupAnswerLabels();
+        setupPerformanceHud();
         repaint();
     }
 
@@ -95,19 +104,29 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D displayConsole = (Graphics2D) g;
-        displayConsole.drawImage(this.myDisplayConsole, 768, 0, this);
-        displayConsole.drawImage(this.myInfoDisplayConsole, 768, 480, this);
+        displayConsole.drawImage(AssetLoader.getDefault().peekImage(CONSOLE_PATH), 768, 0, this);
+        displayConsole.drawImage(AssetLoader.getDefault().peekImage(INFO_CONSOLE_PATH), 768, 480,
+                this);
     }
 
     /**
-     * Changes state of panel when property change fired.
-     * @param theEvent is the event to listen for.
+     * Subscribes this panel to the door changes posted to the given bus and posts
+     * submitted answers to it.
+     * @param theBus the bus of the game.
      */
-    @Override
-    public void propertyChange(final PropertyChangeEvent theEvent) {
-        switch (theEvent.getPropertyName()) {
-            case XY_POSITION -> myConsoleScreenTextArea1.setText(theEvent.getNewValue().toString());
-            case NEIGHBOR_CHANGE -> myConsoleScreenTextArea2.setText(theEvent.getNewValue().toString());
+    public void setEventBus(final EventBus theBus) {
+        myEventBus = theBus;
+        theBus.subscribe(DoorZoneChanged.class, this::doorZoneChanged);
+    }
+
+    /**
+     * Clears the console text when the player leaves a door.
+     * @param theEvent the change in the door the player touches.
+     */
+    private void doorZoneChanged(final DoorZoneChanged theEvent) {
+        if (theEvent.getDoor() == RoomSimulation.NO_DOOR) {
+            myConsoleScreenTextArea1.setText("");
+            myConsoleScreenTextArea2.setText("");
         }
     }
 
@@ -117,12 +136,11 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
     /** Sets text area 2 to display the trivia question and text area 3 to display answer area.
      * @param theTrivia is the trivia question to operate on. */
     public void setTrivia(final Trivia theTrivia) {
-        ArrayList<String> triviaAnswers = theTrivia.getAnswers();
         myTrivia = theTrivia;
         myConsoleScreenTextArea2.setText("QUESTION: \n" + theTrivia.getQuestion());
         if (theTrivia.getType() != 3) {
-            for (int i = 0; i < triviaAnswers.size(); i++) {
-                myAnswerLabelList.get(i).setText(triviaAnswers.get(i));
+            for (int i = 0; i < theTrivia.getAnswerCount(); i++) {
+                myAnswerLabelList.get(i).setText(theTrivia.getAnswer(i));
                 myAnswerLabelList.get(i).setHorizontalAlignment(SwingConstants.CENTER);
                 myAnswerLabelList.get(i).setVisible(true);
             }
@@ -193,7 +211,7 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
     private void setupLabel(final JLabel theLabel,
                             final int theYPosition) {
 
-        Font customFont = myCustomFont.deriveFont(Font.PLAIN, 13);
+        Font customFont = FontCache.getFont(FontCache.EXPANSIVA, 13);
         theLabel.setForeground(Color.WHITE);
         theLabel.setOpaque(true);
         theLabel.setBackground(Color.GRAY);
@@ -217,13 +235,32 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
             public void mouseClicked(MouseEvent e) {
                 //if short answer, do this:
                 if (myTrivia.getType() == 3) {
-                    setCorrectlyAnsweredFlag(myShortAnswerTextArea.getText().equals(myTrivia.getCorrectAnswer()));
+                    setCorrectlyAnsweredFlag(AnswerMatcher.DEFAULT.matches(myTrivia, myShortAnswerTextArea.getText()));
                 //otherwise, do this:
                 } else {setCorrectlyAnsweredFlag(theLabel.getText().equals(myTrivia.getCorrectAnswer()));}
+                mySkillModel.record(myTrivia, myCorrectlyAnsweredFlag);
+                if (myEventBus != null) {
+                    myEventBus.post(new AnswerSubmitted(myCorrectlyAnsweredFlag));
+                }
             }
         });
     }
 
+    /** Shows the performance page if it is hidden and hides it otherwise. */
+    public void togglePerformanceHud() {myPerformanceHud.toggle();}
+
+    /** Adds the hidden performance page and binds F3 to toggle it. */
+    private void setupPerformanceHud() {
+        myPerformanceHud = new PerformanceHud(FontCache.getFont(FontCache.EXPANSIVA, 12));
+        this.add(myPerformanceHud);
+        myPerformanceHud.setBounds(830, 300, 350, 140);
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0),
+                "togglePerformanceHud");
+        getActionMap().put("togglePerformanceHud", new AbstractAction() {
+            public void actionPerformed(ActionEvent e) {togglePerformanceHud();}
+        });
+    }
+
     /** Sets up text elements in panel.*/
     private void setupTextArea() {
 
@@ -260,7 +297,7 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
                                     final int theWidth,
                                     final int theHeight) {
 
-        Font customFont = myCustomFont.deriveFont(Font.PLAIN, theFontSize);
+        Font customFont = FontCache.getFont(FontCache.EXPANSIVA, theFontSize);
         theTextArea.setFont(customFont);
         theTextArea.setBackground(Color.BLACK);
         theTextArea.setForeground(Color.WHITE);
@@ -274,6 +311,10 @@ public class ConsolePanel extends JPanel implements PropertyChangeListener {
         theTextArea.repaint();
     }
 
+    /** Returns the model of the player's skill, which lasts across games.
+     * @return the player's skill model. */
+    public SkillModel getSkillModel() {return mySkillModel;}
+
     /** A flag to tell observing classes to load the next room if trivia is correctly answered.
      * @return true if question was answered correctly, false otherwise. */
     public boolean getCorrectlyAnsweredFlag() {return myCorrectlyAnsweredFlag;}
@@ -0,0 +1,187 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shares the game's fonts and the layouts of the text drawn with them. Each
+ * font file is read once, each size of it is derived once, and the
+ * TextLayout of a string drawn repeatedly in the same font is built once, so
+ * panels can look up their fonts and draw their text on every paint without
+ * reading files or shaping glyphs again.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class FontCache {
+
+    /** The file of the game's font. */
+    public static final String EXPANSIVA = "src/res/fonts/Expansiva.otf";
+
+    /** The largest point size cached; larger sizes are derived every time. */
+    public static final int MAX_SIZE = 128;
+
+    /** The most TextLayouts kept for each font. */
+    public static final int MAX_LAYOUTS = 256;
+
+    /** The font of each file, with each size derived so far. */
+    private static final Map<String, AtomicReferenceArray<Font>> FONTS =
+            new ConcurrentHashMap<>();
+
+    /** The layouts of the text drawn in each font. */
+    private static final Map<Font, Layouts> LAYOUTS = new HashMap<>();
+
+
+    /** A private constructor to prevent instantiation. */
+    private FontCache() { }
+
+
+    /**
+     * Returns the font of a file at the given size, reading the file the
+     * first time it is used. If the file cannot be read, a sans serif font
+     * of the given size is returned instead.
+     *
+     * @param theFile The path of the TrueType or OpenType font file.
+     * @param theSize The point size.
+     * @return The font at theSize.
+     * @throws IllegalArgumentException if theSize is not positive.
+     */
+    public static Font getFont(final String theFile, final int theSize) {
+        if (theSize < 1) {
+            throw new IllegalArgumentException("font size must be positive");
+        }
+        AtomicReferenceArray<Font> sizes = FONTS.computeIfAbsent(theFile, FontCache::read);
+        if (theSize > MAX_SIZE) {
+            return sizes.get(0).deriveFont(Font.PLAIN, theSize);
+        }
+        Font font = sizes.get(theSize);
+        if (font == null) {
+            font = sizes.get(0).deriveFont(Font.PLAIN, theSize);
+            if (!sizes.compareAndSet(theSize, null, font)) {
+                font = sizes.get(theSize);
+            }
+        }
+        return font;
+    }
+
+
+    /**
+     * Returns the layout of a string in a font, building it the first time
+     * the string is drawn in that font and rendering context.
+     *
+     * @param theText The string to lay out.
+     * @param theFont The font of the string.
+     * @param theContext The rendering context the string is drawn in.
+     * @return The layout of theText.
+     * @throws IllegalArgumentException if theText is empty.
+     */
+    public static TextLayout getLayout(final String theText, final Font theFont,
+                                       final FontRenderContext theContext) {
+        if (theText.isEmpty()) {
+            throw new IllegalArgumentException("cannot lay out an empty string");
+        }
+        synchronized (LAYOUTS) {
+            Layouts layouts = LAYOUTS.get(theFont);
+            if (layouts == null) {
+                layouts = new Layouts(theContext);
+                LAYOUTS.put(theFont, layouts);
+            } else if (!layouts.myContext.equals(theContext)) {
+                layouts.myContext = theContext;
+                layouts.clear();
+            }
+            TextLayout layout = layouts.get(theText);
+            if (layout == null) {
+                layout = new TextLayout(theText, theFont, theContext);
+                layouts.put(theText, layout);
+            }
+            return layout;
+        }
+    }
+
+
+    /**
+     * Draws a string in the current font and color of the given graphics,
+     * with its baseline's left end at (theX, theY), using its cached layout.
+     *
+     * @param theGraphics The graphics to draw with.
+     * @param theText The string to draw.
+     * @param theX The x coordinate of the start of the baseline.
+     * @param theY The y coordinate of the baseline.
+     */
+    public static void drawString(final Graphics2D theGraphics, final String theText,
+                                  final float theX, final float theY) {
+        if (!theText.isEmpty()) {
+            getLayout(theText, theGraphics.getFont(), theGraphics.getFontRenderContext())
+                    .draw(theGraphics, theX, theY);
+        }
+    }
+
+
+    /**
+     * Reads a font file.
+     *
+     * @param theFile The path of the font file.
+     * @return The sizes of the font, holding only the font read at index 0.
+     */
+    private static AtomicReferenceArray<Font> read(final String theFile) {
+        Font font;
+        try {
+            font = Font.createFont(Font.TRUETYPE_FONT, new File(theFile));
+        } catch (Exception e) {
+            e.printStackTrace();
+            font = new Font(Font.SANS_SERIF, Font.PLAIN, 1);
+        }
+        AtomicReferenceArray<Font> sizes = new AtomicReferenceArray<>(MAX_SIZE + 1);
+        sizes.set(0, font);
+        return sizes;
+    }
+
+
+    /** The most recently drawn layouts of one font. */
+    private static final class Layouts extends LinkedHashMap<String, TextLayout> {
+
+        /** The rendering context the layouts were built in. */
+        private FontRenderContext myContext;
+
+
+        /**
+         * Constructs an empty cache of layouts built in the given context.
+         *
+         * @param theContext The rendering context of the layouts.
+         */
+        private Layouts(final FontRenderContext theContext) {
+            super(16, 0.75f, true);
+            myContext = theContext;
+        }
+
+
+        /**
+         * Drops the least recently drawn layout once there are too many.
+         *
+         * @param theEldest The least recently drawn layout.
+         * @return true if the cache is over its size.
+         */
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, TextLayout> theEldest) {
+            return size() > MAX_LAYOUTS;
+        }
+    }
+
+}
@@ -23,16 +23,15 @@ public class HowToPlayPanel extends AbstractInfoPanel {
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
+        Graphics2D g2 = (Graphics2D) g;
         g.drawImage(myBackGroundImage, 0,0, null);
-        myFont = myFont.deriveFont(Font.PLAIN, 20);
-        g.setFont(myFont);
+        g.setFont(FontCache.getFont(FontCache.EXPANSIVA, 20));
         g.setColor(Color.WHITE);
-        g.drawString("Use arrow keys to move chair around the room:", 50, 250);
-        g.drawString("Press e on the", 828, 100);
-        g.drawString("keyboard to start", 828, 150);
-        g.drawString("a trivia question:", 828, 200);
-        g.drawString("Hint: Press e then q to get a cheat code!", 50, 700);
-        repaint();
+        FontCache.drawString(g2, "Use arrow keys to move chair around the room:", 50, 250);
+        FontCache.drawString(g2, "Press e on the", 828, 100);
+        FontCache.drawString(g2, "keyboard to start", 828, 150);
+        FontCache.drawString(g2, "a trivia question:", 828, 200);
+        FontCache.drawString(g2, "Hint: Press e then q to get a cheat code!", 50, 700);
     }
 
 }
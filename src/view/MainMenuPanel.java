@@ -2,7 +2,6 @@ package view;
 
 import controller.PropertyChangeEnabledUserControls;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
@@ -12,7 +11,6 @@ import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.io.File;
 import java.io.IOException;
 
 /**
@@ -23,6 +21,12 @@ import java.io.IOException;
  */
 public class MainMenuPanel extends JPanel implements PropertyChangeEnabledUserControls, Runnable {
 
+    /** The path of the main background image. */
+    public static final String BACKGROUND_PATH = "src/res/backgrounds/mainmenu.png";
+
+    /** The path of the image behind the main background image. */
+    public static final String SCREEN_PATH = "src/res/backgrounds/mainmenu2.png";
+
     /**The starting x position for the background2, puts it behind the computer monitor. */
     private int x = 700;
     /** the y position for the frame. */
@@ -37,6 +41,9 @@ public class MainMenuPanel extends JPanel implements PropertyChangeEnabledUserCo
     /** Property change support object for this class. */
     private PropertyChangeSupport myPC;
 
+    /** Runs once when the panel is first painted, or null. */
+    private Runnable myFirstPaintAction;
+
 
     /**
      * Constructor for class.
@@ -47,8 +54,8 @@ public class MainMenuPanel extends JPanel implements PropertyChangeEnabledUserCo
 
         this.setLayout(null);
 
-        myBackground1 = ImageIO.read(new File("src/res/backgrounds/mainmenu.png"));
-        myBackground2 = ImageIO.read(new File("src/res/backgrounds/mainmenu2.png"));
+        myBackground1 = AssetLoader.getDefault().getImage(BACKGROUND_PATH);
+        myBackground2 = AssetLoader.getDefault().getImage(SCREEN_PATH);
         this.setBackground(Color.BLACK);
 
         this.addKeyListener(new InputHandler());
@@ -56,8 +63,7 @@ public class MainMenuPanel extends JPanel implements PropertyChangeEnabledUserCo
         animate.start();
         this.setPreferredSize(new Dimension(1200, 768));
 
-        Font fontTest = Font.createFont(Font.TRUETYPE_FONT, new File("src/res/fonts/Expansiva.otf"));
-        fontTest = fontTest.deriveFont(Font.PLAIN, 24);
+        Font fontTest = FontCache.getFont(FontCache.EXPANSIVA, 24);
 
         final JLabel newGame = new JLabel("new game");
         final JLabel loadGame = new JLabel("load game");
@@ -134,8 +140,19 @@ public class MainMenuPanel extends JPanel implements PropertyChangeEnabledUserCo
         Graphics2D mainBackground = (Graphics2D) g;
         mainBackground.drawImage(myBackground2, x, y, null);
         mainBackground.drawImage(myBackground1, 0, 0, null);
+        if (myFirstPaintAction != null) {
+            Runnable action = myFirstPaintAction;
+            myFirstPaintAction = null;
+            action.run();
+        }
     }
 
+    /**
+     * Sets an action to run once, when the panel is first painted.
+     * @param theAction the action to run.
+     */
+    public void setFirstPaintAction(final Runnable theAction) {myFirstPaintAction = theAction;}
+
     /** Sets X position*/
     public void setX(int x) {this.x = x;}
 
@@ -0,0 +1,243 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Streams a looping audio file to a SourceDataLine. Rather than decoding
+ * the whole file into a Clip, a low priority thread reads the file one small
+ * buffer at a time and writes it to the line, starting again from the top of
+ * the file as soon as it runs out, so the track loops without a gap and the
+ * memory used does not grow with the track's length.
+ *
+ * The file is not opened until the player is first started. Stopping the
+ * player stops its line, which blocks the streaming thread until the player
+ * is started again. If the file cannot be played the player stops, and
+ * the next start tries again.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class MusicPlayer implements AutoCloseable {
+
+    /** The gain, in decibels, a new player plays at. */
+    public static final float DEFAULT_GAIN = -4f;
+
+    /** The lowest gain, in decibels, a player plays at. */
+    public static final float MIN_GAIN = -40f;
+
+    /** The highest gain, in decibels, a player plays at. */
+    public static final float MAX_GAIN = 0f;
+
+    /** The milliseconds of audio held by the line and the read buffer. */
+    private static final int BUFFER_MILLIS = 250;
+
+    /** The path of the audio file. */
+    private final String myPath;
+
+    /** The line the audio is written to, or null until it is opened. */
+    private SourceDataLine myLine;
+
+    /** The thread streaming the audio, or null until first started. */
+    private Thread myThread;
+
+    /** The gain of the audio in decibels. */
+    private float myGain;
+
+    /** Whether the player is playing. */
+    private volatile boolean myPlaying;
+
+    /** Whether the player has been closed. */
+    private volatile boolean myClosed;
+
+
+    /**
+     * Constructs a stopped MusicPlayer for the audio file at the given path.
+     * The file is not opened until the player is started.
+     *
+     * @param thePath The path of the audio file.
+     */
+    public MusicPlayer(final String thePath) {
+        myPath = thePath;
+        myGain = DEFAULT_GAIN;
+    }
+
+
+    /**
+     * Starts or resumes playing, opening the audio file on the streaming
+     * thread the first time the player is started.
+     *
+     * @throws IllegalStateException if the player is closed.
+     */
+    public synchronized void start() {
+        if (myClosed) {
+            throw new IllegalStateException("the player is closed");
+        }
+        myPlaying = true;
+        if (myThread == null) {
+            myThread = new Thread(this::stream, "music-player");
+            myThread.setDaemon(true);
+            myThread.setPriority(Thread.MIN_PRIORITY);
+            myThread.start();
+        } else if (myLine != null) {
+            myLine.start();
+        }
+    }
+
+
+    /** Pauses playing, keeping the player's place in the track. */
+    public synchronized void stop() {
+        myPlaying = false;
+        if (myLine != null) {
+            myLine.stop();
+        }
+    }
+
+
+    /**
+     * Returns whether the player is playing.
+     *
+     * @return true if the player is started and false otherwise.
+     */
+    public boolean isPlaying() {
+        return myPlaying;
+    }
+
+
+    /**
+     * Sets the gain of the audio, clamped to the range MIN_GAIN to MAX_GAIN.
+     *
+     * @param theGain The gain in decibels.
+     */
+    public synchronized void setGain(final float theGain) {
+        myGain = Math.max(MIN_GAIN, Math.min(MAX_GAIN, theGain));
+        if (myLine != null) {
+            applyGain(myLine);
+        }
+    }
+
+
+    /**
+     * Returns the gain of the audio.
+     *
+     * @return The gain in decibels.
+     */
+    public synchronized float getGain() {
+        return myGain;
+    }
+
+
+    /** Stops playing for good and releases the line. */
+    @Override
+    public synchronized void close() {
+        myClosed = true;
+        myPlaying = false;
+        if (myLine != null) {
+            myLine.close();
+        }
+    }
+
+
+    /**
+     * Streams the audio file to a new line until the player is closed,
+     * reopening the file each time it ends. Runs on the streaming thread.
+     */
+    private void stream() {
+        SourceDataLine line = null;
+        AudioInputStream in = null;
+        try {
+            in = open();
+            AudioFormat format = in.getFormat();
+            int frameSize = Math.max(1, format.getFrameSize());
+            int frames = Math.max(1, (int) (format.getFrameRate() * BUFFER_MILLIS / 1000));
+            byte[] buffer = new byte[frames * frameSize];
+            line = AudioSystem.getSourceDataLine(format);
+            line.open(format, buffer.length * 2);
+            synchronized (this) {
+                if (myClosed) {
+                    line.close();
+                    return;
+                }
+                myLine = line;
+                applyGain(line);
+                if (myPlaying) {
+                    line.start();
+                }
+            }
+            while (!myClosed) {
+                int read = in.read(buffer, 0, buffer.length);
+                if (read < 0) {
+                    in.close();
+                    in = open();
+                } else {
+                    line.write(buffer, 0, read);
+                }
+            }
+        } catch (IOException | UnsupportedAudioFileException | LineUnavailableException
+                | IllegalArgumentException e) {
+            e.printStackTrace();
+        } finally {
+            synchronized (this) {
+                myLine = null;
+                myThread = null;
+                myPlaying = false;
+            }
+            if (line != null) {
+                line.close();
+            }
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Opens the audio file from its start.
+     *
+     * @return A stream of the audio file.
+     * @throws IOException if the file cannot be read.
+     * @throws UnsupportedAudioFileException if the file is not audio.
+     */
+    private AudioInputStream open() throws IOException, UnsupportedAudioFileException {
+        return AudioSystem.getAudioInputStream(
+                new BufferedInputStream(new FileInputStream(myPath)));
+    }
+
+
+    /**
+     * Sets the gain of a line to this player's gain, if the line has a gain
+     * control.
+     *
+     * @param theLine The line to set the gain of.
+     */
+    private void applyGain(final SourceDataLine theLine) {
+        if (theLine.isControlSupported(FloatControl.Type.MASTER_GAIN)) {
+            FloatControl gain = (FloatControl) theLine.getControl(FloatControl.Type.MASTER_GAIN);
+            gain.setValue(Math.max(gain.getMinimum(), Math.min(gain.getMaximum(), myGain)));
+        }
+    }
+
+}
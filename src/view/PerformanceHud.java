@@ -0,0 +1,235 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import model.metrics.MetricsRegistry;
+import model.metrics.PerformanceSampler;
+import model.metrics.Stopwatch;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+/**
+ * A page of the console showing live performance figures: frame rate, tick
+ * and paint times, heap in use, GC pauses, event dispatch latency, and the
+ * last Room load time. The figures are refreshed a few times a second while
+ * the page is shown and are written into fixed character buffers, so a
+ * refresh allocates nothing.
+ *
+ * The event dispatch latency is how late the page's own refresh timer fires
+ * on the event dispatch thread, which grows with the backlog of events
+ * queued ahead of it.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class PerformanceHud extends JComponent implements ActionListener {
+
+    /** The milliseconds between refreshes. */
+    public static final int REFRESH_DELAY = 250;
+
+    /** The nanoseconds between refreshes. */
+    private static final long REFRESH_NANOS = REFRESH_DELAY * 1_000_000L;
+
+    /** The labels of the lines of the page. */
+    private static final String[] LABELS = {
+        "FPS ", "Tick ", "Paint ", "Heap ", "GC ", "EDT ", "Room load "
+    };
+
+    /** The units of the lines of the page. */
+    private static final String[] UNITS = {
+        "", " us", " us", " MB", " ms", " us", " ms"
+    };
+
+    /** The most characters on a line. */
+    private static final int LINE_LENGTH = 32;
+
+    /** The pixels between the baselines of lines. */
+    private static final int LINE_HEIGHT = 18;
+
+    /** The figures of the page. */
+    private final PerformanceSampler mySampler;
+
+    /** Records how late each refresh fires. */
+    private final Stopwatch myEdtLatency;
+
+    /** Fires the refreshes while the page is shown. */
+    private final Timer myTimer;
+
+    /** The characters of each line. */
+    private final char[][] myLines;
+
+    /** The number of characters of each line. */
+    private final int[] myLengths;
+
+    /** The time of the previous refresh, or 0 if there is none. */
+    private long myLastRefresh;
+
+
+    /**
+     * Constructs a hidden PerformanceHud of the game's metrics.
+     *
+     * @param theFont The font to draw the page with.
+     */
+    public PerformanceHud(final Font theFont) {
+        this(MetricsRegistry.getDefault(), theFont);
+    }
+
+
+    /**
+     * Constructs a hidden PerformanceHud of the given registry.
+     *
+     * @param theRegistry The registry the figures are sampled from.
+     * @param theFont The font to draw the page with.
+     */
+    public PerformanceHud(final MetricsRegistry theRegistry, final Font theFont) {
+        super();
+        mySampler = new PerformanceSampler(theRegistry);
+        myEdtLatency = theRegistry.stopwatch(PerformanceSampler.EDT_LATENCY);
+        myTimer = new Timer(REFRESH_DELAY, this);
+        myLines = new char[LABELS.length][LINE_LENGTH];
+        myLengths = new int[LABELS.length];
+        setFont(theFont);
+        setForeground(Color.GREEN);
+        setVisible(false);
+    }
+
+
+    /** Shows the page if it is hidden and hides it otherwise. */
+    public void toggle() {
+        setVisible(!isVisible());
+    }
+
+
+    /**
+     * Shows or hides the page, refreshing it only while it is shown.
+     *
+     * @param theVisible true to show the page and false to hide it.
+     */
+    @Override
+    public void setVisible(final boolean theVisible) {
+        super.setVisible(theVisible);
+        if (theVisible) {
+            myLastRefresh = 0;
+            refresh(System.nanoTime());
+            myTimer.start();
+        } else {
+            myTimer.stop();
+        }
+    }
+
+
+    /**
+     * Refreshes the page when the timer fires.
+     *
+     * @param theEvent The timer's event.
+     */
+    @Override
+    public void actionPerformed(final ActionEvent theEvent) {
+        refresh(System.nanoTime());
+    }
+
+
+    /**
+     * Draws the lines of the page.
+     *
+     * @param g The graphics to draw the page with.
+     */
+    @Override
+    protected void paintComponent(final Graphics g) {
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, getWidth(), getHeight());
+        g.setColor(getForeground());
+        g.setFont(getFont());
+        for (int i = 0; i < myLines.length; i++) {
+            g.drawChars(myLines[i], 0, myLengths[i], 0, (i + 1) * LINE_HEIGHT);
+        }
+    }
+
+
+    /**
+     * Samples the figures and rewrites the lines of the page.
+     *
+     * @param theNow The current value of System.nanoTime().
+     */
+    private void refresh(final long theNow) {
+        if (myLastRefresh != 0) {
+            myEdtLatency.record(Math.max(0, theNow - myLastRefresh - REFRESH_NANOS));
+        }
+        myLastRefresh = theNow;
+        mySampler.sample(theNow);
+        write(0, Math.round(mySampler.getFps()));
+        write(1, mySampler.getTickNanos() / 1_000);
+        write(2, mySampler.getPaintNanos() / 1_000);
+        write(3, mySampler.getHeapUsed() >> 20);
+        write(4, mySampler.getGcPauseMillis());
+        write(5, mySampler.getEdtLatencyNanos() / 1_000);
+        write(6, mySampler.getRoomLoadNanos() / 1_000_000);
+        repaint();
+    }
+
+
+    /**
+     * Writes a line of the page as its label, a value, and its unit.
+     *
+     * @param theLine The index of the line.
+     * @param theValue The value to write.
+     */
+    private void write(final int theLine, final long theValue) {
+        char[] line = myLines[theLine];
+        int length = append(line, 0, LABELS[theLine]);
+        length = append(line, length, theValue);
+        myLengths[theLine] = append(line, length, UNITS[theLine]);
+    }
+
+
+    /**
+     * Copies a string into a line.
+     *
+     * @param theLine The characters of the line.
+     * @param theStart The index to copy the string to.
+     * @param theText The string to copy.
+     * @return The index after the last character copied.
+     */
+    private static int append(final char[] theLine, final int theStart,
+                              final String theText) {
+        theText.getChars(0, theText.length(), theLine, theStart);
+        return theStart + theText.length();
+    }
+
+
+    /**
+     * Writes the decimal digits of a value into a line.
+     *
+     * @param theLine The characters of the line.
+     * @param theStart The index to write the first digit to.
+     * @param theValue The non-negative value to write.
+     * @return The index after the last digit written.
+     */
+    private static int append(final char[] theLine, final int theStart,
+                              final long theValue) {
+        long value = Math.max(0, theValue);
+        int end = theStart;
+        do {
+            theLine[end++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        for (int i = theStart, j = end - 1; i < j; i++, j--) {
+            char digit = theLine[i];
+            theLine[i] = theLine[j];
+            theLine[j] = digit;
+        }
+        return end;
+    }
+
+}
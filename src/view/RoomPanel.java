@@ -2,6 +2,12 @@ package view;
 
 import controller.UserController;
 import model.map.Player;
+import model.map.TileMap;
+import model.map.TileMapLoader;
+import model.map.Tileset;
+import model.metrics.MetricsRegistry;
+import model.metrics.PerformanceSampler;
+import model.metrics.Stopwatch;
 import model.room.Room;
 
 import javax.imageio.ImageIO;
@@ -13,6 +19,7 @@ import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A class to display the game state.
@@ -28,6 +35,18 @@ public class RoomPanel extends JPanel implements ActionListener {
     /** File path constant. */
     public static final String PATH = "src/res/maps/map_";
 
+    /** Times the update of the Player in each frame. */
+    private static final Stopwatch UPDATE =
+            MetricsRegistry.getDefault().stopwatch(PerformanceSampler.FRAME_UPDATE);
+
+    /** Times the painting of each frame. */
+    private static final Stopwatch PAINT =
+            MetricsRegistry.getDefault().stopwatch(PerformanceSampler.FRAME_PAINT);
+
+    /** Counts the frames painted. */
+    private static final LongAdder FRAMES =
+            MetricsRegistry.getDefault().counter(PerformanceSampler.FRAMES);
+
     /** Controller object that uses keyboard input to manipulate player sprite.  */
     private UserController myUserControls;
 
@@ -37,9 +56,12 @@ public class RoomPanel extends JPanel implements ActionListener {
     /** A value to get the ID of the current room displayed on the panel. */
     private int myRoomID;
 
-    /** The graphical floor map for the currently loaded room. */
+    /** The graphical floor map for the currently loaded room, or null if it is drawn from tiles. */
     private BufferedImage myFloorMap;
 
+    /** The tiles of the currently loaded room, or null if it is drawn from its map image. */
+    private TileMap myTileMap;
+
 
     /**
      * Constructor for class.
@@ -62,12 +84,39 @@ public class RoomPanel extends JPanel implements ActionListener {
         myCurrentRoom = theRoom;
         myRoomID = getMyCurrentRoom().getRoomID();
         myUserControls = new UserController(new Player(), myCurrentRoom.getMap());
+        myFloorMap = null;
+        myTileMap = loadTiles(theRoom.getRoomID());
+        if (myTileMap == null) {
+            try {
+                myFloorMap = ImageIO.read(new File(PATH + theRoom.getRoomID() + "/map.png"));
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+        repaint();
+    }
+
+    /**
+     * Returns the tiles of a room if its map has visible layers to draw from
+     * its tilesets, starting the decoding of those tilesets.
+     *
+     * @param theRoomID The ID of the room.
+     * @return The room's tiles, or null if it should be drawn from its map image.
+     */
+    private TileMap loadTiles(final int theRoomID) {
         try {
-            myFloorMap = ImageIO.read(new File(PATH + theRoom.getRoomID() + "/map.png"));
+            TileMap map = TileMapLoader.load(theRoomID);
+            if (!TileRenderer.canDraw(map)) {
+                return null;
+            }
+            for (Tileset tileset : map.getTilesets()) {
+                AssetLoader.getDefault().repaintWhenLoaded(tileset.getImagePath(), this);
+            }
+            return map;
         } catch (Exception e) {
             e.printStackTrace();
+            return null;
         }
-        repaint();
     }
 
     /** Returns the current ID value of the room loaded into this panel.
@@ -78,18 +127,27 @@ public class RoomPanel extends JPanel implements ActionListener {
     /** Overrides swing paintComponent to draw GUI elements. Can be called manually with repaint() */
     @Override
     public void paintComponent(Graphics g) {
+        long start = PAINT.start();
         super.paintComponent(g);
-        g.drawImage(myFloorMap, 0,0, this);
+        if (myTileMap != null) {
+            TileRenderer.getDefault().draw((Graphics2D) g, myRoomID, myTileMap);
+        } else {
+            g.drawImage(myFloorMap, 0,0, this);
+        }
         Player player = myUserControls.getMyPlayer();
-        g.drawImage(player.getSprite(), player.getX(),
+        g.drawImage(SpriteSheet.getPlayerSprite(player.getDirection()), player.getX(),
                 player.getY(), this);
+        PAINT.stop(start);
+        FRAMES.increment();
     }
 
 
     /** Method to move player sprite when keys are pressed or released. */
     @Override
     public void actionPerformed(ActionEvent e) {
+        long start = UPDATE.start();
         myUserControls.updatePlayer();
+        UPDATE.stop(start);
         repaint();
     }
 
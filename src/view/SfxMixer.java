@@ -0,0 +1,388 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Mixes the game's sound effects into a single SourceDataLine.
+ *
+ * Every effect is decoded to 16 bit mono samples when the mixer is built,
+ * and a fixed pool of VOICES voices plays them. A mixer thread sums the
+ * playing voices into one buffer of BUFFER_FRAMES frames at a time and
+ * writes it to the line. play() only bumps a per-effect counter, which the
+ * mixer drains before each buffer, so an effect starts within one buffer of
+ * being asked for and asking neither allocates, locks nor touches the line.
+ * If every voice is busy, the voice nearest its end is taken.
+ *
+ * An effect whose file is missing from PATH is replaced by a short
+ * synthesized sound, so the mixer always has something to play.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class SfxMixer implements AutoCloseable {
+
+    /** The format the effects are mixed in. */
+    public static final AudioFormat FORMAT = new AudioFormat(44100f, 16, 1, true, false);
+
+    /** The frames mixed at a time. */
+    public static final int BUFFER_FRAMES = 512;
+
+    /** The most effects that play at once. */
+    public static final int VOICES = 8;
+
+    /** The directory of the effects' audio files. */
+    public static final String PATH = "src/res/assets/sfx/";
+
+    /** The line the effects are written to, or null if there is none. */
+    private final SourceDataLine myLine;
+
+    /** The samples of each effect, indexed by ordinal. */
+    private final short[][] mySounds;
+
+    /** The times each effect was asked for since the last buffer. */
+    private final AtomicIntegerArray myPending;
+
+    /** The samples each voice plays, or null if the voice is free. */
+    private final short[][] myVoiceSounds;
+
+    /** The next sample each voice plays. */
+    private final int[] myVoicePositions;
+
+    /** The sum of the voices for one buffer. */
+    private final int[] myMix;
+
+    /** One buffer of mixed audio as written to the line. */
+    private final byte[] myBytes;
+
+    /** The gain every effect is scaled by. */
+    private volatile float myGain;
+
+    /** Whether the mixer has been closed. */
+    private volatile boolean myClosed;
+
+
+    /**
+     * Constructs a mixer of the game's effects writing to the given line.
+     * Mixing does not start until start() is called.
+     *
+     * @param theLine The open line to write to, or null to only mix.
+     */
+    SfxMixer(final SourceDataLine theLine) {
+        myLine = theLine;
+        SoundEffect[] effects = SoundEffect.values();
+        mySounds = new short[effects.length][];
+        for (SoundEffect effect : effects) {
+            mySounds[effect.ordinal()] = load(effect);
+        }
+        myPending = new AtomicIntegerArray(effects.length);
+        myVoiceSounds = new short[VOICES][];
+        myVoicePositions = new int[VOICES];
+        myMix = new int[BUFFER_FRAMES];
+        myBytes = new byte[BUFFER_FRAMES * FORMAT.getFrameSize()];
+        myGain = 1f;
+    }
+
+
+    /**
+     * Returns the mixer of the game's effects, building it and opening its
+     * line on first use. If no line can be opened, the mixer is closed and
+     * plays nothing.
+     *
+     * @return The game's mixer.
+     */
+    public static SfxMixer getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+
+    /**
+     * Asks for an effect to be played. Never blocks or allocates.
+     *
+     * @param theEffect The effect to play.
+     */
+    public void play(final SoundEffect theEffect) {
+        if (!myClosed) {
+            myPending.incrementAndGet(theEffect.ordinal());
+        }
+    }
+
+
+    /**
+     * Sets the gain every effect is scaled by.
+     *
+     * @param theGain The linear gain, from 0 for silence to 1 for full volume.
+     * @throws IllegalArgumentException if theGain is outside 0 to 1.
+     */
+    public void setGain(final float theGain) {
+        if (!(theGain >= 0f && theGain <= 1f)) {
+            throw new IllegalArgumentException("gain must be between 0 and 1");
+        }
+        myGain = theGain;
+    }
+
+
+    /**
+     * Returns the gain every effect is scaled by.
+     *
+     * @return The linear gain.
+     */
+    public float getGain() {
+        return myGain;
+    }
+
+
+    /** Stops mixing and releases the line. */
+    @Override
+    public void close() {
+        myClosed = true;
+        if (myLine != null) {
+            myLine.close();
+        }
+    }
+
+
+    /**
+     * Starts the line and the mixer thread.
+     *
+     * @throws IllegalStateException if the mixer has no line.
+     */
+    void start() {
+        if (myLine == null) {
+            throw new IllegalStateException("the mixer has no line");
+        }
+        myLine.start();
+        Thread thread = new Thread(this::mixLoop, "sfx-mixer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY - 1);
+        thread.start();
+    }
+
+
+    /**
+     * Starts the effects asked for and mixes one buffer of the playing
+     * voices. Called only by the mixer thread.
+     *
+     * @return The buffer of mixed audio, in FORMAT.
+     */
+    byte[] render() {
+        for (int effect = 0; effect < mySounds.length; effect++) {
+            int count = Math.min(VOICES, myPending.getAndSet(effect, 0));
+            for (int i = 0; i < count; i++) {
+                startVoice(mySounds[effect]);
+            }
+        }
+        Arrays.fill(myMix, 0);
+        for (int voice = 0; voice < VOICES; voice++) {
+            short[] sound = myVoiceSounds[voice];
+            if (sound != null) {
+                int position = myVoicePositions[voice];
+                int frames = Math.min(BUFFER_FRAMES, sound.length - position);
+                for (int i = 0; i < frames; i++) {
+                    myMix[i] += sound[position + i];
+                }
+                position += frames;
+                myVoicePositions[voice] = position;
+                if (position == sound.length) {
+                    myVoiceSounds[voice] = null;
+                }
+            }
+        }
+        float gain = myGain;
+        for (int i = 0; i < BUFFER_FRAMES; i++) {
+            int sample = (int) (myMix[i] * gain);
+            sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sample));
+            myBytes[2 * i] = (byte) sample;
+            myBytes[2 * i + 1] = (byte) (sample >> 8);
+        }
+        return myBytes;
+    }
+
+
+    /**
+     * Returns the number of voices playing.
+     *
+     * @return The number of busy voices.
+     */
+    int getActiveVoices() {
+        int active = 0;
+        for (short[] sound : myVoiceSounds) {
+            if (sound != null) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+
+    /** Mixes and writes buffers to the line until the mixer is closed. */
+    private void mixLoop() {
+        while (!myClosed) {
+            byte[] buffer = render();
+            myLine.write(buffer, 0, buffer.length);
+        }
+    }
+
+
+    /**
+     * Plays a sound on a free voice, or on the voice nearest its end if none
+     * is free.
+     *
+     * @param theSound The samples to play.
+     */
+    private void startVoice(final short[] theSound) {
+        int chosen = 0;
+        int remaining = Integer.MAX_VALUE;
+        for (int voice = 0; voice < VOICES; voice++) {
+            short[] sound = myVoiceSounds[voice];
+            if (sound == null) {
+                chosen = voice;
+                break;
+            }
+            int left = sound.length - myVoicePositions[voice];
+            if (left < remaining) {
+                chosen = voice;
+                remaining = left;
+            }
+        }
+        myVoiceSounds[chosen] = theSound;
+        myVoicePositions[chosen] = 0;
+    }
+
+
+    /**
+     * Decodes an effect's audio file to FORMAT, or synthesizes the effect if
+     * its file is missing or cannot be converted.
+     *
+     * @param theEffect The effect to load.
+     * @return The effect's samples.
+     */
+    private static short[] load(final SoundEffect theEffect) {
+        File file = new File(PATH + theEffect.getFileName());
+        if (file.isFile()) {
+            try (AudioInputStream source = AudioSystem.getAudioInputStream(file);
+                 AudioInputStream pcm = AudioSystem.getAudioInputStream(FORMAT, source)) {
+                byte[] bytes = pcm.readAllBytes();
+                short[] samples = new short[bytes.length / 2];
+                for (int i = 0; i < samples.length; i++) {
+                    samples[i] = (short) ((bytes[2 * i] & 0xFF) | (bytes[2 * i + 1] << 8));
+                }
+                if (samples.length > 0) {
+                    return samples;
+                }
+            } catch (IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+                e.printStackTrace();
+            }
+        }
+        return synthesize(theEffect);
+    }
+
+
+    /**
+     * Builds a short stand-in for an effect: a rising chime for an unlock,
+     * a low buzz for a wrong answer and a soft thud for a footstep.
+     *
+     * @param theEffect The effect to synthesize.
+     * @return The effect's samples in FORMAT.
+     */
+    static short[] synthesize(final SoundEffect theEffect) {
+        int rate = (int) FORMAT.getSampleRate();
+        short[] samples;
+        switch (theEffect) {
+            case DOOR_UNLOCK -> {
+                samples = new short[rate / 5];
+                tone(samples, 0, rate * 2 / 25, 660.0, 0.35, false);
+                tone(samples, rate * 2 / 25, samples.length - rate * 2 / 25, 880.0, 0.35, false);
+            }
+            case WRONG_ANSWER -> {
+                samples = new short[rate / 4];
+                tone(samples, 0, samples.length, 150.0, 0.3, true);
+            }
+            default -> {
+                samples = new short[rate / 25];
+                Random noise = new Random(theEffect.ordinal());
+                for (int i = 0; i < samples.length; i++) {
+                    double envelope = Math.exp(-8.0 * i / samples.length);
+                    samples[i] = (short) (Short.MAX_VALUE * 0.25 * envelope
+                            * (noise.nextDouble() * 2 - 1));
+                }
+            }
+        }
+        return samples;
+    }
+
+
+    /**
+     * Writes a decaying tone into part of a sample buffer.
+     *
+     * @param theSamples The buffer to write to.
+     * @param theStart The first sample to write.
+     * @param theLength The number of samples to write.
+     * @param theFrequency The frequency of the tone in hertz.
+     * @param theAmplitude The peak amplitude, from 0 to 1.
+     * @param theSquare true for a square wave and false for a sine wave.
+     */
+    private static void tone(final short[] theSamples, final int theStart, final int theLength,
+                             final double theFrequency, final double theAmplitude,
+                             final boolean theSquare) {
+        double step = 2 * Math.PI * theFrequency / FORMAT.getSampleRate();
+        for (int i = 0; i < theLength; i++) {
+            double wave = Math.sin(step * i);
+            if (theSquare) {
+                wave = Math.signum(wave);
+            }
+            double envelope = 1.0 - (double) i / theLength;
+            theSamples[theStart + i] = (short) (Short.MAX_VALUE * theAmplitude * envelope * wave);
+        }
+    }
+
+
+    /** Holds the default mixer so it is built on first use. */
+    private static final class DefaultHolder {
+
+        /** The game's mixer. */
+        private static final SfxMixer INSTANCE = open();
+
+
+        /**
+         * Builds the game's mixer on a line of the default mixer, or a
+         * closed mixer if no line can be opened.
+         *
+         * @return The game's mixer.
+         */
+        private static SfxMixer open() {
+            try {
+                SourceDataLine line = AudioSystem.getSourceDataLine(FORMAT);
+                line.open(FORMAT, 2 * BUFFER_FRAMES * FORMAT.getFrameSize());
+                SfxMixer mixer = new SfxMixer(line);
+                mixer.start();
+                return mixer;
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                e.printStackTrace();
+                SfxMixer mixer = new SfxMixer(null);
+                mixer.close();
+                return mixer;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+/**
+ * The sound effects the SfxMixer can play.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public enum SoundEffect {
+
+    /** Played when a Door is unlocked. */
+    DOOR_UNLOCK("door_unlock.wav"),
+
+    /** Played when a question is answered wrongly. */
+    WRONG_ANSWER("wrong_answer.wav"),
+
+    /** Played when the Player steps onto another tile. */
+    FOOTSTEP("footstep.wav");
+
+    /** The name of the effect's audio file. */
+    private final String myFileName;
+
+
+    /**
+     * Constructs a SoundEffect read from the given file.
+     *
+     * @param theFileName The name of the effect's audio file.
+     */
+    SoundEffect(final String theFileName) {
+        myFileName = theFileName;
+    }
+
+
+    /**
+     * Returns the name of the effect's audio file.
+     *
+     * @return The name of the effect's audio file.
+     */
+    public String getFileName() {
+        return myFileName;
+    }
+
+}
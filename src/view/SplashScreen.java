@@ -0,0 +1,102 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * A small undecorated window shown while the game's assets load, with a bar
+ * showing how many of the AssetLoader's tasks have finished. It uses only
+ * the JDK's logical fonts so it can be shown before any asset is read.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class SplashScreen extends JWindow {
+
+    /** The milliseconds between updates of the progress bar. */
+    public static final int UPDATE_DELAY = 50;
+
+    /** The width of the window. */
+    private static final int WIDTH = 420;
+
+    /** The height of the window. */
+    private static final int HEIGHT = 120;
+
+    /** The loader whose progress is shown. */
+    private final AssetLoader myLoader;
+
+    /** The bar showing the loader's progress. */
+    private final JProgressBar myProgress;
+
+    /** Updates the progress bar while the window is shown. */
+    private final Timer myTimer;
+
+
+    /**
+     * Constructs a hidden SplashScreen showing the progress of a loader.
+     *
+     * @param theLoader The loader whose progress is shown.
+     */
+    public SplashScreen(final AssetLoader theLoader) {
+        super();
+        myLoader = theLoader;
+        JLabel title = new JLabel("Office Escape 2", SwingConstants.CENTER);
+        title.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 28));
+        title.setForeground(Color.WHITE);
+        myProgress = new JProgressBar();
+        myProgress.setStringPainted(true);
+        myProgress.setString("Loading");
+        JPanel content = new JPanel(new BorderLayout(0, 10));
+        content.setBackground(Color.BLACK);
+        content.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        content.add(title, BorderLayout.CENTER);
+        content.add(myProgress, BorderLayout.SOUTH);
+        setContentPane(content);
+        setSize(WIDTH, HEIGHT);
+        setLocationRelativeTo(null);
+        myTimer = new Timer(UPDATE_DELAY, e -> updateProgress());
+    }
+
+
+    /**
+     * Shows or hides the window, updating its progress only while shown.
+     *
+     * @param theVisible true to show the window and false to hide it.
+     */
+    @Override
+    public void setVisible(final boolean theVisible) {
+        if (theVisible) {
+            updateProgress();
+            myTimer.start();
+        } else {
+            myTimer.stop();
+        }
+        super.setVisible(theVisible);
+    }
+
+
+    /** Stops updating the progress and releases the window. */
+    @Override
+    public void dispose() {
+        myTimer.stop();
+        super.dispose();
+    }
+
+
+    /** Shows the loader's finished tasks out of all its tasks. */
+    private void updateProgress() {
+        myProgress.setMaximum(Math.max(1, myLoader.getTotal()));
+        myProgress.setValue(myLoader.getCompleted());
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+/**
+ * Resolves the direction a Player faces to its sprite image. The images are
+ * decoded once, the first time a sprite is drawn, and shared by every
+ * RoomPanel, so the model never touches image files.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class SpriteSheet {
+
+    /** The file path for the Player sprite images. */
+    public static final String PATH = "src/res/assets/chair/";
+
+    /** The Player sprite facing up. */
+    private final BufferedImage myUp;
+
+    /** The Player sprite facing down. */
+    private final BufferedImage myDown;
+
+    /** The Player sprite facing left. */
+    private final BufferedImage myLeft;
+
+    /** The Player sprite facing right. */
+    private final BufferedImage myRight;
+
+
+    /** Reads in the image files for the Player sprite. */
+    private SpriteSheet() {
+        myUp = read("chair_up.png");
+        myDown = read("chair_down.png");
+        myLeft = read("chair_left.png");
+        myRight = read("chair_right.png");
+    }
+
+
+    /**
+     * Returns the sprite of a Player facing the given direction.
+     *
+     * @param theDirection 'U' for UP, 'D' for DOWN, 'L' for LEFT, and 'R'
+     *     for RIGHT.
+     * @return The sprite of a Player facing theDirection.
+     * @throws IllegalArgumentException if the given direction is not in
+     *     {'U', 'D', 'L', 'R'}
+     */
+    public static BufferedImage getPlayerSprite(final char theDirection) {
+        SpriteSheet sheet = Holder.INSTANCE;
+        return switch (theDirection) {
+            case 'U' -> sheet.myUp;
+            case 'D' -> sheet.myDown;
+            case 'L' -> sheet.myLeft;
+            case 'R' -> sheet.myRight;
+            default -> throw new IllegalArgumentException(
+                    "was not given a valid direction");
+        };
+    }
+
+
+    /**
+     * Reads one sprite image.
+     *
+     * @param theName The file name of the image.
+     * @return The image or null if it could not be read.
+     */
+    private static BufferedImage read(final String theName) {
+        try {
+            return ImageIO.read(new File(PATH + theName));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+
+    /** Holds the sprite sheet so it is read on first use. */
+    private static final class Holder {
+
+        /** The sprites of the Player. */
+        private static final SpriteSheet INSTANCE = new SpriteSheet();
+    }
+
+}
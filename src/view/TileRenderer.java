@@ -0,0 +1,307 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import model.map.GameMap;
+import model.map.TileMap;
+import model.map.Tileset;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Draws Room floors from the shared tilesets named by their TileMaps,
+ * instead of from a full image of each Room.
+ *
+ * A map is drawn in square chunks of CHUNK_TILES tiles a side. Each chunk
+ * is composed from its tiles the first time it is visible and kept in a
+ * cache holding at most a fixed number of chunks, evicting the least
+ * recently drawn. The memory used therefore depends on how much of the
+ * floor is on screen rather than on how many Rooms there are. The tilesets'
+ * images are decoded once by the AssetLoader and shared by every Room.
+ *
+ * Only the layers that were visible in Tiled are drawn, and never the
+ * layer marking the collision classes.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public final class TileRenderer {
+
+    /** The number of tiles along each side of a chunk. */
+    public static final int CHUNK_TILES = 8;
+
+    /** The most chunks the default renderer keeps. */
+    public static final int MAX_CHUNKS = 8;
+
+    /** The most chunks this renderer keeps. */
+    private final int myMaxChunks;
+
+    /** The composed chunks by key, in order of last use. */
+    private final Map<Long, BufferedImage> myChunks;
+
+
+    /**
+     * Constructs a TileRenderer keeping at most the given number of chunks.
+     *
+     * @param theMaxChunks The most chunks to keep.
+     * @throws IllegalArgumentException if theMaxChunks is less than 1.
+     */
+    public TileRenderer(final int theMaxChunks) {
+        if (theMaxChunks < 1) {
+            throw new IllegalArgumentException("a renderer needs room for a chunk");
+        }
+        myMaxChunks = theMaxChunks;
+        myChunks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, BufferedImage> theEldest) {
+                return size() > myMaxChunks;
+            }
+        };
+    }
+
+
+    /**
+     * Returns the renderer the game's Rooms are drawn with.
+     *
+     * @return The game's renderer.
+     */
+    public static TileRenderer getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+
+    /**
+     * Draws the visible chunks of a Room's map. A chunk whose tilesets are
+     * still being decoded is skipped until they are ready.
+     *
+     * @param theGraphics The graphics to draw with.
+     * @param theRoomID The ID of the Room.
+     * @param theMap The Room's map.
+     */
+    public synchronized void draw(final Graphics2D theGraphics, final int theRoomID,
+                                  final TileMap theMap) {
+        int chunkWidth = CHUNK_TILES * GameMap.TILE_WIDTH;
+        int chunkHeight = CHUNK_TILES * GameMap.TILE_HEIGHT;
+        int columns = (theMap.getColumns() + CHUNK_TILES - 1) / CHUNK_TILES;
+        int rows = (theMap.getRows() + CHUNK_TILES - 1) / CHUNK_TILES;
+        Rectangle clip = theGraphics.getClipBounds();
+        int firstColumn = 0;
+        int firstRow = 0;
+        if (clip != null) {
+            firstColumn = Math.max(0, clip.x / chunkWidth);
+            firstRow = Math.max(0, clip.y / chunkHeight);
+            columns = Math.min(columns, (clip.x + clip.width + chunkWidth - 1) / chunkWidth);
+            rows = Math.min(rows, (clip.y + clip.height + chunkHeight - 1) / chunkHeight);
+        }
+        for (int row = firstRow; row < rows; row++) {
+            for (int column = firstColumn; column < columns; column++) {
+                BufferedImage chunk = chunk(theRoomID, theMap, column, row);
+                if (chunk != null) {
+                    theGraphics.drawImage(chunk, column * chunkWidth, row * chunkHeight, null);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Checks whether a map can be drawn from tiles: whether it names
+     * tilesets and has a layer that is drawn.
+     *
+     * @param theMap The map.
+     * @return true if the map has tiles to draw and false otherwise.
+     */
+    public static boolean canDraw(final TileMap theMap) {
+        boolean drawn = false;
+        if (!theMap.getTilesets().isEmpty()) {
+            for (int layer = 0; layer < theMap.getLayerCount() && !drawn; layer++) {
+                drawn = isDrawn(theMap, layer);
+            }
+        }
+        return drawn;
+    }
+
+
+    /**
+     * Returns the number of chunks kept.
+     *
+     * @return The number of cached chunks.
+     */
+    public synchronized int getCachedChunks() {
+        return myChunks.size();
+    }
+
+
+    /** Discards every cached chunk. */
+    public synchronized void clear() {
+        myChunks.clear();
+    }
+
+
+    /**
+     * Returns a chunk of a Room's map, composing it if it is not cached.
+     *
+     * @param theRoomID The ID of the Room.
+     * @param theMap The Room's map.
+     * @param theColumn The column of the chunk.
+     * @param theRow The row of the chunk.
+     * @return The chunk, or null if its tilesets are still being decoded.
+     */
+    synchronized BufferedImage chunk(final int theRoomID, final TileMap theMap,
+                                     final int theColumn, final int theRow) {
+        long key = ((long) theRoomID << 32) | ((long) theRow << 16) | theColumn;
+        BufferedImage chunk = myChunks.get(key);
+        if (chunk == null && isReady(theMap)) {
+            chunk = compose(theMap, theColumn, theRow);
+            myChunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+
+    /**
+     * Checks whether every tileset of a map has been decoded or has failed,
+     * starting the decoding of any that has not.
+     *
+     * @param theMap The map.
+     * @return true if every tileset is done decoding and false otherwise.
+     */
+    private static boolean isReady(final TileMap theMap) {
+        boolean ready = true;
+        for (Tileset tileset : theMap.getTilesets()) {
+            ready &= AssetLoader.getDefault().image(tileset.getImagePath()).isDone();
+        }
+        return ready;
+    }
+
+
+    /**
+     * Checks whether a layer of a map is drawn: whether it was visible in
+     * Tiled and is not the collision layer.
+     *
+     * @param theMap The map.
+     * @param theLayer The index of the layer.
+     * @return true if the layer is drawn and false otherwise.
+     */
+    private static boolean isDrawn(final TileMap theMap, final int theLayer) {
+        return theMap.isLayerVisible(theLayer) && theLayer != theMap.getCollisionLayer();
+    }
+
+
+    /**
+     * Composes a chunk from the tiles of every drawn layer of a map, bottom
+     * layer first. Tiles are flipped and aligned to the bottom of their cell
+     * as Tiled draws them.
+     *
+     * @param theMap The map.
+     * @param theColumn The column of the chunk.
+     * @param theRow The row of the chunk.
+     * @return The composed chunk.
+     */
+    private static BufferedImage compose(final TileMap theMap, final int theColumn,
+                                         final int theRow) {
+        int firstColumn = theColumn * CHUNK_TILES;
+        int firstRow = theRow * CHUNK_TILES;
+        int columns = Math.min(CHUNK_TILES, theMap.getColumns() - firstColumn);
+        int rows = Math.min(CHUNK_TILES, theMap.getRows() - firstRow);
+        BufferedImage chunk = new BufferedImage(columns * GameMap.TILE_WIDTH,
+                rows * GameMap.TILE_HEIGHT, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = chunk.createGraphics();
+        try {
+            for (int layer = 0; layer < theMap.getLayerCount(); layer++) {
+                if (!isDrawn(theMap, layer)) {
+                    continue;
+                }
+                for (int row = 0; row < rows; row++) {
+                    for (int column = 0; column < columns; column++) {
+                        int id = theMap.getTileID(layer, firstColumn + column, firstRow + row);
+                        Tileset tileset = theMap.getTileset(id);
+                        if (tileset == null) {
+                            continue;
+                        }
+                        BufferedImage image = AssetLoader.getDefault()
+                                .peekImage(tileset.getImagePath());
+                        if (image == null) {
+                            continue;
+                        }
+                        int local = id - tileset.getFirstID();
+                        int width = tileset.getTileWidth();
+                        int height = tileset.getTileHeight();
+                        int sx = local % tileset.getColumns() * width;
+                        int sy = local / tileset.getColumns() * height;
+                        int flips = theMap.getTileFlips(layer, firstColumn + column,
+                                firstRow + row);
+                        if (flips == 0) {
+                            int dx = column * GameMap.TILE_WIDTH;
+                            int dy = (row + 1) * GameMap.TILE_HEIGHT - height;
+                            g.drawImage(image, dx, dy, dx + width, dy + height,
+                                    sx, sy, sx + width, sy + height, null);
+                        } else {
+                            g.drawImage(image.getSubimage(sx, sy, width, height),
+                                    flip(flips, column, row, width, height), null);
+                        }
+                    }
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        return chunk;
+    }
+
+
+    /**
+     * Returns the transform that draws a flipped tile into its cell of a
+     * chunk. Tiled mirrors a tile across its diagonal first, then left to
+     * right, then top to bottom.
+     *
+     * @param theFlips The flips of the tile.
+     * @param theColumn The column of the tile within the chunk.
+     * @param theRow The row of the tile within the chunk.
+     * @param theWidth The pixel width of the tile in its tileset.
+     * @param theHeight The pixel height of the tile in its tileset.
+     * @return The transform from the tile's pixels to the chunk's.
+     */
+    private static AffineTransform flip(final int theFlips, final int theColumn,
+                                        final int theRow, final int theWidth,
+                                        final int theHeight) {
+        boolean diagonal = (theFlips & TileMap.FLIP_DIAGONAL) != 0;
+        int width = diagonal ? theHeight : theWidth;
+        int height = diagonal ? theWidth : theHeight;
+        AffineTransform transform = AffineTransform.getTranslateInstance(
+                theColumn * GameMap.TILE_WIDTH, (theRow + 1) * GameMap.TILE_HEIGHT - height);
+        if ((theFlips & TileMap.FLIP_HORIZONTAL) != 0) {
+            transform.translate(width, 0);
+            transform.scale(-1, 1);
+        }
+        if ((theFlips & TileMap.FLIP_VERTICAL) != 0) {
+            transform.translate(0, height);
+            transform.scale(1, -1);
+        }
+        if (diagonal) {
+            transform.concatenate(new AffineTransform(0, 1, 1, 0, 0, 0));
+        }
+        return transform;
+    }
+
+
+    /** Holds the default renderer so it is created on first use. */
+    private static final class DefaultHolder {
+
+        /** The game's renderer. */
+        private static final TileRenderer INSTANCE = new TileRenderer(MAX_CHUNKS);
+    }
+
+}
@@ -2,12 +2,9 @@ package view;
 
 import controller.PropertyChangeEnabledUserControls;
 
-import javax.sound.sampled.*;
 import javax.swing.*;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
-import java.io.File;
-import java.io.IOException;
 
 /**
  * Class containing a toolbar with menu options to display at the top
@@ -17,10 +14,15 @@ import java.io.IOException;
  */
 public class ToolbarMenu extends JMenuBar implements PropertyChangeEnabledUserControls {
 
+    /** The file path of the game soundtrack. */
+    public static final String MUSIC_PATH =
+            "src/res/assets/music/Jordan F - Our Destiny, Above Us.wav";
+    /** The decibels each volume step raises or lowers the music by. */
+    private static final float VOLUME_STEP = 3f;
     /** The menu bar to be displayed at the top of the window. */
     private final JMenuBar myMenuBar;
-    /** Game soundtrack audio file. */
-    private Clip myAudioClip;
+    /** Streams the game soundtrack. */
+    private final MusicPlayer myMusic;
     /** Property change support object for this class. */
     private final PropertyChangeSupport myPcs;
 
@@ -35,10 +37,11 @@ public class ToolbarMenu extends JMenuBar implements PropertyChangeEnabledUserCo
             UnsupportedLookAndFeelException,
             ClassNotFoundException,
             InstantiationException,
-            IllegalAccessException, UnsupportedAudioFileException, LineUnavailableException, IOException {
+            IllegalAccessException {
 
         setupUI();
         myPcs = new PropertyChangeSupport(this);
+        myMusic = new MusicPlayer(MUSIC_PATH);
         myMenuBar = new JMenuBar();
         setupFileMenu();
         setupMusicControls();
@@ -135,40 +138,23 @@ public class ToolbarMenu extends JMenuBar implements PropertyChangeEnabledUserCo
     }
 
     /** Initializes music controls menu and adds to menu bar */
-    private void setupMusicControls() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
+    private void setupMusicControls() {
         final JMenu musicControls = new JMenu("Music Controls");
         JMenuItem startMusic = new JMenuItem("Play");
         JMenuItem stopMusic = new JMenuItem("Stop");
+        JMenuItem volumeUp = new JMenuItem("Volume Up");
+        JMenuItem volumeDown = new JMenuItem("Volume Down");
         musicControls.add(stopMusic);
         musicControls.add(startMusic);
-        loadSound();
-        stopMusic.addActionListener(e -> stopSound());
-        startMusic.addActionListener(e -> playSound());
+        musicControls.add(volumeUp);
+        musicControls.add(volumeDown);
+        stopMusic.addActionListener(e -> myMusic.stop());
+        startMusic.addActionListener(e -> myMusic.start());
+        volumeUp.addActionListener(e -> myMusic.setGain(myMusic.getGain() + VOLUME_STEP));
+        volumeDown.addActionListener(e -> myMusic.setGain(myMusic.getGain() - VOLUME_STEP));
         myMenuBar.add(musicControls);
     }
 
-    /** Loads a sound file into memory for playback. */
-    private void loadSound() throws UnsupportedAudioFileException, IOException, LineUnavailableException {
-
-        File audioFile = new File("src/res/assets/music/Jordan F - Our Destiny, Above Us.wav");
-        AudioInputStream audioStream = AudioSystem.getAudioInputStream(audioFile);
-
-        AudioFormat format = audioStream.getFormat();
-        DataLine.Info info = new DataLine.Info(Clip.class, format);
-        myAudioClip = (Clip) AudioSystem.getLine(info);
-        myAudioClip.open(audioStream);
-        FloatControl volume = (FloatControl) myAudioClip.getControl(FloatControl.Type.MASTER_GAIN);
-        volume.setValue((float) -4);
-        myAudioClip.loop(100);
-        myAudioClip.stop();
-    }
-
-    /** Plays the current sound from the last stop point. */
-    private void playSound() {myAudioClip.start();}
-
-    /** Stops the current sound playback. */
-    private void stopSound() {myAudioClip.stop();}
-
     /**
      * Sets up the UI for the toolbar.
      * @throws ClassNotFoundException If unable to load system default l/f.
@@ -0,0 +1,122 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller;
+
+import controller.event.DoorInteracted;
+import controller.event.DoorZoneChanged;
+import controller.event.EventBus;
+import controller.event.TileChanged;
+import model.engine.RoomSimulation;
+import model.map.GameMap;
+import model.map.Player;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for UserController.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class UserControllerTest {
+
+    /** The path to the test map's csv file. */
+    private static final String TEST_PATH = "tests/model/map/map.csv";
+
+    /** The UserController used in testing. */
+    private final UserController myController;
+
+    /** The door events delivered, in order. */
+    private final List<Object> myEvents;
+
+    /** The number of tile changes delivered. */
+    private final int[] myTiles;
+
+
+    /**
+     * Constructs a UserControllerTest with a controller posting to a bus
+     * that records its events.
+     */
+    public UserControllerTest() {
+        myController = new UserController(new Player(), new GameMap(TEST_PATH));
+        myEvents = new ArrayList<>();
+        myTiles = new int[1];
+        EventBus bus = new EventBus();
+        bus.subscribe(DoorZoneChanged.class, myEvents::add);
+        bus.subscribe(DoorInteracted.class, myEvents::add);
+        bus.subscribe(TileChanged.class, theEvent -> myTiles[0]++);
+        myController.setEventBus(bus);
+    }
+
+
+    /**
+     * Returns a key event for the given key.
+     *
+     * @param theKey The key code.
+     * @return A key event of theKey.
+     */
+    private static KeyEvent key(final int theKey) {
+        return new KeyEvent(new JPanel(), KeyEvent.KEY_PRESSED, 0, 0, theKey,
+                KeyEvent.CHAR_UNDEFINED);
+    }
+
+
+    /**
+     * Checks that standing still posts the door state once rather than every
+     * tick.
+     */
+    @Test
+    void updatePlayer_whileStill_postsOnce() {
+        for (int i = 0; i < 10; i++) {
+            myController.updatePlayer();
+        }
+        assertEquals(1, myEvents.size());
+        assertEquals(RoomSimulation.NO_DOOR, ((DoorZoneChanged) myEvents.get(0)).getDoor());
+        assertEquals(1, myTiles[0]);
+    }
+
+
+    /**
+     * Checks that reaching a door and pressing the interact key at it each
+     * post one event, however long the player stays.
+     */
+    @Test
+    void updatePlayer_atDoorPressingInteract_postsTransitions() {
+        myController.getMyPlayer().setX(6 * GameMap.TILE_WIDTH);
+        myController.getMyPlayer().setY(GameMap.TILE_HEIGHT);
+        myController.updatePlayer();
+        myController.updatePlayer();
+        myController.keyPressed(key(KeyEvent.VK_E));
+        myController.updatePlayer();
+        myController.updatePlayer();
+        assertEquals(2, myEvents.size());
+        assertEquals('D', ((DoorZoneChanged) myEvents.get(0)).getDoor());
+        assertEquals('D', ((DoorInteracted) myEvents.get(1)).getDoor());
+    }
+
+
+    /**
+     * Checks that a controller without a bus posts nothing.
+     */
+    @Test
+    void updatePlayer_afterBusRemoved_postsNothing() {
+        myController.setEventBus(null);
+        myController.updatePlayer();
+        assertTrue(myEvents.isEmpty());
+    }
+
+}
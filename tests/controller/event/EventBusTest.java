@@ -0,0 +1,121 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package controller.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for EventBus.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class EventBusTest {
+
+    /** The bus used in testing. */
+    private final EventBus myBus;
+
+    /** The events delivered, in order. */
+    private final List<Object> myDelivered;
+
+
+    /** Constructs an EventBusTest with a bus recording every door event. */
+    public EventBusTest() {
+        myBus = new EventBus();
+        myDelivered = new ArrayList<>();
+        myBus.subscribe(DoorZoneChanged.class, myDelivered::add);
+        myBus.subscribe(DoorInteracted.class, myDelivered::add);
+    }
+
+
+    /**
+     * Checks that events are held until the bus is flushed.
+     */
+    @Test
+    void post_beforeFlush_deliversNothing() {
+        myBus.post(new DoorZoneChanged('A'));
+        assertTrue(myBus.hasPending());
+        assertTrue(myDelivered.isEmpty());
+        myBus.flush();
+        assertEquals(1, myDelivered.size());
+        assertFalse(myBus.hasPending());
+    }
+
+
+    /**
+     * Checks that only the last event of a class posted in a frame is
+     * delivered, in the order its class was first posted.
+     */
+    @Test
+    void flush_afterSeveralEventsOfClass_deliversLast() {
+        myBus.post(new DoorZoneChanged('A'));
+        myBus.post(new DoorInteracted('A'));
+        DoorZoneChanged last = new DoorZoneChanged('B');
+        myBus.post(last);
+        myBus.flush();
+        assertEquals(2, myDelivered.size());
+        assertSame(last, myDelivered.get(0));
+        assertTrue(myDelivered.get(1) instanceof DoorInteracted);
+    }
+
+
+    /**
+     * Checks that events no handler subscribes to are dropped.
+     */
+    @Test
+    void post_withoutHandlers_dropsEvent() {
+        assertFalse(myBus.hasHandlers(TileChanged.class));
+        myBus.post(new TileChanged(1, 2));
+        assertFalse(myBus.hasPending());
+        assertThrows(IllegalArgumentException.class, () -> myBus.post(null));
+    }
+
+
+    /**
+     * Checks that events posted by a handler are delivered the next frame.
+     */
+    @Test
+    void flush_givenHandlerPosting_deliversNextFrame() {
+        myBus.subscribe(AnswerSubmitted.class,
+                theEvent -> myBus.post(new DoorZoneChanged('C')));
+        myBus.post(new AnswerSubmitted(true));
+        myBus.flush();
+        assertTrue(myDelivered.isEmpty());
+        myBus.flush();
+        assertEquals('C', ((DoorZoneChanged) myDelivered.get(0)).getDoor());
+    }
+
+
+    /**
+     * Checks that an unsubscribed handler receives no more events.
+     */
+    @Test
+    void unsubscribe_afterSubscribe_stopsDelivery() {
+        List<TileChanged> tiles = new ArrayList<>();
+        Consumer<TileChanged> handler = tiles::add;
+        myBus.subscribe(TileChanged.class, handler);
+        myBus.post(new TileChanged(3, 4));
+        myBus.flush();
+        myBus.unsubscribe(TileChanged.class, handler);
+        myBus.post(new TileChanged(5, 6));
+        myBus.flush();
+        assertEquals(1, tiles.size());
+        assertEquals(3, tiles.get(0).getColumn());
+        assertEquals(4, tiles.get(0).getRow());
+    }
+
+}
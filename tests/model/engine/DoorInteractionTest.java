@@ -0,0 +1,162 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.room.Room;
+import model.room.RoomBuilder;
+import model.trivia.Trivia;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for DoorInteraction.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class DoorInteractionTest {
+
+    /** The seed of the test floor. */
+    private static final long SEED = 360L;
+
+    /** The Room the Player is in. */
+    private final Room myRoom;
+
+    /** A Door of the Room that leads to another Room. */
+    private final char myDoor;
+
+    /** The DoorInteraction used in testing. */
+    private final DoorInteraction myInteraction;
+
+    /** The changes reported by the interaction, in order. */
+    private final List<String> myEvents;
+
+
+    /**
+     * Constructs a DoorInteractionTest in the source Room of a 4x4 floor,
+     * whose first Door has a short answer question.
+     */
+    public DoorInteractionTest() {
+        RoomBuilder floor = new RoomBuilder(4, 4, 0, 15, SEED);
+        myRoom = floor.getRoomsList().get(floor.getSource());
+        char door = RoomSimulation.NO_DOOR;
+        for (char c = 'A'; c <= 'D' && door == RoomSimulation.NO_DOOR; c++) {
+            if (myRoom.hasRoom(c)) {
+                door = c;
+            }
+        }
+        myDoor = door;
+        myRoom.getDoor(myDoor).setTrivia(new Trivia(1, "Question?", "Answer", "", 3));
+        myEvents = new ArrayList<>();
+        myInteraction = new DoorInteraction(new DoorInteractionListener() {
+            @Override
+            public void prompted(final char theDoor, final Room theNext) {
+                myEvents.add("prompted " + theDoor);
+            }
+
+            @Override
+            public void triviaShown(final Trivia theTrivia) {
+                myEvents.add("shown");
+            }
+
+            @Override
+            public void cheatShown(final Trivia theTrivia) {
+                myEvents.add("cheat");
+            }
+
+            @Override
+            public void cleared() {
+                myEvents.add("cleared");
+            }
+
+            @Override
+            public void doorUnlocked(final int theRoomID, final char theDoor) {
+                myEvents.add("unlocked " + theDoor);
+            }
+
+            @Override
+            public void transition(final Room theNext) {
+                myEvents.add("transition");
+            }
+        });
+        myInteraction.setRoom(myRoom);
+    }
+
+
+    /**
+     * Checks that reaching a locked Door prompts once, however often the
+     * Door is reported.
+     */
+    @Test
+    void doorChanged_atLockedDoor_promptsOnce() {
+        myInteraction.doorChanged(myDoor);
+        myInteraction.doorChanged(myDoor);
+        assertEquals(DoorInteraction.State.PROMPTED, myInteraction.getState());
+        assertEquals(List.of("prompted " + myDoor), myEvents);
+    }
+
+
+    /**
+     * Checks the whole interaction with a locked Door, from the prompt to
+     * going through it.
+     */
+    @Test
+    void answered_correctly_unlocksAndTransitions() {
+        myInteraction.doorChanged(myDoor);
+        myInteraction.interacted(false);
+        assertEquals(DoorInteraction.State.ANSWERING, myInteraction.getState());
+        assertNotNull(myInteraction.getTrivia());
+        myInteraction.interacted(true);
+        myInteraction.interacted(true);
+        myInteraction.answered(false);
+        assertEquals(DoorInteraction.State.ANSWERING, myInteraction.getState());
+        myInteraction.answered(true);
+        assertEquals(DoorInteraction.State.TRANSITION, myInteraction.getState());
+        assertTrue(myRoom.getDoor(myDoor).isUnlocked());
+        assertEquals(List.of("prompted " + myDoor, "shown", "cheat",
+                "unlocked " + myDoor, "transition"), myEvents);
+    }
+
+
+    /**
+     * Checks that pressing the interact key at an unlocked Door goes through
+     * it without a prompt.
+     */
+    @Test
+    void interacted_atUnlockedDoor_transitions() {
+        myRoom.getDoor(myDoor).unlockDoor();
+        myInteraction.doorChanged(myDoor);
+        assertEquals(DoorInteraction.State.APPROACHING, myInteraction.getState());
+        myInteraction.interacted(false);
+        assertEquals(List.of("transition"), myEvents);
+    }
+
+
+    /**
+     * Checks that leaving a Door while answering clears the console and
+     * ignores later answers.
+     */
+    @Test
+    void doorChanged_leavingWhileAnswering_clears() {
+        myInteraction.doorChanged(myDoor);
+        myInteraction.interacted(false);
+        myInteraction.doorChanged(RoomSimulation.NO_DOOR);
+        assertEquals(DoorInteraction.State.IDLE, myInteraction.getState());
+        myInteraction.answered(true);
+        assertFalse(myRoom.getDoor(myDoor).isUnlocked());
+        assertEquals(List.of("prompted " + myDoor, "shown", "cleared"), myEvents);
+    }
+
+}
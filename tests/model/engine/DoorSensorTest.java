@@ -0,0 +1,114 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.map.GameMap;
+import model.map.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for DoorSensor.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class DoorSensorTest {
+
+    /** The path to the test map's csv file. */
+    private static final String TEST_PATH = "tests/model/map/map.csv";
+
+    /** The RoomSimulation whose held commands are read. */
+    private final RoomSimulation mySim;
+
+    /** The edges reported, as the method name and its arguments. */
+    private final List<String> myEdges;
+
+    /** The DoorSensor under test. */
+    private final DoorSensor mySensor;
+
+
+    /**
+     * Constructs a DoorSensorTest recording the edges the sensor reports.
+     */
+    public DoorSensorTest() {
+        mySim = new RoomSimulation(new Player(), new GameMap(TEST_PATH));
+        myEdges = new ArrayList<>();
+        mySensor = new DoorSensor(new DoorSensorListener() {
+            @Override
+            public void doorChanged(final char theDoor) {
+                myEdges.add("door " + theDoor);
+            }
+
+            @Override
+            public void interacted(final char theDoor, final boolean theCheat) {
+                myEdges.add("interact " + theDoor + " " + theCheat);
+            }
+        });
+    }
+
+
+    /**
+     * Checks that a Door is reported once when reached and once when left.
+     */
+    @Test
+    void update_reachingAndLeavingDoor_reportsEachChangeOnce() {
+        mySensor.update(RoomSimulation.NO_DOOR, mySim);
+        mySensor.update('A', mySim);
+        mySensor.update('A', mySim);
+        mySensor.update(RoomSimulation.NO_DOOR, mySim);
+        assertEquals(List.of("door " + RoomSimulation.NO_DOOR, "door A",
+                "door " + RoomSimulation.NO_DOOR), myEdges);
+    }
+
+
+    /**
+     * Checks that holding INTERACT at a Door reports one interaction, and
+     * pressing CHEAT while holding it reports another.
+     */
+    @Test
+    void update_holdingInteractAtDoor_reportsStartAndCheat() {
+        mySim.press(Command.INTERACT);
+        mySensor.update('B', mySim);
+        mySensor.update('B', mySim);
+        mySim.press(Command.CHEAT);
+        mySensor.update('B', mySim);
+        assertEquals(List.of("door B", "interact B false", "interact B true"), myEdges);
+    }
+
+
+    /**
+     * Checks that INTERACT held away from a Door reports no interaction.
+     */
+    @Test
+    void update_interactAwayFromDoor_reportsNoInteraction() {
+        mySim.press(Command.INTERACT);
+        mySensor.update(RoomSimulation.NO_DOOR, mySim);
+        assertEquals(List.of("door " + RoomSimulation.NO_DOOR), myEdges);
+    }
+
+
+    /**
+     * Checks that after reset() the Door touched is reported again.
+     */
+    @Test
+    void reset_atSameDoor_reportsDoorAgain() {
+        mySensor.update('C', mySim);
+        mySensor.reset();
+        mySensor.update('C', mySim);
+        assertEquals(List.of("door C", "door C"), myEdges);
+    }
+
+}
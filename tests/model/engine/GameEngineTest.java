@@ -0,0 +1,181 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.map.AbstractMapEntity;
+import model.map.GameMap;
+import model.room.Room;
+import model.room.RoomBuilder;
+import model.trivia.Trivia;
+import model.trivia.TriviaBank;
+import model.trivia.TriviaManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for GameEngine.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class GameEngineTest {
+
+    /** The seed of the test floor. */
+    private static final long SEED = 360L;
+
+    /** The builder of the test floor. */
+    private final RoomBuilder myFloor;
+
+    /** The GameEngine used in testing. */
+    private final GameEngine myEngine;
+
+    /** The events reported by the engine, in order. */
+    private final List<String> myEvents;
+
+
+    /**
+     * Constructs a GameEngineTest on a 4x4 floor whose Doors draw from a
+     * bank of short answer questions.
+     */
+    public GameEngineTest() {
+        List<Trivia> trivia = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            trivia.add(new Trivia(i, "Question " + i + "?", "Answer " + i, "", 3));
+        }
+        myFloor = new RoomBuilder(4, 4, 0, 15, SEED);
+        myFloor.setTriviaManager(new TriviaManager(new TriviaBank(trivia), SEED));
+        myEngine = new GameEngine(myFloor);
+        myEvents = new ArrayList<>();
+        myEngine.addListener(new EngineListener() {
+            @Override
+            public void roomEntered(final int theRoomID) {
+                myEvents.add("enter " + theRoomID);
+            }
+
+            @Override
+            public void triviaShown(final char theDoor, final Trivia theTrivia) {
+                myEvents.add("shown " + theDoor);
+            }
+
+            @Override
+            public void floorEscaped(final long theTicks) {
+                myEvents.add("escaped");
+            }
+        });
+    }
+
+
+    /**
+     * Returns the letter of the Door of the current Room that leads to the
+     * Room with the given ID.
+     *
+     * @param theRoomID The ID of a neighboring Room.
+     * @return The letter of the Door leading to it.
+     */
+    private char doorTo(final int theRoomID) {
+        Room room = myEngine.getCurrentRoom();
+        for (char door = 'A'; door <= 'D'; door++) {
+            if (room.hasRoom(door) && room.getRoom(door).getRoomID() == theRoomID) {
+                return door;
+            }
+        }
+        throw new AssertionError("no door to room " + theRoomID);
+    }
+
+
+    /**
+     * Places the Player on a tile of the given Door of the current Room.
+     *
+     * @param theDoor The letter of the Door.
+     */
+    private void moveToDoor(final char theDoor) {
+        GameMap map = myEngine.getSimulation().getMap();
+        List<AbstractMapEntity> tiles = switch (theDoor) {
+            case 'A' -> map.doorAEntities();
+            case 'B' -> map.doorBEntities();
+            case 'C' -> map.doorCEntities();
+            default -> map.doorDEntities();
+        };
+        myEngine.getPlayer().setX(tiles.get(0).getX());
+        myEngine.getPlayer().setY(tiles.get(0).getY());
+    }
+
+
+    /**
+     * Checks that interacting with a locked Door shows its Trivia once.
+     */
+    @Test
+    void step_interactAtLockedDoor_showsTriviaOnce() {
+        int next = myFloor.getOptimalSolution().get(1);
+        moveToDoor(doorTo(next));
+        myEngine.press(Command.INTERACT);
+        myEngine.step();
+        myEngine.step();
+        assertNotNull(myEngine.getShownTrivia());
+        assertEquals(List.of("shown " + doorTo(next)), myEvents);
+    }
+
+
+    /**
+     * Checks that a wrong answer keeps the Player in the Room and a correct
+     * one moves it through the Door.
+     */
+    @Test
+    void answer_wrongThenCorrect_movesThroughDoor() {
+        int next = myFloor.getOptimalSolution().get(1);
+        char door = doorTo(next);
+        moveToDoor(door);
+        myEngine.press(Command.INTERACT);
+        myEngine.step();
+        Trivia trivia = myEngine.getShownTrivia();
+        assertFalse(myEngine.answer("not it"));
+        assertEquals(myFloor.getSource(), myEngine.getCurrentRoom().getRoomID());
+        assertTrue(myEngine.answer(trivia.getCorrectAnswer()));
+        assertEquals(next, myEngine.getCurrentRoom().getRoomID());
+        assertTrue(myFloor.getRoomsList().get(myFloor.getSource()).getDoor(door)
+                .isUnlocked(), "the Door should be unlocked");
+    }
+
+
+    /**
+     * Checks that answering with no Trivia shown throws an exception.
+     */
+    @Test
+    void answer_withNoTriviaShown_throwsException() {
+        assertThrows(IllegalStateException.class, () -> myEngine.answer("Answer 1"));
+    }
+
+
+    /**
+     * Checks that following the optimal solution escapes the floor.
+     */
+    @Test
+    void step_alongOptimalSolution_escapesFloor() {
+        List<Integer> path = myFloor.getOptimalSolution();
+        for (int i = 1; i < path.size(); i++) {
+            moveToDoor(doorTo(path.get(i)));
+            myEngine.press(Command.INTERACT);
+            myEngine.step();
+            assertTrue(myEngine.answer(myEngine.getShownTrivia().getCorrectAnswer()));
+        }
+        assertTrue(myEngine.isEscaped());
+        assertEquals(myFloor.getTarget(), myEngine.getCurrentRoom().getRoomID());
+        assertEquals("escaped", myEvents.get(myEvents.size() - 1));
+        long ticks = myEngine.getTicks();
+        myEngine.step();
+        assertEquals(ticks, myEngine.getTicks(), "an escaped floor should not tick");
+    }
+
+}
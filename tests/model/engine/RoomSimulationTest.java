@@ -0,0 +1,105 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.engine;
+
+import model.map.GameMap;
+import model.map.Player;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for RoomSimulation.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class RoomSimulationTest {
+
+    /** The path to the test map's csv file. */
+    private static final String TEST_PATH = "tests/model/map/map.csv";
+
+    /** The Player used in testing. */
+    private final Player myPlayer;
+
+    /** The RoomSimulation used in testing. */
+    private final RoomSimulation mySim;
+
+
+    /**
+     * Constructs a RoomSimulationTest with a Player at the default position
+     * of the test map.
+     */
+    public RoomSimulationTest() {
+        myPlayer = new Player();
+        mySim = new RoomSimulation(myPlayer, new GameMap(TEST_PATH));
+    }
+
+
+    /**
+     * Checks that a held movement command moves and turns the Player each
+     * tick until it is released.
+     */
+    @Test
+    void step_whileRightHeld_movesPlayerRight() {
+        mySim.press(Command.RIGHT);
+        assertEquals(RoomSimulation.NO_DOOR, mySim.step());
+        mySim.step();
+        assertEquals(Player.DEFAULT_X + 2 * RoomSimulation.MOVEMENT_SPEED, myPlayer.getX());
+        assertEquals('R', myPlayer.getDirection());
+        mySim.release(Command.RIGHT);
+        mySim.step();
+        assertEquals(Player.DEFAULT_X + 2 * RoomSimulation.MOVEMENT_SPEED, myPlayer.getX());
+        assertFalse(mySim.isHeld(Command.RIGHT));
+    }
+
+
+    /**
+     * Checks that the Player does not move into an obstacle.
+     */
+    @Test
+    void step_intoObstacle_keepsPosition() {
+        myPlayer.setX(6 * GameMap.TILE_WIDTH);
+        myPlayer.setY(4 * GameMap.TILE_HEIGHT);
+        mySim.press(Command.LEFT);
+        mySim.step();
+        assertEquals(6 * GameMap.TILE_WIDTH, myPlayer.getX(),
+                "the Player should not walk into an obstacle");
+    }
+
+
+    /**
+     * Checks that step() reports the Door the Player touches.
+     */
+    @Test
+    void step_onDoorTile_returnsDoor() {
+        myPlayer.setX(6 * GameMap.TILE_WIDTH);
+        myPlayer.setY(GameMap.TILE_HEIGHT);
+        assertEquals('D', mySim.step());
+        myPlayer.setX(14 * GameMap.TILE_WIDTH);
+        myPlayer.setY(7 * GameMap.TILE_HEIGHT);
+        assertEquals('A', mySim.step());
+    }
+
+
+    /**
+     * Checks that non-movement commands are held without moving the Player.
+     */
+    @Test
+    void press_interact_isHeldWithoutMoving() {
+        mySim.press(Command.INTERACT);
+        mySim.step();
+        assertTrue(mySim.isHeld(Command.INTERACT));
+        assertEquals(Player.DEFAULT_X, myPlayer.getX());
+        assertEquals(Player.DEFAULT_Y, myPlayer.getY());
+    }
+
+}
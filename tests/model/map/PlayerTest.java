@@ -12,10 +12,6 @@ package model.map;
 
 import org.junit.jupiter.api.Test;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -27,88 +23,18 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class PlayerTest {
 
-    /** The path to the left chair image. */
-    private static final String LEFT_PATH = Player.PATH + "chair_left.png";
-
-    /** The path to the right chair image. */
-    private static final String RIGHT_PATH = Player.PATH + "chair_right.png";
-
-    /** The path to the up chair image. */
-    private static final String UP_PATH = Player.PATH + "chair_up.png";
-
-    /** The path to the down chair image. */
-    private static final String DOWN_PATH = Player.PATH + "chair_down.png";
-
-    /** The right chair image. */
-    private BufferedImage myChairRight;
-
-    /** The left chair image. */
-    private BufferedImage myChairLeft;
-
-    /** The up chair image. */
-    private BufferedImage myChairUp;
-
-    /** The down chair image. */
-    private  BufferedImage myChairDown;
-
     /** The Player. */
     private final Player myPlayer;
 
 
     /**
-     * Constructs a PlayerTest, reading Player image files and initializing
-     * test fields.
+     * Constructs a PlayerTest, initializing test fields.
      */
     public PlayerTest() {
-        readFiles();
         myPlayer = new Player();
     }
 
 
-    /**
-     * Reads the Player image files from the defined path constants.
-     */
-    private void readFiles() {
-        try {
-            myChairLeft = ImageIO.read(new File(LEFT_PATH));
-            myChairRight = ImageIO.read(new File(RIGHT_PATH));
-            myChairUp = ImageIO.read(new File(UP_PATH));
-            myChairDown = ImageIO.read(new File(DOWN_PATH));
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
-
-    /**
-     * Returns true if two buffered images are the same and false otherwise.
-     *
-     * @param imageA A buffered image.
-     * @param imageB Another buffered image.
-     * @return true if imageA and imageB are the same and false otherwise.
-     */
-    private boolean equalImages(final BufferedImage imageA,
-                                final BufferedImage imageB) {
-        int imageAWidth = imageA.getWidth();
-        int imageAHeight = imageA.getHeight();
-        int imageBWidth = imageB.getWidth();
-        int imageBHeight = imageB.getHeight();
-
-        if (imageAWidth != imageBWidth || imageAHeight != imageBHeight) {
-            return false;
-        }
-
-        for (int x = 0; x < imageAWidth; x++) {
-            for (int y = 0; y < imageAHeight; y++) {
-                if (imageA.getRGB(x, y) != imageB.getRGB(x, y))
-                    return false;
-            }
-        }
-
-        return true;
-    }
-
-
     /**
      * Checks that getX() after setX() returns the correct x.
      */
@@ -132,66 +58,58 @@ class PlayerTest {
 
 
     /**
-     * Checks that getSprite() after setSprite('R') returns the correct
-     * buffered image.
+     * Checks that getDirection() after setDirection('R') returns 'R'.
      */
     @Test
-    void getSprite_afterSetSpriteRight_returnsRightBufferedImage() {
-        myPlayer.setSprite('R');
-        assertTrue(equalImages(myChairRight, myPlayer.getSprite()),
-                "getSprite('R') after setSprite('R') should return the chair" +
-                        " right image");
+    void getDirection_afterSetDirectionRight_returnsRight() {
+        myPlayer.setDirection('R');
+        assertEquals('R', myPlayer.getDirection(),
+                "getDirection() after setDirection('R') should face right");
     }
 
 
     /**
-     * Checks that getSprite() after setSprite('L' returns the correct
-     * buffered image.
+     * Checks that getDirection() after setDirection('L') returns 'L'.
      */
     @Test
-    void getSprite_afterSetSpriteToLeft_returnsLeftBufferedImage() {
-        myPlayer.setSprite('L');
-        assertTrue(equalImages(myChairLeft, myPlayer.getSprite()),
-                "getSprite('L') after setSprite('L') should return the chair" +
-                        " left image");
+    void getDirection_afterSetDirectionToLeft_returnsLeft() {
+        myPlayer.setDirection('L');
+        assertEquals('L', myPlayer.getDirection(),
+                "getDirection() after setDirection('L') should face left");
     }
 
 
     /**
-     * Checks that getSprite() after setSprite('U') returns the correct
-     * buffered image.
+     * Checks that getDirection() after setDirection('U') returns 'U'.
      */
     @Test
-    void getSprite_afterSetSpriteToUp_returnsUpBufferedImage() {
-        myPlayer.setSprite('U');
-        assertTrue(equalImages(myChairUp, myPlayer.getSprite()),
-                "getSprite('U') after setSprite('U') should return the chair" +
-                        " up image");
+    void getDirection_afterSetDirectionToUp_returnsUp() {
+        myPlayer.setDirection('U');
+        assertEquals('U', myPlayer.getDirection(),
+                "getDirection() after setDirection('U') should face up");
     }
 
 
     /**
-     * Checks that getSprite() after setSprite('D') returns the correct
-     * buffered image.
+     * Checks that getDirection() after setDirection('D') returns 'D'.
      */
     @Test
-    void getSprite_afterSetSpriteToDown_returnsDownBufferedImage() {
-        myPlayer.setSprite('D');
-        assertTrue(equalImages(myChairDown, myPlayer.getSprite()),
-                "getSprite() after setSprite('D') should return the chair" +
-                        " down image");
+    void getDirection_afterSetDirectionToDown_returnsDown() {
+        myPlayer.setDirection('D');
+        assertEquals('D', myPlayer.getDirection(),
+                "getDirection() after setDirection('D') should face down");
     }
 
 
     /**
-     * Checks that setSprite() throws IllegalArgumentException when given an
-     * invalid character.
+     * Checks that setDirection() throws IllegalArgumentException when given
+     * an invalid character.
      */
     @Test
-    void setSprite_givenInvalidChar_throwsException() {
+    void setDirection_givenInvalidChar_throwsException() {
         assertThrows(IllegalArgumentException.class,
-                () -> myPlayer.setSprite('a'),
-                "setSprite() should throw exception given invalid char");
+                () -> myPlayer.setDirection('a'),
+                "setDirection() should throw exception given invalid char");
     }
 
 
@@ -208,16 +126,16 @@ class PlayerTest {
 
 
     /**
-     * Checks that reset() after setX() resets player sprite to the default
-     * Player image.
+     * Checks that reset() after setDirection() resets the Player to face the
+     * default direction.
      */
     @Test
-    void reset_afterSetX_resetsSpriteToDefaultImage() {
-        myPlayer.setX(698);
+    void reset_afterSetDirection_resetsToDefaultDirection() {
+        myPlayer.setDirection('L');
         myPlayer.reset();
-        assertTrue(equalImages(myChairUp, myPlayer.getDefaultImage()),
-                "reset() after setX() should reset Player image" +
-                        " to default image");
+        assertEquals(Player.DEFAULT_DIRECTION, myPlayer.getDirection(),
+                "reset() after setDirection() should reset the Player" +
+                        " to the default direction");
     }
 
 
@@ -234,15 +152,12 @@ class PlayerTest {
 
 
     /**
-     * Checks that reset() after setY() resets the sprite to the default
-     * Player image.
+     * Checks that a new Player faces the default direction.
      */
     @Test
-    void reset_afterSetY_resetsSpriteToDefaultImage() {
-        myPlayer.setX(492);
-        assertTrue(equalImages(myChairUp, myPlayer.getDefaultImage()),
-                "reset() after setY() should reset Player image" +
-                        " to default image");
+    void getDirection_onNewPlayer_returnsDefaultDirection() {
+        assertEquals(Player.DEFAULT_DIRECTION, myPlayer.getDirection(),
+                "a new Player should face the default direction");
     }
 
 
@@ -0,0 +1,316 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for TileMapLoader.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+class TileMapLoaderTest {
+
+    /** The path to a known csv file in tests. */
+    private static final Path TEST_PATH = Path.of("tests/model/map/map.csv");
+
+    /** An external tileset of 48 pixel tiles, given its count, columns and image. */
+    private static final String TSX = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <tileset version="1.5" name="t" tilewidth="48" tileheight="48" tilecount="%d" columns="%d">
+             <image source="%s" width="240" height="96"/>
+            </tileset>
+            """;
+
+    /** A directory for the files written by a test. */
+    private final Path myDirectory;
+
+
+    /**
+     * Constructs a TileMapLoaderTest, creating a directory for its files.
+     *
+     * @throws IOException if the directory cannot be created.
+     */
+    TileMapLoaderTest() throws IOException {
+        myDirectory = Files.createTempDirectory("maps");
+        myDirectory.toFile().deleteOnExit();
+    }
+
+
+    /**
+     * Writes a file into the test directory, to be deleted on exit.
+     *
+     * @param theName The name of the file.
+     * @param theText The text of the file.
+     * @return The path of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    private Path write(final String theName, final String theText) throws IOException {
+        Path path = myDirectory.resolve(theName);
+        Files.writeString(path, theText);
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+
+    /**
+     * Returns tile IDs as Tiled encodes them in zlib compressed base64.
+     *
+     * @param theIDs The tile IDs.
+     * @return The encoded tile IDs.
+     * @throws IOException if the IDs cannot be compressed.
+     */
+    private static String zlibBase64(final int... theIDs) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(theIDs.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+        for (int id : theIDs) {
+            buffer.putInt(id);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(buffer.array());
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+
+    /**
+     * Checks that a csv map is read as collision classes matching its values.
+     */
+    @Test
+    void readCsv_givenTestMap_readsClasses() throws IOException {
+        TileMap map = TileMapLoader.readCsv(TEST_PATH);
+        assertEquals(GameMap.TILE_COLS, map.getColumns());
+        assertEquals(GameMap.TILE_ROWS, map.getRows());
+        assertEquals(TileMap.OBSTACLE, map.getTileClass(0, 0));
+        assertEquals(TileMap.DOOR_D, map.getTileClass(6, 1));
+        assertEquals(TileMap.DOOR_D + 1, map.getTileID(0, 6, 1));
+        assertEquals(new GameMap(TEST_PATH.toString()), new GameMap(map));
+    }
+
+
+    /**
+     * Checks that a csv map with rows of different lengths is rejected.
+     */
+    @Test
+    void readCsv_givenRaggedRows_throwsException() throws IOException {
+        Path csv = write("ragged.csv", "-1,0,1\n2,3\n");
+        assertThrows(IllegalArgumentException.class, () -> TileMapLoader.readCsv(csv));
+    }
+
+
+    /**
+     * Checks that a TMX map's named collision layer gives the collision
+     * classes, relative to each tile's tileset, that compressed layers are
+     * read with their flip flags apart from their IDs, and that hidden
+     * layers are marked.
+     */
+    @Test
+    void readTmx_givenEncodedLayers_readsTilesAndClasses() throws Exception {
+        write("door_tileset.tsx", TSX.formatted(10, 5, "doors.png"));
+        write("walls.tsx", TSX.formatted(16, 4, "../walls.png"));
+        Path tmx = write("map.tmx", """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <map version="1.5" width="2" height="2" tilewidth="48" tileheight="48" infinite="0">
+                 <tileset firstgid="1" source="door_tileset.tsx"/>
+                 <tileset firstgid="11" source="walls.tsx"/>
+                 <layer id="1" name="floor" width="2" height="2">
+                  <data encoding="base64" compression="zlib">%s</data>
+                 </layer>
+                 <layer id="2" name="Collision" width="2" height="2">
+                  <data encoding="csv">
+                0,4,
+                9,12
+                </data>
+                 </layer>
+                 <layer id="3" name="decor" width="2" height="2" visible="0">
+                  <data><tile gid="5"/><tile/><tile/><tile gid="6"/></data>
+                 </layer>
+                </map>
+                """.formatted(zlibBase64(11, 12 | 0x80000000, 13, 14)));
+        TileMap map = TileMapLoader.readTmx(tmx);
+        assertEquals(3, map.getLayerCount());
+        assertEquals(12, map.getTileID(0, 1, 0), "flip flags should be cleared");
+        assertEquals(TileMap.FLIP_HORIZONTAL, map.getTileFlips(0, 1, 0));
+        assertEquals(0, map.getTileFlips(0, 0, 0));
+        assertTrue(map.isLayerVisible(0));
+        assertFalse(map.isLayerVisible(2));
+        assertEquals(14, map.getTileID(0, 1, 1));
+        assertEquals(6, map.getTileID(2, 1, 1));
+        assertEquals(TileMap.OBSTACLE, map.getTileClass(0, 0));
+        assertEquals(TileMap.DOOR_D, map.getTileClass(1, 0));
+        assertEquals(8, map.getTileClass(0, 1));
+        assertEquals(TileMap.DOOR_B, map.getTileClass(1, 1));
+        assertEquals(1, map.getCollisionLayer());
+        assertEquals(2, map.getTilesets().size());
+        assertEquals(myDirectory.resolve("doors.png").toString().replace('\\', '/'),
+                map.getTileset(5).getImagePath());
+        assertEquals(myDirectory.getParent().resolve("walls.png").toString().replace('\\', '/'),
+                map.getTileset(26).getImagePath());
+        assertNull(map.getTileset(27), "IDs past the last tileset have no tileset");
+        assertNull(map.getTileset(0));
+    }
+
+
+    /**
+     * Checks that a TMX map whose layer has the wrong number of tiles is
+     * rejected.
+     */
+    @Test
+    void readTmx_givenShortLayer_throwsException() throws IOException {
+        Path tmx = write("short.tmx", """
+                <map width="2" height="2">
+                <tileset firstgid="1" tilewidth="48" tileheight="48" tilecount="4" columns="2">
+                <image source="a.png"/><tile id="0"/></tileset>
+                <layer name="collision"><data encoding="csv">1,2,3</data></layer></map>
+                """);
+        assertThrows(IllegalArgumentException.class, () -> TileMapLoader.readTmx(tmx));
+    }
+
+
+    /**
+     * Checks that a TMX map using the game's shared tilesets keeps them
+     * through its compiled cache.
+     */
+    @Test
+    void load_givenTmxWithSharedTileset_cachesTilesets() throws IOException {
+        Path tsx = Path.of("src/res/maps/project_file/modern_office_interiors_48x48.tsx")
+                .toAbsolutePath();
+        Path tmx = write("shared.tmx", """
+                <map width="1" height="2">
+                 <tileset firstgid="1" source="%s"/>
+                 <layer name="floor"><data encoding="csv">849,0</data></layer>
+                 <layer name="collision"><data encoding="csv">9,0</data></layer>
+                </map>
+                """.formatted(tsx));
+        Path cache = myDirectory.resolve("shared.bin");
+        cache.toFile().deleteOnExit();
+        TileMap map = TileMapLoader.load(tmx, cache);
+        Tileset tileset = map.getTileset(848);
+        assertEquals(848, tileset.getTileCount());
+        assertEquals(16, tileset.getColumns());
+        assertTrue(Files.isRegularFile(Path.of(tileset.getImagePath())),
+                "the tileset image should resolve to the shared tileset");
+        assertNull(map.getTileset(849));
+        assertEquals(map, TileMapLoader.readCache(cache,
+                Files.getLastModifiedTime(tmx).toMillis(), Files.size(tmx), -1, -1));
+    }
+
+
+    /**
+     * Checks that a TMX map without a collision layer takes its collision
+     * classes from the map.csv beside it, and is recompiled when that
+     * changes.
+     */
+    @Test
+    void load_givenTmxWithoutCollisionLayer_takesClassesFromCsv() throws IOException {
+        Path tmx = write("floor_map.tmx", """
+                <map width="2" height="1">
+                 <tileset firstgid="1" tilewidth="48" tileheight="48" tilecount="4" columns="2">
+                  <image source="a.png"/>
+                 </tileset>
+                 <layer name="floor"><data encoding="csv">1,2</data></layer>
+                 <layer name="walls"><data encoding="csv">4,4</data></layer>
+                </map>
+                """);
+        write("map.csv", "-1,2\n");
+        Path cache = myDirectory.resolve("map.bin");
+        cache.toFile().deleteOnExit();
+        TileMap map = TileMapLoader.load(tmx, cache);
+        assertEquals(-1, map.getCollisionLayer());
+        assertEquals(TileMap.OBSTACLE, map.getTileClass(0, 0));
+        assertEquals(TileMap.DOOR_C, map.getTileClass(1, 0));
+        assertEquals(2, map.getTileID(0, 1, 0));
+        write("map.csv", "8,1\n");
+        map = TileMapLoader.load(tmx, cache);
+        assertEquals(8, map.getTileClass(0, 0), "a changed csv should be recompiled");
+        assertEquals(TileMap.DOOR_B, map.getTileClass(1, 0));
+    }
+
+
+    /**
+     * Checks that a TMX map with neither a collision layer nor a map.csv
+     * beside it is rejected rather than guessed at.
+     */
+    @Test
+    void readTmx_givenNoCollisionLayerOrCsv_throwsException() throws IOException {
+        Path tmx = write("floor_map.tmx", """
+                <map width="1" height="1">
+                 <layer name="floor"><data encoding="csv">0</data></layer>
+                </map>
+                """);
+        assertThrows(IllegalArgumentException.class, () -> TileMapLoader.readTmx(tmx));
+    }
+
+
+    /**
+     * Checks that every Room's shipped floor_map.tmx is read with its
+     * tilesets and with the collision classes of the Room's map.csv.
+     */
+    @Test
+    void readTmx_givenShippedMaps_matchesCsvClasses() throws Exception {
+        int read = 0;
+        for (int room = 0; room < 16; room++) {
+            Path tmx = Path.of(GameMap.PATH_PREFIX + room + TileMapLoader.TMX_SUFFIX);
+            if (Files.isRegularFile(tmx)) {
+                TileMap map = TileMapLoader.readTmx(tmx);
+                TileMap csv = TileMapLoader.readCsv(
+                        Path.of(GameMap.PATH_PREFIX + room + GameMap.PATH_SUFFIX));
+                assertArrayEquals(csv.classes(), map.classes(), "room " + room);
+                assertFalse(map.getTilesets().isEmpty(), "room " + room);
+                assertTrue(map.getCollisionLayer() >= 0,
+                        "the valid floor markers of room " + room + " should not be drawn");
+                for (Tileset tileset : map.getTilesets()) {
+                    assertTrue(Files.isRegularFile(Path.of(tileset.getImagePath())),
+                            tileset.getImagePath());
+                }
+                read++;
+            }
+        }
+        assertEquals(14, read, "rooms 2 to 15 ship a floor_map.tmx");
+    }
+
+
+    /**
+     * Checks that a compiled map is read back while its source is unchanged
+     * and ignored once the source changes or the cache is corrupt.
+     */
+    @Test
+    void load_withCache_readsCacheUntilSourceChanges() throws IOException {
+        Path csv = write("map.csv", Files.readString(TEST_PATH));
+        Path cache = myDirectory.resolve("map.bin");
+        cache.toFile().deleteOnExit();
+        TileMap map = TileMapLoader.load(csv, cache);
+        assertTrue(Files.isRegularFile(cache), "the map should be compiled");
+        long modified = Files.getLastModifiedTime(csv).toMillis();
+        long size = Files.size(csv);
+        assertEquals(map, TileMapLoader.readCache(cache, modified, size, -1, -1));
+        assertNull(TileMapLoader.readCache(cache, modified + 1, size, -1, -1));
+        assertNull(TileMapLoader.readCache(cache, modified, size + 1, -1, -1));
+        Files.write(cache, new byte[] {1, 2, 3});
+        assertNull(TileMapLoader.readCache(cache, modified, size, -1, -1));
+        assertEquals(map, TileMapLoader.load(csv, cache));
+        assertEquals(map, TileMapLoader.readCache(cache, modified, size, -1, -1),
+                "a corrupt cache should be recompiled");
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for LatencyHistogram.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class LatencyHistogramTest {
+
+    /** The histogram used in testing. */
+    private final LatencyHistogram myHistogram;
+
+
+    /** Constructs a LatencyHistogramTest. */
+    public LatencyHistogramTest() {
+        myHistogram = new LatencyHistogram();
+    }
+
+
+    /**
+     * Checks that an empty histogram reports no values.
+     */
+    @Test
+    void percentile_onEmptyHistogram_returnsZero() {
+        assertEquals(0, myHistogram.getCount());
+        assertEquals(0, myHistogram.getMax());
+        assertEquals(0, myHistogram.percentile(0.99));
+    }
+
+
+    /**
+     * Checks that small values are counted exactly.
+     */
+    @Test
+    void percentile_givenSmallValues_isExact() {
+        for (int i = 1; i <= 50; i++) {
+            myHistogram.record(i);
+        }
+        assertEquals(50, myHistogram.getCount());
+        assertEquals(25, myHistogram.percentile(0.5));
+        assertEquals(50, myHistogram.percentile(1));
+        assertEquals(50 * 51 / 2, myHistogram.getSum());
+    }
+
+
+    /**
+     * Checks that percentiles of large values are within the histogram's
+     * precision.
+     */
+    @Test
+    void percentile_givenLargeValues_isWithinPrecision() {
+        for (long i = 1; i <= 1000; i++) {
+            myHistogram.record(i * 1_000_000);
+        }
+        long median = myHistogram.percentile(0.5);
+        assertTrue(Math.abs(median - 500_000_000) <= 500_000_000 / 32,
+                "median was " + median);
+        assertEquals(1_000_000_000, myHistogram.getMax());
+    }
+
+
+    /**
+     * Checks that every bucket's lower bound falls in that bucket.
+     */
+    @Test
+    void indexOf_givenBucketBound_returnsBucket() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, LatencyHistogram.indexOf(LatencyHistogram.valueOf(i)));
+        }
+    }
+
+
+    /**
+     * Checks that add() merges the values of another histogram.
+     */
+    @Test
+    void add_givenOtherHistogram_mergesValues() {
+        LatencyHistogram other = new LatencyHistogram();
+        myHistogram.record(10);
+        other.record(20);
+        other.record(30);
+        myHistogram.add(other);
+        assertEquals(3, myHistogram.getCount());
+        assertEquals(30, myHistogram.getMax());
+        assertEquals(20, myHistogram.percentile(0.5));
+    }
+
+
+    /**
+     * Checks that values recorded by many threads at once are all counted.
+     */
+    @Test
+    void record_fromManyThreads_countsEveryValue() throws InterruptedException {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    myHistogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, myHistogram.getCount());
+        assertEquals(9_999, myHistogram.getMax());
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for MetricsRegistry and Stopwatch.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class MetricsRegistryTest {
+
+    /** The registry used in testing. */
+    private final MetricsRegistry myRegistry;
+
+
+    /** Constructs a MetricsRegistryTest. */
+    public MetricsRegistryTest() {
+        myRegistry = new MetricsRegistry();
+    }
+
+
+    /**
+     * Checks that a name always resolves to the same counter and Stopwatch.
+     */
+    @Test
+    void counter_givenSameName_returnsSameCounter() {
+        assertSame(myRegistry.counter("frames"), myRegistry.counter("frames"));
+        assertSame(myRegistry.stopwatch("frame.paint"),
+                myRegistry.stopwatch("frame.paint"));
+        assertNotSame(myRegistry.stopwatch("frame.paint"),
+                myRegistry.stopwatch("frame.update"));
+    }
+
+
+    /**
+     * Checks that counters() reports every counter in order of name.
+     */
+    @Test
+    void counters_afterIncrements_returnsSums() {
+        myRegistry.counter("b").add(3);
+        myRegistry.counter("a").increment();
+        Map<String, Long> counters = myRegistry.counters();
+        assertEquals(List.of("a", "b"), List.copyOf(counters.keySet()));
+        assertEquals(3, counters.get("b").longValue());
+    }
+
+
+    /**
+     * Checks that stopping a Stopwatch records the time of the section.
+     */
+    @Test
+    void stop_afterStart_recordsElapsedTime() {
+        Stopwatch stopwatch = myRegistry.stopwatch("section");
+        assertEquals(0, stopwatch.getLast());
+        long start = stopwatch.start();
+        long elapsed = stopwatch.stop(start);
+        assertTrue(elapsed >= 0);
+        assertEquals(elapsed, stopwatch.getLast());
+        assertEquals(1, stopwatch.getHistogram().getCount());
+        assertEquals("section", stopwatch.getName());
+        assertTrue(myRegistry.stopwatches().containsKey("section"));
+    }
+
+}
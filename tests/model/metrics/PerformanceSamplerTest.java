@@ -0,0 +1,93 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for PerformanceSampler.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+public class PerformanceSamplerTest {
+
+    /** One second in nanoseconds. */
+    private static final long SECOND = 1_000_000_000L;
+
+    /** The registry used in testing. */
+    private final MetricsRegistry myRegistry;
+
+    /** The sampler used in testing. */
+    private final PerformanceSampler mySampler;
+
+
+    /** Constructs a PerformanceSamplerTest. */
+    public PerformanceSamplerTest() {
+        myRegistry = new MetricsRegistry();
+        mySampler = new PerformanceSampler(myRegistry);
+    }
+
+
+    /**
+     * Checks that the frame rate is the frames painted between samples over
+     * the time between them.
+     */
+    @Test
+    void getFps_afterFramesBetweenSamples_returnsRate() {
+        mySampler.sample(SECOND);
+        assertEquals(0, mySampler.getFps());
+        myRegistry.counter(PerformanceSampler.FRAMES).add(30);
+        mySampler.sample(SECOND + SECOND / 2);
+        assertEquals(60, mySampler.getFps(), 1e-9);
+    }
+
+
+    /**
+     * Checks that the tick and paint times are the means of the sections
+     * timed since the previous sample.
+     */
+    @Test
+    void getTickNanos_afterUpdates_returnsMeanSincePreviousSample() {
+        Stopwatch update = myRegistry.stopwatch(PerformanceSampler.FRAME_UPDATE);
+        update.record(100);
+        mySampler.sample(SECOND);
+        assertEquals(100, mySampler.getTickNanos());
+        update.record(200);
+        update.record(400);
+        myRegistry.stopwatch(PerformanceSampler.FRAME_PAINT).record(1_000);
+        mySampler.sample(2 * SECOND);
+        assertEquals(300, mySampler.getTickNanos());
+        assertEquals(1_000, mySampler.getPaintNanos());
+        mySampler.sample(3 * SECOND);
+        assertEquals(0, mySampler.getTickNanos(), "no updates were timed");
+    }
+
+
+    /**
+     * Checks that the room load and dispatch latency are the last times
+     * recorded.
+     */
+    @Test
+    void getRoomLoadNanos_afterLoads_returnsLastLoad() {
+        myRegistry.stopwatch(PerformanceSampler.ROOM_LOAD).record(5_000);
+        myRegistry.stopwatch(PerformanceSampler.ROOM_LOAD).record(7_000);
+        myRegistry.stopwatch(PerformanceSampler.EDT_LATENCY).record(300);
+        mySampler.sample(SECOND);
+        assertEquals(7_000, mySampler.getRoomLoadNanos());
+        assertEquals(300, mySampler.getEdtLatencyNanos());
+        assertTrue(mySampler.getHeapUsed() > 0);
+        assertTrue(mySampler.getGcPauseMillis() >= 0);
+    }
+
+}
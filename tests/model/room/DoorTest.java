@@ -121,6 +121,26 @@ public class DoorTest {
     }
 
 
+    /**
+     * Checks that getTrivia() draws from the Door's Trivia source only once.
+     */
+    @Test
+    void getTrivia_afterSetTriviaSource_drawsOnce() {
+        Trivia trivia = new Trivia(1, "Do you like apples?",
+                "Yes", "No", 5);
+        int[] draws = new int[1];
+        door.setTriviaSource(() -> {
+            draws[0]++;
+            return trivia;
+        });
+        assertTrue(door.hasTriviaSource());
+        assertEquals(0, draws[0], "the Trivia should not be drawn early");
+        assertEquals(trivia, door.getTrivia());
+        assertEquals(trivia, door.getTrivia());
+        assertEquals(1, draws[0], "the Trivia should be drawn once");
+    }
+
+
     /**
      *  Checks that isValid() returns false after setting a Door's validity
      *  from true to false.
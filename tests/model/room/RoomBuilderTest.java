@@ -191,4 +191,20 @@ public class RoomBuilderTest {
                         "optimal solution");
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Checks that RoomBuilders constructed with the same seed generate the
+     * same floor.
+     */
+    @Test
+    void seededConstructor_withSameSeed_generatesSameFloor() {
+        RoomBuilder first = new RoomBuilder(NUM_ROWS, NUM_COLS, SOURCE, TARGET, 42L);
+        RoomBuilder second = new RoomBuilder(NUM_ROWS, NUM_COLS, SOURCE, TARGET, 42L);
+        assertEquals(42L, first.getSeed());
+        assertEquals(first.getMST(), second.getMST(),
+                "the same seed should generate the same MST");
+        assertEquals(first.getOptimalSolution(), second.getOptimalSolution(),
+                "the same seed should generate the same optimal solution");
+    }
+
+}
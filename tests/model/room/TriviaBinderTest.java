@@ -0,0 +1,117 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.room;
+
+import model.trivia.SkillModel;
+import model.trivia.Trivia;
+import model.trivia.TriviaBank;
+import model.trivia.TriviaManager;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements unit tests for TriviaBinder.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class TriviaBinderTest {
+
+    /** The number of rows of the test floor. */
+    private static final int NUM_ROWS = 3;
+
+    /** The exit Room of the test floor. */
+    private static final int TARGET = 8;
+
+    /** The seed used in testing. */
+    private static final long SEED = 360L;
+
+    /** The bank of two questions, with IDs 10 and 11. */
+    private final TriviaBank myBank;
+
+    /** The binder under test. */
+    private final TriviaBinder myBinder;
+
+    /** A Room far from the exit. */
+    private final Room myRoom;
+
+    /** The Room beside myRoom, sharing a locked Door with it. */
+    private final Room myNeighbor;
+
+
+    /**
+     * Constructs a TriviaBinderTest over two connected Rooms of a 3x3 floor.
+     */
+    public TriviaBinderTest() {
+        List<Trivia> trivia = new ArrayList<>();
+        trivia.add(new Trivia(10, "Question 10?", "Answer 10", "", 3));
+        trivia.add(new Trivia(11, "Question 11?", "Answer 11", "", 3));
+        myBank = new TriviaBank(trivia);
+        myBinder = new TriviaBinder(NUM_ROWS, TARGET, SEED);
+        myRoom = new Room(0);
+        myNeighbor = new Room(1);
+        Door door = new Door(true, false, null);
+        myRoom.setC(myNeighbor, door);
+        myNeighbor.setD(myRoom, door);
+    }
+
+
+    /**
+     * Checks that a question marked used before the TriviaManager is set is
+     * not drawn, and that the draw listener is told the question drawn.
+     */
+    @Test
+    void markUsed_beforeManagerSet_skipsAskedTrivia() {
+        List<Integer> drawn = new ArrayList<>();
+        myBinder.setDrawListener(drawn::add);
+        myBinder.markUsed(10);
+        myBinder.setTriviaManager(new TriviaManager(myBank, SEED));
+        myBinder.bindTrivia(myRoom, new SkillModel());
+        assertNull(myRoom.getDoor('C').getDrawnTrivia(), "binding should not draw Trivia");
+        assertEquals(11, myRoom.getDoor('C').getTrivia().getID());
+        assertEquals(List.of(11), drawn);
+    }
+
+
+    /**
+     * Checks that the Trivia saved Doors have drawn is marked used without
+     * drawing Trivia for the other Doors.
+     */
+    @Test
+    void markUsed_givenSavedRooms_skipsTriviaOfSavedDoors() {
+        Room saved = new Room(3);
+        Door savedDoor = new Door(true, false, myBank.get(0));
+        saved.setC(new Room(4), savedDoor);
+        myBinder.bindTrivia(myRoom, new SkillModel());
+        myBinder.markUsed(List.of(saved, myRoom, myNeighbor));
+        assertNull(myRoom.getDoor('C').getDrawnTrivia(), "marking should not draw Trivia");
+        myBinder.setTriviaManager(new TriviaManager(myBank, SEED));
+        assertEquals(11, myRoom.getDoor('C').getTrivia().getID());
+    }
+
+
+    /**
+     * Checks that the constructor throws an exception given no rows or a
+     * negative exit.
+     */
+    @Test
+    void constructor_givenInvalidFloor_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriviaBinder(0, TARGET, SEED));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriviaBinder(NUM_ROWS, -1, SEED));
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.save;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for EventJournal.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class EventJournalTest {
+
+    /** The seed of the test floor. */
+    private static final long SEED = 360L;
+
+    /** The path of the journal file used in testing. */
+    private final String myJournalPath;
+
+    /** The path of the snapshot file used in testing. */
+    private final String mySnapshotPath;
+
+
+    /**
+     * Constructs an EventJournalTest, reserving fresh files for the journal
+     * and snapshot.
+     *
+     * @throws IOException if the temporary files cannot be created.
+     */
+    public EventJournalTest() throws IOException {
+        File journal = File.createTempFile("journal", null);
+        File snapshot = File.createTempFile("snapshot", null);
+        journal.deleteOnExit();
+        snapshot.deleteOnExit();
+        assertTrue(snapshot.delete());
+        myJournalPath = journal.getPath();
+        mySnapshotPath = snapshot.getPath();
+    }
+
+
+    /**
+     * Returns the snapshot of a new session on the test floor.
+     *
+     * @return The snapshot of a new session.
+     */
+    private static JournalSnapshot newSession() {
+        return new JournalSnapshot(SEED, 4, 4, 0, 15);
+    }
+
+
+    /**
+     * Checks that a journal without a snapshot has no session.
+     */
+    @Test
+    void getState_onNewJournal_returnsNull() throws IOException {
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            assertNull(journal.getState());
+            assertThrows(IllegalStateException.class,
+                    () -> journal.recordTransition(1));
+        }
+    }
+
+
+    /**
+     * Checks that reopening a journal replays its committed events over the
+     * snapshot.
+     */
+    @Test
+    void getState_afterReopen_replaysEvents() throws IOException {
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            journal.begin(newSession());
+            journal.recordUnlock(0, 'C');
+            journal.recordTransition(1);
+            journal.recordUnlock(1, 'B');
+            journal.recordTransition(5);
+        }
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            JournalSnapshot state = journal.getState();
+            assertNotNull(state, "a begun session should be recovered");
+            assertEquals(SEED, state.getSeed());
+            assertEquals(5, state.getCurrentRoomID());
+            BitSet expected = new BitSet();
+            expected.set(JournalSnapshot.doorKey(0, 'C'));
+            expected.set(JournalSnapshot.doorKey(1, 'B'));
+            assertEquals(expected, state.getUnlockedDoors());
+        }
+    }
+
+
+    /**
+     * Checks that each event costs one fixed-size record.
+     */
+    @Test
+    void commit_afterEvents_appendsFixedSizeRecords() throws IOException {
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            journal.begin(newSession());
+            journal.recordUnlock(0, 'C');
+            journal.recordTransition(1);
+            journal.commit();
+            assertEquals(24, new File(myJournalPath).length());
+        }
+    }
+
+
+    /**
+     * Checks that a torn record at the end of the journal is discarded.
+     */
+    @Test
+    void getState_withTornRecord_ignoresTornRecord() throws IOException {
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            journal.begin(newSession());
+            journal.recordTransition(1);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(myJournalPath, "rw")) {
+            file.seek(file.length());
+            file.write(new byte[] {2, 0, 0, 0, 0, 0});
+        }
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            assertEquals(1, journal.getState().getCurrentRoomID());
+            assertEquals(12, new File(myJournalPath).length(),
+                    "the torn record should be truncated");
+        }
+    }
+
+
+    /**
+     * Checks that compaction empties the journal without losing state.
+     */
+    @Test
+    void compact_afterManyEvents_keepsStateAndEmptiesJournal() throws IOException {
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            journal.begin(newSession());
+            for (int i = 0; i < EventJournal.COMPACT_THRESHOLD; i++) {
+                journal.recordTransition(i % 16);
+            }
+            journal.recordUnlock(3, 'A');
+            assertTrue(journal.needsCompaction());
+            journal.compact();
+            assertFalse(journal.needsCompaction());
+            assertEquals(0, new File(myJournalPath).length());
+        }
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            JournalSnapshot state = journal.getState();
+            assertEquals((EventJournal.COMPACT_THRESHOLD - 1) % 16,
+                    state.getCurrentRoomID());
+            assertTrue(state.getUnlockedDoors().get(JournalSnapshot.doorKey(3, 'A')));
+        }
+    }
+
+
+    /**
+     * Checks that the questions asked are kept across a reopen and a
+     * compaction.
+     */
+    @Test
+    void getState_afterAsked_keepsAskedTrivia() throws IOException {
+        BitSet expected = new BitSet();
+        expected.set(7);
+        expected.set(300);
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            journal.begin(newSession());
+            journal.recordAsked(7);
+            journal.recordAsked(300);
+        }
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            assertEquals(expected, journal.getState().getAskedTrivia());
+            journal.compact();
+        }
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            assertEquals(expected, journal.getState().getAskedTrivia());
+            assertEquals(0, journal.getState().getCurrentRoomID());
+        }
+    }
+
+
+    /**
+     * Checks that end() discards the session.
+     */
+    @Test
+    void end_afterBegin_discardsSession() throws IOException {
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            journal.begin(newSession());
+            journal.recordTransition(2);
+            journal.end();
+        }
+        try (EventJournal journal = new EventJournal(myJournalPath, mySnapshotPath)) {
+            assertNull(journal.getState());
+        }
+    }
+
+
+    /**
+     * Checks that doorKey() throws an exception given an invalid Door letter.
+     */
+    @Test
+    void doorKey_givenInvalidLetter_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JournalSnapshot.doorKey(0, 'E'));
+        int key = JournalSnapshot.doorKey(7, 'D');
+        assertEquals(7, JournalSnapshot.roomOf(key));
+        assertEquals('D', JournalSnapshot.doorOf(key));
+    }
+
+}
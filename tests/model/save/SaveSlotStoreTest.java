@@ -0,0 +1,264 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.save;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for SaveSlotStore.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class SaveSlotStoreTest {
+
+    /** The number of manual slots in the test store. */
+    private static final int NUM_SLOTS = 4;
+
+    /** The number of autosave slots in the test store. */
+    private static final int NUM_AUTOSAVES = 2;
+
+    /** The path of the store file used in testing. */
+    private final String myPath;
+
+
+    /**
+     * Constructs a SaveSlotStoreTest, reserving a fresh file for the store.
+     *
+     * @throws IOException if the temporary file cannot be created.
+     */
+    public SaveSlotStoreTest() throws IOException {
+        File file = File.createTempFile("save_slots", null);
+        file.deleteOnExit();
+        assertTrue(file.delete());
+        myPath = file.getPath();
+    }
+
+
+    /**
+     * Returns a record of the given length filled with the given value.
+     *
+     * @param length The length of the record.
+     * @param value The value of every byte of the record.
+     * @return The record.
+     */
+    private static byte[] record(final int length, final int value) {
+        byte[] record = new byte[length];
+        Arrays.fill(record, (byte) value);
+        return record;
+    }
+
+
+    /**
+     * Checks that a new store has no occupied slots.
+     */
+    @Test
+    void listSlots_onNewStore_isEmpty() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            assertTrue(store.listSlots().isEmpty(),
+                    "a new store should have no occupied slots");
+            assertNull(store.load(0), "an empty slot should load as null");
+        }
+    }
+
+
+    /**
+     * Checks that load() returns the record saved to each slot.
+     */
+    @Test
+    void load_afterSaveToSeveralSlots_returnsEachRecord() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            store.save(0, 3, record(10, 1));
+            store.save(2, 7, record(1000, 2));
+            assertArrayEquals(record(10, 1), store.load(0));
+            assertArrayEquals(record(1000, 2), store.load(2));
+            assertNull(store.load(1), "an unwritten slot should load as null");
+        }
+    }
+
+
+    /**
+     * Checks that saving to an occupied slot replaces its record.
+     */
+    @Test
+    void save_toOccupiedSlot_replacesRecord() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            store.save(1, 0, record(10, 1));
+            store.save(1, 5, record(20, 9));
+            assertArrayEquals(record(20, 9), store.load(1));
+            assertEquals(5, store.getSlot(1).getRoomID());
+        }
+    }
+
+
+    /**
+     * Checks that saved records and the slot index survive reopening.
+     */
+    @Test
+    void load_afterReopen_returnsSavedRecord() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            store.save(3, 12, record(64, 4));
+        }
+        try (SaveSlotStore store = new SaveSlotStore(myPath)) {
+            assertEquals(NUM_SLOTS, store.getNumSlots(),
+                    "an existing store should keep its slot count");
+            List<SaveSlot> slots = store.listSlots();
+            assertEquals(1, slots.size());
+            assertEquals(3, slots.get(0).getIndex());
+            assertEquals(12, slots.get(0).getRoomID());
+            assertArrayEquals(record(64, 4), store.load(3));
+        }
+    }
+
+
+    /**
+     * Checks that autosave() rotates through the autosave slots, replacing
+     * the oldest one.
+     */
+    @Test
+    void autosave_pastLastSlot_replacesOldest() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            int first = store.autosave(1, record(8, 1));
+            int second = store.autosave(2, record(8, 2));
+            int third = store.autosave(3, record(8, 3));
+            assertEquals(NUM_SLOTS, first);
+            assertEquals(NUM_SLOTS + 1, second);
+            assertEquals(first, third, "autosave should wrap to the oldest slot");
+            assertArrayEquals(record(8, 3), store.load(first));
+            assertTrue(store.getSlot(second).isAutosave());
+        }
+    }
+
+
+    /**
+     * Checks that records stay intact when the store grows and compacts.
+     */
+    @Test
+    void save_manyLargeRecords_keepsLiveRecordsIntact() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            int[] lastWrite = new int[NUM_SLOTS];
+            store.save(0, 0, record(100, 7));
+            for (int i = 0; i < 20; i++) {
+                int slot = 1 + i % 3;
+                store.save(slot, i, record(300_000 + i, i));
+                lastWrite[slot] = i;
+            }
+            assertArrayEquals(record(100, 7), store.load(0));
+            for (int slot = 1; slot < NUM_SLOTS; slot++) {
+                int i = lastWrite[slot];
+                assertArrayEquals(record(300_000 + i, i), store.load(slot));
+            }
+            assertTrue(new File(myPath).length() < 8_000_000,
+                    "replaced records should be reclaimed by compaction");
+        }
+    }
+
+
+    /**
+     * Checks that a record compacted into a place overlapping its old bytes
+     * stays intact.
+     */
+    @Test
+    void save_compactingOverlappingRecord_keepsRecordIntact() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            store.save(0, 0, record(500_000, 1));
+            store.save(1, 1, record(1_000_000, 2));
+            store.save(0, 0, record(10, 3));
+            store.save(2, 2, record(3_000_000, 4));
+            store.save(2, 2, record(10, 5));
+            assertArrayEquals(record(1_000_000, 2), store.load(1));
+            assertArrayEquals(record(10, 3), store.load(0));
+            assertArrayEquals(record(10, 5), store.load(2));
+        }
+        try (SaveSlotStore store = new SaveSlotStore(myPath)) {
+            assertArrayEquals(record(1_000_000, 2), store.load(1));
+        }
+    }
+
+
+    /**
+     * Checks that delete() empties a slot.
+     */
+    @Test
+    void delete_onOccupiedSlot_emptiesSlot() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            store.save(0, 0, record(10, 1));
+            store.delete(0);
+            assertNull(store.getSlot(0));
+            assertNull(store.load(0));
+        }
+    }
+
+
+    /**
+     * Checks that an out of range slot index throws an exception.
+     */
+    @Test
+    void load_givenInvalidIndex_throwsException() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> store.load(NUM_SLOTS + NUM_AUTOSAVES));
+        }
+    }
+
+
+    /**
+     * Checks that loading a slot whose entry points outside the data region
+     * throws an IOException.
+     */
+    @Test
+    void load_givenCorruptEntry_throwsException() throws IOException {
+        try (SaveSlotStore store = new SaveSlotStore(myPath, NUM_SLOTS, NUM_AUTOSAVES)) {
+            store.save(0, 0, record(16, 1));
+            store.save(1, 0, record(16, 2));
+            store.save(2, 0, record(16, 3));
+        }
+        // the header entries start after the 32-byte fixed header and are
+        // 32 bytes each: offset (long) then length (int)
+        try (RandomAccessFile file = new RandomAccessFile(myPath, "rw")) {
+            file.seek(32 + 8);
+            file.writeInt(Integer.MAX_VALUE);
+            file.seek(32 + 32 + 8);
+            file.writeInt(-5);
+            file.seek(32 + 64);
+            file.writeLong(3);
+        }
+        try (SaveSlotStore store = new SaveSlotStore(myPath)) {
+            assertThrows(IOException.class, () -> store.load(0));
+            assertThrows(IOException.class, () -> store.load(1));
+            assertThrows(IOException.class, () -> store.load(2));
+        }
+    }
+
+
+    /**
+     * Checks that opening a file that is not a store throws an exception.
+     */
+    @Test
+    void constructor_givenForeignFile_throwsException() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(myPath, "rw")) {
+            file.writeLong(42);
+            file.writeLong(42);
+            file.writeLong(42);
+            file.writeLong(42);
+        }
+        assertThrows(IOException.class, () -> new SaveSlotStore(myPath));
+    }
+
+}
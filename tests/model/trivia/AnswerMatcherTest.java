@@ -0,0 +1,149 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for AnswerMatcher.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class AnswerMatcherTest {
+
+    /** The short answer Trivia used in testing. */
+    private final Trivia myTrivia;
+
+
+    /**
+     * Constructs an AnswerMatcherTest with a short answer Trivia.
+     */
+    public AnswerMatcherTest() {
+        myTrivia = new Trivia(1, "Which city?", "New York", "", 3);
+    }
+
+
+    /**
+     * Returns the Levenshtein distance between two strings, computed with
+     * the textbook dynamic programming algorithm.
+     *
+     * @param theFirst A string.
+     * @param theSecond A string.
+     * @return The edit distance between the strings.
+     */
+    private static int levenshtein(final String theFirst, final String theSecond) {
+        int[] row = new int[theSecond.length() + 1];
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= theFirst.length(); i++) {
+            int diagonal = row[0];
+            row[0] = i;
+            for (int j = 1; j < row.length; j++) {
+                int above = row[j];
+                int cost = theFirst.charAt(i - 1) == theSecond.charAt(j - 1) ? 0 : 1;
+                row[j] = Math.min(Math.min(row[j] + 1, row[j - 1] + 1), diagonal + cost);
+                diagonal = above;
+            }
+        }
+        return row[theSecond.length()];
+    }
+
+
+    /**
+     * Returns a random string of the given length over a small alphabet.
+     *
+     * @param theRand The random number generator.
+     * @param theLength The length of the string.
+     * @return A random string.
+     */
+    private static String randomString(final Random theRand, final int theLength) {
+        StringBuilder sb = new StringBuilder(theLength);
+        for (int i = 0; i < theLength; i++) {
+            sb.append((char) ('a' + theRand.nextInt(4)));
+        }
+        return sb.toString();
+    }
+
+
+    /**
+     * Checks that normalize() folds case, applies NFKC, and removes
+     * whitespace and punctuation.
+     */
+    @Test
+    void normalize_givenMixedText_returnsFoldedAlphanumerics() {
+        assertEquals("newyork", AnswerMatcher.normalize("  New-York! "));
+        assertEquals("ffi42", AnswerMatcher.normalize("\ufb03 \uff14\uff12"));
+        assertEquals("", AnswerMatcher.normalize(" ?! "));
+    }
+
+
+    /**
+     * Checks that the exact matcher accepts answers that differ only in case,
+     * spacing, and punctuation.
+     */
+    @Test
+    void matches_exactWithFormattingDifferences_returnsTrue() {
+        assertTrue(AnswerMatcher.EXACT.matches(myTrivia, "new york"));
+        assertTrue(AnswerMatcher.EXACT.matches(myTrivia, " NEW-YORK. "));
+        assertFalse(AnswerMatcher.EXACT.matches(myTrivia, "new yrok"));
+    }
+
+
+    /**
+     * Checks that the default matcher accepts a typo in a long answer but
+     * not in a short one.
+     */
+    @Test
+    void matches_defaultWithTypo_acceptsOnlyLongAnswers() {
+        assertTrue(AnswerMatcher.DEFAULT.matches(myTrivia, "new yorc"));
+        assertFalse(AnswerMatcher.DEFAULT.matches(myTrivia, "boston"));
+        Trivia shortTrivia = new Trivia(2, "Greeting?", "hi", "", 3);
+        assertFalse(AnswerMatcher.DEFAULT.matches(shortTrivia, "ho"));
+    }
+
+
+    /**
+     * Checks that distance() agrees with the dynamic programming algorithm
+     * for answers shorter and longer than one 64-bit block.
+     */
+    @Test
+    void distance_givenRandomStrings_agreesWithDynamicProgramming() {
+        Random rand = new Random(360);
+        for (int trial = 0; trial < 500; trial++) {
+            String answer = randomString(rand, 1 + rand.nextInt(150));
+            String text = randomString(rand, rand.nextInt(150));
+            int expected = levenshtein(answer, text);
+            AnswerKey key = new AnswerKey(answer);
+            assertEquals(expected, AnswerMatcher.distance(key, text, Integer.MAX_VALUE / 2),
+                    answer + " / " + text);
+            int bounded = AnswerMatcher.distance(key, text, 3);
+            assertEquals(expected <= 3, bounded <= 3);
+        }
+    }
+
+
+    /**
+     * Checks that the constructor throws an exception given an invalid
+     * bound.
+     */
+    @Test
+    void constructor_givenNegativeEdits_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new AnswerMatcher(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new AnswerMatcher(1, 0));
+    }
+
+}
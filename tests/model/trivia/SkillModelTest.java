@@ -0,0 +1,117 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for SkillModel.
+ *
+ * @author Raz Consta
+ * @version Summer 2021
+ */
+public class SkillModelTest {
+
+    /** The seed used in testing. */
+    private static final long SEED = 360L;
+
+    /** A medium question in the "history" category. */
+    private final Trivia myHistory;
+
+    /** The SkillModel used in testing. */
+    private final SkillModel mySkill;
+
+
+    /**
+     * Constructs a SkillModelTest with a new player.
+     */
+    public SkillModelTest() {
+        myHistory = new Trivia(1, "Who?", "Lincoln", "", 3, "history", 2);
+        mySkill = new SkillModel();
+    }
+
+
+    /**
+     * Checks that a new player has the initial rating and is given medium
+     * questions.
+     */
+    @Test
+    void getRating_newPlayer_returnsInitialRating() {
+        assertEquals(SkillModel.INITIAL_RATING, mySkill.getRating("history"));
+        assertEquals(2, mySkill.targetDifficulty("history"));
+        assertEquals(0.5, mySkill.expectedScore("history", 2), 1e-9);
+    }
+
+
+    /**
+     * Checks that a correct answer raises only the rating of its category.
+     */
+    @Test
+    void record_correctAnswer_raisesRating() {
+        mySkill.record(myHistory, true);
+        assertEquals(SkillModel.INITIAL_RATING + SkillModel.K_FACTOR / 2,
+                mySkill.getRating("history"), 1e-9);
+        assertEquals(SkillModel.INITIAL_RATING, mySkill.getRating("science"));
+    }
+
+
+    /**
+     * Checks that a wrong answer lowers the rating.
+     */
+    @Test
+    void record_wrongAnswer_lowersRating() {
+        mySkill.record(myHistory, false);
+        assertTrue(mySkill.getRating("history") < SkillModel.INITIAL_RATING);
+    }
+
+
+    /**
+     * Checks that the target difficulty follows the player's rating.
+     */
+    @Test
+    void targetDifficulty_afterStreaks_followsRating() {
+        for (int i = 0; i < 10; i++) {
+            mySkill.record(myHistory, true);
+        }
+        assertEquals(Trivia.HARD, mySkill.targetDifficulty("history"));
+        for (int i = 0; i < 30; i++) {
+            mySkill.record(myHistory, false);
+        }
+        assertEquals(Trivia.EASY, mySkill.targetDifficulty("history"));
+    }
+
+
+    /**
+     * Checks that TriviaManager draws questions of the player's target
+     * difficulty when the bank has them.
+     */
+    @Test
+    void getTrivia_givenSkillModel_drawsTargetDifficulty() {
+        List<Trivia> trivia = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            trivia.add(new Trivia(i, "Q" + i + "?", "A" + i, "", 3,
+                    "history", Trivia.EASY + i % 3));
+        }
+        TriviaManager manager = new TriviaManager(new TriviaBank(trivia), SEED);
+        for (int i = 0; i < 10; i++) {
+            mySkill.record(myHistory, true);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Trivia.HARD, manager.getTrivia(mySkill).getDifficulty());
+        }
+    }
+
+}
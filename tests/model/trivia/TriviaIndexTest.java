@@ -0,0 +1,116 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for TriviaIndex and TriviaQuery.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class TriviaIndexTest {
+
+    /** The bank used in testing. */
+    private final TriviaBank myBank;
+
+
+    /**
+     * Constructs a TriviaIndexTest with a small bank of mixed questions.
+     */
+    public TriviaIndexTest() {
+        myBank = new TriviaBank(List.of(
+                new Trivia(1, "Is Java a programming language?", "True", "", 1),
+                new Trivia(2, "Which language runs on the JVM?", "Java",
+                        "C;Go;Rust", 2, "programming", 2),
+                new Trivia(3, "Name the capital of France.", "Paris", "", 3,
+                        "geography", Trivia.HARD),
+                new Trivia(4, "Name a language spoken in France.", "French", "", 3,
+                        "geography", Trivia.EASY)));
+    }
+
+
+    /**
+     * Checks that a keyword query finds every question containing the
+     * keyword regardless of case and punctuation.
+     */
+    @Test
+    void find_givenKeyword_returnsQuestionsContainingIt() {
+        TriviaIndex index = myBank.getIndex();
+        assertArrayEquals(new int[] {0, 1, 3},
+                index.find(TriviaQuery.ANY.withKeywords("LANGUAGE")));
+        assertArrayEquals(new int[] {3},
+                index.find(TriviaQuery.ANY.withKeywords("language, France!")));
+        assertArrayEquals(new int[0],
+                index.find(TriviaQuery.ANY.withKeywords("python")));
+    }
+
+
+    /**
+     * Checks that type, category, and difficulty criteria are intersected.
+     */
+    @Test
+    void find_givenSeveralCriteria_returnsIntersection() {
+        TriviaIndex index = myBank.getIndex();
+        assertArrayEquals(new int[] {2, 3},
+                index.find(TriviaQuery.ANY.withType(3)));
+        assertArrayEquals(new int[] {2},
+                index.find(TriviaQuery.ANY.withCategory("geography")
+                        .withDifficulty(Trivia.HARD)));
+        assertArrayEquals(new int[] {0},
+                index.find(TriviaQuery.ANY.withCategory(Trivia.DEFAULT_CATEGORY)));
+        assertEquals(4, index.count(TriviaQuery.ANY));
+    }
+
+
+    /**
+     * Checks that equal queries are equal and share a cached answer.
+     */
+    @Test
+    void find_givenEqualQueries_returnsCachedAnswer() {
+        TriviaQuery first = TriviaQuery.ANY.withType(3).withKeywords("name");
+        TriviaQuery second = TriviaQuery.ANY.withType(3).withKeywords("Name");
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+        assertSame(myBank.getIndex().find(first), myBank.getIndex().find(second));
+    }
+
+
+    /**
+     * Checks that a manager draws unused matches first and falls back to any
+     * question once every match is used.
+     */
+    @Test
+    void getTrivia_givenQuery_drawsMatchesThenFallsBack() {
+        TriviaManager manager = new TriviaManager(myBank, 360L);
+        TriviaQuery hard = TriviaQuery.ANY.withDifficulty(Trivia.HARD);
+        assertEquals("Paris", manager.getTrivia(hard).getCorrectAnswer());
+        assertTrue(manager.isUsed(2));
+        assertNotEquals("Paris", manager.getTrivia(hard).getCorrectAnswer());
+    }
+
+
+    /**
+     * Checks that the query rejects invalid types and difficulties.
+     */
+    @Test
+    void withType_givenInvalidType_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> TriviaQuery.ANY.withType(4));
+        assertThrows(IllegalArgumentException.class,
+                () -> TriviaQuery.ANY.withDifficulty(0));
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for TriviaManager and TriviaBank.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class TriviaManagerTest {
+
+    /** The number of questions in the test bank. */
+    private static final int SIZE = 50;
+
+    /** The seed used in testing. */
+    private static final long SEED = 360L;
+
+    /** The bank used in testing. */
+    private final TriviaBank myBank;
+
+
+    /**
+     * Constructs a TriviaManagerTest with a bank of SIZE short answer
+     * questions.
+     */
+    public TriviaManagerTest() {
+        List<Trivia> trivia = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            trivia.add(new Trivia(i, "Question " + i + "?", "Answer " + i, "", 3));
+        }
+        myBank = new TriviaBank(trivia);
+    }
+
+
+    /**
+     * Checks that one pass through the bank draws every question once.
+     */
+    @Test
+    void getTrivia_onePass_drawsEveryQuestionOnce() {
+        TriviaManager manager = new TriviaManager(myBank, SEED);
+        Set<Trivia> drawn = new HashSet<>();
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(drawn.add(manager.getTrivia()), "a question was drawn twice");
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(manager.isUsed(i));
+        }
+    }
+
+
+    /**
+     * Checks that drawing after every question is used starts a new pass
+     * instead of throwing an exception.
+     */
+    @Test
+    void getTrivia_afterBankUsed_startsNewPass() {
+        TriviaManager manager = new TriviaManager(myBank, SEED);
+        for (int i = 0; i < SIZE; i++) {
+            manager.getTrivia();
+        }
+        Set<Trivia> drawn = new HashSet<>();
+        for (int i = 0; i < SIZE; i++) {
+            drawn.add(manager.getTrivia());
+        }
+        assertEquals(SIZE, drawn.size());
+    }
+
+
+    /**
+     * Checks that questions a query used are not drawn again in the same
+     * pass.
+     */
+    @Test
+    void getTrivia_afterQueryDraws_drawsEveryQuestionOnce() {
+        TriviaManager manager = new TriviaManager(myBank, SEED);
+        Set<Trivia> drawn = new HashSet<>();
+        for (int i = 0; i < SIZE / 2; i++) {
+            assertTrue(drawn.add(manager.getTrivia(TriviaQuery.ANY)),
+                    "a query drew a question twice");
+        }
+        for (int i = SIZE / 2; i < SIZE; i++) {
+            assertTrue(drawn.add(manager.getTrivia()), "a question was drawn twice");
+        }
+    }
+
+
+    /**
+     * Checks that questions marked used by ID are not drawn again in the
+     * same pass, and that an unknown ID is ignored.
+     */
+    @Test
+    void markUsed_givenAskedIDs_drawsOnlyOtherQuestions() {
+        TriviaManager manager = new TriviaManager(myBank, SEED);
+        for (int i = 0; i < SIZE / 2; i++) {
+            manager.markUsed(i);
+            manager.markUsed(i);
+        }
+        manager.markUsed(SIZE);
+        for (int i = SIZE / 2; i < SIZE; i++) {
+            assertTrue(manager.getTrivia().getID() >= SIZE / 2,
+                    "a question marked used was drawn");
+        }
+        for (int i = 0; i < SIZE; i++) {
+            assertTrue(manager.isUsed(i));
+        }
+    }
+
+
+    /**
+     * Checks that draws for a SkillModel, which may deal a question and then
+     * draw another of the targeted difficulty, still draw every question of
+     * a mixed bank once a pass.
+     */
+    @Test
+    void getTrivia_givenSkillModel_drawsEveryQuestionOnce() {
+        List<Trivia> trivia = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            trivia.add(new Trivia(i, "Question " + i + "?", "Answer " + i, "", 3,
+                    Trivia.DEFAULT_CATEGORY, Trivia.EASY + i % Trivia.HARD));
+        }
+        TriviaManager manager = new TriviaManager(new TriviaBank(trivia), SEED);
+        SkillModel skill = new SkillModel();
+        for (int pass = 0; pass < 2; pass++) {
+            Set<Trivia> drawn = new HashSet<>();
+            for (int i = 0; i < SIZE; i++) {
+                assertTrue(drawn.add(manager.getTrivia(skill)), "a question was drawn twice");
+            }
+        }
+    }
+
+
+    /**
+     * Checks that managers with the same seed draw the same questions and
+     * that managers share the bank's Trivia objects.
+     */
+    @Test
+    void getTrivia_withSameSeed_drawsSameSharedTrivia() {
+        TriviaManager first = new TriviaManager(myBank, SEED);
+        TriviaManager second = new TriviaManager(myBank, SEED);
+        for (int i = 0; i < SIZE; i++) {
+            assertSame(first.getTrivia(), second.getTrivia());
+        }
+    }
+
+
+    /**
+     * Checks that the incorrect answers of a shared Trivia cannot be
+     * modified.
+     */
+    @Test
+    void getIncorrectAnswers_onSharedTrivia_isUnmodifiable() {
+        Trivia trivia = new Trivia(1, "Question?", "True", "", 1);
+        assertThrows(UnsupportedOperationException.class,
+                () -> trivia.getIncorrectAnswers().add("Maybe"));
+    }
+
+
+    /**
+     * Checks that the bank throws an exception given no questions.
+     */
+    @Test
+    void bankConstructor_givenNoTrivia_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriviaBank(new ArrayList<>()));
+    }
+
+}
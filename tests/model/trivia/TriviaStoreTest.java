@@ -0,0 +1,113 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for TriviaStore.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class TriviaStoreTest {
+
+    /** The questions used in testing. */
+    private final List<Trivia> myTrivia;
+
+    /** The store of the questions used in testing. */
+    private final TriviaStore myStore;
+
+
+    /**
+     * Constructs a TriviaStoreTest with a store of one question of each type.
+     */
+    public TriviaStoreTest() {
+        myTrivia = List.of(
+                new Trivia(7, "Is the sky blue?", "True", "", 1),
+                new Trivia(8, "Pick a prime.", "7", "4;6;8", 2, "math", Trivia.EASY),
+                new Trivia(9, "Name the capital of France.", "Paris", "", 3));
+        myStore = TriviaStore.of(myTrivia);
+    }
+
+
+    /**
+     * Checks that toTrivia() rebuilds the stored questions.
+     */
+    @Test
+    void toTrivia_onStoredQuestions_returnsEqualTrivia() {
+        assertEquals(myTrivia.size(), myStore.size());
+        for (int i = 0; i < myTrivia.size(); i++) {
+            Trivia trivia = myStore.toTrivia(i);
+            assertEquals(myTrivia.get(i), trivia);
+            assertEquals(myTrivia.get(i).getIncorrectAnswers(), trivia.getIncorrectAnswers());
+            assertEquals(myTrivia.get(i).getCategory(), trivia.getCategory());
+            assertEquals(myTrivia.get(i).getDifficulty(), trivia.getDifficulty());
+        }
+    }
+
+
+    /**
+     * Checks that one view can be moved across questions and reads each
+     * question's columns.
+     */
+    @Test
+    void moveTo_acrossQuestions_readsEachQuestion() {
+        TriviaStore.View view = myStore.view(0);
+        assertEquals(7, view.getID());
+        assertEquals("Is the sky blue?", view.getQuestion());
+        assertEquals(2, view.getAnswerCount());
+        assertEquals("False", view.getAnswer(1));
+        assertSame(view, view.moveTo(1));
+        assertEquals("math", view.getCategory());
+        assertEquals(Trivia.EASY, view.getDifficulty());
+        assertEquals(4, view.getAnswerCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> view.moveTo(3));
+    }
+
+
+    /**
+     * Checks that the answer cursor visits every answer, correct one first,
+     * and is reused between iterations.
+     */
+    @Test
+    void answers_onMultipleChoice_visitsEveryAnswer() {
+        TriviaStore.View view = myStore.view(1);
+        TriviaStore.Answers answers = view.answers();
+        StringBuilder visited = new StringBuilder();
+        while (answers.next()) {
+            visited.append(answers).append(' ');
+        }
+        assertEquals("7 4 6 8 ", visited.toString());
+        assertSame(answers, view.answers());
+        assertTrue(view.answers().next());
+        assertEquals('7', answers.charAt(0));
+    }
+
+
+    /**
+     * Checks that Trivia answers are readable by number without building a
+     * list.
+     */
+    @Test
+    void getAnswer_onTrivia_returnsCorrectAnswerFirst() {
+        Trivia trivia = myTrivia.get(1);
+        assertEquals(4, trivia.getAnswerCount());
+        assertEquals("7", trivia.getAnswer(0));
+        assertEquals("8", trivia.getAnswer(3));
+        assertEquals(trivia.getAnswers().size(), trivia.getAnswerCount());
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for CsvRowReader.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class CsvRowReaderTest {
+
+    /**
+     * Checks that rows are keyed by the lower case header names.
+     */
+    @Test
+    void next_givenSimpleRows_returnsFieldsByHeader() throws IOException {
+        try (CsvRowReader reader = new CsvRowReader(new StringReader(
+                "Question,Answer,Type\nIs water wet?,True,1\r\nName a color.,red,3\n"))) {
+            Map<String, String> row = reader.next();
+            assertEquals("Is water wet?", row.get("question"));
+            assertEquals("True", row.get("answer"));
+            assertEquals("1", row.get("type"));
+            assertEquals(2, reader.getLineNumber());
+            assertEquals("red", reader.next().get("answer"));
+            assertEquals(3, reader.getLineNumber());
+            assertNull(reader.next());
+        }
+    }
+
+
+    /**
+     * Checks that quoted fields may contain commas, quotes, and line breaks.
+     */
+    @Test
+    void next_givenQuotedFields_unquotesThem() throws IOException {
+        try (CsvRowReader reader = new CsvRowReader(new StringReader(
+                "question,answer\n\"Say \"\"hi\"\", please\",\"two\nlines\"\n\nx,y"))) {
+            Map<String, String> row = reader.next();
+            assertEquals("Say \"hi\", please", row.get("question"));
+            assertEquals("two\nlines", row.get("answer"));
+            assertEquals("y", reader.next().get("answer"));
+            assertNull(reader.next());
+        }
+    }
+
+
+    /**
+     * Checks that an unclosed quote throws an exception.
+     */
+    @Test
+    void next_givenUnclosedQuote_throwsException() throws IOException {
+        try (CsvRowReader reader = new CsvRowReader(new StringReader(
+                "question,answer\n\"never closed,x\n"))) {
+            assertThrows(IllegalArgumentException.class, reader::next);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for JsonRowReader.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class JsonRowReaderTest {
+
+    /**
+     * Checks that an array of objects is read an object at a time, with
+     * wrong answer arrays joined by semicolons.
+     */
+    @Test
+    void next_givenArray_returnsEachObject() throws IOException {
+        try (JsonRowReader reader = new JsonRowReader(new StringReader("""
+                [
+                  {"question": "Pick one.", "answer": "a", "type": 2,
+                   "wrong": ["b", "c"]},
+                  {"Question": "Escapes \\"\\u0041\\"", "answer": null, "type": 3}
+                ]
+                """))) {
+            Map<String, String> row = reader.next();
+            assertEquals("Pick one.", row.get("question"));
+            assertEquals("2", row.get("type"));
+            assertEquals("b;c", row.get("wrong"));
+            assertEquals(2, reader.getLineNumber());
+            row = reader.next();
+            assertEquals("Escapes \"A\"", row.get("question"));
+            assertNull(row.get("answer"));
+            assertNull(reader.next());
+        }
+    }
+
+
+    /**
+     * Checks that JSON Lines are read an object per line.
+     */
+    @Test
+    void next_givenJsonLines_returnsEachObject() throws IOException {
+        try (JsonRowReader reader = new JsonRowReader(new StringReader(
+                "{\"answer\": \"x\"}\n{\"answer\": \"y\"}\n"))) {
+            assertEquals("x", reader.next().get("answer"));
+            assertEquals("y", reader.next().get("answer"));
+            assertEquals(2, reader.getLineNumber());
+            assertNull(reader.next());
+        }
+    }
+
+
+    /**
+     * Checks that malformed JSON throws an exception.
+     */
+    @Test
+    void next_givenMalformedJson_throwsException() throws IOException {
+        try (JsonRowReader reader = new JsonRowReader(new StringReader(
+                "[{\"answer\": \"x\"} {\"answer\": \"y\"}]"))) {
+            reader.next();
+            assertThrows(IllegalArgumentException.class, reader::next);
+        }
+    }
+
+}
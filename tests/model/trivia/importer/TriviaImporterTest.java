@@ -0,0 +1,91 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package model.trivia.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements tests for the row validation of TriviaImporter.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+public class TriviaImporterTest {
+
+    /**
+     * Returns a row with the given question, answer, wrong answers, and type.
+     *
+     * @param theAnswer The answer.
+     * @param theWrong The wrong answers.
+     * @param theType The type.
+     * @return The row.
+     */
+    private static Map<String, String> row(final String theAnswer,
+                                           final String theWrong,
+                                           final String theType) {
+        Map<String, String> row = new HashMap<>();
+        row.put("question", "A question?");
+        row.put("answer", theAnswer);
+        row.put("wrong", theWrong);
+        row.put("type", theType);
+        return row;
+    }
+
+
+    /**
+     * Checks that valid rows of each type pass validation.
+     */
+    @Test
+    void validate_givenValidRows_returnsNull() {
+        assertNull(TriviaImporter.validate(row("true", "", "1")));
+        assertNull(TriviaImporter.validate(row("Paris", "Rome;Oslo;Bern", "2")));
+        assertNull(TriviaImporter.validate(row("Paris", null, "3")));
+    }
+
+
+    /**
+     * Checks that rows breaking the Trivia constructor rules are rejected.
+     */
+    @Test
+    void validate_givenInvalidRows_returnsReason() {
+        assertNotNull(TriviaImporter.validate(row("Maybe", "", "1")));
+        assertNotNull(TriviaImporter.validate(row("Paris", "", "2")));
+        assertNotNull(TriviaImporter.validate(row("Paris", "Rome;", "2")));
+        assertNotNull(TriviaImporter.validate(row("Paris", "Rome;;Oslo", "2")));
+        assertNotNull(TriviaImporter.validate(row("Paris", "A;B;C;D", "2")));
+        assertNotNull(TriviaImporter.validate(row("Paris", "Paris;Rome", "2")));
+        assertNotNull(TriviaImporter.validate(row("Paris", "", "4")));
+        assertNotNull(TriviaImporter.validate(row("", "", "3")));
+        assertNotNull(TriviaImporter.validate(row("Paris", "Rome", "3")));
+    }
+
+
+    /**
+     * Checks that the optional id and difficulty fields are validated.
+     */
+    @Test
+    void validate_givenInvalidOptionalFields_returnsReason() {
+        Map<String, String> row = row("Paris", "", "3");
+        row.put("id", "x");
+        assertNotNull(TriviaImporter.validate(row));
+        row.put("id", "7");
+        row.put("difficulty", "4");
+        assertNotNull(TriviaImporter.validate(row));
+        row.put("difficulty", "3");
+        assertNull(TriviaImporter.validate(row));
+    }
+
+}
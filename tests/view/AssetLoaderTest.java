@@ -0,0 +1,86 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements unit tests for AssetLoader.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+class AssetLoaderTest {
+
+    /** The loader under test. */
+    private final AssetLoader myLoader;
+
+
+    /** Constructs an AssetLoaderTest with a loader of two threads. */
+    AssetLoaderTest() {
+        myLoader = new AssetLoader(2);
+    }
+
+
+    /**
+     * Checks that an image is decoded once and shared.
+     */
+    @Test
+    void image_givenSamePath_returnsSameFuture() {
+        CompletableFuture<BufferedImage> image = myLoader.image(ConsolePanel.CONSOLE_PATH);
+        assertSame(image, myLoader.image(ConsolePanel.CONSOLE_PATH));
+        BufferedImage decoded = myLoader.getImage(ConsolePanel.CONSOLE_PATH);
+        assertNotNull(decoded);
+        assertSame(decoded, myLoader.peekImage(ConsolePanel.CONSOLE_PATH));
+        assertEquals(1, myLoader.getTotal());
+        assertEquals(1, myLoader.getCompleted());
+    }
+
+
+    /**
+     * Checks that an image that cannot be read is reported as null.
+     */
+    @Test
+    void getImage_givenMissingFile_returnsNull() {
+        assertNull(myLoader.getImage("src/res/assets/missing.png"));
+        assertNull(myLoader.peekImage("src/res/assets/missing.png"));
+        assertTrue(myLoader.image("src/res/assets/missing.png").isCompletedExceptionally());
+    }
+
+
+    /**
+     * Checks that tasks are run and counted.
+     */
+    @Test
+    void run_givenTask_countsTask() {
+        AtomicBoolean ran = new AtomicBoolean();
+        myLoader.run(() -> ran.set(true)).join();
+        assertTrue(ran.get());
+        assertEquals(1, myLoader.getTotal());
+        assertEquals(1, myLoader.getCompleted());
+    }
+
+
+    /**
+     * Checks that the constructor throws an exception given no threads.
+     */
+    @Test
+    void constructor_givenNoThreads_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new AssetLoader(0));
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements unit tests for FontCache.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+class FontCacheTest {
+
+    /** An antialiased rendering context. */
+    private static final FontRenderContext SMOOTH = new FontRenderContext(null, true, true);
+
+    /** A rendering context without antialiasing. */
+    private static final FontRenderContext PLAIN = new FontRenderContext(null, false, false);
+
+
+    /**
+     * Checks that each size of a font is derived once.
+     */
+    @Test
+    void getFont_givenSameSize_returnsSameFont() {
+        Font font = FontCache.getFont(FontCache.EXPANSIVA, 13);
+        assertEquals(13, font.getSize());
+        assertSame(font, FontCache.getFont(FontCache.EXPANSIVA, 13));
+        assertEquals(12, FontCache.getFont(FontCache.EXPANSIVA, 12).getSize());
+        assertEquals(FontCache.MAX_SIZE + 1,
+                FontCache.getFont(FontCache.EXPANSIVA, FontCache.MAX_SIZE + 1).getSize());
+    }
+
+
+    /**
+     * Checks that a font file that cannot be read falls back to a logical
+     * font, and that sizes must be positive.
+     */
+    @Test
+    void getFont_givenMissingFile_returnsFallback() {
+        Font font = FontCache.getFont("tests/view/missing.otf", 20);
+        assertEquals(20, font.getSize());
+        assertThrows(IllegalArgumentException.class,
+                () -> FontCache.getFont(FontCache.EXPANSIVA, 0));
+    }
+
+
+    /**
+     * Checks that a string is laid out once per font and rendering context.
+     */
+    @Test
+    void getLayout_givenSameText_returnsSameLayout() {
+        Font font = FontCache.getFont(FontCache.EXPANSIVA, 20);
+        TextLayout layout = FontCache.getLayout("Room ID", font, SMOOTH);
+        assertSame(layout, FontCache.getLayout("Room ID", font, SMOOTH));
+        assertNotSame(layout, FontCache.getLayout("Room ID",
+                FontCache.getFont(FontCache.EXPANSIVA, 21), SMOOTH));
+        TextLayout plain = FontCache.getLayout("Room ID", font, PLAIN);
+        assertNotSame(layout, plain);
+        assertThrows(IllegalArgumentException.class,
+                () -> FontCache.getLayout("", font, SMOOTH));
+    }
+
+}
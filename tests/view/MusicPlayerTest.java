@@ -0,0 +1,74 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements unit tests for MusicPlayer.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+class MusicPlayerTest {
+
+    /** A path with no audio file. */
+    private static final String MISSING = "src/res/assets/music/missing.wav";
+
+    /** The player under test. */
+    private final MusicPlayer myPlayer;
+
+
+    /** Constructs a MusicPlayerTest with a player of a missing file. */
+    MusicPlayerTest() {
+        myPlayer = new MusicPlayer(MISSING);
+    }
+
+
+    /**
+     * Checks that the gain is kept within its range.
+     */
+    @Test
+    void setGain_givenOutOfRange_clampsGain() {
+        assertEquals(MusicPlayer.DEFAULT_GAIN, myPlayer.getGain());
+        myPlayer.setGain(MusicPlayer.MAX_GAIN + 10f);
+        assertEquals(MusicPlayer.MAX_GAIN, myPlayer.getGain());
+        myPlayer.setGain(MusicPlayer.MIN_GAIN - 10f);
+        assertEquals(MusicPlayer.MIN_GAIN, myPlayer.getGain());
+    }
+
+
+    /**
+     * Checks that a player whose file cannot be played stops by itself.
+     */
+    @Test
+    void start_givenMissingFile_stops() throws InterruptedException {
+        assertFalse(myPlayer.isPlaying());
+        myPlayer.start();
+        for (int i = 0; i < 100 && myPlayer.isPlaying(); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(myPlayer.isPlaying());
+    }
+
+
+    /**
+     * Checks that a closed player cannot be started.
+     */
+    @Test
+    void start_afterClose_throwsException() {
+        myPlayer.close();
+        assertThrows(IllegalStateException.class, myPlayer::start);
+    }
+
+}
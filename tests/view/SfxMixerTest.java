@@ -0,0 +1,108 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements unit tests for SfxMixer.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+class SfxMixerTest {
+
+    /** A mixer without a line. */
+    private final SfxMixer myMixer;
+
+
+    /** Constructs an SfxMixerTest with a mixer that only mixes. */
+    SfxMixerTest() {
+        myMixer = new SfxMixer(null);
+    }
+
+
+    /**
+     * Returns whether a buffer of mixed audio holds any sound.
+     *
+     * @param theBuffer The buffer to check.
+     * @return true if any byte of the buffer is not zero.
+     */
+    private static boolean isAudible(final byte[] theBuffer) {
+        for (byte b : theBuffer) {
+            if (b != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Checks that an effect starts in the next buffer and stops at its end.
+     */
+    @Test
+    void render_afterPlay_mixesEffectUntilItEnds() {
+        assertFalse(isAudible(myMixer.render()));
+        myMixer.play(SoundEffect.FOOTSTEP);
+        assertTrue(isAudible(myMixer.render()));
+        assertEquals(1, myMixer.getActiveVoices());
+        int buffers = 0;
+        while (myMixer.getActiveVoices() > 0 && buffers < 1000) {
+            myMixer.render();
+            buffers++;
+        }
+        assertEquals(0, myMixer.getActiveVoices());
+        assertFalse(isAudible(myMixer.render()));
+    }
+
+
+    /**
+     * Checks that no more effects play at once than there are voices.
+     */
+    @Test
+    void render_givenMoreEffectsThanVoices_reusesVoices() {
+        for (int i = 0; i < 3 * SfxMixer.VOICES; i++) {
+            myMixer.play(SoundEffect.DOOR_UNLOCK);
+            myMixer.play(SoundEffect.WRONG_ANSWER);
+        }
+        myMixer.render();
+        assertEquals(SfxMixer.VOICES, myMixer.getActiveVoices());
+    }
+
+
+    /**
+     * Checks that a closed mixer ignores effects and that the gain is
+     * checked.
+     */
+    @Test
+    void play_afterClose_playsNothing() {
+        assertThrows(IllegalArgumentException.class, () -> myMixer.setGain(1.5f));
+        myMixer.close();
+        myMixer.play(SoundEffect.DOOR_UNLOCK);
+        assertFalse(isAudible(myMixer.render()));
+    }
+
+
+    /**
+     * Checks that every effect can be synthesized.
+     */
+    @Test
+    void synthesize_givenEachEffect_returnsSound() {
+        for (SoundEffect effect : SoundEffect.values()) {
+            short[] samples = SfxMixer.synthesize(effect);
+            assertTrue(samples.length > 0 && samples.length < SfxMixer.FORMAT.getSampleRate());
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements unit tests for SpriteSheet.
+ *
+ * @author Reuben Keller
+ * @version Summer 2021
+ */
+class SpriteSheetTest {
+
+    /**
+     * Returns true if two buffered images are the same and false otherwise.
+     *
+     * @param imageA A buffered image.
+     * @param imageB Another buffered image.
+     * @return true if imageA and imageB are the same and false otherwise.
+     */
+    private static boolean equalImages(final BufferedImage imageA,
+                                       final BufferedImage imageB) {
+        if (imageA.getWidth() != imageB.getWidth()
+                || imageA.getHeight() != imageB.getHeight()) {
+            return false;
+        }
+        for (int x = 0; x < imageA.getWidth(); x++) {
+            for (int y = 0; y < imageA.getHeight(); y++) {
+                if (imageA.getRGB(x, y) != imageB.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Checks that getPlayerSprite() returns the chair image of each
+     * direction.
+     */
+    @Test
+    void getPlayerSprite_givenEachDirection_returnsChairImage() throws IOException {
+        String[] names = {"chair_up.png", "chair_down.png", "chair_left.png",
+                "chair_right.png"};
+        char[] directions = {'U', 'D', 'L', 'R'};
+        for (int i = 0; i < directions.length; i++) {
+            BufferedImage expected = ImageIO.read(new File(SpriteSheet.PATH + names[i]));
+            assertTrue(equalImages(expected, SpriteSheet.getPlayerSprite(directions[i])),
+                    "getPlayerSprite('" + directions[i] + "') should return " + names[i]);
+        }
+    }
+
+
+    /**
+     * Checks that getPlayerSprite() returns the same image every call.
+     */
+    @Test
+    void getPlayerSprite_calledTwice_returnsSameImage() {
+        assertSame(SpriteSheet.getPlayerSprite('U'), SpriteSheet.getPlayerSprite('U'),
+                "sprites should be decoded once");
+    }
+
+
+    /**
+     * Checks that getPlayerSprite() throws IllegalArgumentException when
+     * given an invalid character.
+     */
+    @Test
+    void getPlayerSprite_givenInvalidChar_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SpriteSheet.getPlayerSprite('a'),
+                "getPlayerSprite() should throw exception given invalid char");
+    }
+
+}
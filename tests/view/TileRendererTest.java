@@ -0,0 +1,232 @@
+/*
+University of Washington, Tacoma
+TCSS 360 Software Development and Quality Assurance Techniques
+
+Instructor: Tom Capaul
+Academic Quarter: Summer 2021
+Assignment: Group Project
+Team members: Raz Consta, Reuben Keller, Dustin Ray
+ */
+
+package view;
+
+import model.map.GameMap;
+import model.map.TileMap;
+import model.map.TileMapLoader;
+import model.map.Tileset;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implements unit tests for TileRenderer.
+ *
+ * @author Dustin Ray
+ * @version Summer 2021
+ */
+class TileRendererTest {
+
+    /** The path of a shared tileset image. */
+    private static final String TILESET_PATH =
+            "src/res/icons/tilesets/modern_office_walls_floors_48x48.png";
+
+    /** The renderer under test, keeping two chunks. */
+    private final TileRenderer myRenderer;
+
+    /** A map covered in one opaque tile, with an empty collision layer. */
+    private final TileMap myMap;
+
+    /** The tileset image. */
+    private final BufferedImage myTileset;
+
+    /** The ID of the opaque tile. */
+    private final int myTileID;
+
+    /** The tileset of the opaque tile. */
+    private final Tileset myTilesetInfo;
+
+
+    /** Constructs a TileRendererTest over a map of the game's size. */
+    TileRendererTest() {
+        myRenderer = new TileRenderer(2);
+        myTileset = AssetLoader.getDefault().getImage(TILESET_PATH);
+        int columns = myTileset.getWidth() / GameMap.TILE_WIDTH;
+        int local = 0;
+        while (myTileset.getRGB(local % columns * GameMap.TILE_WIDTH + 24,
+                local / columns * GameMap.TILE_HEIGHT + 24) >>> 24 != 0xFF) {
+            local++;
+        }
+        myTileID = local + 1;
+        int tiles = GameMap.TILE_COLS * GameMap.TILE_ROWS;
+        int[] floor = new int[tiles];
+        Arrays.fill(floor, myTileID);
+        int[] collision = new int[tiles];
+        Arrays.fill(collision, 1);
+        myTilesetInfo = new Tileset(1, TILESET_PATH, columns,
+                columns * (myTileset.getHeight() / GameMap.TILE_HEIGHT),
+                GameMap.TILE_WIDTH, GameMap.TILE_HEIGHT);
+        myMap = new TileMap(GameMap.TILE_COLS, GameMap.TILE_ROWS, new byte[tiles],
+                new int[][] {floor, collision}, new Tileset[] {myTilesetInfo}, 1);
+    }
+
+
+    /**
+     * Returns a map of the game's size with one layer covered in the opaque
+     * tile.
+     *
+     * @param theFlips The flips of every tile.
+     * @param theVisible Whether the layer is visible.
+     * @return The map.
+     */
+    private TileMap oneLayer(final int theFlips, final boolean theVisible) {
+        int tiles = GameMap.TILE_COLS * GameMap.TILE_ROWS;
+        int[] floor = new int[tiles];
+        Arrays.fill(floor, myTileID | theFlips << 29);
+        return new TileMap(GameMap.TILE_COLS, GameMap.TILE_ROWS, new byte[tiles],
+                new int[][] {floor}, new Tileset[] {myTilesetInfo}, -1,
+                new boolean[] {theVisible});
+    }
+
+
+    /**
+     * Returns a pixel of the opaque tile in the tileset image.
+     *
+     * @param theX The x coordinate within the tile.
+     * @param theY The y coordinate within the tile.
+     * @return The pixel's ARGB value.
+     */
+    private int tilePixel(final int theX, final int theY) {
+        int columns = myTileset.getWidth() / GameMap.TILE_WIDTH;
+        int local = myTileID - 1;
+        return myTileset.getRGB(local % columns * GameMap.TILE_WIDTH + theX,
+                local / columns * GameMap.TILE_HEIGHT + theY);
+    }
+
+
+    /**
+     * Checks that a chunk is composed from its tiles and that the collision
+     * layer is not drawn.
+     */
+    @Test
+    void chunk_givenTiles_drawsTilesFromTileset() {
+        BufferedImage chunk = myRenderer.chunk(0, myMap, 1, 1);
+        int size = TileRenderer.CHUNK_TILES * GameMap.TILE_WIDTH;
+        assertEquals(size, chunk.getWidth());
+        int columns = myTileset.getWidth() / GameMap.TILE_WIDTH;
+        int local = myTileID - 1;
+        int expected = myTileset.getRGB(local % columns * GameMap.TILE_WIDTH + 10,
+                local / columns * GameMap.TILE_HEIGHT + 10);
+        assertEquals(expected, chunk.getRGB(GameMap.TILE_WIDTH + 10, 10));
+    }
+
+
+    /**
+     * Checks that only the visible chunks are composed, and that the least
+     * recently used chunk is evicted once the cache is full.
+     */
+    @Test
+    void draw_pastCapacity_evictsLeastRecentlyUsed() {
+        BufferedImage screen = new BufferedImage(GameMap.PIXEL_WIDTH, GameMap.PIXEL_HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = screen.createGraphics();
+        g.setClip(0, 0, 10, 10);
+        myRenderer.draw(g, 3, myMap);
+        assertEquals(1, myRenderer.getCachedChunks(), "only the visible chunk is composed");
+        BufferedImage first = myRenderer.chunk(3, myMap, 0, 0);
+        myRenderer.chunk(3, myMap, 1, 0);
+        assertSame(first, myRenderer.chunk(3, myMap, 0, 0));
+        myRenderer.chunk(3, myMap, 0, 1);
+        assertEquals(2, myRenderer.getCachedChunks());
+        assertSame(first, myRenderer.chunk(3, myMap, 0, 0), "the used chunk should be kept");
+        g.setClip(null);
+        myRenderer.draw(g, 3, myMap);
+        g.dispose();
+        assertEquals(2, myRenderer.getCachedChunks());
+        assertNotEquals(0, screen.getRGB(GameMap.PIXEL_WIDTH - 1, GameMap.PIXEL_HEIGHT - 1));
+    }
+
+
+    /**
+     * Checks that a layer hidden in Tiled is neither drawn nor counted as
+     * something to draw.
+     */
+    @Test
+    void chunk_givenHiddenLayer_skipsLayer() {
+        TileMap hidden = oneLayer(0, false);
+        assertFalse(TileRenderer.canDraw(hidden));
+        assertTrue(TileRenderer.canDraw(oneLayer(0, true)));
+        assertEquals(0, myRenderer.chunk(0, hidden, 0, 0).getRGB(10, 10));
+    }
+
+
+    /**
+     * Checks that flipped tiles are mirrored as Tiled draws them.
+     */
+    @Test
+    void chunk_givenFlippedTiles_mirrorsTiles() {
+        int last = GameMap.TILE_WIDTH - 1;
+        BufferedImage horizontal = myRenderer.chunk(0,
+                oneLayer(TileMap.FLIP_HORIZONTAL, true), 0, 0);
+        assertEquals(tilePixel(last - 5, 9), horizontal.getRGB(5, 9));
+        BufferedImage vertical = myRenderer.chunk(1,
+                oneLayer(TileMap.FLIP_VERTICAL, true), 0, 0);
+        assertEquals(tilePixel(5, last - 9), vertical.getRGB(5, 9));
+        BufferedImage diagonal = myRenderer.chunk(2,
+                oneLayer(TileMap.FLIP_DIAGONAL, true), 0, 0);
+        assertEquals(tilePixel(9, 5), diagonal.getRGB(5, 9));
+    }
+
+
+    /**
+     * Checks that a shipped Room drawn from its floor_map.tmx matches its
+     * map image, without its hidden "valid floor" markers.
+     */
+    @Test
+    void draw_givenShippedRoom_matchesMapImage() throws IOException {
+        TileMap map = TileMapLoader.read(GameMap.PATH_PREFIX + 2 + TileMapLoader.TMX_SUFFIX);
+        assertTrue(TileRenderer.canDraw(map));
+        for (Tileset tileset : map.getTilesets()) {
+            AssetLoader.getDefault().getImage(tileset.getImagePath());
+        }
+        BufferedImage screen = new BufferedImage(GameMap.PIXEL_WIDTH, GameMap.PIXEL_HEIGHT,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = screen.createGraphics();
+        new TileRenderer(TileRenderer.MAX_CHUNKS).draw(g, 2, map);
+        g.dispose();
+        BufferedImage expected = ImageIO.read(new File(GameMap.PATH_PREFIX + 2 + "/map.png"));
+        for (int y = 0; y < GameMap.PIXEL_HEIGHT; y++) {
+            for (int x = 0; x < GameMap.PIXEL_WIDTH; x++) {
+                assertEquals(expected.getRGB(x, y), screen.getRGB(x, y), x + ", " + y);
+            }
+        }
+    }
+
+
+    /**
+     * Checks that a shipped Room whose art layers are all hidden is left to
+     * its map image.
+     */
+    @Test
+    void canDraw_givenHiddenArtLayers_returnsFalse() {
+        TileMap map = TileMapLoader.read(GameMap.PATH_PREFIX + 3 + TileMapLoader.TMX_SUFFIX);
+        assertFalse(TileRenderer.canDraw(map));
+    }
+
+
+    /**
+     * Checks that the constructor throws an exception given no room for a
+     * chunk.
+     */
+    @Test
+    void constructor_givenNoChunks_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TileRenderer(0));
+    }
+
+}